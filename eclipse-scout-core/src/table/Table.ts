@@ -86,6 +86,7 @@ export class Table extends Widget implements TableModel {
   visibleRows: TableRow[];
   estimatedRowCount: number;
   maxRowCount: number;
+  moreRowsAvailable: boolean;
   aggregateRowHeight: number;
   truncatedCellTooltipEnabled: boolean;
   checkableColumn: BooleanColumn;
@@ -138,6 +139,7 @@ export class Table extends Widget implements TableModel {
 
   protected _filteredRows: TableRow[];
   protected _maxLevel: number;
+  protected _loadingMoreRows: boolean;
   protected _animationRowLimit: number;
   protected _blockLoadThreshold: number;
   protected _doubleClickSupport: DoubleClickSupport;
@@ -207,6 +209,7 @@ export class Table extends Widget implements TableModel {
     this.visibleRows = [];
     this.estimatedRowCount = 0;
     this.maxRowCount = 0;
+    this.moreRowsAvailable = false;
     this.truncatedCellTooltipEnabled = null;
     this.visibleRowsMap = {};
     this.rowLevelPadding = 0;
@@ -223,6 +226,7 @@ export class Table extends Widget implements TableModel {
     this._filteredRows = [];
     this.tableNodeColumn = null;
     this._maxLevel = 0;
+    this._loadingMoreRows = false;
     this._aggregateRows = [];
     this._animationRowLimit = 25;
     this._blockLoadThreshold = 25;
@@ -344,7 +348,12 @@ export class Table extends Widget implements TableModel {
     /**
      * Any call to IPage#dataChanged
      */
-    DATA_CHANGED_TRIGGER: 'dataChangedTrigger'
+    DATA_CHANGED_TRIGGER: 'dataChangedTrigger',
+
+    /**
+     * The user scrolled close to the end of a table whose rows are loaded in windows, the next window is to be appended
+     */
+    LOAD_MORE_ROWS: 'loadMoreRows'
   } as const;
 
   static SELECTION_CLASSES = 'select-middle select-top select-bottom select-single selected';
@@ -914,6 +923,48 @@ export class Table extends Widget implements TableModel {
     this.scrollLeft = scrollLeft;
   }
 
+  setMoreRowsAvailable(moreRowsAvailable: boolean) {
+    this.setProperty('moreRowsAvailable', moreRowsAvailable);
+  }
+
+  protected _setMoreRowsAvailable(moreRowsAvailable: boolean) {
+    this._setProperty('moreRowsAvailable', moreRowsAvailable);
+    this._loadingMoreRows = false;
+    if (this._isDataRendered()) {
+      this._loadMoreRowsIfNecessary();
+    }
+  }
+
+  /**
+   * Has to be called when a reload with reason {@link Table.ReloadReason.LOAD_MORE_ROWS} is finished, even if no rows were loaded or the reload failed.
+   * Otherwise, no further rows will be requested.
+   */
+  onLoadMoreRowsDone() {
+    this._loadingMoreRows = false;
+  }
+
+  /**
+   * Triggers a reload with reason {@link Table.ReloadReason.LOAD_MORE_ROWS} if {@link moreRowsAvailable} is true
+   * and less than one viewport height is left to scroll.
+   *
+   * If a user filter is active, further rows are only loaded while scrolling but not to fill the viewport.
+   * The user filters only filter the loaded rows, so filling the viewport with accepted rows could load all rows.
+   */
+  protected _loadMoreRowsIfNecessary() {
+    if (!this.moreRowsAvailable || !this.hasReloadHandler || this._loadingMoreRows || !this.$data) {
+      return;
+    }
+    let data = this.$data[0];
+    if (data.scrollTop + 2 * data.clientHeight < data.scrollHeight) {
+      return;
+    }
+    if (this.hasUserFilter() && data.scrollHeight <= data.clientHeight) {
+      return;
+    }
+    this._loadingMoreRows = true;
+    this._triggerReload(Table.ReloadReason.LOAD_MORE_ROWS);
+  }
+
   protected _renderTableStatus() {
     this.trigger('statusChanged');
   }
@@ -2887,6 +2938,8 @@ export class Table extends Widget implements TableModel {
     this._calculateValuesForBackgroundEffect();
     this._markAutoOptimizeWidthColumnsAsDirty();
 
+    this._loadingMoreRows = false;
+
     // this event should be triggered before the rowOrderChanged event (triggered by the _sort function).
     this._triggerRowsInserted(newRows);
     this._sortAfterInsert(wasEmpty);
@@ -5379,6 +5432,7 @@ export class Table extends Widget implements TableModel {
     this._renderViewRange(viewRange);
     this._renderLastRowAtBottomMarker();
     this._renderNoRowsSelectedMarker(); // Necessary to call it here if there are no rows at all
+    this._loadMoreRowsIfNecessary(); // Necessary to call it here if the rendered rows don't fill the viewport
   }
 
   protected _rerenderViewport() {
@@ -344,6 +344,14 @@ export class TableAdapter extends ModelAdapter {
       reloadReason: event.reloadReason
     };
     this._send('reload', data);
+    if (event.reloadReason === Table.ReloadReason.LOAD_MORE_ROWS) {
+      // Reset the loading state as soon as the request is done, even if the server did not send any rows
+      this.session.onRequestsDone(() => {
+        if (this.widget) {
+          this.widget.onLoadMoreRowsDone();
+        }
+      });
+    }
   }
 
   protected _onWidgetExportToClipboard(event: Event<Table>) {
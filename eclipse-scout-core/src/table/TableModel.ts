@@ -219,6 +219,15 @@ export interface TableModel extends WidgetModel {
    * By default, there is no estimation.
    */
   estimatedRowCount?: number;
+  /**
+   * Indicates that the rows are loaded in windows and further rows are available.
+   *
+   * If true, a reload with reason {@link Table.ReloadReason.LOAD_MORE_ROWS} is triggered when the user scrolls close to the end of the table.
+   * To have an effect, {@link hasReloadHandler} needs to be set as well.
+   *
+   * Default is false.
+   */
+  moreRowsAvailable?: boolean;
   /**
    * Controls whether a `Reload data` link should be displayed in the {@link TableFooter} that triggers a {@link TableEventMap.reload} event when clicked.
    *
@@ -8,7 +8,7 @@
  * SPDX-License-Identifier: EPL-2.0
  */
 import {
-  ajax, AjaxCall, AjaxError, arrays, BackgroundJobPollingStatus, dates, ErrorHandler, JsonErrorResponse, objects, PropertyEventEmitter, scout, Session, TopicDo, UiNotificationDo, UiNotificationPollerEventMap, UiNotificationResponse
+  ajax, AjaxCall, AjaxError, arrays, BackgroundJobPollingStatus, dates, ErrorHandler, JsonErrorResponse, numbers, objects, PropertyEventEmitter, scout, Session, strings, TopicDo, UiNotificationDo, UiNotificationPollerEventMap, UiNotificationResponse
 } from '../index';
 import $ from 'jquery';
 
@@ -26,6 +26,20 @@ export class UiNotificationPoller extends PropertyEventEmitter {
    */
   static HISTORY_COUNT = 10;
 
+  /**
+   * Configures whether the notifications should be received using Server-Sent-Events (`<url>/stream`) instead of long polling.
+   * The connection is kept open and the server pushes new notifications, so there is no need to reconnect after every notification.
+   *
+   * Needs to be enabled on the server as well (see scout.uinotification.sse.enabled).
+   * If the server does not provide the stream or the browser cannot read it, long polling is used.
+   */
+  static SSE_ENABLED = false;
+
+  /**
+   * The name of the Server-Sent-Events containing the notifications.
+   */
+  static SSE_NOTIFICATIONS_EVENT = 'notifications';
+
   /**
    * Configures in milliseconds how long the connection is allowed to stay open before it will be aborted.
    * This is more like a last resort timeout, the server will release the connection earlier (see scout.uinotification.waitTimeout).
@@ -37,13 +51,20 @@ export class UiNotificationPoller extends PropertyEventEmitter {
    */
   notifications: Map<string, Map<string, UiNotificationDo[]>>;
   url: string;
+  /**
+   * True, if the notifications are received using Server-Sent-Events. Is set to false if the stream is not available.
+   * Default is {@link UiNotificationPoller.SSE_ENABLED}.
+   */
+  sseEnabled: boolean;
   protected _call: AjaxCall;
+  protected _streamAbortController: AbortController;
 
   constructor() {
     super();
     this.requestTimeout = 75000;
     this.status = BackgroundJobPollingStatus.STOPPED;
     this.notifications = new Map();
+    this.sseEnabled = UiNotificationPoller.SSE_ENABLED;
   }
 
   setTopics(topics: string[]) {
@@ -88,6 +109,7 @@ export class UiNotificationPoller extends PropertyEventEmitter {
       return;
     }
     this._call?.abort();
+    this._streamAbortController?.abort();
     this.setStatus(BackgroundJobPollingStatus.STOPPED);
   }
 
@@ -109,6 +131,10 @@ export class UiNotificationPoller extends PropertyEventEmitter {
   }
 
   protected _poll() {
+    if (this.sseEnabled && this._isSseSupported()) {
+      this._stream();
+      return;
+    }
     this._call = ajax.createCallJson({
       url: this.url,
       timeout: this.requestTimeout,
@@ -134,7 +160,11 @@ export class UiNotificationPoller extends PropertyEventEmitter {
       // In case the poller will be started again, the discarded notifications will be sent again by the server
       return;
     }
-    let notifications = response.notifications || [];
+    this._handleNotifications(response.notifications || []);
+    this._schedulePoll();
+  }
+
+  protected _handleNotifications(notifications: UiNotificationDo[]) {
     $.log.isInfoEnabled() && $.log.info(`${notifications.length} UI notification(s) received.`);
     notifications = notifications.filter(notification => {
       let {topic, id, nodeId} = notification;
@@ -170,8 +200,6 @@ export class UiNotificationPoller extends PropertyEventEmitter {
       $.log.isInfoEnabled() && $.log.info(`Dispatching UI notifications with ids ${notifications.map(n => n.id)}.`);
       this.trigger('notifications', {notifications});
     }
-
-    this._schedulePoll();
   }
 
   protected _onSuccessError(error: JsonErrorResponse) {
@@ -205,6 +233,127 @@ export class UiNotificationPoller extends PropertyEventEmitter {
     this._schedulePoll(UiNotificationPoller.RETRY_INTERVAL);
   }
 
+  protected _isSseSupported(): boolean {
+    return typeof fetch === 'function' && typeof AbortController === 'function' && typeof TextDecoder === 'function';
+  }
+
+  protected _stream() {
+    let abortController = new AbortController();
+    this._streamAbortController = abortController;
+    fetch(this.url + '/stream', {
+      method: 'POST',
+      headers: {
+        'Accept': 'text/event-stream',
+        'Content-Type': 'application/json; charset=UTF-8',
+        'X-Requested-With': 'XMLHttpRequest',
+        'X-Scout-Correlation-Id': numbers.correlationId()
+      },
+      body: objects.stringifyJson({
+        topics: this.topicsWithLastNotifications
+      }, dates.stringifyJsonDateMapper()),
+      signal: abortController.signal
+    })
+      .then(response => this._onStreamResponse(response))
+      .catch(error => this._onStreamError(error, abortController));
+  }
+
+  protected _onStreamResponse(response: Response): Promise<void> {
+    if (this.status === BackgroundJobPollingStatus.STOPPED) {
+      return;
+    }
+    if (scout.isOneOf(response.status, 404, 405, 415) || response.ok && !response.body) {
+      // Stream is not enabled on the server or cannot be read by the browser
+      $.log.isInfoEnabled() && $.log.info(`UI notification stream is not available (${response.status}), falling back to long polling`);
+      this.sseEnabled = false;
+      this.poll();
+      return;
+    }
+    if (scout.isOneOf(response.status, 401, 403)) {
+      $.log.isInfoEnabled() && $.log.info(`Stopping ui notification poller because operation is not permitted (${response.status})`);
+      this.stop();
+      return;
+    }
+    if (!response.ok) {
+      throw new Error(`UI notification stream failed with status ${response.status}`);
+    }
+    if (!strings.startsWith(response.headers.get('Content-Type'), 'text/event-stream')) {
+      // Errors like a session timeout are sent as regular json response
+      return response.text().then(text => {
+        let errorResponse = objects.parseJson(text) as UiNotificationResponse;
+        if (!errorResponse?.error) {
+          throw new Error('Unexpected response for UI notification stream');
+        }
+        this._onSuccessError(errorResponse.error);
+      });
+    }
+    return this._readStream(response.body.getReader(), new TextDecoder(), '');
+  }
+
+  /**
+   * Reads the stream chunk by chunk until the server closes it and reconnects afterward.
+   */
+  protected _readStream(reader: ReadableStreamDefaultReader<Uint8Array>, decoder: TextDecoder, buffer: string): Promise<void> {
+    return reader.read().then(result => {
+      if (result.done) {
+        this._schedulePoll();
+        return;
+      }
+      buffer = this._processStreamEvents(buffer + decoder.decode(result.value, {stream: true}));
+      return this._readStream(reader, decoder, buffer);
+    });
+  }
+
+  /**
+   * Processes the complete events in the given text and returns the rest, which belongs to an event not fully received yet.
+   */
+  protected _processStreamEvents(text: string): string {
+    let events = text.replace(/\r\n?/g, '\n').split('\n\n');
+    let rest = events.pop();
+    events.forEach(event => this._processStreamEvent(event));
+    return rest;
+  }
+
+  protected _processStreamEvent(event: string) {
+    let name = 'message';
+    let data = [];
+    for (let line of event.split('\n')) {
+      // Lines starting with a colon are comments used to keep the connection alive
+      if (line.startsWith('event:')) {
+        name = line.substring('event:'.length).trim();
+      } else if (line.startsWith('data:')) {
+        data.push(line.substring('data:'.length).replace(/^ /, ''));
+      }
+    }
+    if (name !== UiNotificationPoller.SSE_NOTIFICATIONS_EVENT || data.length === 0) {
+      return;
+    }
+    let response = objects.parseJson(data.join('\n'), dates.parseJsonDateMapper('creationTime')) as UiNotificationResponse;
+    if (response.error) {
+      this._onSuccessError(response.error);
+      return;
+    }
+    if (this.status === BackgroundJobPollingStatus.STOPPED) {
+      return;
+    }
+    this._handleNotifications(response.notifications || []);
+  }
+
+  protected _onStreamError(error: Error, abortController: AbortController) {
+    if (abortController.signal.aborted) {
+      // Stream is aborted when the poller is stopped or restarted
+      return;
+    }
+    abortController.abort();
+    this.setStatus(BackgroundJobPollingStatus.FAILURE);
+    if (error instanceof TypeError) {
+      // Fetch rejects with a TypeError if the connection fails
+      $.log.isInfoEnabled() && $.log.info('Connection failed', error);
+    } else {
+      scout.create(ErrorHandler, {displayError: false}).handle(error);
+    }
+    this._schedulePoll(UiNotificationPoller.RETRY_INTERVAL);
+  }
+
   setStatus(status: BackgroundJobPollingStatus) {
     const changed = this.setProperty('status', status);
     if (changed) {
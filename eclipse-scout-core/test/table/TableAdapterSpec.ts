@@ -699,6 +699,30 @@ describe('TableAdapter', () => {
 
   });
 
+  describe('reload', () => {
+
+    it('sends reload event to load more rows and resets the loading state when the request is done', () => {
+      let model = $.extend(helper.createModelFixture(2, 0), {
+        moreRowsAvailable: true,
+        hasReloadHandler: true
+      });
+      let adapter = helper.createTableAdapter(model);
+      let table = adapter.createWidget(model, session.desktop) as Table;
+      spyOn(table, 'onLoadMoreRowsDone').and.callThrough();
+      table.render();
+      expect(table.onLoadMoreRowsDone).not.toHaveBeenCalled();
+
+      sendQueuedAjaxCalls();
+      expect(jasmine.Ajax.requests.count()).toBe(1);
+      let event = new RemoteEvent(table.id, 'reload', {
+        reloadReason: Table.ReloadReason.LOAD_MORE_ROWS
+      });
+      expect(mostRecentJsonRequest()).toContainEvents(event);
+      expect(table.onLoadMoreRowsDone).toHaveBeenCalled();
+    });
+
+  });
+
   describe('_sendFilter', () => {
 
     // Test case for ticket #175700
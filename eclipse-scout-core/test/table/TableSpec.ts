@@ -8,7 +8,7 @@
  * SPDX-License-Identifier: EPL-2.0
  */
 import {
-  BeanColumn, Column, ColumnModel, Device, graphics, IconColumn, icons, Menu, MenuDestinations, NumberColumn, ObjectFactory, Range, RemoteEvent, scout, scrollbars, Status, Table, TableField, TableRow, TableRowModel, Tooltip
+  BeanColumn, Column, ColumnModel, Device, graphics, IconColumn, icons, Menu, MenuDestinations, NumberColumn, ObjectFactory, Range, RemoteEvent, scout, scrollbars, Status, Table, TableField, TableRow, TableRowModel, TableTextUserFilter, Tooltip
 } from '../../src/index';
 import {JQueryTesting, LocaleSpecHelper, SpecTable, TableSpecHelper} from '../../src/testing/index';
 import $ from 'jquery';
@@ -3612,6 +3612,73 @@ describe('Table', () => {
     });
   });
 
+  describe('moreRowsAvailable', () => {
+    let reloadReasons: string[];
+
+    function createTable(moreRowsAvailable: boolean): Table {
+      let table = helper.createTable($.extend(helper.createModelFixture(2, 0), {
+        moreRowsAvailable: moreRowsAvailable,
+        hasReloadHandler: true
+      }));
+      table.on('reload', event => reloadReasons.push(event.reloadReason));
+      return table;
+    }
+
+    beforeEach(() => {
+      reloadReasons = [];
+    });
+
+    it('loads more rows if the rendered rows do not fill the viewport', () => {
+      let table = createTable(true);
+      table.render();
+      expect(reloadReasons).toEqual([Table.ReloadReason.LOAD_MORE_ROWS]);
+    });
+
+    it('does not load more rows while loading is in progress', () => {
+      let table = createTable(true);
+      table.render();
+      table._renderViewport();
+      expect(reloadReasons).toEqual([Table.ReloadReason.LOAD_MORE_ROWS]);
+
+      table.onLoadMoreRowsDone();
+      table._renderViewport();
+      expect(reloadReasons).toEqual([Table.ReloadReason.LOAD_MORE_ROWS, Table.ReloadReason.LOAD_MORE_ROWS]);
+    });
+
+    it('loads more rows when moreRowsAvailable changes to true', () => {
+      let table = createTable(false);
+      table.render();
+      expect(reloadReasons).toEqual([]);
+
+      table.setMoreRowsAvailable(true);
+      expect(reloadReasons).toEqual([Table.ReloadReason.LOAD_MORE_ROWS]);
+    });
+
+    it('does not load more rows without reload handler', () => {
+      let table = createTable(true);
+      table.hasReloadHandler = false;
+      table.render();
+      expect(reloadReasons).toEqual([]);
+    });
+
+    it('does not load more rows to fill the viewport if a user filter is active', () => {
+      let table = createTable(false);
+      table.render();
+      let filter = scout.create(TableTextUserFilter, {
+        session: session,
+        table: table,
+        text: 'no match'
+      });
+      table.addFilter(filter);
+      table.setMoreRowsAvailable(true);
+      expect(reloadReasons).toEqual([]);
+
+      table.removeFilter(filter);
+      table._renderViewport();
+      expect(reloadReasons).toEqual([Table.ReloadReason.LOAD_MORE_ROWS]);
+    });
+  });
+
   describe('primaryKeyColumns', () => {
 
     it('returns the correct columns', () => {
@@ -833,6 +833,92 @@ describe('uiNotifications', () => {
     });
   });
 
+  describe('stream', () => {
+    let fetchSpy: jasmine.Spy;
+
+    beforeEach(() => {
+      UiNotificationPoller.SSE_ENABLED = true;
+      fetchSpy = spyOn(window, 'fetch');
+    });
+
+    afterEach(() => {
+      UiNotificationPoller.SSE_ENABLED = false;
+    });
+
+    function streamResponse(chunks: string[]): Promise<Response> {
+      let encoder = new TextEncoder();
+      let body = new ReadableStream({
+        start(controller) {
+          chunks.forEach(chunk => controller.enqueue(encoder.encode(chunk)));
+          controller.close();
+        }
+      });
+      return Promise.resolve(new Response(body, {status: 200, headers: {'Content-Type': 'text/event-stream'}}));
+    }
+
+    function pendingResponse(): Promise<Response> {
+      return new Promise(() => undefined);
+    }
+
+    it('receives the notifications pushed by the server', async () => {
+      let response: UiNotificationResponse = {
+        notifications: [{
+          id: '100',
+          topic: 'aaa',
+          nodeId: 'node1',
+          creationTime: dates.parseJsonDate('2023-09-16 21:44:13.000'),
+          message: {
+            a: 'aaa'
+          } as JsonObject
+        }]
+      };
+      let sseEvent = `event: notifications\ndata: ${JSON.stringify(response, dates.stringifyJsonDateMapper())}\n\n`;
+      fetchSpy.and.returnValues(streamResponse([':keep-alive\n\n', sseEvent.substring(0, 20), sseEvent.substring(20)]), pendingResponse());
+      let receivedMsgs = [];
+      uiNotifications.subscribe('aaa', event => {
+        receivedMsgs.push(event.message);
+      });
+      let poller = pollers().get('main');
+      expect(fetchSpy.calls.mostRecent().args[0]).toBe('api/ui-notifications/stream');
+      expect(JSON.parse(fetchSpy.calls.mostRecent().args[1].body)['topics']).toEqual([{name: 'aaa'}]);
+
+      await sleep(10);
+      expect(receivedMsgs).toEqual([{a: 'aaa'}]);
+      expect(poller.topicsWithLastNotifications[0].lastNotifications[0].id).toBe('100');
+      expect(jasmine.Ajax.requests.count()).toBe(0);
+
+      // Reconnects with the last notifications after the stream has been closed
+      expect(fetchSpy).toHaveBeenCalledTimes(2);
+      expect(JSON.parse(fetchSpy.calls.mostRecent().args[1].body)['topics'][0].lastNotifications[0].id).toBe('100');
+      expect(poller.status).toBe(BackgroundJobPollingStatus.RUNNING);
+    });
+
+    it('falls back to long polling if the stream is not available', async () => {
+      fetchSpy.and.returnValue(Promise.resolve(new Response(null, {status: 404})));
+      uiNotifications.subscribe('aaa', () => undefined);
+      let poller = pollers().get('main');
+
+      await sleep(10);
+      expect(poller.sseEnabled).toBe(false);
+      expect(poller.status).toBe(BackgroundJobPollingStatus.RUNNING);
+      expect(jasmine.Ajax.requests.mostRecent().url).toBe('api/ui-notifications');
+      expect(mostRecentRequestData()['topics']).toEqual([{name: 'aaa'}]);
+
+      poller.restart();
+      expect(fetchSpy).toHaveBeenCalledTimes(1);
+    });
+
+    it('aborts the stream if stopped', () => {
+      fetchSpy.and.returnValue(pendingResponse());
+      uiNotifications.subscribe('aaa', () => undefined);
+      let signal: AbortSignal = fetchSpy.calls.mostRecent().args[1].signal;
+      expect(signal.aborted).toBe(false);
+
+      uiNotifications.unsubscribe('aaa');
+      expect(signal.aborted).toBe(true);
+    });
+  });
+
   describe('tearDown', () => {
     it('stops every poller', () => {
       uiNotifications.subscribe('aaa', () => undefined);
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,6 +37,7 @@ import org.json.JSONStringer.Scope;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - equals() method changed to be symmetric
+ * - Added write(Writer) to encode large arrays in chunks
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -606,6 +610,26 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this array as a compact JSON string into the given writer. Unlike {@link #toString()}, the encoded string is
+   * written in chunks and never held in memory as a whole, which is preferable for large arrays. The writer is neither
+   * flushed nor closed.
+   *
+   * @throws IOException
+   *           if writing to the writer fails.
+   * @since 24.1
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -40,6 +43,7 @@ import org.json.JSONStringer.Scope;
  * - Changed getString()/optString() to return null for JSON values "null" instead of the string "null".
  * - Replaced task markers from the original source code with 'TO.DO'.
  * - Suppress sonar warnings where necessary
+ * - Added write(Writer) to encode large objects in chunks
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -709,6 +713,26 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Encodes this object as a compact JSON string into the given writer. Unlike {@link #toString()}, the encoded string is
+   * written in chunks and never held in memory as a whole, which is preferable for large objects. The writer is neither
+   * flushed nor closed.
+   *
+   * @throws IOException
+   *           if writing to the writer fails.
+   * @since 24.1
+   */
+  public void write(Writer writer) throws IOException {
+    JSONStringer stringer = new JSONStringer(writer);
+    try {
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Optionally writes the output data in chunks into a Writer
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -67,6 +71,11 @@ import java.util.List;
  */
 public class JSONStringer {
 
+  /**
+   * Number of buffered characters upon which the output data is flushed to the {@link Writer}, if any.
+   */
+  static final int FLUSH_THRESHOLD = 8192;
+
   /** The output data, containing at most one top-level array or object. */
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
@@ -119,14 +128,33 @@ public class JSONStringer {
    */
   private final String m_indent;
 
+  /**
+   * Writer the output data is flushed to in chunks, or null to keep all output data in memory.
+   */
+  private final Writer m_writer;
+  private char[] m_chunk;
+  private boolean m_flushed;
+
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+  }
+
+  /**
+   * Creates a compact stringer which writes the output data in chunks of about {@link #FLUSH_THRESHOLD} characters into
+   * the given writer, so that the encoded string is never held in memory as a whole. {@link #flush()} must be invoked
+   * after the top-level value is encoded. I/O errors are thrown as {@link UncheckedIOException}.
+   */
+  JSONStringer(Writer writer) {
+    m_indent = null;
+    m_writer = writer;
   }
 
   /**
@@ -169,7 +197,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_flushed)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,6 +220,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    flushIfNecessary();
     return this;
   }
 
@@ -251,6 +280,7 @@ public class JSONStringer {
       string(value.toString());
     }
 
+    flushIfNecessary();
     return this;
   }
 
@@ -265,6 +295,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    flushIfNecessary();
     return this;
   }
 
@@ -281,6 +312,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(JSONObject.numberToString(value));
+    flushIfNecessary();
     return this;
   }
 
@@ -295,6 +327,7 @@ public class JSONStringer {
     }
     beforeValue();
     out.append(value);
+    flushIfNecessary();
     return this;
   }
 
@@ -374,6 +407,7 @@ public class JSONStringer {
     }
     beforeKey();
     string(name);
+    flushIfNecessary();
     return this;
   }
 
@@ -419,6 +453,39 @@ public class JSONStringer {
     }
   }
 
+  private void flushIfNecessary() {
+    if (m_writer != null && out.length() >= FLUSH_THRESHOLD) {
+      flush();
+    }
+  }
+
+  /**
+   * Writes the buffered output data into the writer passed to {@link #JSONStringer(Writer)} and clears the buffer. Does
+   * nothing if this stringer has no writer.
+   *
+   * @throws UncheckedIOException
+   *           if writing fails.
+   */
+  void flush() {
+    if (m_writer == null || out.length() == 0) {
+      return;
+    }
+
+    int length = out.length();
+    if (m_chunk == null || m_chunk.length < length) {
+      m_chunk = new char[Math.max(length, FLUSH_THRESHOLD)];
+    }
+    out.getChars(0, length, m_chunk, 0);
+    try {
+      m_writer.write(m_chunk, 0, length);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    out.setLength(0);
+    m_flushed = true;
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
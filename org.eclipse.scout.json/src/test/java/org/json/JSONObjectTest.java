@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
@@ -29,6 +32,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -44,6 +48,7 @@ import junit.framework.TestCase;
  * - Adjusted last check in "test_wrap()". The original intention of the test is not quite clear and may
  *   be system dependent. Instead of a java.nio.channels.Selector object, we use a simpler BigDecimal.
  * - Adjusted "testNullCoercionToString()" according to changed optString/getString implementation in JSONObject.
+ * - Added tests for write(Writer)
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -1133,4 +1138,73 @@ public class JSONObjectTest extends TestCase {
     catch (JSONException expected) {
     }
   }
+
+  public void testWrite() throws IOException {
+    JSONObject object = new JSONObject();
+    object.put("name", "a \"quoted\" value");
+    object.put("number", 5);
+    object.put("array", new JSONArray(Arrays.asList(1, "two", null)));
+    object.put("nested", new JSONObject().put("empty", new JSONObject()));
+
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+  }
+
+  public void testWriteLargeObjectInChunks() throws IOException {
+    JSONObject object = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 5000; i++) {
+      rows.put(new JSONObject().put("id", i).put("text", "row " + i));
+    }
+    object.put("rows", rows);
+
+    final List<Integer> chunkLengths = new ArrayList<>();
+    StringWriter target = new StringWriter();
+    object.write(new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) {
+        chunkLengths.add(len);
+        target.write(cbuf, off, len);
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    });
+
+    assertEquals(object.toString(), target.toString());
+    assertTrue(chunkLengths.size() > 1);
+    for (int len : chunkLengths) {
+      assertTrue(len < 2 * JSONStringer.FLUSH_THRESHOLD);
+    }
+  }
+
+  public void testWriteFailure() {
+    JSONObject object = new JSONObject().put("key", "value");
+    try {
+      object.write(new Writer() {
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+          throw new IOException("expected");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+      });
+      fail();
+    }
+    catch (IOException expected) {
+      assertEquals("expected", expected.getMessage());
+    }
+  }
 }
@@ -9,11 +9,15 @@
  */
 package org.eclipse.scout.rt.api.uinotification;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
@@ -21,11 +25,18 @@ import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
 import org.eclipse.scout.rt.api.data.uinotification.UiNotificationRequest;
 import org.eclipse.scout.rt.api.data.uinotification.UiNotificationResponse;
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.UiNotificationSseEnabledProperty;
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.UiNotificationWaitTimeoutProperty;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.rest.IRestResource;
 import org.eclipse.scout.rt.security.IAccessControlService;
 import org.slf4j.Logger;
@@ -35,6 +46,11 @@ import org.slf4j.LoggerFactory;
 public class UiNotificationResource implements IRestResource {
   private static final Logger LOG = LoggerFactory.getLogger(UiNotificationResource.class);
 
+  /**
+   * @since 24.1
+   */
+  public static final String NOTIFICATIONS_EVENT_NAME = "notifications";
+
   private UiNotificationRegistry m_registry;
 
   public UiNotificationResource() {
@@ -75,6 +91,149 @@ public class UiNotificationResource implements IRestResource {
         });
   }
 
+  /**
+   * Keeps the connection open and pushes the notifications for the given topics as Server-Sent-Events named
+   * {@value #NOTIFICATIONS_EVENT_NAME}, each containing a {@link UiNotificationResponse}. If no notification arrives
+   * within the wait timeout, a comment is sent to keep the connection alive.
+   * <p>
+   * The last known notifications of the topics are tracked by the server, so the client does not need to reconnect
+   * unless the connection drops.
+   *
+   * @see UiNotificationSseEnabledProperty
+   * @since 24.1
+   */
+  @POST
+  @Path("stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.SERVER_SENT_EVENTS)
+  public void stream(UiNotificationRequest request, @Context SseEventSink eventSink, @Context Sse sse) {
+    if (!CONFIG.getPropertyValue(UiNotificationSseEnabledProperty.class) || CONFIG.getPropertyValue(UiNotificationWaitTimeoutProperty.class) <= 0) {
+      throw new NotFoundException();
+    }
+    String userId = getUserId();
+    List<TopicDo> topics = request.getTopics();
+    LOG.debug("Received stream request for topics {} and user {}", topics, userId);
+    if (topics == null || topics.isEmpty()) {
+      throw new BadRequestException("Topics must not be empty");
+    }
+    streamNext(topics, userId, eventSink, sse);
+  }
+
+  /**
+   * Waits for the next notifications and sends them. The event sink is closed if waiting or sending fails, so that the
+   * connection is not kept open without being served anymore.
+   *
+   * @since 24.1
+   */
+  protected void streamNext(List<TopicDo> topics, String userId, SseEventSink eventSink, Sse sse) {
+    try {
+      getRegistry().getOrWait(topics, userId)
+          .whenComplete((notifications, throwable) -> {
+            if (throwable != null) {
+              LOG.warn("Error while waiting for notifications for topics {} and user {}, closing stream", topics, userId, throwable);
+              closeEventSink(eventSink);
+              return;
+            }
+            sendNext(topics, userId, notifications, eventSink, sse);
+          });
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Error while waiting for notifications for topics {} and user {}, closing stream", topics, userId, e);
+      closeEventSink(eventSink);
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected void sendNext(List<TopicDo> topics, String userId, List<UiNotificationDo> notifications, SseEventSink eventSink, Sse sse) {
+    if (eventSink.isClosed()) {
+      LOG.debug("Stream is closed, discarding {} notifications for topics {} and user {}", notifications.size(), topics, userId);
+      return;
+    }
+    try {
+      eventSink.send(createSseEvent(sse, notifications)).whenComplete((result, throwable) -> {
+        if (throwable != null) {
+          LOG.info("Error while sending notifications, client probably has disconnected. Original message: {}", throwable.getMessage());
+          closeEventSink(eventSink);
+          return;
+        }
+        streamNext(updateLastNotifications(topics, notifications), userId, eventSink, sse);
+      });
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Error while sending notifications for topics {} and user {}, closing stream", topics, userId, e);
+      closeEventSink(eventSink);
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected void closeEventSink(SseEventSink eventSink) {
+    try {
+      eventSink.close();
+    }
+    catch (RuntimeException e) {
+      LOG.debug("Could not close stream", e);
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected OutboundSseEvent createSseEvent(Sse sse, List<UiNotificationDo> notifications) {
+    if (notifications.isEmpty()) {
+      return sse.newEventBuilder()
+          .comment("keep-alive")
+          .build();
+    }
+    return sse.newEventBuilder()
+        .name(NOTIFICATIONS_EVENT_NAME)
+        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+        .data(UiNotificationResponse.class, new UiNotificationResponse().withNotifications(notifications))
+        .build();
+  }
+
+  /**
+   * Remembers the newest notification per cluster node for every topic, the same way the polling client does.
+   *
+   * @since 24.1
+   */
+  protected List<TopicDo> updateLastNotifications(List<TopicDo> topics, List<UiNotificationDo> notifications) {
+    if (notifications.isEmpty()) {
+      return topics;
+    }
+    List<TopicDo> updatedTopics = new ArrayList<>();
+    for (TopicDo topic : topics) {
+      Map<String, UiNotificationDo> lastNotificationByNode = new LinkedHashMap<>();
+      for (UiNotificationDo lastNotification : topic.getLastNotifications()) {
+        lastNotificationByNode.put(lastNotification.getNodeId(), lastNotification);
+      }
+      for (UiNotificationDo notification : notifications) {
+        if (!topic.getName().equals(notification.getTopic())) {
+          continue;
+        }
+        UiNotificationDo lastNotification = lastNotificationByNode.get(notification.getNodeId());
+        if (lastNotification == null || notification.getCreationTime().after(lastNotification.getCreationTime())) {
+          lastNotificationByNode.put(notification.getNodeId(), new UiNotificationDo()
+              .withId(notification.getId())
+              .withTopic(notification.getTopic())
+              .withNodeId(notification.getNodeId())
+              .withCreationTime(notification.getCreationTime()));
+        }
+      }
+      if (lastNotificationByNode.size() > 1) {
+        // The subscription start marker is not necessary anymore as soon as real notifications are known
+        lastNotificationByNode.values().removeIf(notification -> UiNotificationRegistry.SUBSCRIPTION_START_ID.equals(notification.getId()));
+      }
+      updatedTopics.add(new TopicDo()
+          .withName(topic.getName())
+          .withLastNotifications(lastNotificationByNode.values()));
+    }
+    return updatedTopics;
+  }
+
   protected String getUserId() {
     return BEANS.get(IAccessControlService.class).getUserIdOfCurrentSubject();
   }
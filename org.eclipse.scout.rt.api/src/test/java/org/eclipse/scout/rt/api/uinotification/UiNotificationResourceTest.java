@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.ws.rs.NotFoundException;
+import jakarta.ws.rs.sse.OutboundSseEvent;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationRequest;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class UiNotificationResourceTest {
+
+  private List<List<TopicDo>> m_requestedTopics;
+  private List<CompletableFuture<List<UiNotificationDo>>> m_results;
+  private UiNotificationResource m_resource;
+
+  @Before
+  public void before() {
+    m_requestedTopics = new ArrayList<>();
+    m_results = new ArrayList<>();
+    UiNotificationRegistry registry = new UiNotificationRegistry() {
+      @Override
+      public CompletableFuture<List<UiNotificationDo>> getOrWait(List<TopicDo> topics, String user) {
+        m_requestedTopics.add(topics);
+        // further requests wait forever
+        return m_results.isEmpty() ? new CompletableFuture<>() : m_results.remove(0);
+      }
+    };
+    m_resource = new UiNotificationResource() {
+      @Override
+      protected UiNotificationRegistry getRegistry() {
+        return registry;
+      }
+
+      @Override
+      protected String getUserId() {
+        return "user";
+      }
+    };
+  }
+
+  @Test(expected = NotFoundException.class)
+  public void testStreamDisabled() {
+    // scout.uinotification.sse.enabled is false by default
+    m_resource.stream(new UiNotificationRequest().withTopics(createTopic("topic", createNotification("-1", "node1", 0))), mock(SseEventSink.class), mock(Sse.class));
+  }
+
+  @Test
+  public void testStreamNext() {
+    UiNotificationDo notification = createNotification("1", "node1", 1000);
+    m_results.add(CompletableFuture.completedFuture(Arrays.asList(notification)));
+    m_results.add(CompletableFuture.completedFuture(new ArrayList<>()));
+
+    SseEventSink eventSink = mock(SseEventSink.class);
+    when(eventSink.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+    OutboundSseEvent notificationEvent = mock(OutboundSseEvent.class);
+    OutboundSseEvent keepAliveEvent = mock(OutboundSseEvent.class);
+    Sse sse = mockSse(notificationEvent, keepAliveEvent);
+
+    m_resource.streamNext(Arrays.asList(createTopic("topic", createNotification("-1", "node1", 0))), "user", eventSink, sse);
+
+    // notifications are sent, then a keep-alive comment, then the stream waits for the next notifications
+    verify(eventSink).send(notificationEvent);
+    verify(eventSink).send(keepAliveEvent);
+    assertEquals(3, m_requestedTopics.size());
+
+    // the following requests know the sent notification
+    TopicDo topic = m_requestedTopics.get(1).get(0);
+    assertEquals(1, topic.getLastNotifications().size());
+    assertEquals("1", topic.getLastNotifications().get(0).getId());
+    assertSame(m_requestedTopics.get(1), m_requestedTopics.get(2));
+  }
+
+  @Test
+  public void testStreamNextClosed() {
+    m_results.add(CompletableFuture.completedFuture(Arrays.asList(createNotification("1", "node1", 1000))));
+    SseEventSink eventSink = mock(SseEventSink.class);
+    when(eventSink.isClosed()).thenReturn(true);
+
+    m_resource.streamNext(Arrays.asList(createTopic("topic", createNotification("-1", "node1", 0))), "user", eventSink, mock(Sse.class));
+
+    verify(eventSink, never()).send(any());
+    assertEquals(1, m_requestedTopics.size());
+  }
+
+  @Test
+  public void testStreamNextFailed() {
+    CompletableFuture<List<UiNotificationDo>> result = new CompletableFuture<>();
+    m_results.add(result);
+    SseEventSink eventSink = mock(SseEventSink.class);
+
+    m_resource.streamNext(Arrays.asList(createTopic("topic", createNotification("-1", "node1", 0))), "user", eventSink, mock(Sse.class));
+    verify(eventSink, never()).close();
+
+    result.completeExceptionally(new IllegalStateException("registry shut down"));
+    verify(eventSink, never()).send(any());
+    verify(eventSink).close();
+    assertEquals(1, m_requestedTopics.size());
+  }
+
+  @Test
+  public void testStreamNextSendFailed() {
+    m_results.add(CompletableFuture.completedFuture(Arrays.asList(createNotification("1", "node1", 1000))));
+    SseEventSink eventSink = mock(SseEventSink.class);
+    Sse sse = mock(Sse.class);
+    when(sse.newEventBuilder()).thenThrow(new IllegalStateException("no event builder"));
+
+    m_resource.streamNext(Arrays.asList(createTopic("topic", createNotification("-1", "node1", 0))), "user", eventSink, sse);
+
+    verify(eventSink, never()).send(any());
+    verify(eventSink).close();
+    assertEquals(1, m_requestedTopics.size());
+  }
+
+  @Test
+  public void testUpdateLastNotifications() {
+    UiNotificationDo subscriptionStart = createNotification(UiNotificationRegistry.SUBSCRIPTION_START_ID, "node0", 0);
+    UiNotificationDo node1Old = createNotification("1", "node1", 1000);
+    UiNotificationDo node2 = createNotification("2", "node2", 1500);
+    UiNotificationDo node1New = createNotification("3", "node1", 2000);
+    UiNotificationDo otherTopic = createNotification("4", "node3", 3000).withTopic("other");
+
+    List<TopicDo> topics = m_resource.updateLastNotifications(Arrays.asList(createTopic("topic", subscriptionStart)), Arrays.asList(node1Old, node2, node1New, otherTopic));
+    assertEquals(1, topics.size());
+    assertEquals("topic", topics.get(0).getName());
+    List<UiNotificationDo> lastNotifications = topics.get(0).getLastNotifications();
+    assertEquals(2, lastNotifications.size());
+    assertEquals("3", lastNotifications.get(0).getId());
+    assertEquals("node1", lastNotifications.get(0).getNodeId());
+    assertEquals("2", lastNotifications.get(1).getId());
+    assertEquals("node2", lastNotifications.get(1).getNodeId());
+
+    // no notifications -> topics are unchanged
+    List<TopicDo> unchanged = Arrays.asList(createTopic("topic", node1New));
+    assertSame(unchanged, m_resource.updateLastNotifications(unchanged, new ArrayList<>()));
+  }
+
+  protected Sse mockSse(OutboundSseEvent notificationEvent, OutboundSseEvent keepAliveEvent) {
+    OutboundSseEvent.Builder notificationBuilder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+    when(notificationBuilder.build()).thenReturn(notificationEvent);
+    OutboundSseEvent.Builder keepAliveBuilder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+    when(keepAliveBuilder.build()).thenReturn(keepAliveEvent);
+
+    Sse sse = mock(Sse.class);
+    // the first event contains notifications, the second one is a keep-alive comment
+    when(sse.newEventBuilder()).thenReturn(notificationBuilder, keepAliveBuilder);
+    return sse;
+  }
+
+  protected TopicDo createTopic(String name, UiNotificationDo... lastNotifications) {
+    return new TopicDo().withName(name).withLastNotifications(lastNotifications);
+  }
+
+  protected UiNotificationDo createNotification(String id, String nodeId, long creationTime) {
+    return new UiNotificationDo()
+        .withId(id)
+        .withTopic("topic")
+        .withNodeId(nodeId)
+        .withCreationTime(new Date(creationTime));
+  }
+}
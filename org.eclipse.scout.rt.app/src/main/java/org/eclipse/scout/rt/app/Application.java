@@ -18,6 +18,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.KeyStore;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.servlet.ServletException;
@@ -28,9 +29,12 @@ import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpCookie.SameSite;
 import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
 import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.ConnectionLimit;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
 import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.LowResourceMonitor;
 import org.eclipse.jetty.server.Request;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
 import org.eclipse.jetty.server.Server;
@@ -41,9 +45,14 @@ import org.eclipse.jetty.server.handler.ErrorHandler;
 import org.eclipse.jetty.server.handler.HandlerWrapper;
 import org.eclipse.jetty.server.session.SessionHandler;
 import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.VirtualThreads;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationAcceptorsProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationAutoCreateSelfSignedCertificateProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationCertificateAliasProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationConnectorIdleTimeoutProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationConsoleInputHandlerEnabledProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationContextPathProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationHttpRequestMaxHeaderSizeProperty;
@@ -51,12 +60,22 @@ import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationHttpSessio
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationJvmShutdownHookEnabledProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationKeyStorePasswordProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationKeyStorePathProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationLowResourcesIdleTimeoutProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationLowResourcesPeriodProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationMaxConcurrentRequestsProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationMaxConnectionsProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationPortProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationPrivateKeyPasswordProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationSelectorsProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationSessionCookieConfigHttpOnlyProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationSessionCookieConfigSameSiteProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationSessionCookieConfigSecureProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationSessionTimeoutProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationThreadPoolIdleTimeoutProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationThreadPoolMaxQueueSizeProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationThreadPoolMaxThreadsProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationThreadPoolMinThreadsProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationThreadPoolVirtualThreadsEnabledProperty;
 import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationUseTlsProperty;
 import org.eclipse.scout.rt.jetty.IServletContributor;
 import org.eclipse.scout.rt.jetty.IServletFilterContributor;
@@ -156,7 +175,8 @@ public class Application {
 
   @SuppressWarnings("resource")
   protected Server createServer() {
-    Server server = new Server();
+    QueuedThreadPool threadPool = createThreadPool();
+    Server server = new Server(threadPool);
     ServerConnector connector;
     if (CONFIG.getPropertyValue(ScoutApplicationUseTlsProperty.class)) {
       connector = createHttpsServerConnector(server);
@@ -165,21 +185,116 @@ public class Application {
       connector = createHttpServerConnector(server);
     }
     connector.setPort(CONFIG.getPropertyValue(ScoutApplicationPortProperty.class));
+    Long idleTimeout = CONFIG.getPropertyValue(ScoutApplicationConnectorIdleTimeoutProperty.class);
+    if (idleTimeout != null) {
+      connector.setIdleTimeout(idleTimeout);
+    }
     server.addConnector(connector);
     installErrorHandler(server);
+    installConnectionLimit(server);
+    LowResourceMonitor lowResourceMonitor = installLowResourceMonitor(server);
 
     Handler handler = createHandler();
-    server.setHandler(handler);
+    RequestAdmissionHandler admissionHandler = createAdmissionHandler(handler);
+    server.setHandler(admissionHandler != null ? admissionHandler : handler);
 
+    BEANS.get(ApplicationMetricsHelper.class).register(server, threadPool, admissionHandler, lowResourceMonitor);
     return server;
   }
 
+  /**
+   * Creates the thread pool of the server, see the <code>scout.app.threadPool.*</code> properties. If virtual threads are
+   * enabled and supported by the Java runtime, requests are handled by virtual threads and the pool only runs the
+   * acceptors and selectors.
+   */
+  protected QueuedThreadPool createThreadPool() {
+    int maxThreads = CONFIG.getPropertyValue(ScoutApplicationThreadPoolMaxThreadsProperty.class);
+    int minThreads = Math.min(CONFIG.getPropertyValue(ScoutApplicationThreadPoolMinThreadsProperty.class), maxThreads);
+    int idleTimeout = CONFIG.getPropertyValue(ScoutApplicationThreadPoolIdleTimeoutProperty.class);
+    Integer maxQueueSize = CONFIG.getPropertyValue(ScoutApplicationThreadPoolMaxQueueSizeProperty.class);
+    BlockingQueue<Runnable> queue = null; // unbounded (Jetty default)
+    if (maxQueueSize != null) {
+      int capacity = Math.max(1, Math.min(minThreads, maxQueueSize));
+      queue = new BlockingArrayQueue<>(capacity, capacity, maxQueueSize);
+    }
+    LOG.info("[Thread pool config] max threads: {}, min threads: {}, idle timeout: {} ms, max queue size: {}", maxThreads, minThreads, idleTimeout, maxQueueSize == null ? "unbounded" : maxQueueSize);
+
+    QueuedThreadPool threadPool = new QueuedThreadPool(maxThreads, minThreads, idleTimeout, queue);
+    threadPool.setName("scout-app");
+    if (CONFIG.getPropertyValue(ScoutApplicationThreadPoolVirtualThreadsEnabledProperty.class)) {
+      if (VirtualThreads.areSupported()) {
+        LOG.info("Requests are handled by virtual threads");
+        threadPool.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+      }
+      else {
+        LOG.warn("Virtual threads are enabled by property '{}' but not supported by the Java runtime. Using the thread pool instead.",
+            BEANS.get(ScoutApplicationThreadPoolVirtualThreadsEnabledProperty.class).getKey());
+      }
+    }
+    return threadPool;
+  }
+
+  /**
+   * Limits the number of open connections if {@link ScoutApplicationMaxConnectionsProperty} is set. If the limit is
+   * reached, the connectors stop accepting new connections.
+   */
+  protected void installConnectionLimit(Server server) {
+    Integer maxConnections = CONFIG.getPropertyValue(ScoutApplicationMaxConnectionsProperty.class);
+    if (maxConnections == null) {
+      return;
+    }
+    LOG.info("Limiting number of connections to {}", maxConnections);
+    server.addBean(new ConnectionLimit(maxConnections, server));
+  }
+
+  /**
+   * Installs a {@link LowResourceMonitor} if {@link ScoutApplicationLowResourcesIdleTimeoutProperty} is set. While the
+   * thread pool is exhausted, idle connections are closed earlier.
+   *
+   * @return the installed monitor or <code>null</code> if low resources are not monitored
+   */
+  protected LowResourceMonitor installLowResourceMonitor(Server server) {
+    Integer lowResourcesIdleTimeout = CONFIG.getPropertyValue(ScoutApplicationLowResourcesIdleTimeoutProperty.class);
+    if (lowResourcesIdleTimeout == null) {
+      return null;
+    }
+    LowResourceMonitor monitor = new LowResourceMonitor(server);
+    monitor.setMonitorThreads(true);
+    monitor.setLowResourcesIdleTimeout(lowResourcesIdleTimeout);
+    monitor.setPeriod(CONFIG.getPropertyValue(ScoutApplicationLowResourcesPeriodProperty.class));
+    server.addBean(monitor);
+    return monitor;
+  }
+
+  /**
+   * @return a {@link RequestAdmissionHandler} wrapping the given handler if
+   *         {@link ScoutApplicationMaxConcurrentRequestsProperty} is set, <code>null</code> otherwise.
+   */
+  protected RequestAdmissionHandler createAdmissionHandler(Handler handler) {
+    Integer maxConcurrentRequests = CONFIG.getPropertyValue(ScoutApplicationMaxConcurrentRequestsProperty.class);
+    if (maxConcurrentRequests == null) {
+      return null;
+    }
+    LOG.info("Limiting number of concurrent requests to {}", maxConcurrentRequests);
+    return new RequestAdmissionHandler(handler, maxConcurrentRequests);
+  }
+
   protected ServerConnector createHttpServerConnector(Server server) {
     HttpConfiguration httpConfig = createHttpConfiguration();
-    ServerConnector http = new ServerConnector(server, new HttpConnectionFactory(httpConfig), new HTTP2CServerConnectionFactory(httpConfig));
+    ServerConnector http = createServerConnector(server, new HttpConnectionFactory(httpConfig), new HTTP2CServerConnectionFactory(httpConfig));
     return http;
   }
 
+  /**
+   * Creates a connector with the number of acceptors and selectors defined by {@link ScoutApplicationAcceptorsProperty}
+   * and {@link ScoutApplicationSelectorsProperty}.
+   */
+  protected ServerConnector createServerConnector(Server server, ConnectionFactory... factories) {
+    int acceptors = CONFIG.getPropertyValue(ScoutApplicationAcceptorsProperty.class);
+    int selectors = CONFIG.getPropertyValue(ScoutApplicationSelectorsProperty.class);
+    return new ServerConnector(server, acceptors, selectors, factories);
+  }
+
   protected ServerConnector createHttpsServerConnector(Server server) {
     SslContextFactory.Server sslContextFactory = createSslContextFactory();
     HttpConfiguration httpsConfig = createHttpConfiguration();
@@ -192,7 +307,7 @@ public class Application {
     alpn.setDefaultProtocol(http11.getProtocol());
 
     SslConnectionFactory tls = new SslConnectionFactory(sslContextFactory, alpn.getProtocol());
-    ServerConnector https = new ServerConnector(server, tls, alpn, http2, http11);
+    ServerConnector https = createServerConnector(server, tls, alpn, http2, http11);
 
     return https;
   }
@@ -422,6 +537,7 @@ public class Application {
     if (server != null) {
       LOG.info("Shutting down application...");
       server.stop();
+      BEANS.get(ApplicationMetricsHelper.class).unregister();
 
       // stop platform if it is available and not yet stopped (shouldn't be stopped yet)
       IPlatform platform = Platform.peek();
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.app;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+
+import org.eclipse.jetty.server.AbstractConnector;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.LowResourceMonitor;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Exports the utilization of the embedded Jetty server (thread pool, request queue, connections and admission control)
+ * as metrics.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class ApplicationMetricsHelper {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ApplicationMetricsHelper.class);
+
+  private static final AttributeKey<String> STATE = AttributeKey.stringKey("state");
+  private static final Attributes BUSY_ATTRIBUTES = Attributes.of(STATE, "busy");
+  private static final Attributes IDLE_ATTRIBUTES = Attributes.of(STATE, "idle");
+
+  private final List<AutoCloseable> m_observers = new ArrayList<>();
+  private Meter m_meter;
+  private LongCounter m_rejectedRequests;
+
+  @PostConstruct
+  protected void initMetrics() {
+    m_meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    m_rejectedRequests = m_meter.counterBuilder("scout.app.requests.rejected")
+        .setDescription("The number of requests rejected because the maximum number of concurrent requests was reached.")
+        .setUnit("{request}")
+        .build();
+  }
+
+  /**
+   * Registers the metrics observing the given server.
+   *
+   * @param admissionHandler
+   *          may be <code>null</code> if the number of concurrent requests is not limited
+   * @param lowResourceMonitor
+   *          may be <code>null</code> if low resources are not monitored
+   */
+  public synchronized void register(Server server, QueuedThreadPool threadPool, RequestAdmissionHandler admissionHandler, LowResourceMonitor lowResourceMonitor) {
+    m_observers.add(m_meter.upDownCounterBuilder("scout.app.jetty.thread_pool.threads")
+        .setDescription("The number of threads of the Jetty thread pool, differentiated by state (busy or idle).")
+        .setUnit("{thread}")
+        .buildWithCallback(m -> {
+          m.record(threadPool.getBusyThreads(), BUSY_ATTRIBUTES);
+          m.record(threadPool.getIdleThreads(), IDLE_ATTRIBUTES);
+        }));
+    m_observers.add(m_meter.gaugeBuilder("scout.app.jetty.thread_pool.utilization")
+        .setDescription("The ratio of busy threads to the maximum number of threads of the Jetty thread pool.")
+        .setUnit("1")
+        .buildWithCallback(m -> m.record(threadPool.getMaxThreads() > 0 ? (double) threadPool.getBusyThreads() / threadPool.getMaxThreads() : 0)));
+    m_observers.add(m_meter.upDownCounterBuilder("scout.app.jetty.thread_pool.queue_size")
+        .setDescription("The number of jobs (e.g. requests) waiting for a thread of the Jetty thread pool.")
+        .setUnit("{job}")
+        .buildWithCallback(m -> m.record(threadPool.getQueueSize())));
+    m_observers.add(m_meter.upDownCounterBuilder("scout.app.jetty.connections")
+        .setDescription("The number of open connections.")
+        .setUnit("{connection}")
+        .buildWithCallback(m -> m.record(countConnections(server))));
+    if (admissionHandler != null) {
+      m_observers.add(m_meter.upDownCounterBuilder("scout.app.requests.active")
+          .setDescription("The number of requests currently processed.")
+          .setUnit("{request}")
+          .buildWithCallback(m -> m.record(admissionHandler.getActiveRequests())));
+    }
+    if (lowResourceMonitor != null) {
+      m_observers.add(m_meter.gaugeBuilder("scout.app.jetty.low_resources")
+          .setDescription("1 if the Jetty server is low on resources, 0 otherwise.")
+          .ofLongs()
+          .buildWithCallback(m -> m.record(lowResourceMonitor.isLowOnResources() ? 1 : 0)));
+    }
+  }
+
+  /**
+   * Unregisters all metrics registered by
+   * {@link #register(Server, QueuedThreadPool, RequestAdmissionHandler, LowResourceMonitor)}.
+   */
+  public synchronized void unregister() {
+    for (AutoCloseable observer : m_observers) {
+      try {
+        observer.close();
+      }
+      catch (Exception e) {
+        LOG.warn("Could not unregister metric", e);
+      }
+    }
+    m_observers.clear();
+  }
+
+  public void requestRejected() {
+    m_rejectedRequests.add(1);
+  }
+
+  protected long countConnections(Server server) {
+    long count = 0;
+    for (Connector connector : server.getConnectors()) {
+      if (connector instanceof AbstractConnector) {
+        count += ((AbstractConnector) connector).getConnectedEndPoints().size();
+      }
+    }
+    return count;
+  }
+}
@@ -21,8 +21,10 @@ import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPortConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 
 /**
@@ -340,4 +342,258 @@ public final class ApplicationProperties {
       return "HTTPS certificate alias of the key in the keystore to use.";
     }
   }
+
+  /**
+   * Integer property whose configured value must be greater than 0, used for limits where 0 would make the server
+   * unusable.
+   *
+   * @since 24.1
+   */
+  public abstract static class AbstractGreaterZeroIntegerConfigProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    protected Integer parse(String value) {
+      Integer i = super.parse(value);
+      if (i == null || i > 0) {
+        return i;
+      }
+      throw new PlatformException("Invalid value for config with key '" + getKey() + "': '" + value + "'. Valid values are integers greater than 0.");
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationThreadPoolMaxThreadsProperty extends AbstractGreaterZeroIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.threadPool.maxThreads";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 200;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of threads of the Jetty thread pool. The default value is " + getDefaultValue() + ".";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationThreadPoolMinThreadsProperty extends AbstractGreaterZeroIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.threadPool.minThreads";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 8;
+    }
+
+    @Override
+    public String description() {
+      return "Minimum number of threads kept alive in the Jetty thread pool. The default value is " + getDefaultValue() + ".";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationThreadPoolIdleTimeoutProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.threadPool.idleTimeout";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return (int) TimeUnit.MINUTES.toMillis(1);
+    }
+
+    @Override
+    public String description() {
+      return "Time in milliseconds after which an idle thread of the Jetty thread pool is stopped (as long as more than '"
+          + BEANS.get(ScoutApplicationThreadPoolMinThreadsProperty.class).getKey() + "' threads are running). The default value is 60000 (1 minute).";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationThreadPoolMaxQueueSizeProperty extends AbstractGreaterZeroIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.threadPool.maxQueueSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of jobs waiting for a thread of the Jetty thread pool. If the queue is full, new connections are rejected instead of being queued. "
+          + "By default the queue is unbounded.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationThreadPoolVirtualThreadsEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.threadPool.virtualThreadsEnabled";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether requests are handled by virtual threads instead of the threads of the Jetty thread pool. "
+          + "Requires a Java runtime supporting virtual threads, otherwise the thread pool is used. The default value is false.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationAcceptorsProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.acceptors";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return -1;
+    }
+
+    @Override
+    public String description() {
+      return "Number of acceptor threads of the server connector. The default value -1 lets Jetty derive the number from the available processors.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationSelectorsProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.selectors";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return -1;
+    }
+
+    @Override
+    public String description() {
+      return "Number of selector threads of the server connector. The default value -1 lets Jetty derive the number from the available processors.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationConnectorIdleTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.connectorIdleTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Time in milliseconds after which an idle connection is closed. The default value is 30000 (Jetty default).";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationMaxConnectionsProperty extends AbstractGreaterZeroIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.maxConnections";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of open connections. If reached, the server stops accepting new connections until a connection is closed. "
+          + "By default the number of connections is not limited.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationMaxConcurrentRequestsProperty extends AbstractGreaterZeroIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.maxConcurrentRequests";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of requests processed concurrently. Further requests are rejected with HTTP status 503 (Service Unavailable) "
+          + "instead of being queued. A request only counts while its handler is running, asynchronous requests waiting after that "
+          + "(e.g. UI poll requests or Server-Sent-Events streams) are not counted. By default the number of concurrent requests is not limited.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationLowResourcesIdleTimeoutProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.lowResources.idleTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Setting this property enables the low resources monitor of Jetty. If the thread pool is exhausted, "
+          + "the idle timeout of the connections is reduced to this value in milliseconds, so that idle connections are closed earlier. "
+          + "By default the low resources monitor is disabled.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ScoutApplicationLowResourcesPeriodProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.app.lowResources.period";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+
+    @Override
+    public String description() {
+      return "Interval in milliseconds in which the low resources monitor checks the thread pool. Only used if '"
+          + BEANS.get(ScoutApplicationLowResourcesIdleTimeoutProperty.class).getKey() + "' is set. The default value is 1000.";
+    }
+  }
 }
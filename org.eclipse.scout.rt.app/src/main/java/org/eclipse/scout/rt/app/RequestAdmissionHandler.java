@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.app;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.handler.HandlerWrapper;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationMaxConcurrentRequestsProperty;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Handler} limiting the number of requests processed concurrently (see
+ * {@link ScoutApplicationMaxConcurrentRequestsProperty}). Requests exceeding the limit are not queued but rejected
+ * immediately with HTTP status 503 (Service Unavailable), so that an overloaded server sheds load instead of piling up
+ * waiting requests.
+ * <p>
+ * A request is counted while the wrapped handler is executing. Asynchronous processing continuing after the handler
+ * returned is not counted, e.g. parked UI poll requests or Server-Sent-Events streams of UI notifications hold a
+ * connection but no admission slot. Their work after resuming is not limited by this handler either.
+ *
+ * @since 24.1
+ */
+public class RequestAdmissionHandler extends HandlerWrapper {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RequestAdmissionHandler.class);
+
+  /**
+   * Value of the <code>Retry-After</code> header of rejected requests (seconds).
+   */
+  public static final String RETRY_AFTER_SECONDS = "1";
+
+  private final int m_maxConcurrentRequests;
+  private final AtomicInteger m_activeRequests = new AtomicInteger();
+
+  public RequestAdmissionHandler(Handler handler, int maxConcurrentRequests) {
+    Assertions.assertGreater(maxConcurrentRequests, 0, "maxConcurrentRequests must be > 0");
+    setHandler(handler);
+    m_maxConcurrentRequests = maxConcurrentRequests;
+  }
+
+  @Override
+  public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
+    if (m_activeRequests.incrementAndGet() > m_maxConcurrentRequests) {
+      m_activeRequests.decrementAndGet();
+      reject(baseRequest, response);
+      return;
+    }
+    try {
+      super.handle(target, baseRequest, request, response);
+    }
+    finally {
+      m_activeRequests.decrementAndGet();
+    }
+  }
+
+  protected void reject(Request baseRequest, HttpServletResponse response) throws IOException {
+    LOG.debug("Rejecting request {}, maximum of {} concurrent requests reached", baseRequest.getRequestURI(), m_maxConcurrentRequests);
+    BEANS.get(ApplicationMetricsHelper.class).requestRejected();
+    baseRequest.setHandled(true);
+    response.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+  }
+
+  public int getMaxConcurrentRequests() {
+    return m_maxConcurrentRequests;
+  }
+
+  /**
+   * @return the number of requests currently processed
+   */
+  public int getActiveRequests() {
+    return m_activeRequests.get();
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.app;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationMaxConcurrentRequestsProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationMaxConnectionsProperty;
+import org.eclipse.scout.rt.app.ApplicationProperties.ScoutApplicationThreadPoolMaxThreadsProperty;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.junit.Test;
+
+public class ApplicationPropertiesTest {
+
+  @Test
+  public void testGreaterZeroIntegerProperties() {
+    assertGreaterZero(new ScoutApplicationThreadPoolMaxThreadsProperty());
+    assertGreaterZero(new ScoutApplicationMaxConnectionsProperty());
+    assertGreaterZero(new ScoutApplicationMaxConcurrentRequestsProperty());
+  }
+
+  protected void assertGreaterZero(ApplicationProperties.AbstractGreaterZeroIntegerConfigProperty property) {
+    assertEquals(Integer.valueOf(1), property.parse("1"));
+    assertThrows(PlatformException.class, () -> property.parse("0"));
+  }
+}
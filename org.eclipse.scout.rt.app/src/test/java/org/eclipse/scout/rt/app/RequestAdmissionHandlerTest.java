@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.app;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class RequestAdmissionHandlerTest {
+
+  private List<IBean<?>> m_beans;
+  private ApplicationMetricsHelper m_metricsHelper;
+
+  @Before
+  public void before() {
+    m_metricsHelper = mock(ApplicationMetricsHelper.class);
+    m_beans = BeanTestingHelper.get().registerBeans(new BeanMetaData(ApplicationMetricsHelper.class, m_metricsHelper));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBeans(m_beans);
+  }
+
+  @Test
+  public void testAdmit() throws Exception {
+    Handler handler = mock(Handler.class);
+    RequestAdmissionHandler admissionHandler = new RequestAdmissionHandler(handler, 1);
+    Request baseRequest = mock(Request.class);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+
+    admissionHandler.handle("/", baseRequest, baseRequest, response);
+    admissionHandler.handle("/", baseRequest, baseRequest, response);
+
+    verify(handler, times(2)).handle("/", baseRequest, baseRequest, response);
+    verify(response, never()).sendError(anyInt());
+    verify(m_metricsHelper, never()).requestRejected();
+    assertEquals(0, admissionHandler.getActiveRequests());
+  }
+
+  @Test
+  public void testReject() throws Exception {
+    Handler handler = mock(Handler.class);
+    RequestAdmissionHandler admissionHandler = new RequestAdmissionHandler(handler, 1);
+    Request rejectedRequest = mock(Request.class);
+    HttpServletResponse rejectedResponse = mock(HttpServletResponse.class);
+
+    // a second request arriving while the first one is processed is rejected
+    doAnswer(invocation -> {
+      assertEquals(1, admissionHandler.getActiveRequests());
+      admissionHandler.handle("/", rejectedRequest, rejectedRequest, rejectedResponse);
+      return null;
+    }).when(handler).handle(eq("/"), any(Request.class), any(HttpServletRequest.class), any(HttpServletResponse.class));
+
+    Request baseRequest = mock(Request.class);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    admissionHandler.handle("/", baseRequest, baseRequest, response);
+
+    verify(handler, times(1)).handle(eq("/"), any(Request.class), any(HttpServletRequest.class), any(HttpServletResponse.class));
+    verify(rejectedRequest).setHandled(true);
+    verify(rejectedResponse).setHeader("Retry-After", RequestAdmissionHandler.RETRY_AFTER_SECONDS);
+    verify(rejectedResponse).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    verify(response, never()).sendError(anyInt());
+    verify(m_metricsHelper, times(1)).requestRejected();
+    assertEquals(0, admissionHandler.getActiveRequests());
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.Platform;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Base class for JMH benchmarks that require a running Scout platform.
+ * <p>
+ * The platform is started once per forked benchmark JVM (see {@link Platform#get()}) and is reused by all iterations.
+ * Subclasses typically prepare their fixtures in an additional {@link Setup} method, which JMH invokes after
+ * {@link #startPlatform()}.
+ *
+ * @since 24.1
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+public abstract class AbstractPlatformBenchmark {
+
+  @Setup
+  public void startPlatform() {
+    beforePlatformStart();
+    Platform.get().awaitPlatformStarted();
+  }
+
+  /**
+   * Called before the platform is started, e.g. to set system properties read during platform startup. Benchmark
+   * parameters are already injected.
+   *
+   * @since 24.1
+   */
+  protected void beforePlatformStart() {
+    // nop
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by a table loaded with many rows containing few distinct values, with and without
+ * {@link ITable#isCellValueDictionaryEnabled()}.
+ * <p>
+ * The result of interest is the secondary <i>retainedKiloBytes</i> metric. The primary score is dominated by the
+ * garbage collections required to measure the used heap and is not meaningful.
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class TableMemoryBenchmark extends AbstractPlatformBenchmark {
+
+  @Param({"20000"})
+  public int rowCount;
+
+  @Param({"false", "true"})
+  public boolean cellValueDictionaryEnabled;
+
+  @Benchmark
+  public ITable loadTable(RetainedHeap retainedHeap) {
+    long before = usedHeap();
+    // the rows are created after measuring the heap because the table keeps their values if they are not shared
+    Object[][] rows = createRows();
+    ITable table = new BenchmarkTable();
+    table.setCellValueDictionaryEnabled(cellValueDictionaryEnabled);
+    table.addRowsByMatrix(rows);
+    rows = null; // NOSONAR only the table is to be measured
+    retainedHeap.retainedKiloBytes = (usedHeap() - before) / 1024;
+    return table;
+  }
+
+  protected Object[][] createRows() {
+    Object[][] rows = new Object[rowCount][3];
+    for (int i = 0; i < rowCount; i++) {
+      rows[i][0] = "state" + (i % 10); // new but equal instances
+      rows[i][1] = Integer.valueOf(100000 + (i % 10)); // outside of the Integer cache
+      rows[i][2] = "id" + i;
+    }
+    return rows;
+  }
+
+  protected long usedHeap() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int i = 0; i < 3; i++) {
+      System.gc(); // NOSONAR required to measure the retained heap
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Reports the heap retained by the table loaded in the last invocation.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+    public long retainedKiloBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedKiloBytes = 0;
+    }
+  }
+
+  /**
+   * Table with two columns containing few distinct values and one column containing unique values.
+   */
+  public static class BenchmarkTable extends AbstractTable {
+
+    @Order(10)
+    public class StateColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class AmountColumn extends AbstractIntegerColumn {
+    }
+
+    @Order(30)
+    public class IdColumn extends AbstractStringColumn {
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.dataobject;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures serialization and deserialization of large {@link DoEntity} trees using the {@link IDataObjectMapper}
+ * (implemented by {@link org.eclipse.scout.rt.jackson.dataobject.JacksonDataObjectMapper}).
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataObjectMapperBenchmark extends AbstractPlatformBenchmark {
+
+  @Param({"100", "10000"})
+  public int rowCount;
+
+  private IDataObjectMapper m_mapper;
+  private DoEntity m_entity;
+  private String m_json;
+  private byte[] m_jsonBytes;
+
+  @Setup
+  public void setup() {
+    m_mapper = BEANS.get(IDataObjectMapper.class);
+    m_entity = createEntity(rowCount);
+    m_json = m_mapper.writeValue(m_entity);
+    m_jsonBytes = m_json.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public String writeValue() {
+    return m_mapper.writeValue(m_entity);
+  }
+
+  @Benchmark
+  public int writeValueToStream() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(m_jsonBytes.length);
+    m_mapper.writeValue(out, m_entity);
+    return out.size();
+  }
+
+  @Benchmark
+  public IDataObject readValueRaw() {
+    return m_mapper.readValueRaw(m_json);
+  }
+
+  @Benchmark
+  public IDataObject readValueRawFromStream() {
+    return m_mapper.readValueRaw(new ByteArrayInputStream(m_jsonBytes));
+  }
+
+  protected DoEntity createEntity(int rows) {
+    List<DoEntity> rowEntities = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      DoEntity address = new DoEntity();
+      address.put("street", "Street " + i);
+      address.put("zipCode", String.valueOf(1000 + i % 9000));
+      address.put("city", "City " + (i % 100));
+
+      DoEntity row = new DoEntity();
+      row.put("id", (long) i);
+      row.put("name", "Name " + i);
+      row.put("active", i % 2 == 0);
+      row.put("amount", BigDecimal.valueOf(i, 2));
+      row.put("address", address);
+      row.putList("tags", Arrays.asList("tag" + (i % 7), "tag" + (i % 11)));
+      rowEntities.add(row);
+    }
+    DoEntity entity = new DoEntity();
+    entity.put("name", "root");
+    entity.putList("rows", rowEntities);
+    return entity;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.jdbc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.holders.StringHolder;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures the construction of a {@link StatementProcessor} (parsing of the statement and resolving of the binds),
+ * which is done for every {@link org.eclipse.scout.rt.server.jdbc.SQL} call.
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatementProcessorBenchmark extends AbstractPlatformBenchmark {
+
+  private static final String SELECT = ""
+      + "SELECT P.PERSON_NR, P.NAME, P.FIRST_NAME, A.CITY "
+      + "FROM PERSON P, ADDRESS A "
+      + "WHERE P.ADDRESS_NR = A.ADDRESS_NR "
+      + "AND P.PERSON_NR = :personNr "
+      + "AND UPPER(P.NAME) LIKE UPPER(:name || '%') "
+      + "AND A.CITY = :city "
+      + "INTO :outPersonNr, :outName, :outFirstName, :outCity";
+
+  private static final String INSERT = ""
+      + "INSERT INTO PERSON (PERSON_NR, NAME, FIRST_NAME, CITY) "
+      + "VALUES (:personNr, :name, :firstName, :city)";
+
+  private AbstractSqlService m_sqlService;
+  private Object[] m_selectBinds;
+  private Object[] m_insertBinds;
+
+  @Setup
+  public void setup() {
+    m_sqlService = new BenchmarkSqlService();
+    m_selectBinds = new Object[]{
+        new NVPair("personNr", 42L),
+        new NVPair("name", "Muster"),
+        new NVPair("city", "Zurich"),
+        new NVPair("outPersonNr", new LongHolder()),
+        new NVPair("outName", new StringHolder()),
+        new NVPair("outFirstName", new StringHolder()),
+        new NVPair("outCity", new StringHolder())};
+    m_insertBinds = new Object[]{
+        new NVPair("personNr", 42L),
+        new NVPair("name", "Muster"),
+        new NVPair("firstName", "Max"),
+        new NVPair("city", "Zurich")};
+  }
+
+  @Benchmark
+  public StatementProcessor createSelectInto() {
+    return new StatementProcessor(m_sqlService, SELECT, m_selectBinds);
+  }
+
+  @Benchmark
+  public StatementProcessor createInsert() {
+    return new StatementProcessor(m_sqlService, INSERT, m_insertBinds);
+  }
+
+  /**
+   * Creates the statement with all bind values inlined as plain text (without database access).
+   */
+  @Benchmark
+  public String createPlainText() {
+    return new StatementProcessor(m_sqlService, INSERT, m_insertBinds).createPlainText();
+  }
+
+  @IgnoreBean
+  public static class BenchmarkSqlService extends AbstractSqlService {
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.BasicCache;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures {@link BasicCache#get(Object)} and {@link BasicCache#getAll(java.util.Collection)} on a warm cache created
+ * by the {@link ICacheBuilder}.
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BasicCacheBenchmark extends AbstractPlatformBenchmark {
+
+  private static final String CACHE_ID = BasicCacheBenchmark.class.getName();
+
+  @Param({"1000", "100000"})
+  public int size;
+
+  @Param({"false", "true"})
+  public boolean transactional;
+
+  private ICache<Integer, String> m_cache;
+  private List<Integer> m_keys;
+
+  @Setup
+  public void setup() {
+    ICacheBuilder<Integer, String> builder = BEANS.get(ICacheBuilder.class);
+    m_cache = builder
+        .withCacheId(CACHE_ID)
+        .withReplaceIfExists(true)
+        .withValueResolver(key -> "value-" + key)
+        .withTransactional(transactional)
+        .build();
+
+    m_keys = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      m_keys.add(i * (size / 100));
+    }
+    for (int i = 0; i < size; i++) {
+      m_cache.get(i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    m_cache.invalidate(new AllCacheEntryFilter<>(), false);
+  }
+
+  @Benchmark
+  public String get() {
+    return m_cache.get(ThreadLocalRandom.current().nextInt(size));
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String getConcurrently() {
+    return get();
+  }
+
+  @Benchmark
+  public Map<Integer, String> getAll() {
+    return m_cache.getAll(m_keys);
+  }
+}
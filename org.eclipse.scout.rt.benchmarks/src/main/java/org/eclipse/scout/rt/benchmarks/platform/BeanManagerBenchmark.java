@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures bean lookups through {@link BEANS} and the {@link IBeanManager} (implemented by
+ * {@link org.eclipse.scout.rt.platform.internal.BeanManagerImplementor}).
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BeanManagerBenchmark extends AbstractPlatformBenchmark {
+
+  private IBeanManager m_beanManager;
+
+  @Setup
+  public void setup() {
+    m_beanManager = Platform.get().getBeanManager();
+  }
+
+  /**
+   * Lookup of an application scoped bean (instance is cached by the bean manager).
+   */
+  @Benchmark
+  public ExceptionHandler beansGetApplicationScoped() {
+    return BEANS.get(ExceptionHandler.class);
+  }
+
+  /**
+   * Lookup of a bean without application scope (a new instance is created for each lookup).
+   */
+  @Benchmark
+  public JobInput beansGetBean() {
+    return BEANS.get(JobInput.class);
+  }
+
+  /**
+   * Lookup of all beans implementing an interface.
+   */
+  @Benchmark
+  public List<IMetricProvider> beansAll() {
+    return BEANS.all(IMetricProvider.class);
+  }
+
+  @Benchmark
+  public IBean<ExceptionHandler> beanManagerGetBean() {
+    return m_beanManager.getBean(ExceptionHandler.class);
+  }
+
+  @Benchmark
+  public List<IBean<IMetricProvider>> beanManagerGetBeans() {
+    return m_beanManager.getBeans(IMetricProvider.class);
+  }
+}
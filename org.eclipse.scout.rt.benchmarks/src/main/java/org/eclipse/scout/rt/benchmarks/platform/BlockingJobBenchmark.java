@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Compares the throughput of jobs blocking on I/O (simulated by sleeping, like a JDBC or service tunnel call) on
+ * platform threads and on virtual threads ({@link JobManagerVirtualThreadsProperty}).
+ * <p>
+ * One operation schedules a batch of blocking jobs and awaits them all. In the session variant, the jobs are spread
+ * over sessions, each with an execution semaphore of one permit like model jobs.
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BlockingJobBenchmark extends AbstractPlatformBenchmark {
+
+  private static final int JOBS = 500;
+  private static final int SESSIONS = 100;
+  private static final long BLOCKING_MILLIS = 10;
+  /**
+   * Key of {@link JobManagerVirtualThreadsProperty}, the bean cannot be used before the platform is started.
+   */
+  private static final String VIRTUAL_THREADS_PROPERTY_KEY = "scout.jobmanager.virtualThreads";
+
+  @Param({"false", "true"})
+  public boolean virtualThreads;
+
+  private List<IExecutionSemaphore> m_sessionSemaphores;
+
+  /**
+   * The job manager is created when the platform starts, therefore the property is set before (each parameter value
+   * runs in a separate fork).
+   */
+  @Override
+  protected void beforePlatformStart() {
+    System.setProperty(VIRTUAL_THREADS_PROPERTY_KEY, String.valueOf(virtualThreads));
+  }
+
+  @Setup
+  public void setup() {
+    m_sessionSemaphores = new ArrayList<>(SESSIONS);
+    for (int i = 0; i < SESSIONS; i++) {
+      m_sessionSemaphores.add(Jobs.newExecutionSemaphore(1));
+    }
+  }
+
+  @Benchmark
+  public int blockingJobs() {
+    return scheduleAndAwait(false);
+  }
+
+  @Benchmark
+  public int blockingJobsPerSession() {
+    return scheduleAndAwait(true);
+  }
+
+  protected int scheduleAndAwait(boolean withSessionSemaphore) {
+    List<IFuture<Integer>> futures = new ArrayList<>(JOBS);
+    for (int i = 0; i < JOBS; i++) {
+      final int result = i;
+      futures.add(Jobs.schedule(() -> {
+        SleepUtil.sleepSafe(BLOCKING_MILLIS, TimeUnit.MILLISECONDS);
+        return result;
+      }, Jobs.newInput()
+          .withRunContext(RunContexts.empty())
+          .withExecutionSemaphore(withSessionSemaphore ? m_sessionSemaphores.get(i % SESSIONS) : null)));
+    }
+    int sum = 0;
+    for (IFuture<Integer> future : futures) {
+      sum += future.awaitDoneAndGet();
+    }
+    return sum;
+  }
+}
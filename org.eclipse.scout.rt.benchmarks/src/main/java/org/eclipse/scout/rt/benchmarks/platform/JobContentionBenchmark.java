@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the job manager's internal bookkeeping under contention: many threads schedule short jobs, compete for
+ * execution semaphore permits and await their jobs by filter, which all go through the job manager's future set.
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JobContentionBenchmark extends AbstractPlatformBenchmark {
+
+  private static final int BATCH_SIZE = 20;
+  private static final int PERMITS = 4;
+
+  private IExecutionSemaphore m_semaphore;
+
+  @Setup
+  public void setup() {
+    m_semaphore = Jobs.newExecutionSemaphore(PERMITS);
+  }
+
+  /**
+   * Execution hint unique to the benchmark thread, so that every thread awaits its own jobs only.
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+
+    private String m_executionHint;
+    private Predicate<IFuture<?>> m_filter;
+
+    @Setup
+    public void setup() {
+      m_executionHint = UUID.randomUUID().toString();
+      m_filter = Jobs.newFutureFilterBuilder()
+          .andMatchExecutionHint(m_executionHint)
+          .toFilter();
+    }
+  }
+
+  /**
+   * Schedules a batch of jobs and awaits them via {@link org.eclipse.scout.rt.platform.job.IJobManager#awaitDone}.
+   */
+  @Benchmark
+  @Threads(16)
+  public void scheduleAndAwaitByFilter(ThreadState state) {
+    scheduleBatch(state, null);
+    Jobs.getJobManager().awaitDone(state.m_filter, 1, TimeUnit.MINUTES);
+  }
+
+  /**
+   * Same as {@link #scheduleAndAwaitByFilter(ThreadState)}, but all jobs compete for the permits of one shared
+   * execution semaphore.
+   */
+  @Benchmark
+  @Threads(16)
+  public void scheduleAndAwaitByFilterWithExecutionSemaphore(ThreadState state) {
+    scheduleBatch(state, m_semaphore);
+    Jobs.getJobManager().awaitDone(state.m_filter, 1, TimeUnit.MINUTES);
+  }
+
+  /**
+   * Queries the running jobs while other threads schedule and complete jobs.
+   */
+  @Benchmark
+  @Threads(16)
+  public int scheduleAndQueryFutures(ThreadState state) {
+    scheduleBatch(state, null);
+    int count = Jobs.getJobManager().getFutures(state.m_filter).size();
+    Jobs.getJobManager().awaitDone(state.m_filter, 1, TimeUnit.MINUTES);
+    return count;
+  }
+
+  protected void scheduleBatch(ThreadState state, IExecutionSemaphore semaphore) {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      Jobs.schedule(() -> {
+        // nop
+      }, Jobs.newInput()
+          .withRunContext(RunContexts.empty())
+          .withExecutionHint(state.m_executionHint)
+          .withExecutionSemaphore(semaphore));
+    }
+  }
+}
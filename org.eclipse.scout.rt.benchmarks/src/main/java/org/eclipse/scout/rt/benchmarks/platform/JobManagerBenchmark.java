@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.platform;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures the round trip of scheduling a job via {@link Jobs} and awaiting its result.
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JobManagerBenchmark extends AbstractPlatformBenchmark {
+
+  private IExecutionSemaphore m_semaphore;
+
+  @Setup
+  public void setup() {
+    m_semaphore = Jobs.newExecutionSemaphore(1);
+  }
+
+  @Benchmark
+  public Integer scheduleAndAwait() {
+    return Jobs.schedule(() -> 1, Jobs.newInput()
+        .withRunContext(RunContexts.empty()))
+        .awaitDoneAndGet();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Integer scheduleAndAwaitConcurrently() {
+    return scheduleAndAwait();
+  }
+
+  /**
+   * Jobs competing for a single permit, similar to model jobs of a client session.
+   */
+  @Benchmark
+  @Threads(8)
+  public Integer scheduleAndAwaitWithExecutionSemaphore() {
+    return Jobs.schedule(() -> 1, Jobs.newInput()
+        .withRunContext(RunContexts.empty())
+        .withExecutionSemaphore(m_semaphore))
+        .awaitDoneAndGet();
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.shared;
+
+import java.util.Locale;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.shared.services.common.code.AbstractCodeType;
+import org.eclipse.scout.rt.shared.services.common.code.CodeService;
+import org.eclipse.scout.rt.shared.services.common.code.CodeTypeCacheKey;
+import org.eclipse.scout.rt.shared.services.common.code.ICodeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures {@link CodeService#findCodeTypeById(Object)} as the number of cached code types grows. The cache is filled
+ * with the same code types in many locales, like on a server with users of different languages.
+ * <p>
+ * {@link #findCodeTypeByIdLinearScan()} is the scan over all cache entries that was used before the id index.
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodeServiceBenchmark extends AbstractPlatformBenchmark {
+
+  private static final Long ID = 42L;
+
+  @Param({"10", "100", "1000"})
+  public int locales;
+
+  private P_CodeService m_codeService;
+  private Locale m_locale;
+
+  @Setup
+  public void setup() {
+    m_codeService = new P_CodeService();
+    BeanInstanceUtil.initializeBeanInstance(m_codeService);
+
+    for (int i = 0; i < locales; i++) {
+      Locale locale = new Locale("x" + i);
+      m_codeService.fillCache(locale);
+      m_locale = locale;
+    }
+  }
+
+  @Benchmark
+  public ICodeType<Long, ?> findCodeTypeById() {
+    NlsLocale.set(m_locale); // the locale filled last, set in the benchmark thread
+    return m_codeService.findCodeTypeById(ID);
+  }
+
+  @Benchmark
+  public ICodeType<?, ?> findCodeTypeByIdLinearScan() {
+    NlsLocale.set(m_locale);
+    return m_codeService.findCodeTypeByIdLinearScan(ID);
+  }
+
+  static class P_CodeService extends CodeService {
+
+    @Override
+    protected ICacheBuilder<CodeTypeCacheKey, ICodeType<?, ?>> createCacheBuilder() {
+      return super.createCacheBuilder()
+          .withCacheId(CODE_SERVICE_CACHE_ID + ".benchmark")
+          .withReplaceIfExists(true)
+          .withShared(false)
+          .withClusterEnabled(false)
+          .withTransactional(false);
+    }
+
+    void fillCache(Locale locale) {
+      getCache().get(new CodeTypeCacheKey(locale, BenchmarkCodeType1.class));
+      getCache().get(new CodeTypeCacheKey(locale, BenchmarkCodeType2.class));
+      getCache().get(new CodeTypeCacheKey(locale, BenchmarkCodeType3.class));
+    }
+
+    ICodeType<?, ?> findCodeTypeByIdLinearScan(Object id) {
+      Locale locale = NlsLocale.get();
+      for (Entry<CodeTypeCacheKey, ICodeType<?, ?>> entry : getCache().getUnmodifiableMap().entrySet()) {
+        if (ObjectUtility.equals(entry.getKey().getLocale(), locale)) {
+          ICodeType<?, ?> ct = entry.getValue();
+          if (ct != null && id.equals(ct.getId())) {
+            return ct;
+          }
+        }
+      }
+      return null;
+    }
+  }
+
+  public static class BenchmarkCodeType1 extends AbstractCodeType<Long, Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Long getId() {
+      return 1L;
+    }
+  }
+
+  public static class BenchmarkCodeType2 extends AbstractCodeType<Long, Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Long getId() {
+      return 2L;
+    }
+  }
+
+  public static class BenchmarkCodeType3 extends AbstractCodeType<Long, Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Long getId() {
+      return ID;
+    }
+  }
+}
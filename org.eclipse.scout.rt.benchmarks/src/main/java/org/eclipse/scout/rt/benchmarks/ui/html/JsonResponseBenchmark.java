@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmarks.ui.html;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmarks.AbstractPlatformBenchmark;
+import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Measures {@link JsonResponse#toJson()} and the subsequent conversion into the bytes written to the HTTP response for
+ * responses containing large tables (the row structure mimics the <i>rowsInserted</i> event of
+ * {@link org.eclipse.scout.rt.ui.html.json.table.JsonTable}).
+ *
+ * @since 24.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonResponseBenchmark extends AbstractPlatformBenchmark {
+
+  private static final int COLUMN_COUNT = 20;
+
+  @Param({"1000", "50000"})
+  public int rowCount;
+
+  private JSONObject m_rowsInsertedEventData;
+
+  @Setup
+  public void setup() {
+    JSONArray rows = new JSONArray();
+    for (int r = 0; r < rowCount; r++) {
+      JSONArray cells = new JSONArray();
+      for (int c = 0; c < COLUMN_COUNT; c++) {
+        if (c % 4 == 0) {
+          cells.put(r * COLUMN_COUNT + c);
+        }
+        else {
+          JSONObject cell = new JSONObject();
+          cell.put("text", "Cell " + r + "/" + c);
+          cell.put("value", "value-" + r + "-" + c);
+          cells.put(cell);
+        }
+      }
+      JSONObject row = new JSONObject();
+      row.put("id", String.valueOf(r));
+      row.put("cells", cells);
+      rows.put(row);
+    }
+    m_rowsInsertedEventData = new JSONObject();
+    m_rowsInsertedEventData.put("rows", rows);
+  }
+
+  protected JsonResponse createResponse() {
+    JsonResponse response = new JsonResponse(1L);
+    response.addActionEvent("table-1", "rowsInserted", m_rowsInsertedEventData);
+    return response;
+  }
+
+  @Benchmark
+  public JSONObject toJson() {
+    return createResponse().toJson();
+  }
+
+  /**
+   * Same steps as {@link org.eclipse.scout.rt.ui.html.json.JsonRequestHelper#writeResponse}.
+   */
+  @Benchmark
+  public byte[] toJsonBytes() {
+    return createResponse().toJson().toString().getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -9,12 +9,13 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table;
 
-import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.*;
 
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractIntegerColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.platform.Order;
 import org.junit.Test;
@@ -47,6 +48,32 @@ public class TableLoadingPerfTest {
     assertMean(durations, 1000);
   }
 
+  @Test
+  public void testCellValueDictionarySharesEqualValues() {
+    MemoryTestTable table = new MemoryTestTable();
+    table.setCellValueDictionaryEnabled(true);
+    table.addRowsByMatrix(createMemoryRows(100));
+
+    ITableRow row0 = table.getRow(0);
+    ITableRow row10 = table.getRow(10);
+    assertNotSame(row0, row10);
+    assertEquals(row0.getCellValue(0), row10.getCellValue(0));
+    assertSame(row0.getCellValue(0), row10.getCellValue(0));
+    assertSame(row0.getCell(0).getText(), row10.getCell(0).getText());
+    assertSame(row0.getCellValue(1), row10.getCellValue(1));
+    assertSame(row0.getCell(1).getText(), row10.getCell(1).getText());
+  }
+
+  private Object[][] createMemoryRows(int count) {
+    Object[][] testRows = new Object[count][3];
+    for (int i = 0; i < count; i++) {
+      testRows[i][0] = "state" + (i % 10); // new but equal instances
+      testRows[i][1] = Integer.valueOf(100000 + (i % 10)); // outside of the Integer cache
+      testRows[i][2] = "id" + i;
+    }
+    return testRows;
+  }
+
   private void assertMean(Long[] durations, int expectedMean) {
     Arrays.sort(durations);
     DescriptiveStatistics stats = new DescriptiveStatistics();
@@ -100,4 +127,21 @@ public class TableLoadingPerfTest {
 
   }
 
+  /**
+   * A test table with two columns containing few distinct values and one column containing unique values
+   */
+  public class MemoryTestTable extends AbstractTable {
+
+    @Order(10)
+    public class StateColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class AmountColumn extends AbstractIntegerColumn {
+    }
+
+    @Order(30)
+    public class IdColumn extends AbstractStringColumn {
+    }
+  }
 }
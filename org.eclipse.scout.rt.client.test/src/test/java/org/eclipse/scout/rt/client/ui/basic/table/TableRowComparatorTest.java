@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.P_Table.AmountColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.P_Table.CustomSortColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRowComparatorTest.P_Table.NameColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that {@link TableRowComparator#sort(List)} using precomputed sort keys yields the same order as sorting with
+ * the comparator.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableRowComparatorTest {
+
+  private static final String[] NAMES = {null, "", "alpha", "Alpha", "ALPHA", "beta", "Beta", "gamma", "ärger", "Zeta"};
+
+  @Test
+  public void testSortKeyProviders() {
+    P_Table table = createTable(10);
+    assertNotNull(table.getColumnSet().getColumnByClass(NameColumn.class).createSortKeyProvider());
+    assertNotNull(table.getColumnSet().getColumnByClass(AmountColumn.class).createSortKeyProvider());
+    assertNull(table.getColumnSet().getColumnByClass(CustomSortColumn.class).createSortKeyProvider());
+  }
+
+  @Test
+  public void testSortSequential() {
+    assertSameOrder(createTable(500), false, NameColumn.class, AmountColumn.class);
+  }
+
+  @Test
+  public void testSortParallel() {
+    assertSameOrder(createTable(TableRowComparator.PARALLEL_SORT_THRESHOLD + 500), false, NameColumn.class, AmountColumn.class);
+  }
+
+  @Test
+  public void testSortDescending() {
+    assertSameOrder(createTable(TableRowComparator.PARALLEL_SORT_THRESHOLD + 500), true, AmountColumn.class, NameColumn.class);
+  }
+
+  @Test
+  public void testSortFallbackToComparator() {
+    assertSameOrder(createTable(500), false, CustomSortColumn.class, NameColumn.class);
+  }
+
+  @SafeVarargs
+  private final void assertSameOrder(P_Table table, boolean descending, Class<? extends IColumn<?>>... columnClasses) {
+    LinkedHashSet<IColumn<?>> columns = new LinkedHashSet<>();
+    for (Class<? extends IColumn<?>> columnClass : columnClasses) {
+      IColumn<?> column = table.getColumnSet().getColumnByClass(columnClass);
+      table.getColumnSet().addSortColumn(column, !descending);
+      columns.add(column);
+    }
+    columns.addAll(table.getColumnSet().getVisibleColumns());
+    TableRowComparator comparator = new TableRowComparator(columns);
+
+    List<ITableRow> expected = new ArrayList<>(table.getRows());
+    expected.sort(comparator);
+    List<ITableRow> actual = new ArrayList<>(table.getRows());
+    comparator.sort(actual);
+
+    assertEquals(expected, actual);
+  }
+
+  private P_Table createTable(int rowCount) {
+    P_Table table = new P_Table();
+    table.init();
+    Random random = new Random(4711);
+    Object[][] rows = new Object[rowCount][];
+    for (int i = 0; i < rowCount; i++) {
+      Long amount = random.nextInt(20) == 0 ? null : Long.valueOf(random.nextInt(100) - 50);
+      rows[i] = new Object[]{NAMES[random.nextInt(NAMES.length)], amount, NAMES[random.nextInt(NAMES.length)], Long.valueOf(i)};
+    }
+    table.addRowsByMatrix(rows);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    @Order(10)
+    public class NameColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class AmountColumn extends AbstractLongColumn {
+    }
+
+    @Order(30)
+    public class CustomSortColumn extends AbstractStringColumn {
+
+      @Override
+      public int compareTableRows(ITableRow r1, ITableRow r2) {
+        return -super.compareTableRows(r1, r2);
+      }
+    }
+
+    @Order(40)
+    public class IdColumn extends AbstractLongColumn {
+    }
+  }
+}
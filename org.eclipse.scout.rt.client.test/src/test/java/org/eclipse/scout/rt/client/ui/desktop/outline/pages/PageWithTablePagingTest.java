@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.desktop.outline.pages;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.job.ModelJobs;
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableTextUserFilterState;
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.client.ui.desktop.outline.AbstractOutline;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.shared.services.common.jdbc.SearchFilter;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests the windowed loading of a page with table, see {@link AbstractPageWithTable#getConfiguredPageSize()}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class PageWithTablePagingTest {
+
+  private static final Object[][] DATA = new Object[][]{{"a"}, {"b"}, {"c"}, {"d"}, {"e"}};
+
+  private PagedPageWithTable m_page;
+
+  @Before
+  public void before() {
+    IDesktop desktop = TestEnvironmentClientSession.get().getDesktop();
+    desktop.setAvailableOutlines(Collections.singletonList(new PageWithTableOutline()));
+    desktop.setOutline(PageWithTableOutline.class);
+    desktop.activateFirstPage();
+    m_page = (PagedPageWithTable) desktop.getOutline().getActivePage();
+  }
+
+  @Test
+  public void testLoadFirstWindow() {
+    assertEquals(1, m_page.m_filters.size());
+    assertEquals(0, m_page.m_filters.get(0).getOffset());
+    assertEquals(2, m_page.m_filters.get(0).getLimit());
+    assertEquals(2, m_page.getTable().getRowCount());
+    assertTrue(m_page.getTable().isMoreRowsAvailable());
+  }
+
+  @Test
+  public void testLoadMoreRows() {
+    m_page.loadMoreRows();
+    assertEquals(2, m_page.m_filters.size());
+    assertEquals(2, m_page.m_filters.get(1).getOffset());
+    assertEquals(4, m_page.getTable().getRowCount());
+    assertTrue(m_page.getTable().isMoreRowsAvailable());
+
+    m_page.loadMoreRows();
+    assertEquals(3, m_page.m_filters.size());
+    assertEquals(4, m_page.m_filters.get(2).getOffset());
+    assertEquals(5, m_page.getTable().getRowCount());
+    assertFalse(m_page.getTable().isMoreRowsAvailable());
+
+    // no more rows available
+    m_page.loadMoreRows();
+    assertEquals(3, m_page.m_filters.size());
+    assertEquals(5, m_page.getTable().getRowCount());
+  }
+
+  @Test
+  public void testReloadIfPagingSortOrderChanged() {
+    m_page.loadMoreRows();
+    assertEquals(4, m_page.getTable().getRowCount());
+    assertNull(m_page.m_filters.get(1).getSortSpec());
+
+    PagedPageWithTable.Table table = m_page.getTable();
+    table.getUIFacade().fireHeaderSortFromUI(table.getNameColumn(), false, false);
+    ModelJobs.yield();
+
+    // first window is reloaded using the new sort order
+    assertEquals(3, m_page.m_filters.size());
+    SearchFilter filter = m_page.m_filters.get(2);
+    assertEquals(0, filter.getOffset());
+    assertEquals(table.getColumnSet().getSortSpec(), filter.getSortSpec());
+    assertEquals(2, table.getRowCount());
+    assertTrue(table.isMoreRowsAvailable());
+  }
+
+  @Test
+  public void testNoReloadIfSortOrderChangedAndAllRowsLoaded() {
+    m_page.loadMoreRows();
+    m_page.loadMoreRows();
+    assertFalse(m_page.getTable().isMoreRowsAvailable());
+
+    PagedPageWithTable.Table table = m_page.getTable();
+    table.getUIFacade().fireHeaderSortFromUI(table.getNameColumn(), false, false);
+    ModelJobs.yield();
+
+    // all rows are loaded, the table sorts them itself
+    assertEquals(3, m_page.m_filters.size());
+    assertEquals(5, table.getRowCount());
+  }
+
+  @Test
+  public void testLoadMoreRowsUsesFetchedRowCount() {
+    PagedPageWithTable.Table table = m_page.getTable();
+    table.deleteRow(0);
+    assertEquals(1, table.getRowCount());
+
+    m_page.loadMoreRows();
+    assertEquals(2, m_page.m_filters.get(1).getOffset());
+    assertEquals(3, table.getRowCount());
+  }
+
+  @Test
+  public void testReloadIfPagingUserFiltersChanged() {
+    m_page.loadMoreRows();
+    PagedPageWithTable.Table table = m_page.getTable();
+    TableTextUserFilterState filter = new TableTextUserFilterState("a");
+    table.getUserFilterManager().addFilter(filter);
+    ModelJobs.yield();
+
+    // first window is reloaded, execLoadData can apply the user filter
+    assertEquals(3, m_page.m_filters.size());
+    assertEquals(0, m_page.m_filters.get(2).getOffset());
+    assertEquals(1, m_page.m_userFilterCounts.get(2).intValue());
+
+    // the loaded rows were filtered, removing the filter must reload them even though no more rows are available
+    table.setMoreRowsAvailable(false);
+    table.getUserFilterManager().removeFilter(filter);
+    ModelJobs.yield();
+    assertEquals(4, m_page.m_filters.size());
+    assertEquals(0, m_page.m_userFilterCounts.get(3).intValue());
+  }
+
+  @Test
+  public void testNoReloadIfUserFiltersChangedAndAllRowsLoaded() {
+    m_page.loadMoreRows();
+    m_page.loadMoreRows();
+    assertFalse(m_page.getTable().isMoreRowsAvailable());
+
+    m_page.getTable().getUserFilterManager().addFilter(new TableTextUserFilterState("a"));
+    ModelJobs.yield();
+
+    // all rows are loaded, the table filters them itself
+    assertEquals(3, m_page.m_filters.size());
+  }
+
+  private static class PageWithTableOutline extends AbstractOutline {
+
+    @Override
+    protected void execCreateChildPages(List<IPage<?>> pageList) {
+      pageList.add(new PagedPageWithTable());
+    }
+  }
+
+  private static class PagedPageWithTable extends AbstractPageWithTable<PagedPageWithTable.Table> {
+
+    private final List<SearchFilter> m_filters = new ArrayList<>();
+    private final List<Integer> m_userFilterCounts = new ArrayList<>();
+
+    @Override
+    protected int getConfiguredPageSize() {
+      return 2;
+    }
+
+    @Override
+    protected void execLoadData(SearchFilter filter) {
+      m_filters.add(filter.copy());
+      m_userFilterCounts.add(getTable().getUserFilterManager().getFilters().size());
+      int from = Math.min(filter.getOffset(), DATA.length);
+      int to = Math.min(from + filter.getLimit(), DATA.length);
+      importTableData(Arrays.copyOfRange(DATA, from, to));
+    }
+
+    public class Table extends AbstractTable {
+
+      public NameColumn getNameColumn() {
+        return getColumnSet().getColumnByClass(NameColumn.class);
+      }
+
+      @Order(10)
+      public class NameColumn extends AbstractStringColumn {
+      }
+    }
+  }
+}
@@ -10,11 +10,14 @@
 package org.eclipse.scout.rt.client.clientnotification;
 
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.annotation.PostConstruct;
 
+import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.client.context.ClientRunContexts;
 import org.eclipse.scout.rt.dataobject.id.IIds;
 import org.eclipse.scout.rt.dataobject.id.NodeId;
@@ -117,6 +120,24 @@ public class ClientNotificationPoller {
     LOG.debug("Dispatched notifications [clientNodeId={}]", IIds.toString(NodeId.current()));
   }
 
+  /**
+   * Gets the notifications for this node and reports the sessions and users living on this node, so that the backend
+   * only routes notifications addressed to them to this node.
+   */
+  protected static List<ClientNotificationMessage> getNotifications() {
+    Set<String> sessionIds = new HashSet<>();
+    Set<String> userIds = new HashSet<>();
+    for (IClientSession session : BEANS.get(IClientSessionRegistry.class).getAllClientSessions()) {
+      if (session.getId() != null) {
+        sessionIds.add(session.getId());
+      }
+      if (session.getUserId() != null) {
+        userIds.add(session.getUserId());
+      }
+    }
+    return BEANS.get(IClientNotificationService.class).getNotifications(NodeId.current(), sessionIds, userIds);
+  }
+
   private static final class P_NotificationPoller implements IRunnable {
 
     private final Runnable m_livenessCheck;
@@ -141,7 +162,7 @@ public class ClientNotificationPoller {
               .run(() -> {
                 try {
                   LOG.debug("Getting notifications from backend [clientNodeId={}]", IIds.toString(NodeId.current()));
-                  handleMessagesReceived(BEANS.get(IClientNotificationService.class).getNotifications(NodeId.current()));
+                  handleMessagesReceived(getNotifications());
                 }
                 finally {
                   outerRunMonitor.unregisterCancellable(tempRunMonitor);
@@ -136,6 +136,19 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
     }
   }
 
+  /**
+   * Replaces the value and the text by the given instances if they are equal to the current ones, without notifying
+   * the observer. Used by {@link CellValueDictionary} to share equal instances among many cells.
+   */
+  void replaceByEqual(Object value, String text) {
+    if (value != m_value && ObjectUtility.equals(m_value, value)) {
+      m_value = value;
+    }
+    if (text != m_text && ObjectUtility.equals(m_text, text)) {
+      m_text = text;
+    }
+  }
+
   @Override
   public String getCssClass() {
     return m_cellSpecialization.getCssClass();
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.cell;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+
+/**
+ * Dictionary of the distinct cell values and texts of a table, one per column.
+ * <p>
+ * Tables with many rows typically contain the same values and texts over and over again (codes, states, dates,
+ * formatted numbers). Each cell holds its own instances, even if they are equal. This dictionary is used to replace
+ * equal values and texts by a single shared instance, so that the duplicates can be garbage collected. The cells, rows
+ * and their keys are not affected, each row still holds its own {@link Cell} objects.
+ * <p>
+ * Only immutable values are shared. A column whose number of distinct entries exceeds {@link #getMaxEntries()} is not
+ * considered anymore, as sharing does not pay off for columns with mostly unique values (e.g. ids).
+ *
+ * @since 24.1
+ */
+public class CellValueDictionary {
+
+  public static final int DEFAULT_MAX_ENTRIES = 4096;
+
+  private static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = CollectionUtility.hashSet(
+      String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+      BigDecimal.class, BigInteger.class, LocalDate.class, LocalDateTime.class, Instant.class, UUID.class);
+
+  private final int m_maxEntries;
+  private final Map<Integer, ColumnDictionary> m_columnDictionaries;
+
+  public CellValueDictionary() {
+    this(DEFAULT_MAX_ENTRIES);
+  }
+
+  public CellValueDictionary(int maxEntries) {
+    m_maxEntries = maxEntries;
+    m_columnDictionaries = new HashMap<>();
+  }
+
+  public int getMaxEntries() {
+    return m_maxEntries;
+  }
+
+  /**
+   * Replaces the value and the text of the given cell by the shared instances of the given column.
+   */
+  public void compact(int columnIndex, Cell cell) {
+    if (cell == null) {
+      return;
+    }
+    ColumnDictionary dictionary = m_columnDictionaries.computeIfAbsent(columnIndex, k -> new ColumnDictionary());
+    if (dictionary.isSaturated()) {
+      return;
+    }
+    Object value = cell.getValue();
+    if (value != null && !IMMUTABLE_VALUE_TYPES.contains(value.getClass())) {
+      value = null;
+    }
+    cell.replaceByEqual(dictionary.share(value), dictionary.share(cell.getText()));
+  }
+
+  /**
+   * @return number of distinct entries of the given column, -1 if the column is not considered anymore.
+   */
+  public int getEntryCount(int columnIndex) {
+    ColumnDictionary dictionary = m_columnDictionaries.get(columnIndex);
+    if (dictionary == null) {
+      return 0;
+    }
+    return dictionary.isSaturated() ? -1 : dictionary.size();
+  }
+
+  /**
+   * Removes all entries. Already shared instances are still referenced by the cells.
+   */
+  public void clear() {
+    m_columnDictionaries.clear();
+  }
+
+  protected class ColumnDictionary {
+    private Map<Object, Object> m_entries = new HashMap<>();
+
+    public boolean isSaturated() {
+      return m_entries == null;
+    }
+
+    public int size() {
+      return m_entries == null ? 0 : m_entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T share(T o) {
+      if (o == null || m_entries == null) {
+        return o;
+      }
+      Object shared = m_entries.get(o);
+      if (shared != null) {
+        return (T) shared;
+      }
+      if (m_entries.size() >= m_maxEntries) {
+        m_entries = null; // too many distinct entries, release them
+        return o;
+      }
+      m_entries.put(o, o);
+      return o;
+    }
+  }
+}
@@ -65,6 +65,7 @@ import org.eclipse.scout.rt.client.ui.action.menu.TableMenuType;
 import org.eclipse.scout.rt.client.ui.action.menu.root.ITableContextMenu;
 import org.eclipse.scout.rt.client.ui.action.menu.root.internal.TableContextMenu;
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.cell.CellValueDictionary;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBooleanColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractColumn;
@@ -200,6 +201,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private ISummaryCellBuilder m_summaryCellBuilder;
   private int m_valueChangeTriggerEnabled = 1;// >=1 is true
   private boolean m_treeStructureDirty;
+  private CellValueDictionary m_cellValueDictionary;
 
   public AbstractTable() {
     this(true);
@@ -1029,6 +1031,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     setScrollToSelection(getConfiguredScrollToSelection());
     setTableStatusVisible(getConfiguredTableStatusVisible());
     setTextFilterEnabled(getConfiguredTextFilterEnabled());
+    setCellValueDictionaryEnabled(getConfiguredCellValueDictionaryEnabled());
     setTruncatedCellTooltipEnabled(getConfiguredTruncatedCellTooltipEnabled());
     setClientUiPreferencesEnabled(getConfiguredClientUiPreferencesEnabled());
     if (getTableCustomizer() == null) {
@@ -2057,6 +2060,21 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     importFromTableRowBeanData(CollectionUtility.arrayList(source.getRows()), source.getRowType());
   }
 
+  @Override
+  public void addRowsFromTableBeanData(AbstractTableFieldBeanData source) {
+    List<AbstractTableRowData> rowDatas = CollectionUtility.arrayList(source.getRows());
+    List<ITableRow> newRows = new ArrayList<>(rowDatas.size());
+    ITableRowDataMapper mapper = createTableRowDataMapper(source.getRowType());
+    for (AbstractTableRowData rowData : rowDatas) {
+      if (rowData.getRowState() != AbstractTableRowData.STATUS_DELETED && mapper.acceptImport(rowData)) {
+        ITableRow newTableRow = new TableRow(getColumnSet());
+        mapper.importTableRowData(newTableRow, rowData);
+        newRows.add(newTableRow);
+      }
+    }
+    addRows(newRows);
+  }
+
   public void importFromTableRowBeanData(List<? extends AbstractTableRowData> rowDatas, Class<? extends AbstractTableRowData> rowType) {
     discardAllDeletedRows();
     int deleteCount = 0;
@@ -3439,6 +3457,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
           m_rowsByKey.clear();
           m_cachedRows = null;
         }
+        if (m_cellValueDictionary != null) {
+          m_cellValueDictionary.clear();
+        }
         for (int i = deletedRows.size() - 1; i >= 0; i--) {
           ITableRow candidateRow = deletedRows.get(i);
           if (candidateRow != null) {
@@ -3769,18 +3790,28 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
     CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
     if (comparator != null) {
-      rootNodes.sort(comparator);
+      sortRowList(rootNodes, comparator);
     }
     rootNodes.forEach(root -> TreeTraversals.create(collector, node -> {
       List<ITableRow> childRows = parentToChildren.get(node);
       if (comparator != null && CollectionUtility.hasElements(childRows)) {
-        childRows.sort(comparator);
+        sortRowList(childRows, comparator);
       }
       return childRows;
     }).traverse(root));
     return collector.getCollection();
   }
 
+  private void sortRowList(List<ITableRow> rows, Comparator<ITableRow> comparator) {
+    if (comparator instanceof TableRowComparator) {
+      // uses precomputed sort keys if supported by the columns
+      ((TableRowComparator) comparator).sort(rows);
+    }
+    else {
+      rows.sort(comparator);
+    }
+  }
+
   @Override
   public void sort(List<? extends ITableRow> rowsInNewOrder) {
     List<ITableRow> resolvedRows = resolveRows(rowsInNewOrder);
@@ -4031,6 +4062,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     Set<ITableRow> set = m_rowDecorationBuffer;
     m_rowDecorationBuffer = new HashSet<>();
     applyRowDecorations(set);
+    compactCells(set);
     /*
      * check row filters
      */
@@ -4571,6 +4603,51 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return true;
   }
 
+  /**
+   * Configures whether equal cell values and texts of a column are shared among all rows of this table.
+   * <p>
+   * Tables with many rows typically contain the same values and texts (e.g. codes, dates or formatted numbers) in many
+   * rows. If enabled, such duplicates are replaced by a single shared instance after the rows are decorated. This only
+   * saves the memory of the duplicate values and texts, the cells and rows themselves are kept as before. Only immutable
+   * values are shared, columns with mostly distinct values are skipped automatically, see {@link CellValueDictionary}.
+   * <p>
+   * Subclasses can override this method. Default is {@code false}.
+   *
+   * @since 24.1
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(215)
+  protected boolean getConfiguredCellValueDictionaryEnabled() {
+    return false;
+  }
+
+  @Override
+  public boolean isCellValueDictionaryEnabled() {
+    return m_cellValueDictionary != null;
+  }
+
+  @Override
+  public void setCellValueDictionaryEnabled(boolean enabled) {
+    if (enabled == isCellValueDictionaryEnabled()) {
+      return;
+    }
+    m_cellValueDictionary = enabled ? new CellValueDictionary() : null;
+    if (enabled) {
+      compactCells(getRows());
+    }
+  }
+
+  private void compactCells(Collection<? extends ITableRow> rows) {
+    if (m_cellValueDictionary == null) {
+      return;
+    }
+    for (ITableRow row : rows) {
+      if (row.getTable() == AbstractTable.this && row instanceof InternalTableRow) {
+        ((InternalTableRow) row).compactCellsInternal(m_cellValueDictionary);
+      }
+    }
+  }
+
   @Override
   public boolean isTableStatusVisible() {
     return propertySupport.getPropertyBool(PROP_TABLE_STATUS_VISIBLE);
@@ -5380,6 +5457,16 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     propertySupport.setPropertyInt(PROP_MAX_ROW_COUNT, maxRowCount);
   }
 
+  @Override
+  public boolean isMoreRowsAvailable() {
+    return propertySupport.getPropertyBool(PROP_MORE_ROWS_AVAILABLE);
+  }
+
+  @Override
+  public void setMoreRowsAvailable(boolean moreRowsAvailable) {
+    propertySupport.setPropertyBool(PROP_MORE_ROWS_AVAILABLE, moreRowsAvailable);
+  }
+
   @Override
   public TriState isTruncatedCellTooltipEnabled() {
     return (TriState) propertySupport.getProperty(PROP_TRUNCATED_CELL_TOOLTIP_ENABLED);
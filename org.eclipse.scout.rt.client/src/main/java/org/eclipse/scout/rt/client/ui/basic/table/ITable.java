@@ -235,6 +235,13 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   String PROP_MAX_ROW_COUNT = "maxRowCount";
 
+  /**
+   * type boolean
+   *
+   * @since 24.1
+   */
+  String PROP_MORE_ROWS_AVAILABLE = "moreRowsAvailable";
+
   /**
    * type TriState
    *
@@ -565,6 +572,18 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
 
   void setTextFilterEnabled(boolean textFilterEnabled);
 
+  /**
+   * @return {@code true} if equal cell values and texts of a column are shared among all rows of this table to reduce
+   *         the memory consumed by duplicate values and texts.
+   * @since 24.1
+   */
+  boolean isCellValueDictionaryEnabled();
+
+  /**
+   * @since 24.1
+   */
+  void setCellValueDictionaryEnabled(boolean enabled);
+
   boolean isMultilineText();
 
   void setMultilineText(boolean on);
@@ -1073,6 +1092,15 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   void importFromTableBeanData(AbstractTableFieldBeanData source);
 
+  /**
+   * Adds the rows of the given {@link AbstractTableFieldBeanData} to the existing rows of this table. Is used to append
+   * further windows of rows, if the rows are loaded in windows.
+   *
+   * @see #importFromTableBeanData(AbstractTableFieldBeanData)
+   * @since 24.1
+   */
+  void addRowsFromTableBeanData(AbstractTableFieldBeanData source);
+
   /**
    * Creates a {@link TableRowDataMapper} that is used for reading and writing data from the given
    * {@link AbstractTableRowData} type.
@@ -1298,6 +1326,20 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   void setMaxRowCount(int maxRowCount);
 
+  /**
+   * Indicates that the rows are loaded in windows and there are further rows which can be loaded using the
+   * {@link IReloadHandler} with {@link org.eclipse.scout.rt.client.ui.desktop.outline.pages.IReloadReason#LOAD_MORE_ROWS}.
+   *
+   * @since 24.1
+   */
+  boolean isMoreRowsAvailable();
+
+  /**
+   * @see #isMoreRowsAvailable()
+   * @since 24.1
+   */
+  void setMoreRowsAvailable(boolean moreRowsAvailable);
+
   /**
    * @since 9.0
    */
@@ -9,16 +9,26 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
 
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumnSortKeyProvider;
 
 /**
  * compares two TableRow objects based on 1 ore more columns
  */
 @SuppressWarnings("squid:S2063")
 public class TableRowComparator implements Comparator<ITableRow> {
+
+  /**
+   * Minimal number of rows to sort in parallel, see {@link #sort(List)}
+   */
+  public static final int PARALLEL_SORT_THRESHOLD = 10000;
+
   private final Collection<IColumn<?>> m_columns;
 
   public TableRowComparator(Collection<IColumn<?>> columns) {
@@ -42,6 +52,67 @@ public class TableRowComparator implements Comparator<ITableRow> {
     return 0;
   }
 
+  /**
+   * Sorts the given rows in the same order as {@link List#sort(Comparator)} with this comparator would do.
+   * <p>
+   * If all columns provide a {@link IColumnSortKeyProvider}, the sort keys are extracted once per row, so that the
+   * values of the rows do not need to be derived again for every comparison. Lists with at least
+   * {@link #PARALLEL_SORT_THRESHOLD} rows are then sorted in parallel. Both sort algorithms are stable.
+   */
+  @SuppressWarnings("unchecked")
+  public void sort(List<ITableRow> rows) {
+    if (rows.size() < 2) {
+      return;
+    }
+    IColumnSortKeyProvider<Object>[] providers = new IColumnSortKeyProvider[m_columns.size()];
+    boolean[] descending = new boolean[m_columns.size()];
+    int i = 0;
+    for (IColumn<?> col : m_columns) {
+      providers[i] = (IColumnSortKeyProvider<Object>) col.createSortKeyProvider();
+      if (providers[i] == null) {
+        rows.sort(this);
+        return;
+      }
+      descending[i] = col.isSortActive() && !col.getHeaderCell().isSortAscending();
+      i++;
+    }
+
+    SortEntry[] entries = new SortEntry[rows.size()];
+    i = 0;
+    for (ITableRow row : rows) {
+      Object[] keys = new Object[providers.length];
+      for (int k = 0; k < providers.length; k++) {
+        keys[k] = providers[k].getSortKey(row);
+      }
+      entries[i++] = new SortEntry(row, keys);
+    }
+
+    Comparator<SortEntry> comparator = (e1, e2) -> {
+      for (int k = 0; k < providers.length; k++) {
+        int c = providers[k].compareSortKeys(e1.m_keys[k], e2.m_keys[k]);
+        if (descending[k]) {
+          c = -c;
+        }
+        if (c != 0) {
+          return c;
+        }
+      }
+      return 0;
+    };
+    if (entries.length >= PARALLEL_SORT_THRESHOLD) {
+      Arrays.parallelSort(entries, comparator);
+    }
+    else {
+      Arrays.sort(entries, comparator);
+    }
+
+    ListIterator<ITableRow> it = rows.listIterator();
+    for (SortEntry entry : entries) {
+      it.next();
+      it.set(entry.m_row);
+    }
+  }
+
   @Override
   public boolean equals(Object obj) {
     return obj != null && obj.getClass() == this.getClass() && ((TableRowComparator) obj).m_columns == this.m_columns;
@@ -51,4 +122,14 @@ public class TableRowComparator implements Comparator<ITableRow> {
   public int hashCode() {
     return 0;
   }
+
+  private static final class SortEntry {
+    private final ITableRow m_row;
+    private final Object[] m_keys;
+
+    private SortEntry(ITableRow row, Object[] keys) {
+      m_row = row;
+      m_keys = keys;
+    }
+  }
 }
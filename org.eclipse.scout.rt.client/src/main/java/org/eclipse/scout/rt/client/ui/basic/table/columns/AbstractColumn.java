@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -56,6 +57,7 @@ import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.IHolder;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.reflect.AbstractPropertyObserver;
 import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.status.IMultiStatus;
@@ -1578,6 +1580,58 @@ public abstract class AbstractColumn<VALUE> extends AbstractPropertyObserver imp
     return c;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The sort keys are the values of this column, compared the same way as in
+   * {@link #compareTableRows(ITableRow, ITableRow)}. Returns {@code null} if
+   * {@link #compareTableRows(ITableRow, ITableRow)} is overridden by a subclass.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public IColumnSortKeyProvider<?> createSortKeyProvider() {
+    if (!isCompareTableRowsDeclaredBy(AbstractColumn.class)) {
+      return null;
+    }
+    final Locale locale = NlsLocale.get();
+    return new IColumnSortKeyProvider<Object>() {
+      @Override
+      public Object getSortKey(ITableRow row) {
+        return getValue(row);
+      }
+
+      @Override
+      public int compareSortKeys(Object o1, Object o2) {
+        if (o1 == null && o2 == null) {
+          return 0;
+        }
+        if (o1 == null) {
+          return -1;
+        }
+        if (o2 == null) {
+          return 1;
+        }
+        if ((o1 instanceof Comparable) && (o2 instanceof Comparable)) {
+          return ((Comparable) o1).compareTo(o2);
+        }
+        return StringUtility.compareIgnoreCase(locale, o1.toString(), o2.toString());
+      }
+    };
+  }
+
+  /**
+   * @return {@code true} if the effective implementation of {@link #compareTableRows(ITableRow, ITableRow)} is the one
+   *         of the given class, i.e. it is not overridden by a subclass.
+   */
+  protected boolean isCompareTableRowsDeclaredBy(Class<?> declaringClass) {
+    try {
+      return getClass().getMethod("compareTableRows", ITableRow.class, ITableRow.class).getDeclaringClass() == declaringClass;
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return false;
+    }
+  }
+
   /**
    * Refresh all column values to trigger re-validate and re-format
    */
@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table.columns;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
 import org.eclipse.scout.rt.client.extension.ui.basic.table.columns.IStringColumnExtension;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
@@ -16,9 +19,12 @@ import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.client.ui.form.fields.IValueField;
 import org.eclipse.scout.rt.client.ui.form.fields.stringfield.AbstractStringField;
 import org.eclipse.scout.rt.client.ui.form.fields.stringfield.IStringField;
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.classid.ClassId;
+import org.eclipse.scout.rt.platform.nls.CollatorProvider;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 
 /**
@@ -234,6 +240,45 @@ public abstract class AbstractStringColumn extends AbstractColumn<String> implem
     return StringUtility.compareIgnoreCase(s1, s2);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The sort keys are {@link CollationKey}s of the values, created by the same {@link Collator} as used by
+   * {@link StringUtility#compareIgnoreCase(String, String)}.
+   */
+  @Override
+  public IColumnSortKeyProvider<?> createSortKeyProvider() {
+    if (!isCompareTableRowsDeclaredBy(AbstractStringColumn.class)) {
+      return null;
+    }
+    final Collator collator = BEANS.get(CollatorProvider.class).getInstance(NlsLocale.get());
+    collator.setStrength(Collator.SECONDARY);
+    return new IColumnSortKeyProvider<CollationKey>() {
+      @Override
+      public CollationKey getSortKey(ITableRow row) {
+        String s = getValue(row);
+        if (StringUtility.isNullOrEmpty(s)) {
+          return null; // empty strings are treated as null by StringUtility#compareIgnoreCase
+        }
+        return collator.getCollationKey(s);
+      }
+
+      @Override
+      public int compareSortKeys(CollationKey key1, CollationKey key2) {
+        if (key1 == key2) {
+          return 0;
+        }
+        if (key1 == null) {
+          return -1;
+        }
+        if (key2 == null) {
+          return 1;
+        }
+        return key1.compareTo(key2);
+      }
+    };
+  }
+
   protected static class LocalStringColumnExtension<OWNER extends AbstractStringColumn> extends LocalColumnExtension<String, OWNER> implements IStringColumnExtension<OWNER> {
 
     public LocalStringColumnExtension(OWNER owner) {
@@ -141,6 +141,19 @@ public interface IColumn<VALUE> extends IPropertyObserver, ITypeWithClassId, IOr
 
   int compareTableRows(ITableRow r1, ITableRow r2);
 
+  /**
+   * Creates a provider of sort keys for this column, which allows to sort many rows without re-deriving the values of
+   * the rows for every comparison. The provider is created for one sort operation.
+   *
+   * @return the sort key provider or {@code null} if this column does not support sort keys, e.g. because
+   *         {@link #compareTableRows(ITableRow, ITableRow)} is overridden. Rows are then sorted using
+   *         {@link #compareTableRows(ITableRow, ITableRow)}.
+   * @since 24.1
+   */
+  default IColumnSortKeyProvider<?> createSortKeyProvider() {
+    return null;
+  }
+
   VALUE getValue(int rowIndex);
 
   VALUE getValue(ITableRow r);
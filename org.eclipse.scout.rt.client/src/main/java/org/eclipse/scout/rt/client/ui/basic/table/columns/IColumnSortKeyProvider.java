@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.columns;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+
+/**
+ * Provides sort keys of a column, which are extracted once per row and then compared instead of the rows.
+ * <p>
+ * Comparing the sort keys of two rows must yield the same order as {@link IColumn#compareTableRows(ITableRow, ITableRow)}.
+ * The sort keys are extracted in the calling thread, whereas {@link #compareSortKeys(Object, Object)} may be called by
+ * several threads in parallel and must therefore neither access the rows nor depend on the current run context.
+ *
+ * @see IColumn#createSortKeyProvider()
+ * @since 24.1
+ */
+public interface IColumnSortKeyProvider<K> {
+
+  /**
+   * @return the sort key of the given row, may be {@code null}
+   */
+  K getSortKey(ITableRow row);
+
+  /**
+   * Compares two sort keys returned by {@link #getSortKey(ITableRow)}.
+   */
+  int compareSortKeys(K key1, K key2);
+}
@@ -19,6 +19,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.cell.CellValueDictionary;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
 import org.eclipse.scout.rt.client.ui.basic.cell.ICellObserver;
 import org.eclipse.scout.rt.client.ui.basic.table.ColumnSet;
@@ -207,6 +208,17 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     return getCell(columnIndex).getValue();
   }
 
+  /**
+   * Replaces the values and texts of all cells by the shared instances of the given dictionary.
+   * <p>
+   * do not use this internal method
+   */
+  public void compactCellsInternal(CellValueDictionary dictionary) {
+    for (int i = 0; i < m_cells.size(); i++) {
+      dictionary.compact(i, m_cells.get(i));
+    }
+  }
+
   @Override
   public List<Object> getKeyValues() {
     if (getTable() == null) {
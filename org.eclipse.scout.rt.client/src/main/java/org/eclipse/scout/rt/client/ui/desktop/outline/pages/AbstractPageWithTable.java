@@ -9,13 +9,16 @@
  */
 package org.eclipse.scout.rt.client.ui.desktop.outline.pages;
 
+import java.io.Serializable;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.scout.rt.client.context.ClientRunContext;
+import org.eclipse.scout.rt.client.context.ClientRunContexts;
 import org.eclipse.scout.rt.client.dto.PageData;
 import org.eclipse.scout.rt.client.extension.ui.basic.tree.ITreeNodeExtension;
 import org.eclipse.scout.rt.client.extension.ui.desktop.outline.pages.IPageWithTableExtension;
@@ -24,6 +27,7 @@ import org.eclipse.scout.rt.client.extension.ui.desktop.outline.pages.PageWithTa
 import org.eclipse.scout.rt.client.extension.ui.desktop.outline.pages.PageWithTableChains.PageWithTableInitSearchFormChain;
 import org.eclipse.scout.rt.client.extension.ui.desktop.outline.pages.PageWithTableChains.PageWithTableLoadDataChain;
 import org.eclipse.scout.rt.client.extension.ui.desktop.outline.pages.PageWithTableChains.PageWithTablePopulateTableChain;
+import org.eclipse.scout.rt.client.job.ModelJobs;
 import org.eclipse.scout.rt.client.services.common.search.ISearchFilterService;
 import org.eclipse.scout.rt.client.session.ClientSessionProvider;
 import org.eclipse.scout.rt.client.ui.action.menu.IMenu;
@@ -66,6 +70,7 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.data.basic.table.SortSpec;
 import org.eclipse.scout.rt.shared.data.page.AbstractTablePageData;
 import org.eclipse.scout.rt.shared.dimension.IDimensions;
 import org.eclipse.scout.rt.shared.services.common.jdbc.SearchFilter;
@@ -84,6 +89,13 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
 
   private ISearchForm m_searchForm;
   private FormListener m_searchFormListener;
+  private int m_pageSize;
+  private boolean m_loadingMoreRows;
+  private Serializable m_pagingCursor;
+  private SortSpec m_pagingSortSpec;
+  private int m_pagingFetchedRowCount;
+  private boolean m_pagingUserFiltersApplied;
+  private boolean m_pagingUserFiltersReloadScheduled;
 
   public AbstractPageWithTable() {
     this(true, null);
@@ -180,6 +192,29 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     return true;
   }
 
+  /**
+   * Configures the number of rows loaded at once. If set, {@link #execLoadData(SearchFilter)} is expected to load only
+   * the window of rows described by {@link SearchFilter#getOffset()}, {@link SearchFilter#getLimit()} and
+   * {@link SearchFilter#getCursor()}, sorted by {@link SearchFilter#getSortSpec()}, and to report further available
+   * rows by {@link AbstractTablePageData#setLimitedResult(boolean)} and optionally
+   * {@link AbstractTablePageData#setCursor(Serializable)}. The next window is loaded when the user scrolls to the end of
+   * the table, and the page is reloaded if the user changes the sort order.
+   * <p>
+   * The user filters of the table (see {@link ITable#getUserFilterManager()}) can only filter the rows already loaded.
+   * Therefore {@link #execLoadData(SearchFilter)} should apply them as well, and the page is reloaded if the user
+   * changes them while not all rows are loaded.
+   * <p>
+   * Subclasses can override this method. Default is {@code 0} (all rows are loaded at once).
+   *
+   * @since 24.1
+   * @see #loadMoreRows()
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(150)
+  protected int getConfiguredPageSize() {
+    return 0;
+  }
+
   @Override
   protected boolean getConfiguredLazyExpandingEnabled() {
     // Override default value for all table pages
@@ -259,12 +294,15 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
         // create a copy of the filter, just in case the subprocess is modifying
         // or extending the filter
         filter = filter.copy();
+        preparePagingSearchFilter(filter, 0);
         interceptLoadData(filter);
       }
     }
     else {
       // searchFilter should never be null
-      interceptLoadData(new SearchFilter());
+      SearchFilter filter = new SearchFilter();
+      preparePagingSearchFilter(filter, 0);
+      interceptLoadData(filter);
     }
     //update table data status
     if (isSearchActive() && getSearchFilter() != null && (!getSearchFilter().isCompleted()) && isSearchRequired()) {
@@ -288,7 +326,8 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
       return null;
     }
     boolean limited = isLimitedResult();
-    if (!limited) {
+    if (!limited || isPagingEnabled()) {
+      // more rows of a paged table are loaded while scrolling
       return null;
     }
     long estimatedRowCount = table.getEstimatedRowCount();
@@ -366,6 +405,7 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     setSearchActive(true);
     setSearchRequired(getConfiguredSearchRequired());
     setAlwaysCreateChildPage(getConfiguredAlwaysCreateChildPage());
+    setPageSize(getConfiguredPageSize());
   }
 
   @Override
@@ -395,12 +435,14 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
           TableEvent.TYPE_ROWS_INSERTED,
           TableEvent.TYPE_ROWS_UPDATED,
           TableEvent.TYPE_ROW_ORDER_CHANGED,
-          TableEvent.TYPE_ROW_FILTER_CHANGED);
+          TableEvent.TYPE_ROW_FILTER_CHANGED,
+          TableEvent.TYPE_USER_FILTER_ADDED,
+          TableEvent.TYPE_USER_FILTER_REMOVED);
       table.setEnabled(isEnabled());
       table.setAutoDiscardOnDelete(true);
       table.setUserPreferenceContext(getUserPreferenceContext());
       table.setTableStatusVisible(getConfiguredTableStatusVisible());
-      table.setReloadHandler(new PageReloadHandler(this));
+      table.setReloadHandler(new PageWithTableReloadHandler(this));
     }
     return table;
   }
@@ -730,10 +772,20 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
       return;
     }
 
-    table.importFromTableBeanData(tablePageData);
+    if (m_loadingMoreRows) {
+      table.addRowsFromTableBeanData(tablePageData);
+    }
+    else {
+      table.importFromTableBeanData(tablePageData);
+    }
     m_flags = FLAGS_BIT_HELPER.changeBit(LIMITED_RESULT, tablePageData.isLimitedResult(), m_flags);
     table.setEstimatedRowCount(tablePageData.getEstimatedRowCount());
     table.setMaxRowCount(tablePageData.getMaxRowCount());
+    if (isPagingEnabled()) {
+      m_pagingCursor = tablePageData.getCursor();
+      m_pagingFetchedRowCount = (m_loadingMoreRows ? m_pagingFetchedRowCount : 0) + tablePageData.getRowCount();
+      table.setMoreRowsAvailable(tablePageData.isLimitedResult() && tablePageData.getRowCount() > 0);
+    }
   }
 
   /**
@@ -748,7 +800,126 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     if (table == null) {
       return;
     }
-    table.replaceRowsByMatrix(new AtomicReference<Object>(data));
+    if (m_loadingMoreRows) {
+      table.addRowsByMatrix(data);
+    }
+    else {
+      table.replaceRowsByMatrix(new AtomicReference<Object>(data));
+    }
+    if (isPagingEnabled()) {
+      m_pagingFetchedRowCount = (m_loadingMoreRows ? m_pagingFetchedRowCount : 0) + (data != null ? data.length : 0);
+      // a full window indicates that there may be more rows
+      table.setMoreRowsAvailable(data != null && data.length >= getPageSize());
+    }
+  }
+
+  @Override
+  public int getPageSize() {
+    return m_pageSize;
+  }
+
+  @Override
+  public void setPageSize(int pageSize) {
+    m_pageSize = Math.max(0, pageSize);
+  }
+
+  /**
+   * @return <code>true</code> if the rows of this page are loaded in windows of {@link #getPageSize()} rows.
+   * @since 24.1
+   */
+  protected boolean isPagingEnabled() {
+    return getPageSize() > 0;
+  }
+
+  /**
+   * Sets the window of rows to load on the given filter, if paging is enabled.
+   *
+   * @param offset
+   *          number of rows already fetched, see {@link #getPagingFetchedRowCount()}
+   * @since 24.1
+   */
+  protected void preparePagingSearchFilter(SearchFilter filter, int offset) {
+    if (!isPagingEnabled()) {
+      return;
+    }
+    T table = getTable();
+    SortSpec sortSpec = table != null ? table.getColumnSet().getSortSpec() : null;
+    filter.setOffset(offset);
+    filter.setLimit(getPageSize());
+    filter.setCursor(offset > 0 ? m_pagingCursor : null);
+    filter.setSortSpec(sortSpec);
+    if (offset == 0) {
+      m_pagingCursor = null;
+      m_pagingSortSpec = sortSpec;
+      m_pagingUserFiltersApplied = table != null && table.getUserFilterManager() != null && !table.getUserFilterManager().isEmpty();
+    }
+  }
+
+  /**
+   * @return the number of rows fetched by {@link #execLoadData(SearchFilter)} since the first window was loaded. This
+   *         is the offset of the next window, independent of rows added to or deleted from the table afterwards.
+   * @since 24.1
+   */
+  protected int getPagingFetchedRowCount() {
+    return m_pagingFetchedRowCount;
+  }
+
+  @Override
+  public void loadMoreRows() {
+    T table = getTable();
+    if (table == null || !isPagingEnabled() || !table.isMoreRowsAvailable() || m_loadingMoreRows) {
+      return;
+    }
+    SearchFilter filter = isSearchActive() ? getSearchFilter().copy() : new SearchFilter();
+    preparePagingSearchFilter(filter, getPagingFetchedRowCount());
+    try {
+      m_loadingMoreRows = true;
+      table.setTableChanging(true);
+      interceptLoadData(filter);
+    }
+    finally {
+      table.setTableChanging(false);
+      m_loadingMoreRows = false;
+    }
+  }
+
+  /**
+   * Reloads the page if the rows are loaded in windows and the sort order changed since the first window was loaded,
+   * because the table can only sort the rows already loaded.
+   */
+  protected void reloadIfPagingSortOrderChanged() {
+    T table = getTable();
+    if (table == null || !isPagingEnabled() || !table.isMoreRowsAvailable()) {
+      return;
+    }
+    SortSpec sortSpec = table.getColumnSet().getSortSpec();
+    if (Objects.equals(sortSpec, m_pagingSortSpec)) {
+      return;
+    }
+    m_pagingSortSpec = sortSpec;
+    ModelJobs.schedule(() -> reloadPage(IReloadReason.UNSPECIFIED), ModelJobs.newInput(ClientRunContexts.copyCurrent())
+        .withName("Reloading paged table after sort order change"));
+  }
+
+  /**
+   * Reloads the page if the rows are loaded in windows and the user filters changed while not all rows are loaded or
+   * the loaded rows were already filtered by {@link #execLoadData(SearchFilter)}, because the table can only filter
+   * the rows already loaded.
+   *
+   * @since 24.1
+   */
+  protected void reloadIfPagingUserFiltersChanged() {
+    T table = getTable();
+    if (table == null || !isPagingEnabled() || (!table.isMoreRowsAvailable() && !m_pagingUserFiltersApplied) || m_pagingUserFiltersReloadScheduled) {
+      return;
+    }
+    // several filters may change at once, reload only once
+    m_pagingUserFiltersReloadScheduled = true;
+    ModelJobs.schedule(() -> {
+      m_pagingUserFiltersReloadScheduled = false;
+      reloadPage(IReloadReason.UNSPECIFIED);
+    }, ModelJobs.newInput(ClientRunContexts.copyCurrent())
+        .withName("Reloading paged table after user filter change"));
   }
 
   /**
@@ -1005,12 +1176,18 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
         }
         case TableEvent.TYPE_ROW_ORDER_CHANGED: {
           getOutlineMediator().ifPresent(mediator -> mediator.mediateTableRowOrderChanged(e, AbstractPageWithTable.this));
+          reloadIfPagingSortOrderChanged();
           break;
         }
         case TableEvent.TYPE_ROW_FILTER_CHANGED: {
           getOutlineMediator().ifPresent(mediator -> mediator.mediateTableRowFilterChanged(AbstractPageWithTable.this));
           break;
         }
+        case TableEvent.TYPE_USER_FILTER_ADDED:
+        case TableEvent.TYPE_USER_FILTER_REMOVED: {
+          reloadIfPagingUserFiltersChanged();
+          break;
+        }
       }// end switch
     }
   }
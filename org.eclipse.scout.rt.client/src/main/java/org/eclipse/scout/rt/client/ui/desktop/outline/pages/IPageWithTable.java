@@ -65,6 +65,27 @@ public interface IPageWithTable<T extends ITable> extends IPage<T> {
    */
   SearchFilter getSearchFilter();
 
+  /**
+   * @return the number of rows loaded at once, 0 if all rows are loaded at once.
+   * @since 24.1
+   */
+  int getPageSize();
+
+  /**
+   * @param pageSize
+   *          the number of rows loaded at once, 0 to load all rows at once.
+   * @since 24.1
+   */
+  void setPageSize(int pageSize);
+
+  /**
+   * Loads the next window of {@link #getPageSize()} rows and appends it to the table, if there are more rows available
+   * (see {@link ITable#isMoreRowsAvailable()}).
+   *
+   * @since 24.1
+   */
+  void loadMoreRows();
+
   /**
    * @return A list (non-null) of empty space menus.
    */
@@ -45,4 +45,11 @@ public interface IReloadReason {
    * Any call to {@link IPage#dataChanged(Object...)}
    */
   String DATA_CHANGED_TRIGGER = "dataChangedTrigger";
+
+  /**
+   * The user scrolled to the end of a table whose rows are loaded in windows, the next window is to be appended
+   *
+   * @since 24.1
+   */
+  String LOAD_MORE_ROWS = "loadMoreRows";
 }
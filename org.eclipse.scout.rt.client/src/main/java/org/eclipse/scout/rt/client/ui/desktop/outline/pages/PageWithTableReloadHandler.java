@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.desktop.outline.pages;
+
+/**
+ * Reload handler of a {@link IPageWithTable}. Appends the next window of rows instead of reloading the page if
+ * {@link IReloadReason#LOAD_MORE_ROWS} is requested.
+ *
+ * @since 24.1
+ */
+public class PageWithTableReloadHandler extends PageReloadHandler {
+  private final IPageWithTable<?> m_page;
+
+  public PageWithTableReloadHandler(IPageWithTable<?> page) {
+    super(page);
+    m_page = page;
+  }
+
+  @Override
+  public void reload(String reloadReason) {
+    if (IReloadReason.LOAD_MORE_ROWS.equals(reloadReason)) {
+      m_page.loadMoreRows();
+      return;
+    }
+    super.reload(reloadReason);
+  }
+}
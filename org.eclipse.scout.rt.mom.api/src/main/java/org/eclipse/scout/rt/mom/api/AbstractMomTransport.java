@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -167,6 +168,16 @@ public abstract class AbstractMomTransport implements IMomTransport {
     return getDelegate().subscribe(destination, listener, input);
   }
 
+  @Override
+  public <DTO> void publishAll(final IDestination<DTO> destination, final Collection<DTO> transferObjects, final PublishInput input) {
+    getDelegate().publishAll(destination, transferObjects, input);
+  }
+
+  @Override
+  public <DTO> ISubscription subscribeBatch(final IDestination<DTO> destination, final IBatchMessageListener<DTO> listener, final SubscribeInput input) {
+    return getDelegate().subscribeBatch(destination, listener, input);
+  }
+
   @Override
   public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
     return getDelegate().request(destination, requestObject, input);
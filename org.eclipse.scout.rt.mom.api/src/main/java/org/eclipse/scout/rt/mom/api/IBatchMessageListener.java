@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+
+/**
+ * Listener to receive messages in batches.
+ *
+ * @see IMom#subscribeBatch(IDestination, IBatchMessageListener, SubscribeInput)
+ * @since 24.1
+ */
+@FunctionalInterface
+public interface IBatchMessageListener<DTO> {
+
+  /**
+   * Method invoked upon the receive of one or more messages, and is invoked in the {@link RunContext} as specified at
+   * registration. All messages of a batch are processed in the same {@link RunContext} and transaction.
+   *
+   * @param messages
+   *          non-empty list of messages in the order they were received. The size is limited by
+   *          {@link SubscribeInput#getMaxBatchSize()}.
+   */
+  void onMessages(List<IMessage<DTO>> messages);
+}
@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -113,6 +115,56 @@ public interface IMom {
    */
   <DTO> ISubscription subscribe(IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input);
 
+  /**
+   * Publishes the given messages to the given destination.
+   * <p>
+   * Unless the input is transactional, implementors should send all messages in a single transaction, meaning that
+   * either all or none of the messages are published. The default implementation publishes every message separately.
+   *
+   * @param destination
+   *          specifies the target of the messages, and is either a queue (P2P) or topic (pub/sub).
+   * @param transferObjects
+   *          specifies the transfer objects to be sent to the destination, one message per transfer object.
+   * @param input
+   *          specifies how to publish the messages.
+   * @param <DTO>
+   *          the type of the transfer objects to be published.
+   * @see IMom#publish(IDestination, Object, PublishInput)
+   * @since 24.1
+   */
+  default <DTO> void publishAll(IDestination<DTO> destination, Collection<DTO> transferObjects, PublishInput input) {
+    for (DTO transferObject : transferObjects) {
+      publish(destination, transferObject, input);
+    }
+  }
+
+  /**
+   * Subscribes the given listener to receive batches of messages sent to the given destination.
+   * <p>
+   * A batch is completed when {@link SubscribeInput#getMaxBatchSize()} messages were received, or when
+   * {@link SubscribeInput#getMaxBatchWait()} elapsed after the first message of the batch was received. All messages of
+   * a batch are passed to the listener in the same {@link org.eclipse.scout.rt.platform.context.RunContext RunContext}
+   * and transaction. With {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED}, the messages of a batch are acknowledged or
+   * redelivered together.
+   * <p>
+   * The default implementation passes every message separately to the listener.
+   *
+   * @param destination
+   *          specifies the target to consume messages from, and is either a topic (pub/sub) or queue (P2P).
+   * @param listener
+   *          specifies the listener to receive messages.
+   * @param input
+   *          specifies how to subscribe for messages.
+   * @return subscription handle to unsubscribe from the destination.
+   * @param <DTO>
+   *          the type of the transfer object a subscription is created for.
+   * @see IMom#publishAll(IDestination, Collection, PublishInput)
+   * @since 24.1
+   */
+  default <DTO> ISubscription subscribeBatch(IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input) {
+    return subscribe(destination, message -> listener.onMessages(Collections.singletonList(message)), input);
+  }
+
   /**
    * Initiates a 'request-reply' communication with a replier, and blocks until the reply is received. This type of
    * communication does not support transacted message publishing.
@@ -36,6 +36,15 @@ public interface ISubscription extends IDisposable {
    */
   IRequestListener<?, ?> getRequestListener();
 
+  /**
+   * @return the listener called upon messages received if subscribed with
+   *         {@link IMom#subscribeBatch(IDestination, IBatchMessageListener, SubscribeInput)}, otherwise null
+   * @since 24.1
+   */
+  default IBatchMessageListener<?> getBatchMessageListener() {
+    return null;
+  }
+
   /**
    * @return input used during subscription
    */
@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -226,6 +227,49 @@ public final class MOM {
     return BEANS.get(transport).subscribe(destination, listener, input != null ? input : newSubscribeInput());
   }
 
+  /**
+   * Publishes the given messages to the given destination.
+   * <p>
+   * Unless the input is transactional, all messages are sent in a single transaction if supported by the MOM.
+   *
+   * @param transport
+   *          specifies the MOM used as transport to publish the messages, e.g. {@link ClusterMom}.
+   * @param destination
+   *          specifies the target of the messages, and is either a queue (P2P) or topic (pub/sub).
+   * @param transferObjects
+   *          specifies the transfer objects to be sent to the destination, one message per transfer object.
+   * @param input
+   *          specifies how to publish the messages.
+   * @param <DTO>
+   *          the type of the transfer objects to be published.
+   * @see IMom#publishAll(IDestination, Collection, PublishInput)
+   * @since 24.1
+   */
+  public static <DTO> void publishAll(final Class<? extends IMomTransport> transport, final IDestination<DTO> destination, final Collection<DTO> transferObjects, final PublishInput input) {
+    BEANS.get(transport).publishAll(destination, transferObjects, input != null ? input : newPublishInput());
+  }
+
+  /**
+   * Subscribes the given listener to receive batches of messages sent to the given destination.
+   *
+   * @param transport
+   *          specifies the 'transport or network' to subscribe for messages, e.g. {@link ClusterMom}.
+   * @param destination
+   *          specifies the target to consume messages from, and is either a topic (pub/sub) or queue (P2P).
+   * @param listener
+   *          specifies the listener to receive messages.
+   * @param input
+   *          specifies how to subscribe for messages, like the batch size.
+   * @return subscription handle to unsubscribe from the destination.
+   * @param <DTO>
+   *          the type of the transfer object a subscription is created for.
+   * @see IMom#subscribeBatch(IDestination, IBatchMessageListener, SubscribeInput)
+   * @since 24.1
+   */
+  public static <DTO> ISubscription subscribeBatch(final Class<? extends IMomTransport> transport, final IDestination<DTO> destination, final IBatchMessageListener<DTO> listener, final SubscribeInput input) {
+    return BEANS.get(transport).subscribeBatch(destination, listener, input != null ? input : newSubscribeInput());
+  }
+
   /**
    * Cancels a <i>durable</i> subscription previously created on the specified MOM. Messages published to the
    * subscription's destination while the subscriber is inactive will then no longer be kept by the network.
@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
@@ -56,6 +58,8 @@ public class SubscribeInput {
   private boolean m_localReceipt = true;
   private String m_durableSubscriptionName;
   private int m_maxConcurrentConsumerJobs = -1;
+  private int m_maxBatchSize = 100;
+  private long m_maxBatchWait = 100L;
 
   public int getAcknowledgementMode() {
     return m_acknowledgementMode;
@@ -165,4 +169,49 @@ public class SubscribeInput {
     m_maxConcurrentConsumerJobs = maxConcurrentConsumerJobs;
     return this;
   }
+
+  /**
+   * @return the maximum number of messages passed to an {@link IBatchMessageListener} at once
+   * @see #withMaxBatchSize(int)
+   * @since 24.1
+   */
+  public int getMaxBatchSize() {
+    return m_maxBatchSize;
+  }
+
+  /**
+   * Specifies how many messages are at most collected into one batch. The default is 100.
+   * <p>
+   * This only makes sense for {@link IMom#subscribeBatch(IDestination, IBatchMessageListener, SubscribeInput)}.
+   *
+   * @since 24.1
+   */
+  public SubscribeInput withMaxBatchSize(int maxBatchSize) {
+    m_maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  /**
+   * Returns the maximum time in milliseconds to wait for further messages of a batch.
+   *
+   * @see #withMaxBatchWait(long, TimeUnit)
+   * @since 24.1
+   */
+  public long getMaxBatchWait() {
+    return m_maxBatchWait;
+  }
+
+  /**
+   * Specifies how long to wait for further messages after the first message of a batch was received. The batch is
+   * passed to the listener when this time elapsed or when {@link #getMaxBatchSize()} messages were received, whichever
+   * comes first. The default is 100 milliseconds.
+   * <p>
+   * This only makes sense for {@link IMom#subscribeBatch(IDestination, IBatchMessageListener, SubscribeInput)}.
+   *
+   * @since 24.1
+   */
+  public SubscribeInput withMaxBatchWait(final long maxBatchWait, final TimeUnit unit) {
+    m_maxBatchWait = unit.toMillis(maxBatchWait);
+    return this;
+  }
 }
@@ -43,6 +43,7 @@ import org.eclipse.scout.rt.mom.api.marshaller.JsonDataObjectMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.JsonMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderPool;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContexts;
@@ -852,6 +853,79 @@ public class JmsMomPubSubTest extends AbstractJmsMomTest {
     }
   }
 
+  @Test
+  public void testPublishWithPooledSessions() throws InterruptedException {
+    installMom();
+    // J2EE implementor publishes on a dedicated session per message
+    Assume.assumeFalse(J2eeJmsMomImplementor.class.isAssignableFrom(m_testParameter.getImplementor()));
+
+    final int publishers = 4;
+    final int messagesPerPublisher = 50;
+    final IDestination<String> queue = MOM.newDestination("test/mom/testPublishWithPooledSessions", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    final CountDownLatch latch = new CountDownLatch(publishers * messagesPerPublisher);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> latch.countDown()));
+
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < publishers; i++) {
+      futures.add(Jobs.schedule(() -> {
+        for (int j = 0; j < messagesPerPublisher; j++) {
+          MOM.publish(FixtureMom.class, queue, "message " + j);
+        }
+      }, Jobs.newInput()
+          .withName("publisher")
+          .withExecutionHint(FixtureJobInput.EXPLICIT_HINT)));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(30, TimeUnit.SECONDS);
+    }
+
+    // Verify
+    assertTrue(latch.await(30, TimeUnit.SECONDS));
+    JmsSessionProviderPool pool = ((JmsMomImplementor) m_mom.getImplementor()).m_publishSessionPool;
+    assertNotNull(pool);
+    int idleCount = pool.getIdleCount();
+    assertTrue("sessions expected to be kept for reuse", idleCount > 0);
+    assertTrue("pool expected to be bounded", idleCount <= Math.min(publishers, JmsMomImplementor.DEFAULT_PUBLISH_SESSION_POOL_SIZE));
+
+    // a failed session is not returned to the pool
+    IJmsSessionProvider sessionProvider = pool.borrow();
+    pool.release(sessionProvider, false);
+    assertTrue(sessionProvider.isClosing());
+    assertEquals(idleCount - 1, pool.getIdleCount());
+  }
+
+  @Test
+  public void testPublishAllAndSubscribeBatch() throws InterruptedException {
+    installMom();
+
+    final IDestination<String> queue = MOM.newDestination("test/mom/testPublishAllAndSubscribeBatch", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    final List<String> received = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch latch = new CountDownLatch(10);
+    m_disposables.add(MOM.subscribeBatch(FixtureMom.class, queue, messages -> {
+      batchSizes.add(messages.size());
+      for (IMessage<String> message : messages) {
+        received.add(message.getTransferObject());
+        latch.countDown();
+      }
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED)
+        .withMaxBatchSize(4)
+        .withMaxBatchWait(500, TimeUnit.MILLISECONDS)));
+
+    List<String> sent = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      sent.add("message " + i);
+    }
+    MOM.publishAll(FixtureMom.class, queue, sent, null);
+
+    // Verify
+    assertTrue(latch.await(30, TimeUnit.SECONDS));
+    assertEquals(sent, received);
+    assertTrue("batches expected to be limited by maxBatchSize " + batchSizes, batchSizes.stream().allMatch(size -> size <= 4));
+    assertTrue("messages expected to be received in batches " + batchSizes, batchSizes.size() < sent.size());
+  }
+
   @Test
   public void testTopicDurableSubscription() throws InterruptedException {
     installMom();
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMessage;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Consumes messages in batches. After the first message of a batch is received, further messages are received until
+ * {@link SubscribeInput#getMaxBatchSize()} messages were received or {@link SubscribeInput#getMaxBatchWait()} elapsed.
+ * The batch is then passed to the {@link IBatchMessageListener} in a single run context and transaction.
+ * <p>
+ * {@link IMessage#CURRENT} is not set while the listener is invoked, the correlation id is taken from the first message
+ * of the batch.
+ *
+ * @since 24.1
+ */
+public class BatchMessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
+  private static final Logger LOG = LoggerFactory.getLogger(BatchMessageConsumerJob.class);
+
+  protected final IBatchMessageListener<DTO> m_listener;
+
+  public BatchMessageConsumerJob(JmsMomImplementor mom, IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input, long receiveTimeout) {
+    super(mom, sessionProvider, destination, input, receiveTimeout);
+    m_listener = listener;
+  }
+
+  @Override
+  protected void onJmsMessage(final Message jmsMessage) throws JMSException {
+    final List<Message> jmsMessages = receiveBatch(jmsMessage);
+    if (isSingleThreaded() || isTransacted()) {
+      handleMessagesInRunContext(jmsMessages);
+    }
+    else {
+      Jobs.schedule(() -> handleMessagesInRunContext(jmsMessages), m_mom.newJobInput().withName("Receiving {} JMS messages [dest={}]", jmsMessages.size(), m_destination));
+    }
+  }
+
+  /**
+   * Receives further messages until the batch is complete.
+   *
+   * @param firstMessage
+   *          message already received
+   * @return non-empty list of received messages
+   */
+  protected List<Message> receiveBatch(final Message firstMessage) {
+    final List<Message> jmsMessages = new ArrayList<>();
+    jmsMessages.add(firstMessage);
+
+    final int maxBatchSize = m_subscribeInput.getMaxBatchSize();
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(m_subscribeInput.getMaxBatchWait());
+    while (jmsMessages.size() < maxBatchSize && !m_sessionProvider.isClosing()) {
+      final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remainingMillis <= 0L) {
+        break;
+      }
+      try {
+        final Message jmsMessage = m_sessionProvider.receive(m_subscribeInput, remainingMillis);
+        if (jmsMessage == null) {
+          break;
+        }
+        m_mom.getMessageHandler().handleIncoming(m_destination, jmsMessage, m_marshaller);
+        jmsMessages.add(jmsMessage);
+      }
+      catch (JMSException e) {
+        // messages received so far are still passed to the listener
+        LOG.warn("Failed to receive further messages of batch for {}", m_destination, e);
+        break;
+      }
+    }
+    return jmsMessages;
+  }
+
+  protected void handleMessagesInRunContext(final List<Message> jmsMessages) throws JMSException {
+    final List<IMessage<DTO>> messages = new ArrayList<>(jmsMessages.size());
+    for (Message jmsMessage : jmsMessages) {
+      messages.add(JmsMessageReader.newInstance(jmsMessage, m_marshaller).readMessage());
+    }
+    final String correlationId = JmsMessageReader.newInstance(jmsMessages.get(0), m_marshaller).readCorrelationId();
+
+    createRunContext()
+        .withCorrelationId(correlationId)
+        .run(() -> {
+          try {
+            m_listener.onMessages(Collections.unmodifiableList(messages));
+          }
+          catch (Exception e) {
+            throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                .withContextInfo("correlationId", correlationId)
+                .withContextInfo("batchSize", messages.size());
+          }
+          finally {
+            onMessageConsumptionComplete();
+          }
+        });
+  }
+}
@@ -20,6 +20,7 @@ import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IMom;
 import org.eclipse.scout.rt.mom.api.PublishInput;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderPool;
 
 /**
  * Implementation of 'instance-scoped' {@link IMom} based on JMS (Java Messaging Standard).
@@ -73,6 +74,12 @@ public class J2eeJmsMomImplementor extends JmsMomImplementor {
     }
   }
 
+  @Override
+  protected JmsSessionProviderPool createPublishSessionPool(final Map<Object, Object> properties) {
+    // sessions on the shared connection must not be used concurrently, see publishNonTransactional
+    return null;
+  }
+
   @Override
   protected void postCreateConnection(Connection connection) {
     // We do not set client id nor exception handler and  we do NOT start the shared connection.
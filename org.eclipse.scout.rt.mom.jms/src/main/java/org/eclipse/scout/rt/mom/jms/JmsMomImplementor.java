@@ -13,6 +13,7 @@ import static org.eclipse.scout.rt.mom.jms.IJmsMomProperties.JMS_PROP_REPLY_ID;
 import static org.eclipse.scout.rt.platform.util.Assertions.*;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Hashtable;
 import java.util.List;
@@ -44,6 +45,7 @@ import javax.naming.NamingException;
 import org.eclipse.scout.rt.dataobject.id.IIds;
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.mom.api.DestinationConfigPropertyParser;
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
 import org.eclipse.scout.rt.mom.api.IBiDestination;
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
@@ -59,6 +61,7 @@ import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderPool;
 import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderWrapper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
@@ -142,6 +145,22 @@ public class JmsMomImplementor implements IMomImplementor {
    */
   public static final int WAIT_TIME_INFINITE = -1;
 
+  /**
+   * Key to set the maximal number of idle sessions kept to publish messages outside of a transaction, if value is not
+   * set {@link #DEFAULT_PUBLISH_SESSION_POOL_SIZE} is used. A value of 0 disables pooling, i.e. a new session is created
+   * for every message published outside of a transaction.
+   *
+   * @since 24.1
+   */
+  public static final String JMS_PUBLISH_SESSION_POOL_SIZE = "scout.mom.jms.publishSessionPoolSize";
+
+  /**
+   * Default value for {@link #JMS_PUBLISH_SESSION_POOL_SIZE}.
+   *
+   * @since 24.1
+   */
+  public static final int DEFAULT_PUBLISH_SESSION_POOL_SIZE = 8;
+
   protected final String m_momUid = UUID.randomUUID().toString();
 
   // init -> thread-safety: only set in init method
@@ -152,6 +171,7 @@ public class JmsMomImplementor implements IMomImplementor {
   protected String m_clientId;
 
   protected JmsConnectionWrapper m_connectionWrapper;
+  protected JmsSessionProviderPool m_publishSessionPool;
   protected boolean m_requestReplyEnabled;
   protected IDestination<?> m_requestReplyCancellationTopic;
   protected IMarshaller m_defaultMarshaller;
@@ -184,6 +204,7 @@ public class JmsMomImplementor implements IMomImplementor {
       m_connectionFactory = createConnectionFactory(properties);
       m_clientId = computeClientId(properties);
       m_connectionWrapper = createConnectionWrapper(properties);
+      m_publishSessionPool = createPublishSessionPool(properties);
 
       m_defaultMarshaller = createDefaultMarshaller(properties);
       m_messageHandler = createMessageHandler(properties);
@@ -339,7 +360,39 @@ public class JmsMomImplementor implements IMomImplementor {
         publishTransactional(destination, transferObject, input);
       }
       else {
-        publishNonTransactional(destination, transferObject, input);
+        publishNonTransactionalWithMetrics(destination, transferObject, input);
+      }
+    }
+    catch (JMSException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public <DTO> void publishAll(final IDestination<DTO> destination, final Collection<DTO> transferObjects, final PublishInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(transferObjects, "transferObjects not specified");
+    assertNotNull(input, "publishInput not specified");
+    if (transferObjects.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (input.isTransactional()) {
+        for (DTO transferObject : transferObjects) {
+          publishTransactional(destination, transferObject, input);
+        }
+      }
+      else {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+          publishAllNonTransactional(destination, transferObjects, input);
+          success = true;
+        }
+        finally {
+          BEANS.get(JmsPublishMetricsHelper.class).messagesPublished(m_symbolicName, transferObjects.size(), System.nanoTime() - start, success);
+        }
       }
     }
     catch (JMSException e) {
@@ -347,14 +400,84 @@ public class JmsMomImplementor implements IMomImplementor {
     }
   }
 
+  /**
+   * Sends all messages in one transacted session, so that either all or none of them are published.
+   *
+   * @since 24.1
+   */
+  protected <DTO> void publishAllNonTransactional(final IDestination<DTO> destination, final Collection<DTO> transferObjects, final PublishInput input) throws JMSException {
+    IJmsSessionProvider sessionProvider = createSessionProvider(destination, true);
+    try {
+      // use the session directly: after a failover the session provider would silently switch to a new session and lose the messages sent so far
+      Session session = sessionProvider.getSession();
+      MessageProducer producer = sessionProvider.getProducer();
+      Destination jmsDestination = resolveJmsDestination(destination, session);
+      Destination jmsReplyTo = resolveJmsDestination(input.getReplyTo(), session);
+      IMarshaller marshaller = resolveMarshaller(destination);
+      for (DTO transferObject : transferObjects) {
+        JmsMessageWriter messageWriter = JmsMessageWriter.newInstance(session, marshaller)
+            .writeTransferObject(transferObject)
+            .writeReplyTo(jmsReplyTo)
+            .writeProperties(input.getProperties());
+        send(producer, jmsDestination, messageWriter, input);
+      }
+      session.commit();
+    }
+    finally {
+      // closing a transacted session without commit discards all messages sent so far
+      sessionProvider.close();
+    }
+  }
+
+  protected <DTO> void publishNonTransactionalWithMetrics(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
+    long start = System.nanoTime();
+    boolean success = false;
+    try {
+      publishNonTransactional(destination, transferObject, input);
+      success = true;
+    }
+    finally {
+      BEANS.get(JmsPublishMetricsHelper.class).messagePublished(m_symbolicName, System.nanoTime() - start, success);
+    }
+  }
+
   protected <DTO> void publishNonTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+    JmsSessionProviderPool pool = m_publishSessionPool;
+    if (pool == null) {
+      IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
+      try {
+        send(sessionProvider, destination, transferObject, input);
+      }
+      finally {
+        sessionProvider.close();
+      }
+      return;
+    }
+
+    IJmsSessionProvider sessionProvider = pool.borrow();
+    boolean healthy = false;
     try {
       send(sessionProvider, destination, transferObject, input);
+      healthy = true;
     }
     finally {
-      sessionProvider.close();
+      pool.release(sessionProvider, healthy);
+    }
+  }
+
+  /**
+   * Creates the pool of sessions used by {@link #publishNonTransactional(IDestination, Object, PublishInput)}.
+   *
+   * @return the pool or <code>null</code> if pooling is disabled, see {@link #JMS_PUBLISH_SESSION_POOL_SIZE}
+   * @since 24.1
+   */
+  protected JmsSessionProviderPool createPublishSessionPool(final Map<Object, Object> properties) {
+    int size = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(JMS_PUBLISH_SESSION_POOL_SIZE), Integer.class), DEFAULT_PUBLISH_SESSION_POOL_SIZE);
+    if (size <= 0) {
+      return null;
     }
+    // the producer of a JmsSessionProvider is not bound to a destination, therefore one pool serves all destinations
+    return new JmsSessionProviderPool(() -> createSessionProviderWrapper(false, session -> new JmsSessionProvider(session, null)), size);
   }
 
   protected <DTO> void publishTransactional(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) throws JMSException {
@@ -402,6 +525,38 @@ public class JmsMomImplementor implements IMomImplementor {
     return new MessageConsumerJob<>(this, sessionProvider, destination, listener, input, m_messageConsumerJobReceiveTimeout);
   }
 
+  @Override
+  public <DTO> ISubscription subscribeBatch(final IDestination<DTO> destination, final IBatchMessageListener<DTO> listener, final SubscribeInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "batchMessageListener not specified");
+    assertNotNull(input, "input not specified");
+    assertGreater(input.getMaxBatchSize(), 0, "maxBatchSize must be > 0");
+    try {
+      return subscribeBatchImpl(destination, listener, input);
+    }
+    catch (final JMSException e) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e);
+    }
+  }
+
+  protected <DTO> ISubscription subscribeBatchImpl(IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input) throws JMSException {
+    IJmsSessionProvider sessionProvider = createSessionProvider(destination, SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode());
+    IFuture<?> worker = Jobs.schedule(createBatchMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS batch subscriber"));
+    JmsSubscription subscription = createJmsBatchSubscription(destination, listener, input, sessionProvider, worker);
+    m_subscriptions.add(subscription);
+    return subscription;
+  }
+
+  protected <DTO> IRunnable createBatchMessageConsumerJob(IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IBatchMessageListener<DTO> listener, SubscribeInput input) {
+    return new BatchMessageConsumerJob<>(this, sessionProvider, destination, listener, input, m_messageConsumerJobReceiveTimeout);
+  }
+
+  protected JmsSubscription createJmsBatchSubscription(IDestination<?> destination, IBatchMessageListener<?> listener, SubscribeInput input, IJmsSessionProvider sessionProvider, IFuture<?> worker) {
+    JmsSubscription subscription = new JmsSubscription(destination, null, null, listener, input, sessionProvider, worker);
+    subscription.awaitStarted(m_subscriptionAwaitStartedSeconds, TimeUnit.SECONDS);
+    return subscription;
+  }
+
   @Override
   public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
     assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
@@ -606,6 +761,16 @@ public class JmsMomImplementor implements IMomImplementor {
             .toFilter(), false);
       }
 
+      // close pooled sessions
+      if (m_publishSessionPool != null) {
+        try {
+          m_publishSessionPool.close();
+        }
+        finally {
+          m_publishSessionPool = null;
+        }
+      }
+
       // close connection
       if (m_connectionWrapper != null) {
         try {
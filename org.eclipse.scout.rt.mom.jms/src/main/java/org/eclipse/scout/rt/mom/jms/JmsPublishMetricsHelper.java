@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Collects metrics about messages published non-transactionally by {@link JmsMomImplementor}s:
+ * <ul>
+ * <li>number of published messages (throughput), by MOM and result (success or failure)</li>
+ * <li>time it took to send a message or a batch of messages, by MOM</li>
+ * </ul>
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class JmsPublishMetricsHelper {
+
+  protected static final AttributeKey<String> MOM = AttributeKey.stringKey("mom");
+  protected static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+  protected final LongCounter m_messages;
+  protected final DoubleHistogram m_sendDuration;
+
+  public JmsPublishMetricsHelper() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    m_messages = meter.counterBuilder("scout.mom.jms.publish.messages")
+        .setDescription("The number of messages published outside of a transaction, by MOM and result (success or failure).")
+        .setUnit("{message}")
+        .build();
+    m_sendDuration = meter.histogramBuilder("scout.mom.jms.publish.duration")
+        .setDescription("The time it took to send a message or a batch of messages published outside of a transaction, by MOM.")
+        .setUnit("ms")
+        .build();
+  }
+
+  /**
+   * @param momName
+   *          symbolic name of the MOM
+   * @param durationNanos
+   *          time it took to send the message
+   * @param success
+   *          <code>false</code> if sending the message failed
+   */
+  public void messagePublished(String momName, long durationNanos, boolean success) {
+    messagesPublished(momName, 1, durationNanos, success);
+  }
+
+  /**
+   * @param momName
+   *          symbolic name of the MOM
+   * @param count
+   *          number of messages sent together
+   * @param durationNanos
+   *          time it took to send all messages
+   * @param success
+   *          <code>false</code> if sending the messages failed
+   */
+  public void messagesPublished(String momName, int count, long durationNanos, boolean success) {
+    Attributes attributes = Attributes.of(MOM, momName);
+    m_messages.add(count, attributes.toBuilder().put(RESULT, success ? "success" : "failure").build());
+    if (success) {
+      m_sendDuration.record(durationNanos / 1_000_000d, attributes);
+    }
+  }
+}
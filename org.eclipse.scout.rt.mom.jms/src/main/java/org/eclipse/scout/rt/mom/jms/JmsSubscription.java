@@ -13,6 +13,7 @@ import java.util.concurrent.TimeUnit;
 
 import jakarta.jms.MessageConsumer;
 
+import org.eclipse.scout.rt.mom.api.IBatchMessageListener;
 import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.IMessageListener;
 import org.eclipse.scout.rt.mom.api.IMom;
@@ -33,14 +34,23 @@ public class JmsSubscription implements ISubscription {
   protected final IDestination<?> m_destination;
   protected final IMessageListener<?> m_messageListener;
   protected final IRequestListener<?, ?> m_requestListener;
+  protected final IBatchMessageListener<?> m_batchMessageListener;
   protected final SubscribeInput m_subscribeInput;
   protected final IJmsSessionProvider m_sessionProvider;
   protected final IFuture<?> m_jobMonitor;
 
   public JmsSubscription(IDestination<?> destination, IMessageListener<?> messageListener, IRequestListener<?, ?> requestListener, SubscribeInput subscribeInput, IJmsSessionProvider sessionProvider, IFuture<?> jobMonitor) {
+    this(destination, messageListener, requestListener, null, subscribeInput, sessionProvider, jobMonitor);
+  }
+
+  /**
+   * @since 24.1
+   */
+  public JmsSubscription(IDestination<?> destination, IMessageListener<?> messageListener, IRequestListener<?, ?> requestListener, IBatchMessageListener<?> batchMessageListener, SubscribeInput subscribeInput, IJmsSessionProvider sessionProvider, IFuture<?> jobMonitor) {
     m_destination = destination;
     m_messageListener = messageListener;
     m_requestListener = requestListener;
+    m_batchMessageListener = batchMessageListener;
     m_subscribeInput = subscribeInput;
     m_sessionProvider = sessionProvider;
     m_jobMonitor = jobMonitor;
@@ -61,6 +71,11 @@ public class JmsSubscription implements ISubscription {
     return m_requestListener;
   }
 
+  @Override
+  public IBatchMessageListener<?> getBatchMessageListener() {
+    return m_batchMessageListener;
+  }
+
   @Override
   public SubscribeInput getSubscribeInput() {
     return m_subscribeInput;
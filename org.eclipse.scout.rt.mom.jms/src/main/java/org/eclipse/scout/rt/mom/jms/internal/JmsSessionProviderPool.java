@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.mom.jms.IJmsSessionProvider;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of non-transacted {@link IJmsSessionProvider}s used to publish messages outside of a transaction.
+ * <p>
+ * The pooled session providers use an anonymous producer, so that a single pool serves all destinations. They are
+ * expected to be {@link JmsSessionProviderWrapper}s, which transparently recreate their session after a broker failover.
+ * A session provider is closed instead of returned to the pool if it failed to send a message, if it was closed in the
+ * meantime or if the pool already holds {@link #getMaxIdle()} session providers.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 24.1
+ */
+public class JmsSessionProviderPool {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsSessionProviderPool.class);
+
+  protected final Supplier<IJmsSessionProvider> m_sessionProviderSupplier;
+  protected final int m_maxIdle;
+  protected final Deque<IJmsSessionProvider> m_idle = new ConcurrentLinkedDeque<>();
+  protected final AtomicInteger m_idleCount = new AtomicInteger();
+  protected volatile boolean m_closed;
+
+  public JmsSessionProviderPool(Supplier<IJmsSessionProvider> sessionProviderSupplier, int maxIdle) {
+    m_sessionProviderSupplier = Assertions.assertNotNull(sessionProviderSupplier);
+    m_maxIdle = Assertions.assertGreater(maxIdle, 0, "maxIdle must be > 0");
+  }
+
+  /**
+   * @return maximal number of idle session providers kept by this pool
+   */
+  public int getMaxIdle() {
+    return m_maxIdle;
+  }
+
+  /**
+   * @return number of session providers currently idle in this pool
+   */
+  public int getIdleCount() {
+    return m_idleCount.get();
+  }
+
+  /**
+   * Returns an idle session provider or creates a new one if none is available. The caller has exclusive access to the
+   * returned session provider until it is passed to {@link #release(IJmsSessionProvider, boolean)}.
+   */
+  public IJmsSessionProvider borrow() {
+    IJmsSessionProvider sessionProvider;
+    while ((sessionProvider = m_idle.pollFirst()) != null) {
+      m_idleCount.decrementAndGet();
+      if (!sessionProvider.isClosing()) {
+        return sessionProvider;
+      }
+    }
+    return m_sessionProviderSupplier.get();
+  }
+
+  /**
+   * Returns a session provider obtained by {@link #borrow()} to this pool.
+   *
+   * @param healthy
+   *          <code>false</code> if the session provider failed to send a message. Such a session provider is closed.
+   */
+  public void release(IJmsSessionProvider sessionProvider, boolean healthy) {
+    if (sessionProvider == null) {
+      return;
+    }
+    if (!healthy) {
+      LOG.debug("Discarding session provider after failure {}", sessionProvider);
+    }
+    else if (offer(sessionProvider)) {
+      return;
+    }
+    sessionProvider.close();
+  }
+
+  /**
+   * @return <code>true</code> if the session provider was added to the idle session providers
+   */
+  protected boolean offer(IJmsSessionProvider sessionProvider) {
+    if (m_closed || sessionProvider.isClosing()) {
+      return false;
+    }
+    if (m_idleCount.incrementAndGet() > m_maxIdle) {
+      m_idleCount.decrementAndGet();
+      return false;
+    }
+    m_idle.offerFirst(sessionProvider);
+    if (m_closed && m_idle.remove(sessionProvider)) {
+      // pool was closed concurrently
+      m_idleCount.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Closes all idle session providers. Session providers released afterwards are closed immediately.
+   */
+  public void close() {
+    m_closed = true;
+    List<IJmsSessionProvider> idle = new ArrayList<>();
+    IJmsSessionProvider sessionProvider;
+    while ((sessionProvider = m_idle.pollFirst()) != null) {
+      m_idleCount.decrementAndGet();
+      idle.add(sessionProvider);
+    }
+    for (IJmsSessionProvider p : idle) {
+      try {
+        p.close();
+      }
+      catch (RuntimeException e) {
+        LOG.warn("Failed to close session provider {}", p, e);
+      }
+    }
+  }
+}
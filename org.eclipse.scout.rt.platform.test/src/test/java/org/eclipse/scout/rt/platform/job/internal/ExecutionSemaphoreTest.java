@@ -10,12 +10,16 @@
 package org.eclipse.scout.rt.platform.job.internal;
 
 import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
@@ -592,4 +596,72 @@ public class ExecutionSemaphoreTest {
       fail(String.format("Deadlock while passing permit from 'job-2' to 'job-1' [job-1-state=%s, job-2-state=%s", future1.getState(), future2Ref.get().getState()));
     }
   }
+
+  /**
+   * Tests that an exception of the callback propagates to the competing caller if the permit is acquired after the task
+   * was queued, e.g. because another task released its permit concurrently.
+   */
+  @Test
+  public void testCompeteCallbackExceptionAfterQueued() {
+    ExecutionSemaphore semaphore = new ExecutionSemaphore() {
+      private int m_attempts;
+
+      @Override
+      protected boolean tryAssignFreePermit(IFuture<?> task) {
+        // simulate a permit released after checking for a free permit
+        if (m_attempts++ < 2) {
+          return false;
+        }
+        return super.tryAssignFreePermit(task);
+      }
+    };
+    semaphore.withPermits(1);
+    IFuture<?> task = mock(IFuture.class);
+    when(task.getJobInput()).thenReturn(Jobs.newInput().withExecutionSemaphore(semaphore));
+
+    RuntimeException exception = new RuntimeException("expected JUnit test exception");
+    try {
+      semaphore.compete(task, QueuePosition.TAIL, () -> {
+        throw exception;
+      });
+      fail("exception expected");
+    }
+    catch (RuntimeException e) {
+      assertSame(exception, e);
+    }
+    assertTrue(semaphore.isPermitOwner(task));
+    assertEquals(1, semaphore.getCompetitorCount());
+  }
+
+  /**
+   * Tests that the number of permits is never exceeded while many jobs compete for and release permits concurrently.
+   */
+  @Test
+  @Times(20) // regression
+  public void testPermitsNotExceededUnderContention() {
+    final int permits = 3;
+    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(permits);
+
+    final AtomicInteger concurrentJobs = new AtomicInteger();
+    final AtomicInteger maxConcurrentJobs = new AtomicInteger();
+    final AtomicInteger completedJobs = new AtomicInteger();
+
+    final List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      futures.add(Jobs.schedule(() -> {
+        maxConcurrentJobs.accumulateAndGet(concurrentJobs.incrementAndGet(), Math::max);
+        Thread.yield();
+        concurrentJobs.decrementAndGet();
+        completedJobs.incrementAndGet();
+      }, Jobs.newInput()
+          .withName("job-{}", i)
+          .withExecutionSemaphore(semaphore)));
+    }
+
+    for (IFuture<Void> future : futures) {
+      future.awaitDone(30, TimeUnit.SECONDS);
+    }
+    assertEquals(500, completedJobs.get());
+    assertTrue("permits exceeded [max=" + maxConcurrentJobs.get() + "]", maxConcurrentJobs.get() <= permits);
+  }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.MDC;
+
+@RunWith(PlatformTestRunner.class)
+public class NamedVirtualThreadFactoryTest {
+
+  private static final String MDC_KEY = "mdcTestKey";
+
+  /**
+   * @return a factory creating virtual threads or, if not supported by the Java runtime, a factory running the same
+   *         code on threads of a plain thread factory
+   */
+  protected NamedVirtualThreadFactory createFactory(String threadName) {
+    if (NamedVirtualThreadFactory.isSupported()) {
+      return new NamedVirtualThreadFactory(threadName);
+    }
+    return new NamedVirtualThreadFactory(threadName, Executors.defaultThreadFactory());
+  }
+
+  @Test
+  public void testMdc() throws InterruptedException {
+    MDC.put(MDC_KEY, "value should not be pushed to child thread");
+    try {
+      final AtomicReference<String> childThreadMdcValue = new AtomicReference<>("not run");
+      final CountDownLatch latch = new CountDownLatch(1);
+      createFactory("mdc-test-thread").newThread(() -> {
+        childThreadMdcValue.set(MDC.get(MDC_KEY));
+        latch.countDown();
+      }).start();
+
+      assertTrue(latch.await(1, TimeUnit.SECONDS));
+      assertNull(childThreadMdcValue.get());
+    }
+    finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+
+  @Test
+  public void testThreadInfo() throws InterruptedException {
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    NamedVirtualThreadFactory factory = createFactory("virtual-test-thread");
+    factory.newThread(() -> {
+      ThreadInfo threadInfo = ThreadInfo.CURRENT.get();
+      threadInfo.updateThreadName("job", "info");
+      threadName.set(Thread.currentThread().getName());
+      latch.countDown();
+    }).start();
+
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+    assertEquals("job-1 info", threadName.get());
+  }
+
+  @Test
+  public void testFallbackToPlatformThreads() throws InterruptedException {
+    final AtomicReference<String> threadName = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    NamedVirtualThreadFactory factory = new NamedVirtualThreadFactory("platform-test-thread", null);
+    Thread thread = factory.newThread(() -> {
+      ThreadInfo threadInfo = ThreadInfo.CURRENT.get();
+      threadInfo.updateThreadName("job", "info");
+      threadName.set(Thread.currentThread().getName());
+      latch.countDown();
+    });
+    assertFalse(thread.isDaemon());
+    thread.start();
+
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+    assertEquals("job-1 info", threadName.get());
+  }
+
+  @Test
+  public void testUncaughtException() throws InterruptedException {
+    final BlockingQueue<Throwable> handled = new ArrayBlockingQueue<>(1);
+    IBean<?> bean = BeanTestingHelper.get().registerBean(new BeanMetaData(ExceptionHandler.class, new ExceptionHandler() {
+      @Override
+      public void handle(Throwable t) {
+        handled.add(t);
+      }
+    }));
+    try {
+      RuntimeException exception = new RuntimeException("expected JUnit test exception");
+      createFactory("error-test-thread").newThread(() -> {
+        throw exception;
+      }).start();
+
+      assertSame(exception, handled.poll(1, TimeUnit.SECONDS));
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(bean);
+    }
+  }
+}
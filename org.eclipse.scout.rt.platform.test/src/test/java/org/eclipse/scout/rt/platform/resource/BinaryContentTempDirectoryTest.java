@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BinaryContentTempDirectoryTest {
+
+  private Path m_baseDir;
+  private BinaryContentTempDirectory m_tempDirectory;
+
+  @Before
+  public void before() throws Exception {
+    m_baseDir = Files.createTempDirectory("binres-test");
+    m_tempDirectory = new P_BinaryContentTempDirectory(m_baseDir);
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_baseDir.toFile());
+  }
+
+  @Test
+  public void testDirectoryOfCurrentProcess() throws Exception {
+    Path dir = m_tempDirectory.getDirectory();
+    assertEquals(m_baseDir.resolve(String.valueOf(ProcessHandle.current().pid())), dir);
+    assertTrue(Files.isDirectory(dir));
+    Files.createFile(dir.resolve("upload.tmp"));
+
+    m_tempDirectory.deleteDirectory();
+    assertFalse(Files.exists(dir));
+  }
+
+  @Test
+  public void testDeleteStaleDirectories() throws Exception {
+    Path own = m_tempDirectory.getDirectory();
+    Path stale = Files.createDirectory(m_baseDir.resolve(String.valueOf(Long.MAX_VALUE)));
+    Files.createFile(stale.resolve("upload.tmp"));
+    Path other = Files.createDirectory(m_baseDir.resolve("other"));
+
+    m_tempDirectory.deleteStaleDirectories();
+    assertTrue(Files.exists(own));
+    assertFalse(Files.exists(stale));
+    assertTrue(Files.exists(other));
+  }
+
+  private static class P_BinaryContentTempDirectory extends BinaryContentTempDirectory {
+    private final Path m_baseDir;
+
+    P_BinaryContentTempDirectory(Path baseDir) {
+      m_baseDir = baseDir;
+    }
+
+    @Override
+    protected Path getBaseDirectory() {
+      return m_baseDir;
+    }
+  }
+}
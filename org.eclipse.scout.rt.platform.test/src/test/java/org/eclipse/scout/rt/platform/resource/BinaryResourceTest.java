@@ -9,10 +9,20 @@
  */
 package org.eclipse.scout.rt.platform.resource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.date.IDateProvider;
 import org.junit.Assert;
 import org.junit.Test;
@@ -130,4 +140,135 @@ public class BinaryResourceTest {
     Assert.assertEquals("help", aliasedResource3.getFilename());
     Assert.assertArrayEquals(content, aliasedResource3.getContent());
   }
+
+  @Test
+  public void testFileBackedContent() throws Exception {
+    byte[] content = "Lorem ipsum dolor sit amet".getBytes(StandardCharsets.UTF_8);
+    Path file = Files.createTempFile("binres-test", ".txt");
+    try {
+      Files.write(file, content);
+      BinaryResource inMemory = new BinaryResource("document.txt", content);
+      BinaryResource fileBacked = BinaryResources.create()
+          .withFilename("document.txt")
+          .withContent(file)
+          .build();
+
+      Assert.assertTrue(fileBacked.hasContent());
+      Assert.assertFalse(fileBacked.isContentInMemory());
+      Assert.assertTrue(inMemory.isContentInMemory());
+      Assert.assertEquals(content.length, fileBacked.getContentLengthLong());
+      Assert.assertEquals(content.length, fileBacked.getContentLength());
+      Assert.assertEquals(inMemory.getFingerprint(), fileBacked.getFingerprint());
+      Assert.assertArrayEquals(content, fileBacked.getContent());
+      Assert.assertArrayEquals("Lorem".getBytes(StandardCharsets.UTF_8), fileBacked.getContentPrefix(5));
+      try (InputStream in = fileBacked.newInputStream()) {
+        Assert.assertArrayEquals(content, IOUtility.readBytes(in));
+      }
+      Assert.assertEquals(inMemory, fileBacked);
+      Assert.assertEquals(inMemory.hashCode(), fileBacked.hashCode());
+
+      // alias keeps the content file-backed
+      Assert.assertFalse(fileBacked.createAlias("other.txt").isContentInMemory());
+
+      // serialized content is transferred in memory
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(fileBacked);
+      }
+      BinaryResource deserialized;
+      try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+        deserialized = (BinaryResource) in.readObject();
+      }
+      Assert.assertTrue(deserialized.isContentInMemory());
+      Assert.assertArrayEquals(content, deserialized.getContent());
+      Assert.assertEquals(fileBacked.getFingerprint(), deserialized.getFingerprint());
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testTempFileContent() {
+    byte[] content = new byte[]{'a', 'b', 'c'};
+    FileBinaryContent tempContent = FileBinaryContent.ofTempFile(new ByteArrayInputStream(content), "test");
+    Assert.assertTrue(Files.exists(tempContent.getPath()));
+    Assert.assertEquals(3, tempContent.getLength());
+    Assert.assertArrayEquals(content, tempContent.toByteArray());
+    Assert.assertEquals(new ByteArrayBinaryContent(content).computeAdler32(), tempContent.computeAdler32());
+    Assert.assertEquals(BEANS.get(BinaryContentTempDirectory.class).getDirectory(), tempContent.getPath().getParent());
+
+    tempContent.release();
+    Assert.assertFalse(Files.exists(tempContent.getPath()));
+    tempContent.release(); // no effect
+  }
+
+  @Test
+  public void testReleaseDoesNotDeleteForeignFile() throws Exception {
+    Path file = Files.createTempFile("binres-test", ".txt");
+    try {
+      BinaryResource res = BinaryResources.create()
+          .withFilename("document.txt")
+          .withContent(file)
+          .build();
+      res.release();
+      Assert.assertTrue(Files.exists(file));
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testEqualsComparesStreamedContent() {
+    byte[] content = new byte[3 * IOUtility.BUFFER_SIZE + 17];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+    FileBinaryContent tempContent = FileBinaryContent.ofTempFile(new ByteArrayInputStream(content), "test");
+    try {
+      BinaryResource fileBacked = BinaryResources.create().withFilename("a.bin").withContent(tempContent).build();
+      BinaryResource inMemory = BinaryResources.create().withFilename("a.bin").withContent(content).build();
+      Assert.assertEquals(inMemory, fileBacked);
+      Assert.assertEquals(fileBacked, inMemory);
+    }
+    finally {
+      tempContent.release();
+    }
+  }
+
+  @Test
+  public void testDeserializeFileContentFails() throws Exception {
+    Path file = Files.createTempFile("binres-test", ".txt");
+    try {
+      // bypass writeReplace to build a stream which contains the file path itself
+      BinaryResource res = BinaryResources.create()
+          .withFilename("document.txt")
+          .withContent(new P_UnreplacedFileBinaryContent(file))
+          .build();
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(res);
+      }
+      try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+        Assert.assertThrows(InvalidObjectException.class, in::readObject);
+      }
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  private static class P_UnreplacedFileBinaryContent extends FileBinaryContent {
+    private static final long serialVersionUID = 1L;
+
+    P_UnreplacedFileBinaryContent(Path path) {
+      super(path);
+    }
+
+    @Override
+    protected Object writeReplace() throws ObjectStreamException {
+      return this;
+    }
+  }
 }
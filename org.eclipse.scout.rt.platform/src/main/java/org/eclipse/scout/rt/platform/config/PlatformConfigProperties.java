@@ -240,6 +240,31 @@ public final class PlatformConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether jobs run on virtual threads instead of a pool of platform threads. Requires Java 21 or newer, otherwise the platform thread pool is used. "
+          + "If enabled, each job gets a new virtual thread which ends as soon as the job completes: no idle threads are kept and the number of threads is not limited. "
+          + "Therefore the properties '%s', '%s', '%s', '%s' and '%s' are ignored. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(), BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(), BEANS.get(JobManagerKeepAliveTimeProperty.class).getKey(),
+          BEANS.get(JobManagerAllowCoreThreadTimeoutProperty.class).getKey(), BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -9,15 +9,15 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
@@ -33,6 +33,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default implementation of {@link IExecutionSemaphore}.
+ * <p>
+ * Permits are counted atomically, so that acquiring a free permit while no task is queued, and releasing a permit while
+ * no task is queued, do not take a lock. The queue of competing tasks is only modified while holding the queue lock,
+ * which preserves the {@link QueuePosition} ordering of competing tasks.
  *
  * @since 5.2
  */
@@ -41,25 +45,23 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
 
   private static final Logger LOG = LoggerFactory.getLogger(ExecutionSemaphore.class);
 
-  private final ReadLock m_readLock;
-  private final WriteLock m_writeLock;
+  private final ReentrantLock m_queueLock;
 
   private volatile int m_permits;
   private volatile boolean m_sealed;
   private final Deque<AcquisitionTask> m_queue;
   private final Set<IFuture<?>> m_permitOwners;
+  private final AtomicInteger m_assignedPermits;
 
   private final AtomicInteger m_executionPriority;
 
   public ExecutionSemaphore() {
     m_permits = Integer.MAX_VALUE; // unbounded according to JavaDoc
-    m_queue = new ArrayDeque<>();
-    m_permitOwners = new HashSet<>();
+    m_queue = new ConcurrentLinkedDeque<>();
+    m_permitOwners = ConcurrentHashMap.newKeySet();
+    m_assignedPermits = new AtomicInteger();
     m_executionPriority = new AtomicInteger(Integer.MAX_VALUE);
-
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    m_readLock = lock.readLock();
-    m_writeLock = lock.writeLock();
+    m_queueLock = new ReentrantLock();
   }
 
   @Override
@@ -74,9 +76,7 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
     m_permits = permits;
 
     // Assign all free permits to competing tasks.
-    for (AcquisitionTask acquisitionTask = assignOnePermit(); acquisitionTask != null; acquisitionTask = assignOnePermit()) {
-      acquisitionTask.notifyPermitAcquired();
-    }
+    notifyPermitAcquired(assignFreePermits());
 
     return this;
   }
@@ -89,24 +89,12 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
 
   @Override
   public int getCompetitorCount() {
-    m_readLock.lock();
-    try {
-      return m_queue.size() + m_permitOwners.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_queue.size() + m_permitOwners.size();
   }
 
   @Override
   public boolean isPermitOwner(final IFuture<?> task) {
-    m_readLock.lock();
-    try {
-      return m_permitOwners.contains(task);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_permitOwners.contains(task);
   }
 
   /**
@@ -172,29 +160,39 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
   protected boolean compete(final IFuture<?> task, final QueuePosition queuePosition, final IPermitAcquiredCallback permitAcquiredCallback) {
     assertSameSemaphore(task);
 
-    boolean permitFree;
-    m_writeLock.lock();
-    try {
-      permitFree = (m_permitOwners.size() < m_permits && m_queue.isEmpty());
+    // Fast path: acquire a free permit without locking if no other task is queued.
+    if (tryAssignFreePermit(task)) {
+      permitAcquiredCallback.onPermitAcquired();
+      return true;
+    }
 
+    final AcquisitionTask newAcquisitionTask = new AcquisitionTask(task, permitAcquiredCallback);
+    final boolean permitFree;
+    final List<AcquisitionTask> acquisitionTasks;
+    m_queueLock.lock();
+    try {
+      permitFree = tryAssignFreePermit(task);
       if (permitFree) {
-        m_permitOwners.add(task);
+        acquisitionTasks = null;
       }
       else {
         switch (queuePosition) {
           case HEAD:
-            m_queue.offerFirst(new AcquisitionTask(task, permitAcquiredCallback));
+            m_queue.offerFirst(newAcquisitionTask);
             break;
           case TAIL:
-            m_queue.offerLast(new AcquisitionTask(task, permitAcquiredCallback));
+            m_queue.offerLast(newAcquisitionTask);
             break;
           default:
             throw new IllegalArgumentException("illegal queue position");
         }
+
+        // A permit may have been released without locking between checking for a free permit and queueing the task.
+        acquisitionTasks = assignFreePermits();
       }
     }
     finally {
-      m_writeLock.unlock();
+      m_queueLock.unlock();
     }
 
     // Notify the new permit owner about its permit acquisition.
@@ -202,9 +200,34 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
       permitAcquiredCallback.onPermitAcquired();
       return true;
     }
-    else {
-      return false;
+
+    // Notify outside of the lock. Failures of the given callback propagate to the caller as if a permit was free.
+    final boolean permitAcquired = acquisitionTasks.remove(newAcquisitionTask);
+    notifyPermitAcquired(acquisitionTasks);
+    if (permitAcquired) {
+      permitAcquiredCallback.onPermitAcquired();
     }
+    return permitAcquired;
+  }
+
+  /**
+   * Assigns a free permit to the given task, unless no permit is available, or competing tasks are queued.
+   *
+   * @return <code>true</code> if a permit was assigned to the given task, or <code>false</code> otherwise.
+   * @since 24.1
+   */
+  protected boolean tryAssignFreePermit(final IFuture<?> task) {
+    while (m_queue.isEmpty()) {
+      final int assignedPermits = m_assignedPermits.get();
+      if (assignedPermits >= m_permits) {
+        return false;
+      }
+      if (m_assignedPermits.compareAndSet(assignedPermits, assignedPermits + 1)) {
+        m_permitOwners.add(task);
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -217,21 +240,16 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
     assertSameSemaphore(permitOwner);
     assertPermitOwner(permitOwner);
 
-    final AcquisitionTask acquisitionTask;
-    m_writeLock.lock();
-    try {
-      m_permitOwners.remove(permitOwner);
-      // Assign the permit the next competing task.
-      acquisitionTask = assignOnePermit();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    m_permitOwners.remove(permitOwner);
+    m_assignedPermits.decrementAndGet();
 
-    // Notify outside of the lock.
-    if (acquisitionTask != null) {
-      acquisitionTask.notifyPermitAcquired();
+    // Fast path: no competing task is queued. A task queued concurrently checks for free permits after being queued.
+    if (m_queue.isEmpty()) {
+      return;
     }
+
+    // Assign the permit the next competing task, and notify outside of the lock.
+    notifyPermitAcquired(assignFreePermits());
   }
 
   /**
@@ -244,25 +262,63 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
    *         available, or the queue was empty.
    */
   protected AcquisitionTask assignOnePermit() {
-    m_writeLock.lock();
+    m_queueLock.lock();
     try {
-      // Check total concurrency level.
-      if (m_permitOwners.size() >= m_permits) {
+      // Check for queued task. The queue is only polled while holding the lock, so the head cannot be taken by others.
+      if (m_queue.isEmpty()) {
         return null;
       }
 
-      // Check for queued task.
-      final AcquisitionTask acquisitionTask = m_queue.poll();
-      if (acquisitionTask == null) {
-        return null;
+      // Check total concurrency level, and reserve the permit.
+      int assignedPermits;
+      do {
+        assignedPermits = m_assignedPermits.get();
+        if (assignedPermits >= m_permits) {
+          return null;
+        }
       }
+      while (!m_assignedPermits.compareAndSet(assignedPermits, assignedPermits + 1));
 
       // Make the task a permit owner
+      final AcquisitionTask acquisitionTask = m_queue.poll();
       m_permitOwners.add(acquisitionTask.getCompetingTask());
       return acquisitionTask;
     }
     finally {
-      m_writeLock.unlock();
+      m_queueLock.unlock();
+    }
+  }
+
+  /**
+   * Assigns all free permits to competing tasks in queue order.
+   *
+   * @return the {@link AcquisitionTask}s a permit was assigned to, so that the caller can notify them outside this
+   *         semaphore's lock.
+   * @since 24.1
+   */
+  protected List<AcquisitionTask> assignFreePermits() {
+    final List<AcquisitionTask> acquisitionTasks = new ArrayList<>();
+    m_queueLock.lock();
+    try {
+      for (AcquisitionTask acquisitionTask = assignOnePermit(); acquisitionTask != null; acquisitionTask = assignOnePermit()) {
+        acquisitionTasks.add(acquisitionTask);
+      }
+    }
+    finally {
+      m_queueLock.unlock();
+    }
+    return acquisitionTasks;
+  }
+
+  /**
+   * Notifies the given {@link AcquisitionTask}s about their permit acquisition. Must be invoked outside this semaphore's
+   * lock.
+   *
+   * @since 24.1
+   */
+  protected void notifyPermitAcquired(final List<AcquisitionTask> acquisitionTasks) {
+    for (final AcquisitionTask acquisitionTask : acquisitionTasks) {
+      acquisitionTask.notifyPermitAcquired();
     }
   }
 
@@ -290,16 +346,10 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
 
   @Override
   public String toString() {
-    m_readLock.lock();
-    try {
-      final ToStringBuilder builder = new ToStringBuilder(this);
-      builder.attr("permitOwners", m_permitOwners);
-      builder.attr("queue", m_queue);
-      return builder.toString();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    final ToStringBuilder builder = new ToStringBuilder(this);
+    builder.attr("permitOwners", m_permitOwners);
+    builder.attr("queue", m_queue);
+    return builder.toString();
   }
 
   // ==== Helper classes ==== //
@@ -14,12 +14,14 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.Bean;
@@ -33,6 +35,10 @@ import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * Thread-safe implementation of a {@link Set} to contain {@link IFuture}s.
+ * <p>
+ * Futures are kept in a concurrent set, so that adding, removing and querying Futures never blocks. Threads waiting for
+ * Futures to complete are signaled via a version counter, and the signaling lock is only acquired if there are waiting
+ * threads.
  *
  * @since 5.1
  */
@@ -41,34 +47,27 @@ public class FutureSet {
 
   private final Set<JobFutureTask<?>> m_futures;
 
-  private final ReadLock m_readLock;
-  private final WriteLock m_writeLock;
+  private final ReentrantLock m_signalLock;
   private final Condition m_changedCondition;
+  private final AtomicLong m_version;
+  private final AtomicInteger m_waiterCount;
 
   private IRegistrationHandle m_jobListenerRegistration;
 
   public FutureSet() {
-    m_futures = new HashSet<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_futures = ConcurrentHashMap.newKeySet(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
 
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    m_readLock = lock.readLock();
-    m_writeLock = lock.writeLock();
-    m_changedCondition = m_writeLock.newCondition();
+    m_signalLock = new ReentrantLock();
+    m_changedCondition = m_signalLock.newCondition();
+    m_version = new AtomicLong();
+    m_waiterCount = new AtomicInteger();
   }
 
   /**
    * Invoke to initialize this {@link FutureSet}.
    */
   public void init(final IJobManager jobManager) {
-    m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> {
-      m_writeLock.lock();
-      try {
-        m_changedCondition.signalAll();
-      }
-      finally {
-        m_writeLock.unlock();
-      }
-    });
+    m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> signalChanged());
   }
 
   /**
@@ -78,16 +77,9 @@ public class FutureSet {
     m_jobListenerRegistration.dispose();
 
     // Clear and cancel all futures.
-    final List<JobFutureTask<?>> runningFutures;
-    m_writeLock.lock();
-    try {
-      runningFutures = copyFutures();
-      m_futures.clear();
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    final List<JobFutureTask<?>> runningFutures = copyFutures();
+    m_futures.removeAll(runningFutures);
+    signalChanged();
 
     for (final JobFutureTask<?> runningFuture : runningFutures) {
       runningFuture.cancel(true);
@@ -98,28 +90,16 @@ public class FutureSet {
    * Adds the given Future to this {@link FutureSet}.
    */
   public void add(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.add(future);
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    m_futures.add(future);
+    signalChanged();
   }
 
   /**
    * Removes the given Future from this {@link FutureSet}.
    */
   public void remove(final JobFutureTask<?> future) {
-    m_writeLock.lock();
-    try {
-      m_futures.remove(future);
-      m_changedCondition.signalAll();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    m_futures.remove(future);
+    signalChanged();
   }
 
   /**
@@ -174,20 +154,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are done, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (!matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    awaitCondition(() -> matchesEvery(filter, CompletionPromise.PROMISE_DONE_MATCHER), unit.toNanos(timeout));
   }
 
   /**
@@ -210,20 +177,7 @@ public class FutureSet {
     Assertions.assertGreater(timeout, 0L, "Invalid timeout; must be > 0 [timeout={}]", timeout);
 
     // Wait until all Futures matching the filter are removed, or the deadline elapsed.
-    m_writeLock.lockInterruptibly();
-    try {
-      long nanos = unit.toNanos(timeout);
-      while (containsSome(filter) && nanos > 0L) {
-        nanos = m_changedCondition.awaitNanos(nanos);
-      }
-
-      if (nanos <= 0L) {
-        throw new TimeoutException();
-      }
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    awaitCondition(() -> !containsSome(filter), unit.toNanos(timeout));
   }
 
   /**
@@ -268,12 +222,62 @@ public class FutureSet {
   }
 
   protected List<JobFutureTask<?>> copyFutures() {
-    m_readLock.lock();
+    return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+  }
+
+  /**
+   * Blocks the current thread until the given condition is satisfied, or the given time elapses.
+   * <p>
+   * The condition is re-evaluated whenever this {@link FutureSet} is signaled. The version is read before evaluating
+   * the condition, so that a change happening in between is not missed.
+   *
+   * @since 24.1
+   */
+  protected void awaitCondition(final BooleanSupplier condition, final long timeoutNanos) throws InterruptedException, TimeoutException {
+    m_waiterCount.incrementAndGet();
     try {
-      return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+      m_signalLock.lockInterruptibly();
+      try {
+        long nanos = timeoutNanos;
+        while (true) {
+          final long version = m_version.get();
+          if (condition.getAsBoolean()) {
+            return;
+          }
+          if (nanos <= 0L) {
+            throw new TimeoutException();
+          }
+          if (version == m_version.get()) {
+            nanos = m_changedCondition.awaitNanos(nanos);
+          }
+        }
+      }
+      finally {
+        m_signalLock.unlock();
+      }
+    }
+    finally {
+      m_waiterCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Signals waiting threads about a change. The signaling lock is only acquired if there are waiting threads.
+   *
+   * @since 24.1
+   */
+  protected void signalChanged() {
+    m_version.incrementAndGet();
+    if (m_waiterCount.get() == 0) {
+      return;
+    }
+
+    m_signalLock.lock();
+    try {
+      m_changedCondition.signalAll();
     }
     finally {
-      m_readLock.unlock();
+      m_signalLock.unlock();
     }
   }
 
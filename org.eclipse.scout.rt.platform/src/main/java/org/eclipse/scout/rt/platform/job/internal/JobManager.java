@@ -14,6 +14,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -33,6 +34,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -272,7 +274,14 @@ public class JobManager implements IJobManager {
       }
     };
 
-    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
+    if (useVirtualThreads()) {
+      // A virtual thread per job: no idle threads are kept and the number of threads is not limited.
+      // Execution semaphores, cancellation via RunMonitor and the callable chain work the same as with platform threads.
+      LOG.info("Jobs run on virtual threads");
+      return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), createThreadFactory(true), rejectHandler);
+    }
+
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), createThreadFactory(false), rejectHandler);
     executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
     if (prestartCoreThreads) {
       executor.prestartAllCoreThreads();
@@ -281,6 +290,31 @@ public class JobManager implements IJobManager {
     return executor;
   }
 
+  /**
+   * @return <code>true</code> if jobs should run on virtual threads, see {@link JobManagerVirtualThreadsProperty}
+   * @since 24.1
+   */
+  protected boolean useVirtualThreads() {
+    if (!CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      return false;
+    }
+    if (!NamedVirtualThreadFactory.isSupported()) {
+      LOG.warn("Virtual threads are not supported by this Java runtime, using platform threads instead. [property={}]", BEANS.get(JobManagerVirtualThreadsProperty.class).getKey());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected ThreadFactory createThreadFactory(final boolean virtual) {
+    if (virtual) {
+      return new NamedVirtualThreadFactory("scout-thread");
+    }
+    return new NamedThreadFactory("scout-thread");
+  }
+
   /**
    * Returns the internal Executor Service.
    */
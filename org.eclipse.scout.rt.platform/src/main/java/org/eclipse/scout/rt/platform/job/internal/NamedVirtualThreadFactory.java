@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Thread factory for named virtual threads and to handle uncaught exceptions. Like {@link NamedThreadFactory}, every
+ * thread is associated with a {@link ThreadInfo} so that its name can be decorated while running a job.
+ * <p>
+ * Virtual threads require Java 21 or newer, see {@link #isSupported()}. They are created by reflection so that this
+ * class can be compiled with an older Java version. If the Java runtime does not support virtual threads, platform
+ * threads are created by a {@link NamedThreadFactory} instead.
+ *
+ * @since 24.1
+ */
+public class NamedVirtualThreadFactory implements ThreadFactory, UncaughtExceptionHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(NamedVirtualThreadFactory.class);
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  private final AtomicLong m_sequence;
+  private final String m_threadName;
+  private final ThreadFactory m_virtualThreadFactory;
+  private final NamedThreadFactory m_platformThreadFactory;
+
+  public NamedVirtualThreadFactory(final String threadName) {
+    this(threadName, VIRTUAL_THREAD_FACTORY);
+  }
+
+  /**
+   * @param virtualThreadFactory
+   *          factory creating the virtual threads or <code>null</code> to create platform threads
+   */
+  protected NamedVirtualThreadFactory(final String threadName, final ThreadFactory virtualThreadFactory) {
+    m_threadName = threadName;
+    m_sequence = new AtomicLong();
+    m_virtualThreadFactory = virtualThreadFactory;
+    if (virtualThreadFactory == null) {
+      LOG.warn("Virtual threads are not supported by this Java runtime, using platform threads instead. [threadName={}]", threadName);
+      m_platformThreadFactory = new NamedThreadFactory(threadName);
+    }
+    else {
+      m_platformThreadFactory = null;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the Java runtime supports virtual threads
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  @Override
+  public Thread newThread(final Runnable runnable) {
+    if (m_platformThreadFactory != null) {
+      return m_platformThreadFactory.newThread(runnable);
+    }
+    final long sequence = m_sequence.incrementAndGet();
+    final Thread thread = m_virtualThreadFactory.newThread(() -> {
+      // Virtual threads inherit inheritable thread locals, clear the Mapped Diagnostic Context (MDC) of the creating thread
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(new ThreadInfo(Thread.currentThread(), m_threadName, sequence));
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    thread.setUncaughtExceptionHandler(this);
+    return thread;
+  }
+
+  // === UncaughtExceptionHandler ===
+
+  @Override
+  public void uncaughtException(final Thread thread, final Throwable t) {
+    try {
+      // Worker thread abruptly terminated due to an uncaught exception.
+      BEANS.get(ExceptionHandler.class).handle(t);
+    }
+    catch (final Throwable unhandledThrowable) { // NOSONAR
+      LOG.error("Unexpected: Unhandled throwable during job execution", unhandledThrowable);
+    }
+  }
+
+  /**
+   * @return the factory of <code>Thread.ofVirtual()</code> or <code>null</code> if not supported
+   */
+  protected static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      final Object builder = ofVirtual.invoke(null);
+      final Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+      return (ThreadFactory) factory.invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      LOG.debug("Virtual threads not supported", e);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Directory holding the temporary files of {@link FileBinaryContent#ofTempFile(java.io.InputStream, String)}.
+ * <p>
+ * Each process uses its own sub directory (named by the process id) of <code>scout-binary-content</code> in the
+ * temporary directory of the JVM. The directory is deleted when the platform stops. Directories left behind by
+ * processes which are no longer running (e.g. after a crash) are deleted when the platform starts.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class BinaryContentTempDirectory implements IPlatformListener {
+  private static final Logger LOG = LoggerFactory.getLogger(BinaryContentTempDirectory.class);
+
+  private volatile Path m_directory;
+
+  /**
+   * @return the directory of this process, created if necessary
+   */
+  public Path getDirectory() {
+    Path dir = m_directory;
+    if (dir == null) {
+      synchronized (this) {
+        dir = m_directory;
+        if (dir == null) {
+          dir = getBaseDirectory().resolve(String.valueOf(ProcessHandle.current().pid()));
+          try {
+            Files.createDirectories(dir);
+          }
+          catch (IOException e) {
+            throw new ProcessingException("Could not create directory '{}'", dir, e);
+          }
+          m_directory = dir;
+        }
+      }
+    }
+    return dir;
+  }
+
+  protected Path getBaseDirectory() {
+    return Paths.get(System.getProperty("java.io.tmpdir"), "scout-binary-content");
+  }
+
+  @Override
+  public void stateChanged(PlatformEvent event) {
+    if (event.getState() == State.PlatformStarted) {
+      deleteStaleDirectories();
+    }
+    else if (event.getState() == State.PlatformStopped) {
+      deleteDirectory();
+    }
+  }
+
+  /**
+   * Deletes the directories of processes which are no longer running.
+   */
+  protected void deleteStaleDirectories() {
+    File[] dirs = getBaseDirectory().toFile().listFiles(File::isDirectory);
+    if (dirs == null) {
+      return;
+    }
+    long pid = ProcessHandle.current().pid();
+    for (File dir : dirs) {
+      long dirPid;
+      try {
+        dirPid = Long.parseLong(dir.getName());
+      }
+      catch (NumberFormatException e) {
+        continue;
+      }
+      if (dirPid != pid && ProcessHandle.of(dirPid).isEmpty()) {
+        LOG.info("Deleting temporary files of terminated process {}", dirPid);
+        IOUtility.deleteDirectory(dir);
+      }
+    }
+  }
+
+  protected synchronized void deleteDirectory() {
+    Path dir = m_directory;
+    if (dir != null && !IOUtility.deleteDirectory(dir.toFile())) {
+      LOG.warn("Could not delete directory {}", dir);
+    }
+    m_directory = null;
+  }
+}
@@ -10,12 +10,15 @@
 package org.eclipse.scout.rt.platform.resource;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.zip.Adler32;
 
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.util.FileUtility;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
@@ -26,6 +29,10 @@ import org.eclipse.scout.rt.platform.util.StringUtility;
  * <p>
  * All properties are final, thus the binary resource is somehow immutable with the exception of the content where the
  * array could be directly manipulated. Due to performance considerations the content is not duplicated when retrieved.
+ * <p>
+ * Since 24.1 the content may also be provided as {@link IBinaryContent}, e.g. backed by a (temporary) file. Such content
+ * is not held in memory; use {@link #newInputStream()} to stream it. {@link #getContent()} is still supported but reads
+ * the whole content on each call.
  *
  * @since 5.0
  */
@@ -40,6 +47,10 @@ public final class BinaryResource implements Serializable {
    */
   private final String m_charset;
   private final byte[] m_content;
+  /**
+   * Content not held in memory, <code>null</code> if the content is <code>null</code> or held in {@link #m_content}.
+   */
+  private final IBinaryContent m_binaryContent;
   private final long m_lastModified;
   private final long m_fingerprint;
   private final boolean m_cachingAllowed;
@@ -70,13 +81,26 @@ public final class BinaryResource implements Serializable {
   // explicitly package private, only called by BinaryResources and second constructor
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   BinaryResource(String filename, String contentType, String charset, byte[] content, long lastModified, boolean cachingAllowed, int cacheMaxAge) {
+    this(filename, contentType, charset, content == null ? null : new ByteArrayBinaryContent(content), lastModified, cachingAllowed, cacheMaxAge);
+  }
+
+  /**
+   * Same as {@link #BinaryResource(String, String, String, byte[], long, boolean, int)} but with content which is not
+   * necessarily held in memory. {@link ByteArrayBinaryContent} is unwrapped and kept as byte array.
+   */
+  // explicitly package private, only called by BinaryResources and the constructor above
+  @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
+  BinaryResource(String filename, String contentType, String charset, IBinaryContent content, long lastModified, boolean cachingAllowed, int cacheMaxAge) {
     m_filename = filename;
     if (contentType == null) {
       if (filename != null) {
         contentType = FileUtility.getMimeType(filename);
       }
-      else if (content != null && content.length > 0) {
-        File f = IOUtility.createTempFile(null, content);
+      else if (content instanceof FileBinaryContent && content.getLength() > 0) {
+        contentType = FileUtility.getMimeType(((FileBinaryContent) content).getPath());
+      }
+      else if (content != null && content.getLength() > 0) {
+        File f = IOUtility.createTempFile(null, content.toByteArray());
         contentType = FileUtility.getMimeType(f.toPath());
         f.delete();
       }
@@ -86,16 +110,16 @@ public final class BinaryResource implements Serializable {
     }
     m_contentType = contentType;
     m_charset = charset;
-    m_content = content;
-    m_lastModified = lastModified;
-    if (content != null) {
-      Adler32 a = new Adler32();
-      a.update(content);
-      m_fingerprint = a.getValue();
+    if (content instanceof ByteArrayBinaryContent) {
+      m_content = content.toByteArray();
+      m_binaryContent = null;
     }
     else {
-      m_fingerprint = -1;
+      m_content = null;
+      m_binaryContent = content;
     }
+    m_lastModified = lastModified;
+    m_fingerprint = content != null ? content.computeAdler32() : -1;
     m_cachingAllowed = cachingAllowed;
     m_cacheMaxAge = cacheMaxAge;
   }
@@ -143,13 +167,78 @@ public final class BinaryResource implements Serializable {
   /**
    * Do not modify the returned array, the binary resource is assumed to be immutable (returned content is not cloned
    * due to performance considerations).
+   * <p>
+   * If the content is not held in memory (see {@link #isContentInMemory()}), it is read completely on each call. Prefer
+   * {@link #newInputStream()} in that case.
    *
    * @return the raw binary content, as passed to the constructor
    */
   public byte[] getContent() {
+    if (m_binaryContent != null) {
+      return m_binaryContent.toByteArray();
+    }
     return m_content;
   }
 
+  /**
+   * @return the content as {@link IBinaryContent} or <code>null</code> if the content is <code>null</code>
+   * @since 24.1
+   */
+  public IBinaryContent getBinaryContent() {
+    if (m_binaryContent != null) {
+      return m_binaryContent;
+    }
+    return m_content != null ? new ByteArrayBinaryContent(m_content) : null;
+  }
+
+  /**
+   * @return a new {@link InputStream} on the content or <code>null</code> if the content is <code>null</code>. The
+   *         caller is responsible to close the stream.
+   * @since 24.1
+   */
+  public InputStream newInputStream() {
+    IBinaryContent content = getBinaryContent();
+    return content != null ? content.newInputStream() : null;
+  }
+
+  /**
+   * Reads at most the first <code>maxLength</code> bytes of the content without loading the remaining content.
+   *
+   * @return the first bytes of the content or <code>null</code> if the content is <code>null</code>
+   * @since 24.1
+   */
+  public byte[] getContentPrefix(int maxLength) {
+    if (m_content != null) {
+      return m_content.length <= maxLength ? m_content : Arrays.copyOf(m_content, maxLength);
+    }
+    if (m_binaryContent == null) {
+      return null;
+    }
+    try (InputStream in = m_binaryContent.newInputStream()) {
+      return in.readNBytes(maxLength);
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read content of {}", this, e);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the content is not <code>null</code>
+   * @since 24.1
+   */
+  public boolean hasContent() {
+    return m_content != null || m_binaryContent != null;
+  }
+
+  /**
+   * @return <code>true</code> if the content is held in memory, <code>false</code> if it is streamed from another
+   *         source (e.g. a file) or if the content is <code>null</code>.
+   * @since 24.1
+   */
+  public boolean isContentInMemory() {
+    return m_content != null;
+  }
+
   /**
    * @return the {@link String} content (using defined {@link Charset} or UTF-8 as default) for this resource
    */
@@ -158,14 +247,29 @@ public final class BinaryResource implements Serializable {
     if (getCharset() != null) {
       charset = Charset.forName(getCharset());
     }
-    return new String(m_content, charset);
+    return new String(getContent(), charset);
   }
 
   /**
    * Convenience method to get the length of the byte array returend by {@link #getContent()}. If the content is
    * <code>null</code>, this method returns <code>-1</code>.
+   * <p>
+   * Content larger than {@link Integer#MAX_VALUE} is reported as {@link Integer#MAX_VALUE}, use
+   * {@link #getContentLengthLong()} instead.
    */
   public int getContentLength() {
+    return (int) Math.min(getContentLengthLong(), Integer.MAX_VALUE);
+  }
+
+  /**
+   * @return the length of the content in bytes or <code>-1</code> if the content is <code>null</code>. The content is
+   *         not read.
+   * @since 24.1
+   */
+  public long getContentLengthLong() {
+    if (m_binaryContent != null) {
+      return m_binaryContent.getLength();
+    }
     return m_content != null ? m_content.length : -1;
   }
 
@@ -218,13 +322,24 @@ public final class BinaryResource implements Serializable {
     return createAlias(newName);
   }
 
+  /**
+   * Content which is not held in memory is transferred as {@link ByteArrayBinaryContent} (see
+   * {@link FileBinaryContent}), it is kept as byte array on the receiving side.
+   */
+  private Object readResolve() throws ObjectStreamException {
+    if (m_binaryContent instanceof ByteArrayBinaryContent) {
+      return new BinaryResource(m_filename, m_contentType, m_charset, m_binaryContent, m_lastModified, m_cachingAllowed, m_cacheMaxAge);
+    }
+    return this;
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
     int result = 1;
     result = prime * result + (int) m_lastModified;
     // Note: Arrays.hashCode(m_content) is not used here due to performance considerations.
-    result = prime * result + ((m_content == null) ? 0 : m_content.length);
+    result = prime * result + (int) getContentLengthLong();
     result = prime * result + ((m_filename == null) ? 0 : m_filename.hashCode());
     result = prime * result + ((m_contentType == null) ? 0 : m_contentType.hashCode());
     return result;
@@ -245,18 +360,61 @@ public final class BinaryResource implements Serializable {
     return this.m_lastModified == other.m_lastModified
         && ObjectUtility.equals(this.m_filename, other.m_filename)
         && ObjectUtility.equals(this.m_contentType, other.m_contentType)
-        && Arrays.equals(m_content, other.m_content);
+        && equalsContent(other);
+  }
+
+  private boolean equalsContent(BinaryResource other) {
+    if (m_binaryContent == null && other.m_binaryContent == null) {
+      return Arrays.equals(m_content, other.m_content);
+    }
+    // avoid reading streamed content if it obviously differs
+    if (this.getContentLengthLong() != other.getContentLengthLong() || this.m_fingerprint != other.m_fingerprint) {
+      return false;
+    }
+    // compare chunk-wise, streamed content is not loaded into memory
+    byte[] buf = new byte[IOUtility.BUFFER_SIZE];
+    byte[] otherBuf = new byte[IOUtility.BUFFER_SIZE];
+    try (InputStream in = newInputStream(); InputStream otherIn = other.newInputStream()) {
+      while (true) {
+        int n = in.readNBytes(buf, 0, buf.length);
+        int otherN = otherIn.readNBytes(otherBuf, 0, otherBuf.length);
+        if (n != otherN || !Arrays.equals(buf, 0, n, otherBuf, 0, otherN)) {
+          return false;
+        }
+        if (n < buf.length) {
+          return true;
+        }
+      }
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not compare content of {} and {}", this, other, e);
+    }
+  }
+
+  /**
+   * Releases the content if it is not held in memory (e.g. deletes the temporary file of an upload, see
+   * {@link IBinaryContent#release()}). The resource must not be used afterwards.
+   *
+   * @since 24.1
+   */
+  public void release() {
+    if (m_binaryContent != null) {
+      m_binaryContent.release();
+    }
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder(getClass().getSimpleName());
     sb.append(", content: ");
-    if (m_content == null) {
+    if (!hasContent()) {
       sb.append("null");
     }
     else {
-      sb.append(m_content.length).append(" bytes");
+      sb.append(getContentLengthLong()).append(" bytes");
+      if (m_binaryContent != null) {
+        sb.append(" (").append(m_binaryContent.getClass().getSimpleName()).append(")");
+      }
     }
     if (m_filename != null) {
       sb.append(", filename: ").append(m_filename);
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.platform.resource;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.FileUtility;
@@ -27,6 +28,7 @@ public final class BinaryResources {
   private String m_contentType;
   private String m_charset;
   private byte[] m_content;
+  private IBinaryContent m_binaryContent;
   private long m_lastModified = -1; // default
   private boolean m_cachingAllowed = false; // default
   private int m_cacheMaxAge = 0; // default
@@ -46,7 +48,7 @@ public final class BinaryResources {
         .withFilename(resource.getFilename())
         .withContentType(resource.getContentType())
         .withCharset(resource.getCharset())
-        .withContent(resource.getContent())
+        .withContent(resource.getBinaryContent())
         .withLastModified(resource.getLastModified())
         .withCachingAllowed(resource.isCachingAllowed())
         .withCacheMaxAge(resource.getCacheMaxAge());
@@ -101,9 +103,33 @@ public final class BinaryResources {
    */
   public BinaryResources withContent(byte[] content) {
     m_content = content;
+    m_binaryContent = null;
     return this;
   }
 
+  /**
+   * @param content
+   *          The resource's content, e.g. backed by a file (see {@link FileBinaryContent}). Such content is not loaded
+   *          into memory. The fingerprint for the given content is calculated automatically.
+   * @since 24.1
+   */
+  public BinaryResources withContent(IBinaryContent content) {
+    m_content = null;
+    m_binaryContent = content;
+    return this;
+  }
+
+  /**
+   * @param file
+   *          The file providing the resource's content. The file is not loaded into memory and must not be modified as
+   *          long as the resource is in use.
+   * @see FileBinaryContent
+   * @since 24.1
+   */
+  public BinaryResources withContent(Path file) {
+    return withContent(file == null ? null : new FileBinaryContent(file));
+  }
+
   /**
    * {@link StandardCharsets#UTF_8} encoding is used.
    *
@@ -127,6 +153,7 @@ public final class BinaryResources {
     }
 
     m_content = content == null ? null : content.getBytes(charset);
+    m_binaryContent = null;
     m_charset = content == null ? null : charset.name();
 
     return this;
@@ -170,6 +197,9 @@ public final class BinaryResources {
    * @return Built binary resource
    */
   public BinaryResource build() {
+    if (m_binaryContent != null) {
+      return new BinaryResource(m_filename, m_contentType, m_charset, m_binaryContent, m_lastModified, m_cachingAllowed, m_cacheMaxAge);
+    }
     return new BinaryResource(m_filename, m_contentType, m_charset, m_content, m_lastModified, m_cachingAllowed, m_cacheMaxAge);
   }
 }
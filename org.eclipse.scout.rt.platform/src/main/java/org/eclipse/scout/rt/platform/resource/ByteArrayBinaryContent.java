@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.zip.Adler32;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * {@link IBinaryContent} held in memory.
+ *
+ * @since 24.1
+ */
+public class ByteArrayBinaryContent implements IBinaryContent {
+  private static final long serialVersionUID = 1L;
+
+  private final byte[] m_bytes;
+
+  /**
+   * @param bytes
+   *          the content, not copied due to performance considerations.
+   */
+  public ByteArrayBinaryContent(byte[] bytes) {
+    m_bytes = Assertions.assertNotNull(bytes);
+  }
+
+  @Override
+  public long getLength() {
+    return m_bytes.length;
+  }
+
+  @Override
+  public InputStream newInputStream() {
+    return new ByteArrayInputStream(m_bytes);
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    return m_bytes;
+  }
+
+  @Override
+  public long computeAdler32() {
+    Adler32 a = new Adler32();
+    a.update(m_bytes);
+    return a.getValue();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + m_bytes.length + " bytes]";
+  }
+}
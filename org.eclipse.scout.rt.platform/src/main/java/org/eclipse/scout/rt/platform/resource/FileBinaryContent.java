@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Adler32;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IBinaryContent} backed by a file.
+ * <p>
+ * The file must not be modified as long as this content is in use. Content created by
+ * {@link #ofTempFile(InputStream, String)} owns its temporary file and deletes it on {@link #release()}, or at the
+ * latest when the content is no longer reachable or the platform stops (see {@link BinaryContentTempDirectory}).
+ * <p>
+ * When serialized, the content is read into memory and replaced by a {@link ByteArrayBinaryContent} because the file
+ * is not accessible on the receiving side. A serialized {@link FileBinaryContent} is never accepted, otherwise a
+ * crafted stream could point to any file of the receiving server.
+ *
+ * @since 24.1
+ */
+public class FileBinaryContent implements IBinaryContent {
+  private static final long serialVersionUID = 1L;
+  private static final Logger LOG = LoggerFactory.getLogger(FileBinaryContent.class);
+  private static final Cleaner TEMP_FILE_CLEANER = Cleaner.create();
+
+  /**
+   * Size of the regions mapped into memory to compute the checksum.
+   */
+  private static final long MAP_REGION_SIZE = 64L * 1024 * 1024;
+
+  /**
+   * String instead of {@link Path} because otherwise not serializable.
+   */
+  private final String m_path;
+  private final long m_length;
+  /**
+   * Deletes the temporary file, <code>null</code> if the file is not owned by this content.
+   */
+  private transient Cleanable m_tempFileCleanable;
+
+  public FileBinaryContent(Path path) {
+    Assertions.assertNotNull(path);
+    try {
+      m_length = Files.size(path);
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not access file '{}'", path, e);
+    }
+    m_path = path.toString();
+  }
+
+  /**
+   * Copies the given stream into a new temporary file in {@link BinaryContentTempDirectory}. The file is deleted by
+   * {@link #release()} or when the returned content is no longer reachable.
+   * <p>
+   * The stream is closed automatically.
+   *
+   * @param in
+   *          content to copy
+   * @param prefix
+   *          prefix of the temporary file name, may be <code>null</code>
+   */
+  public static FileBinaryContent ofTempFile(InputStream in, String prefix) {
+    File f = IOUtility.createTempFile(in, prefix == null ? "binres" : prefix, ".tmp", BEANS.get(BinaryContentTempDirectory.class).getDirectory().toFile());
+    FileBinaryContent content;
+    try {
+      content = new FileBinaryContent(f.toPath());
+    }
+    catch (RuntimeException e) {
+      IOUtility.deleteFile(f);
+      throw e;
+    }
+    String path = content.m_path;
+    content.m_tempFileCleanable = TEMP_FILE_CLEANER.register(content, () -> deleteTempFile(path));
+    return content;
+  }
+
+  /**
+   * Deletes the temporary file if it was created by {@link #ofTempFile(InputStream, String)}. Has no effect on other
+   * files or if already released. The content must not be used afterwards.
+   */
+  @Override
+  public void release() {
+    Cleanable cleanable = m_tempFileCleanable;
+    if (cleanable != null) {
+      cleanable.clean();
+    }
+  }
+
+  protected static void deleteTempFile(String path) {
+    try {
+      Files.deleteIfExists(Paths.get(path));
+    }
+    catch (IOException e) {
+      LOG.warn("Could not delete temporary file {}", path, e);
+    }
+  }
+
+  public Path getPath() {
+    return Paths.get(m_path);
+  }
+
+  @Override
+  public long getLength() {
+    return m_length;
+  }
+
+  @Override
+  public InputStream newInputStream() {
+    try {
+      return Files.newInputStream(getPath());
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read file '{}'", m_path, e);
+    }
+  }
+
+  @Override
+  public byte[] toByteArray() {
+    try {
+      return Files.readAllBytes(getPath());
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read file '{}'", m_path, e);
+    }
+  }
+
+  /**
+   * Computes the checksum on memory-mapped regions of the file, so the content is neither copied into the heap nor
+   * through a stream buffer.
+   */
+  @Override
+  public long computeAdler32() {
+    Adler32 a = new Adler32();
+    try (FileChannel channel = FileChannel.open(getPath(), StandardOpenOption.READ)) {
+      long size = channel.size();
+      for (long pos = 0; pos < size; pos += MAP_REGION_SIZE) {
+        MappedByteBuffer region = channel.map(MapMode.READ_ONLY, pos, Math.min(MAP_REGION_SIZE, size - pos));
+        a.update(region);
+      }
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read file '{}'", m_path, e);
+    }
+    return a.getValue();
+  }
+
+  protected Object writeReplace() throws ObjectStreamException {
+    return new ByteArrayBinaryContent(toByteArray());
+  }
+
+  @SuppressWarnings("unused")
+  private void readObject(ObjectInputStream in) throws InvalidObjectException {
+    throw new InvalidObjectException("File content cannot be deserialized, it is always serialized as byte array");
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + m_length + " bytes, path=" + m_path + "]";
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.zip.Adler32;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+
+/**
+ * Content of a {@link BinaryResource}.
+ * <p>
+ * The content may be held in memory (see {@link ByteArrayBinaryContent}) or be backed by a file (see
+ * {@link FileBinaryContent}). Consumers which only need to pass the content on (e.g. to an HTTP response or to a file)
+ * should use {@link #newInputStream()} so that large content is never loaded completely into the heap.
+ * <p>
+ * Implementations must be immutable: every call to {@link #newInputStream()} returns the same bytes.
+ *
+ * @since 24.1
+ */
+public interface IBinaryContent extends Serializable {
+
+  /**
+   * @return the number of bytes of this content
+   */
+  long getLength();
+
+  /**
+   * @return a new {@link InputStream} positioned at the beginning of the content. The caller is responsible to close
+   *         the stream.
+   * @throws ProcessingException
+   *           if the content cannot be read
+   */
+  InputStream newInputStream();
+
+  /**
+   * Reads the whole content into memory.
+   * <p>
+   * Do not modify the returned array, implementations may return their internal buffer.
+   *
+   * @throws ProcessingException
+   *           if the content cannot be read
+   */
+  default byte[] toByteArray() {
+    try (InputStream in = newInputStream()) {
+      return IOUtility.readBytes(in);
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read binary content", e);
+    }
+  }
+
+  /**
+   * @return the Adler32 checksum of the content, computed without loading the whole content into memory.
+   * @throws ProcessingException
+   *           if the content cannot be read
+   */
+  default long computeAdler32() {
+    Adler32 a = new Adler32();
+    byte[] buf = new byte[IOUtility.BUFFER_SIZE];
+    try (InputStream in = newInputStream()) {
+      int n;
+      while ((n = in.read(buf)) > 0) {
+        a.update(buf, 0, n);
+      }
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Could not read binary content", e);
+    }
+    return a.getValue();
+  }
+
+  /**
+   * Releases resources held by this content (e.g. deletes a temporary file) without waiting for the garbage collector.
+   * The content must not be used afterwards. The default implementation does nothing.
+   */
+  default void release() {
+    // nop
+  }
+}
@@ -37,6 +37,9 @@ public interface IBinaryRefHandler {
 
   /**
    * Gets resource to given URI as {@link BinaryResource}. Returns null if resource not found.
+   * <p>
+   * Large resources should not be loaded into memory but be provided as {@link IBinaryContent} (e.g. using
+   * {@link BinaryResources#withContent(java.nio.file.Path)}), so that they are streamed to the consumer.
    *
    * @param uri
    *          non null URI with a path matching {@link #getRegistrationPath()}
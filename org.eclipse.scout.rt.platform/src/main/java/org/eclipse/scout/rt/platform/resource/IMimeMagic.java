@@ -49,11 +49,15 @@ public interface IMimeMagic {
 
   static IMimeMagic createMagic(int pos, String... hexMagics) {
     byte[][] magics = new byte[hexMagics.length][];
+    int maxMagicLength = 0;
     for (int i = 0; i < hexMagics.length; i++) {
       magics[i] = HexUtility.decode(hexMagics[i]);
+      maxMagicLength = Math.max(maxMagicLength, magics[i].length);
     }
+    int headerLength = pos + maxMagicLength;
     return res -> {
-      byte[] content = res.getContent();
+      // only the header is read, the content may be streamed from a file
+      byte[] content = res.getContentPrefix(headerLength);
       if (content == null) {
         return false;
       }
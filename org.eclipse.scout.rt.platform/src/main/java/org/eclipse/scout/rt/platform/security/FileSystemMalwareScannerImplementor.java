@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.platform.security;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
@@ -39,16 +41,16 @@ public class FileSystemMalwareScannerImplementor implements IMalwareScannerImple
     }
     File f = null;
     try {
-      byte[] expected = res.getContent();
-      if (expected != null && expected.length > 0) {
-        f = IOUtility.createTempFile("malware-scan", ".tmp", directory, expected);
+      if (res.getContentLengthLong() > 0) {
+        // the content is streamed, it may be backed by a file and not be held in memory
+        f = IOUtility.createTempFile(res.newInputStream(), "malware-scan", ".tmp", directory);
         int delay = CONFIG.getPropertyValue(MalwareScannerDelayProperty.class);
         SleepUtil.sleepElseThrow(delay, TimeUnit.MILLISECONDS);
-        byte[] actual;
-        try (FileInputStream in = new FileInputStream(f)) {
-          actual = IOUtility.readBytes(in, expected.length);
+        boolean equal;
+        try (InputStream expected = res.newInputStream(); FileInputStream actual = new FileInputStream(f)) {
+          equal = contentEquals(expected, actual, res.getContentLengthLong());
         }
-        if (!Arrays.equals(expected, actual)) {
+        if (!equal) {
           LOG.info("detected unsafe resource '{}'", res.getFilename());
           throwUnsafeResource(res);
         }
@@ -69,6 +71,23 @@ public class FileSystemMalwareScannerImplementor implements IMalwareScannerImple
     }
   }
 
+  /**
+   * @return <code>true</code> if the first <code>length</code> bytes of both streams are equal
+   */
+  protected boolean contentEquals(InputStream expected, InputStream actual, long length) throws IOException {
+    long remaining = length;
+    while (remaining > 0) {
+      int n = (int) Math.min(remaining, IOUtility.BUFFER_SIZE);
+      byte[] expectedBytes = expected.readNBytes(n);
+      byte[] actualBytes = actual.readNBytes(n);
+      if (expectedBytes.length != n || !Arrays.equals(expectedBytes, actualBytes)) {
+        return false;
+      }
+      remaining -= n;
+    }
+    return true;
+  }
+
   protected void throwUnsafeResource(BinaryResource res) {
     LOG.info("detected unsafe resource '{}'", res.getFilename());
     throw new UnsafeResourceException("Resource '{}' is not safe", res.getFilename());
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.junit.Test;
+
+public class HttpContentEncodingsTest {
+
+  @Test
+  public void testAddGzipVariant() throws Exception {
+    HttpCacheObject obj = createCacheObject("a.js", StringUtility.repeat("var a = 1;\n", 100));
+    long identitySize = obj.getSizeInBytes();
+    BEANS.get(HttpContentEncodings.class).addGzipVariant(obj);
+
+    byte[] gzip = obj.getEncodedContent(HttpContentEncodings.GZIP);
+    assertNotNull(gzip);
+    assertArrayEquals(obj.getResource().getContent(), IOUtility.uncompressGzip(gzip));
+    assertEquals(identitySize + gzip.length, obj.getSizeInBytes());
+  }
+
+  @Test
+  public void testAddGzipVariantNotCompressible() {
+    HttpCacheObject small = createCacheObject("a.js", "var a = 1;");
+    BEANS.get(HttpContentEncodings.class).addGzipVariant(small);
+    assertTrue(small.getContentEncodings().isEmpty());
+
+    HttpCacheObject image = createCacheObject("a.png", StringUtility.repeat("x", 1000));
+    BEANS.get(HttpContentEncodings.class).addGzipVariant(image);
+    assertTrue(image.getContentEncodings().isEmpty());
+  }
+
+  @Test
+  public void testSelectContentEncoding() {
+    HttpCacheObject obj = createCacheObject("a.js", "var a = 1;");
+    obj.putEncodedContent(HttpContentEncodings.GZIP, new byte[]{1});
+    obj.putEncodedContent(HttpContentEncodings.BROTLI, new byte[]{2});
+
+    assertNull(select(obj, null));
+    assertNull(select(obj, "identity"));
+    assertEquals(HttpContentEncodings.GZIP, select(obj, "gzip, deflate"));
+    assertEquals(HttpContentEncodings.BROTLI, select(obj, "gzip, deflate, br"));
+    assertEquals(HttpContentEncodings.GZIP, select(obj, "gzip;q=1.0, br;q=0.5"));
+    assertEquals(HttpContentEncodings.GZIP, select(obj, "br;q=0, *"));
+    assertNull(select(obj, "gzip;q=0, br;q=0"));
+    assertEquals(HttpContentEncodings.BROTLI, select(obj, "*"));
+  }
+
+  @Test
+  public void testSelectContentEncodingWithoutVariant() {
+    HttpCacheObject obj = createCacheObject("a.js", "var a = 1;");
+    assertNull(select(obj, "gzip, br"));
+
+    obj.putEncodedContent(HttpContentEncodings.GZIP, new byte[]{1});
+    assertNull(select(obj, "br"));
+  }
+
+  private static String select(HttpCacheObject obj, String acceptEncoding) {
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+    return BEANS.get(HttpContentEncodings.class).selectContentEncoding(req, obj);
+  }
+
+  private static HttpCacheObject createCacheObject(String filename, String content) {
+    return new HttpCacheObject(new HttpCacheKey("/" + filename), BinaryResources.create()
+        .withFilename(filename)
+        .withContent(content.getBytes(StandardCharsets.UTF_8))
+        .withCachingAllowed(true)
+        .build());
+  }
+}
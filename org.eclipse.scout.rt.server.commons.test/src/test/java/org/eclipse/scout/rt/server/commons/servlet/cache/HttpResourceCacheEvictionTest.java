@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.junit.Test;
+
+public class HttpResourceCacheEvictionTest {
+
+  @Test
+  public void testEvictLeastRecentlyUsed() {
+    HttpResourceCache cache = new P_HttpResourceCache(100, 0);
+    assertTrue(cache.put(createCacheObject("/a", 40)));
+    assertTrue(cache.put(createCacheObject("/b", 40)));
+    assertNotNull(cache.get(new HttpCacheKey("/a"))); // b is now least recently used
+    assertEquals(80, cache.getSizeInBytes());
+
+    assertTrue(cache.put(createCacheObject("/c", 40)));
+    assertNotNull(cache.get(new HttpCacheKey("/a")));
+    assertNull(cache.get(new HttpCacheKey("/b")));
+    assertNotNull(cache.get(new HttpCacheKey("/c")));
+    assertEquals(80, cache.getSizeInBytes());
+  }
+
+  @Test
+  public void testRejectTooLarge() {
+    HttpResourceCache cache = new P_HttpResourceCache(100, 0);
+    assertFalse(cache.put(createCacheObject("/a", 101)));
+    assertNull(cache.get(new HttpCacheKey("/a")));
+    assertEquals(0, cache.getSizeInBytes());
+  }
+
+  @Test
+  public void testReplaceUpdatesSize() {
+    HttpResourceCache cache = new P_HttpResourceCache(100, 0);
+    cache.put(createCacheObject("/a", 40));
+    cache.put(createCacheObject("/a", 10));
+    assertEquals(10, cache.getSizeInBytes());
+    cache.remove(new HttpCacheKey("/a"));
+    assertEquals(0, cache.getSizeInBytes());
+  }
+
+  @Test
+  public void testUnbounded() {
+    HttpResourceCache cache = new P_HttpResourceCache(0, 0);
+    for (int i = 0; i < 10; i++) {
+      assertTrue(cache.put(createCacheObject("/" + i, 1000)));
+    }
+    assertEquals(10000, cache.getSizeInBytes());
+    cache.clear();
+    assertEquals(0, cache.getSizeInBytes());
+  }
+
+  @Test
+  public void testTimeToLive() {
+    HttpResourceCache cache = new P_HttpResourceCache(0, 10);
+    cache.put(createCacheObject("/a", 10));
+    SleepUtil.sleepSafe(50, TimeUnit.MILLISECONDS);
+    assertNull(cache.get(new HttpCacheKey("/a")));
+    assertEquals(0, cache.getSizeInBytes());
+  }
+
+  @Test
+  public void testFileContentNotCounted() throws Exception {
+    Path file = Files.createTempFile("cache", ".js");
+    try {
+      Files.write(file, new byte[1000]);
+      BinaryResource res = BinaryResources.create()
+          .withFilename("a.js")
+          .withContent(file)
+          .withCachingAllowed(true)
+          .build();
+      HttpResourceCache cache = new P_HttpResourceCache(100, 0);
+      assertTrue(cache.put(new HttpCacheObject(new HttpCacheKey("/a"), res)));
+      assertNotNull(cache.get(new HttpCacheKey("/a")));
+      assertEquals(0, cache.getSizeInBytes());
+    }
+    finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void testEvictWithConcurrentAccess() throws Exception {
+    HttpResourceCache cache = new P_HttpResourceCache(2000, 0);
+    AtomicBoolean stop = new AtomicBoolean();
+    Thread reader = new Thread(() -> {
+      int i = 0;
+      while (!stop.get()) {
+        cache.get(new HttpCacheKey("/" + (i++ % 200)));
+      }
+    });
+    reader.start();
+    try {
+      for (int i = 0; i < 20000; i++) {
+        assertTrue(cache.put(createCacheObject("/" + (i % 200), 10)));
+        assertTrue(cache.getSizeInBytes() <= 2000);
+      }
+    }
+    finally {
+      stop.set(true);
+      reader.join();
+    }
+  }
+
+  private static HttpCacheObject createCacheObject(String path, int size) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.js")
+        .withContent(new byte[size])
+        .withCachingAllowed(true)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey(path), res);
+  }
+
+  private static class P_HttpResourceCache extends HttpResourceCache {
+    P_HttpResourceCache(long maxSizeInBytes, long timeToLiveMillis) {
+      super(maxSizeInBytes, timeToLiveMillis);
+    }
+  }
+}
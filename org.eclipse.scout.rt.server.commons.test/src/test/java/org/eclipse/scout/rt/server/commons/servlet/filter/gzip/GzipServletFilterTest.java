@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GzipServletFilterTest {
+
+  private static final byte[] CONTENT = StringUtility.repeat("Lorem ipsum dolor sit amet.\n", 40000).getBytes(StandardCharsets.UTF_8);
+
+  private GzipServletFilter m_filter;
+  private HttpServletRequest m_req;
+  private HttpServletResponse m_resp;
+  private ByteArrayOutputStream m_body;
+
+  @Before
+  public void before() throws Exception {
+    m_filter = new GzipServletFilter();
+    m_filter.init(mock(FilterConfig.class));
+
+    m_req = mock(HttpServletRequest.class);
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn("gzip, deflate");
+
+    m_body = new ByteArrayOutputStream();
+    m_resp = mock(HttpServletResponse.class);
+    when(m_resp.getCharacterEncoding()).thenReturn(StandardCharsets.UTF_8.name());
+    when(m_resp.getOutputStream()).thenReturn(new P_ServletOutputStream(m_body));
+  }
+
+  @Test
+  public void testCompressLargeResource() throws Exception {
+    FilterChain chain = (req, resp) -> {
+      HttpServletResponse httpResp = (HttpServletResponse) resp;
+      httpResp.setContentType("application/javascript");
+      httpResp.setContentLengthLong(CONTENT.length);
+      httpResp.setContentLength(CONTENT.length);
+      httpResp.getOutputStream().write(CONTENT);
+    };
+    m_filter.doFilter(m_req, m_resp, chain);
+
+    verify(m_resp).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_resp, never()).setContentLengthLong(anyLong());
+    verify(m_resp, never()).setContentLength(anyInt());
+    assertTrue(m_body.size() < CONTENT.length);
+    assertArrayEquals(CONTENT, IOUtility.uncompressGzip(m_body.toByteArray()));
+  }
+
+  @Test
+  public void testKeepContentLengthOfEncodedResource() throws Exception {
+    byte[] gzipped = IOUtility.compressGzip(CONTENT);
+    FilterChain chain = (req, resp) -> {
+      HttpServletResponse httpResp = (HttpServletResponse) resp;
+      httpResp.setContentType("application/javascript");
+      httpResp.setHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+      httpResp.setContentLengthLong(gzipped.length);
+      httpResp.getOutputStream().write(gzipped);
+    };
+    m_filter.doFilter(m_req, m_resp, chain);
+
+    verify(m_resp).setContentLengthLong(gzipped.length);
+    verify(m_resp, never()).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    assertArrayEquals(gzipped, m_body.toByteArray());
+  }
+
+  private static class P_ServletOutputStream extends ServletOutputStream {
+    private final ByteArrayOutputStream m_out;
+
+    P_ServletOutputStream(ByteArrayOutputStream out) {
+      m_out = out;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      // nop
+    }
+
+    @Override
+    public void write(int b) {
+      m_out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      m_out.write(b, off, len);
+    }
+  }
+}
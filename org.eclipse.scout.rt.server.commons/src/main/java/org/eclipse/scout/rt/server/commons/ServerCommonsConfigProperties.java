@@ -22,6 +22,7 @@ import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractMapConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringListConfigProperty;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
@@ -149,6 +150,74 @@ public final class ServerCommonsConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class HttpResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 256L * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of bytes of in-memory resource content held by the global server side HTTP resource cache. "
+          + "Caches with their own limit (e.g. the caches of the UI sessions) are not affected. "
+          + "Content backed by a file is not counted. If exceeded, the least recently used resources are evicted. A value of 0 disables the limit. The default value is 256 MB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.http.resourceCache.maxSize";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class HttpResourceCacheTimeToLiveProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 0L;
+    }
+
+    @Override
+    public String description() {
+      return "Time to live in milliseconds of a resource in a server side HTTP resource cache, measured from the time it was added. "
+          + "A value of 0 keeps resources until they are evicted. The default value is 0.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.http.resourceCache.timeToLive";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class HttpResourcePrecompressionEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return true;
+    }
+
+    @Override
+    public String description() {
+      return "Enable or disable precompressed variants of cacheable static resources (e.g. JavaScript and CSS files). "
+          + "If enabled, variants built next to the resource (*.br, *.gz) are used, otherwise a gzip variant is created when the resource is loaded the first time. "
+          + "The variant is selected by the Accept-Encoding request header and served without compressing it again. The default value is true.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.http.resourcePrecompression.enabled";
+    }
+  }
+
   public static class TrustedCertificatesProperty extends AbstractStringListConfigProperty {
 
     @Override
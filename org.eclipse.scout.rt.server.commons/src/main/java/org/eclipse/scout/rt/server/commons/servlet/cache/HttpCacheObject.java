@@ -10,8 +10,11 @@
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,6 +31,7 @@ public class HttpCacheObject implements Serializable {
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private final Map<String, byte[]> m_encodedContents = new ConcurrentHashMap<>();
 
   /**
    * @param cacheKey
@@ -67,6 +71,50 @@ public class HttpCacheObject implements Serializable {
     return null;
   }
 
+  /**
+   * Adds a precompressed variant of the resource content.
+   *
+   * @param encoding
+   *          content coding as used in the <code>Content-Encoding</code> header, e.g. <code>gzip</code> or
+   *          <code>br</code>
+   * @param content
+   *          the encoded content, not null
+   * @since 24.1
+   */
+  public void putEncodedContent(String encoding, byte[] content) {
+    m_encodedContents.put(Assertions.assertNotNull(encoding), Assertions.assertNotNull(content));
+  }
+
+  /**
+   * @return the precompressed variant of the resource content for the given content coding or <code>null</code> if
+   *         there is no such variant
+   * @since 24.1
+   */
+  public byte[] getEncodedContent(String encoding) {
+    return encoding == null ? null : m_encodedContents.get(encoding);
+  }
+
+  /**
+   * @return the content codings of all precompressed variants, may be empty
+   * @since 24.1
+   */
+  public Set<String> getContentEncodings() {
+    return Collections.unmodifiableSet(m_encodedContents.keySet());
+  }
+
+  /**
+   * @return number of heap bytes of the resource content and all its precompressed variants. Content which is not held
+   *         in memory (see {@link BinaryResource#isContentInMemory()}) is not counted.
+   * @since 24.1
+   */
+  public long getSizeInBytes() {
+    long size = m_resource.isContentInMemory() ? m_resource.getContentLengthLong() : 0;
+    for (byte[] content : m_encodedContents.values()) {
+      size += content.length;
+    }
+    return size;
+  }
+
   public void addHttpResponseInterceptor(IHttpResponseInterceptor interceptor) {
     m_httpResponseInterceptors.add(interceptor);
   }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourcePrecompressionEnabledProperty;
+import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates precompressed variants of cacheable resources ({@link HttpCacheObject#putEncodedContent(String, byte[])})
+ * and selects the variant to send based on the <code>Accept-Encoding</code> request header.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class HttpContentEncodings {
+  private static final Logger LOG = LoggerFactory.getLogger(HttpContentEncodings.class);
+
+  public static final String GZIP = GzipServletFilter.GZIP;
+  public static final String BROTLI = "br";
+  public static final String VARY = "Vary";
+
+  /**
+   * Supported content codings, most preferred first.
+   */
+  public static final List<String> ENCODINGS = Collections.unmodifiableList(Arrays.asList(BROTLI, GZIP));
+
+  /**
+   * Resources smaller than this are not compressed (same default as {@link GzipServletFilter}).
+   */
+  public static final int MIN_SIZE = 256;
+
+  private final boolean m_enabled = CONFIG.getPropertyValue(HttpResourcePrecompressionEnabledProperty.class);
+  private final Set<String> m_contentTypes = CollectionUtility.hashSet(StringUtility.split(GzipServletFilter.CONTENT_TYPES, ","));
+
+  public boolean isEnabled() {
+    return m_enabled;
+  }
+
+  /**
+   * @return <code>true</code> if a compressed variant of the given resource is worth to be stored. Content which is not
+   *         held in memory is never compressed to keep it out of the heap.
+   */
+  public boolean isCompressible(BinaryResource resource) {
+    if (!m_enabled || resource == null || !resource.isContentInMemory() || resource.getContentLength() < MIN_SIZE) {
+      return false;
+    }
+    String contentType = resource.getContentType();
+    return contentType != null && m_contentTypes.contains(contentType.split(";")[0]);
+  }
+
+  /**
+   * Adds a gzip variant to the given object unless it already has one or its resource is not compressible. The variant
+   * is only kept if it is smaller than the original content.
+   */
+  public void addGzipVariant(HttpCacheObject obj) {
+    if (obj.getEncodedContent(GZIP) != null || !isCompressible(obj.getResource())) {
+      return;
+    }
+    byte[] content = obj.getResource().getContent();
+    try {
+      byte[] compressed = IOUtility.compressGzip(content);
+      if (compressed.length < content.length) {
+        obj.putEncodedContent(GZIP, compressed);
+      }
+    }
+    catch (IOException e) {
+      LOG.warn("Could not create gzip variant of {}", obj.getCacheKey(), e);
+    }
+  }
+
+  /**
+   * @return the content coding of the variant of the given object to send for the given request or <code>null</code>
+   *         to send the identity content
+   */
+  public String selectContentEncoding(HttpServletRequest req, HttpCacheObject obj) {
+    if (obj == null || obj.getContentEncodings().isEmpty() || !UrlHints.isCompressHint(req)) {
+      return null;
+    }
+    Map<String, Double> accepted = parseAcceptEncoding(req.getHeader(GzipServletFilter.ACCEPT_ENCODING));
+    if (accepted.isEmpty()) {
+      return null;
+    }
+    Double wildcard = accepted.get("*");
+    String selected = null;
+    double selectedQuality = 0;
+    for (String encoding : ENCODINGS) {
+      if (obj.getEncodedContent(encoding) == null) {
+        continue;
+      }
+      Double quality = accepted.getOrDefault(encoding, wildcard);
+      if (quality != null && quality > selectedQuality) {
+        selected = encoding;
+        selectedQuality = quality;
+      }
+    }
+    return selected;
+  }
+
+  /**
+   * @return content codings of the given <code>Accept-Encoding</code> header value (lower case) mapped to their
+   *         quality value
+   */
+  protected Map<String, Double> parseAcceptEncoding(String header) {
+    if (StringUtility.isNullOrEmpty(header)) {
+      return Collections.emptyMap();
+    }
+    Map<String, Double> result = new HashMap<>();
+    for (String part : header.split(",")) {
+      String[] params = part.split(";");
+      String coding = params[0].trim().toLowerCase();
+      if (coding.isEmpty()) {
+        continue;
+      }
+      double quality = 1;
+      for (int i = 1; i < params.length; i++) {
+        String param = params[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            quality = Double.parseDouble(param.substring(2).trim());
+          }
+          catch (NumberFormatException e) {
+            quality = 0;
+          }
+        }
+      }
+      result.put(coding, quality);
+    }
+    return result;
+  }
+}
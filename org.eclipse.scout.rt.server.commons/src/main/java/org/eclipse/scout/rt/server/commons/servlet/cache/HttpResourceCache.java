@@ -9,51 +9,250 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheMaxSizeProperty;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheTimeToLiveProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+
 /**
  * A server side cache use to store web resources like HTML, CSS and JS.
+ * <p>
+ * The cache is bounded by the number of content bytes ({@link HttpResourceCacheMaxSizeProperty}). If the limit is
+ * exceeded, the least recently used entries are evicted. Entries expire after the time to live
+ * ({@link HttpResourceCacheTimeToLiveProperty}). Lookups do not lock.
  */
 @Bean
 public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+  private static final AttributeKey<String> REASON = AttributeKey.stringKey("reason");
+  private static final Attributes HIT = Attributes.of(RESULT, "hit");
+  private static final Attributes MISS = Attributes.of(RESULT, "miss");
+  private static final Attributes EVICTED_SIZE = Attributes.of(REASON, "size");
+  private static final Attributes EVICTED_EXPIRED = Attributes.of(REASON, "expired");
+
+  /**
+   * When evicting, entries are removed until the cache is below this fraction of the maximum size to avoid an eviction
+   * run on each subsequent put.
+   */
+  private static final double EVICTION_LOW_WATERMARK = 0.9;
+
+  private final Map<HttpCacheKey, CacheEntry> m_cache = new ConcurrentHashMap<>();
+  private final AtomicLong m_sizeInBytes = new AtomicLong();
+  private final ReentrantLock m_evictionLock = new ReentrantLock();
+  private final long m_maxSizeInBytes;
+  private final long m_timeToLiveNanos;
+
+  private final LongCounter m_requests;
+  private final LongCounter m_evictions;
+  private final LongUpDownCounter m_usage;
+
+  public HttpResourceCache() {
+    this(CONFIG.getPropertyValue(HttpResourceCacheMaxSizeProperty.class), CONFIG.getPropertyValue(HttpResourceCacheTimeToLiveProperty.class));
+  }
+
+  /**
+   * @param maxSizeInBytes
+   *          maximum number of content bytes, <code>0</code> for no limit
+   * @param timeToLiveMillis
+   *          time to live in milliseconds of an entry, <code>0</code> for no expiration
+   * @since 24.1
+   */
+  protected HttpResourceCache(long maxSizeInBytes, long timeToLiveMillis) {
+    m_maxSizeInBytes = maxSizeInBytes;
+    m_timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.HttpResourceCache");
+    m_requests = meter.counterBuilder("scout.http.resource_cache.requests")
+        .setDescription("The number of lookups in the server side HTTP resource caches, by result (hit or miss).")
+        .setUnit("{request}")
+        .build();
+    m_evictions = meter.counterBuilder("scout.http.resource_cache.evictions")
+        .setDescription("The number of resources removed from the server side HTTP resource caches, by reason (size or expired).")
+        .setUnit("{resource}")
+        .build();
+    m_usage = meter.upDownCounterBuilder("scout.http.resource_cache.usage")
+        .setDescription("The number of content bytes held by the server side HTTP resource caches.")
+        .setUnit("By")
+        .build();
+  }
 
   @Override
   public boolean put(HttpCacheObject obj) {
     if (!obj.isCachingAllowed()) {
       return false;
     }
-    m_cache.put(obj.getCacheKey(), obj);
+    long size = obj.getSizeInBytes();
+    if (m_maxSizeInBytes > 0 && size > m_maxSizeInBytes) {
+      LOG.debug("Object too large for cache: {} size={}", obj.getCacheKey(), size);
+      return false;
+    }
+    long now = System.nanoTime();
+    CacheEntry entry = new CacheEntry(obj, size, m_timeToLiveNanos > 0 ? now + m_timeToLiveNanos : 0, now);
+    CacheEntry old = m_cache.put(obj.getCacheKey(), entry);
+    addSize(size - (old != null ? old.m_size : 0));
     LOG.debug("Stored object in cache: {}", obj.getCacheKey());
+    if (m_maxSizeInBytes > 0 && m_sizeInBytes.get() > m_maxSizeInBytes) {
+      evict();
+    }
     return true;
   }
 
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
+    CacheEntry entry = m_cache.get(cacheKey);
+    HttpCacheObject obj = null;
+    if (entry != null) {
+      long now = System.nanoTime();
+      if (entry.isExpired(now)) {
+        if (removeEntry(cacheKey, entry)) {
+          m_evictions.add(1, EVICTED_EXPIRED);
+        }
+      }
+      else {
+        entry.m_lastAccess = now;
+        obj = entry.m_object;
+      }
+    }
+    m_requests.add(1, obj != null ? HIT : MISS);
     LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
     return obj;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
-    LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
-    return obj;
+    CacheEntry entry = m_cache.remove(cacheKey);
+    if (entry != null) {
+      addSize(-entry.m_size);
+    }
+    LOG.debug("Remove object in cache: {} removed={}", cacheKey, entry != null);
+    return entry != null ? entry.m_object : null;
   }
 
   @Override
   public void clear() {
     LOG.debug("Clear resource cache");
-    m_cache.clear();
+    for (HttpCacheKey key : new ArrayList<>(m_cache.keySet())) {
+      remove(key);
+    }
+  }
+
+  /**
+   * @return number of content bytes held by this cache
+   * @since 24.1
+   */
+  public long getSizeInBytes() {
+    return m_sizeInBytes.get();
+  }
+
+  /**
+   * Removes expired entries and then the least recently used entries until the cache is below the low watermark. Only
+   * one thread evicts at a time, concurrent puts do not wait for it.
+   *
+   * @since 24.1
+   */
+  protected void evict() {
+    if (!m_evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      long now = System.nanoTime();
+      // m_lastAccess is updated concurrently by get(), sort a snapshot to keep the comparator consistent
+      List<EvictionCandidate> candidates = new ArrayList<>(m_cache.size());
+      for (Entry<HttpCacheKey, CacheEntry> e : m_cache.entrySet()) {
+        CacheEntry entry = e.getValue();
+        if (entry.isExpired(now)) {
+          if (removeEntry(e.getKey(), entry)) {
+            m_evictions.add(1, EVICTED_EXPIRED);
+          }
+        }
+        else {
+          candidates.add(new EvictionCandidate(e.getKey(), entry, entry.m_lastAccess));
+        }
+      }
+      long lowWatermark = (long) (m_maxSizeInBytes * EVICTION_LOW_WATERMARK);
+      if (m_sizeInBytes.get() <= lowWatermark) {
+        return;
+      }
+      candidates.sort(Comparator.comparingLong(c -> c.m_lastAccess));
+      for (EvictionCandidate c : candidates) {
+        if (m_sizeInBytes.get() <= lowWatermark) {
+          break;
+        }
+        if (removeEntry(c.m_key, c.m_entry)) {
+          m_evictions.add(1, EVICTED_SIZE);
+          LOG.debug("Evicted object from cache: {}", c.m_key);
+        }
+      }
+    }
+    finally {
+      m_evictionLock.unlock();
+    }
+  }
+
+  private boolean removeEntry(HttpCacheKey key, CacheEntry entry) {
+    if (m_cache.remove(key, entry)) {
+      addSize(-entry.m_size);
+      return true;
+    }
+    return false;
+  }
+
+  private void addSize(long delta) {
+    if (delta != 0) {
+      m_sizeInBytes.addAndGet(delta);
+      m_usage.add(delta);
+    }
+  }
+
+  private static final class CacheEntry {
+    private final HttpCacheObject m_object;
+    private final long m_size;
+    private final long m_expiresAt;
+    private volatile long m_lastAccess;
+
+    private CacheEntry(HttpCacheObject object, long size, long expiresAt, long lastAccess) {
+      m_object = object;
+      m_size = size;
+      m_expiresAt = expiresAt;
+      m_lastAccess = lastAccess;
+    }
+
+    private boolean isExpired(long now) {
+      return m_expiresAt != 0 && now - m_expiresAt > 0;
+    }
+  }
+
+  private static final class EvictionCandidate {
+    private final HttpCacheKey m_key;
+    private final CacheEntry m_entry;
+    private final long m_lastAccess;
+
+    private EvictionCandidate(HttpCacheKey key, CacheEntry entry, long lastAccess) {
+      m_key = key;
+      m_entry = entry;
+      m_lastAccess = lastAccess;
+    }
   }
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import java.io.IOException;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Request wrapper used by {@link GzipServletFilter} for responses that may be compressed. Asynchronous requests started
+ * by this wrapper finish the compression of the {@link GzipServletResponseWrapper} when
+ * {@link AsyncContext#complete()} is called. This is necessary because the container closes the response before
+ * {@link AsyncListener#onComplete(jakarta.servlet.AsyncEvent)} is called, which is too late to write the remaining
+ * compressed bytes.
+ *
+ * @since 24.1
+ */
+public class GzipAsyncServletRequestWrapper extends HttpServletRequestWrapper {
+  private static final Logger LOG = LoggerFactory.getLogger(GzipAsyncServletRequestWrapper.class);
+
+  private final GzipServletResponseWrapper m_gzipResponse;
+  private volatile AsyncContext m_asyncContext;
+
+  public GzipAsyncServletRequestWrapper(HttpServletRequest req, GzipServletResponseWrapper gzipResponse) {
+    super(req);
+    m_gzipResponse = gzipResponse;
+  }
+
+  @Override
+  public AsyncContext startAsync() {
+    return wrapAsyncContext(super.startAsync());
+  }
+
+  @Override
+  public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+    return wrapAsyncContext(super.startAsync(servletRequest, servletResponse));
+  }
+
+  @Override
+  public AsyncContext getAsyncContext() {
+    AsyncContext asyncContext = m_asyncContext;
+    if (asyncContext != null && isAsyncStarted()) {
+      return asyncContext;
+    }
+    return super.getAsyncContext();
+  }
+
+  protected AsyncContext wrapAsyncContext(AsyncContext asyncContext) {
+    m_gzipResponse.setFinishOnAsyncComplete(true);
+    m_asyncContext = new P_FinishingAsyncContext(asyncContext);
+    return m_asyncContext;
+  }
+
+  protected void finishResponse() {
+    try {
+      m_gzipResponse.finish();
+    }
+    catch (IOException e) {
+      // the container reports the broken response itself when completing
+      LOG.debug("Could not finish compressed response", e);
+    }
+  }
+
+  /**
+   * Finishes the compressed response before the asynchronous request is completed.
+   */
+  protected class P_FinishingAsyncContext implements AsyncContext {
+    private final AsyncContext m_delegate;
+
+    protected P_FinishingAsyncContext(AsyncContext delegate) {
+      m_delegate = delegate;
+    }
+
+    @Override
+    public void complete() {
+      finishResponse();
+      m_delegate.complete();
+    }
+
+    @Override
+    public void dispatch() {
+      // the dispatch target writes the response, it is not finished by complete() anymore
+      m_gzipResponse.setFinishOnAsyncComplete(false);
+      m_delegate.dispatch();
+    }
+
+    @Override
+    public void dispatch(String path) {
+      m_gzipResponse.setFinishOnAsyncComplete(false);
+      m_delegate.dispatch(path);
+    }
+
+    @Override
+    public void dispatch(ServletContext context, String path) {
+      m_gzipResponse.setFinishOnAsyncComplete(false);
+      m_delegate.dispatch(context, path);
+    }
+
+    @Override
+    public ServletRequest getRequest() {
+      return m_delegate.getRequest();
+    }
+
+    @Override
+    public ServletResponse getResponse() {
+      return m_delegate.getResponse();
+    }
+
+    @Override
+    public boolean hasOriginalRequestAndResponse() {
+      return m_delegate.hasOriginalRequestAndResponse();
+    }
+
+    @Override
+    public void start(Runnable run) {
+      m_delegate.start(run);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener) {
+      m_delegate.addListener(listener);
+    }
+
+    @Override
+    public void addListener(AsyncListener listener, ServletRequest servletRequest, ServletResponse servletResponse) {
+      m_delegate.addListener(listener, servletRequest, servletResponse);
+    }
+
+    @Override
+    public <T extends AsyncListener> T createListener(Class<T> clazz) throws ServletException {
+      return m_delegate.createListener(clazz);
+    }
+
+    @Override
+    public void setTimeout(long timeout) {
+      m_delegate.setTimeout(timeout);
+    }
+
+    @Override
+    public long getTimeout() {
+      return m_delegate.getTimeout();
+    }
+  }
+}
@@ -79,7 +79,12 @@ public class GzipServletFilter implements Filter {
     }
 
     if (m_minSize >= 0 && requestAcceptsGzipEncoding(req)) {
-      resp = new GzipServletResponseWrapper(resp, req, m_minSize, Collections.unmodifiableSet(m_contentTypes), m_enableEmptyContentTypeLogging);
+      GzipServletResponseWrapper gzipResp = new GzipServletResponseWrapper(resp, req, m_minSize, Collections.unmodifiableSet(m_contentTypes), m_enableEmptyContentTypeLogging);
+      resp = gzipResp;
+      if (req.isAsyncSupported()) {
+        // finishes the compression when an asynchronous request is completed
+        req = new GzipAsyncServletRequestWrapper(req, gzipResp);
+      }
     }
 
     chain.doFilter(req, resp);
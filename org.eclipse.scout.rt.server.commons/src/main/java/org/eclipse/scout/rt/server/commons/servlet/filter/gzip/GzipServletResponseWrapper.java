@@ -35,6 +35,8 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
   private final int m_compressThreshold;
   private final Set<String> m_contentTypes;
   private final boolean m_enableEmptyContentTypeLogging;
+  private boolean m_contentEncoded;
+  private volatile boolean m_finishOnAsyncComplete;
 
   public GzipServletResponseWrapper(HttpServletResponse response, HttpServletRequest request, int compressThreshold, Set<String> contentTypes, boolean enableEmptyContentTypeLogging) {
     super(response);
@@ -91,26 +93,68 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
   @Override
   public void setContentLength(int len) {
     // ignored: content length zipped content != content length unzipped content
+    // unless the content is already encoded (e.g. a precompressed resource), it is not zipped again in that case
+    if (m_contentEncoded) {
+      super.setContentLength(len);
+    }
+  }
+
+  @Override
+  public void setContentLengthLong(long len) {
+    // see setContentLength
+    if (m_contentEncoded) {
+      super.setContentLengthLong(len);
+    }
   }
 
   @Override
   public void setHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !m_contentEncoded) {
       // see setContentLength
       return;
     }
+    markContentEncoded(name);
     super.setHeader(name, value);
   }
 
   @Override
   public void addHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !m_contentEncoded) {
       // see setContentLength
       return;
     }
+    markContentEncoded(name);
     super.addHeader(name, value);
   }
 
+  /**
+   * @since 24.1
+   */
+  protected void markContentEncoded(String headerName) {
+    if (GzipServletFilter.CONTENT_ENCODING.equalsIgnoreCase(headerName)) {
+      m_contentEncoded = true;
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the application has set a <code>Content-Encoding</code> header, i.e. the content is
+   *         written already encoded and must not be compressed by this wrapper.
+   * @since 24.1
+   */
+  public boolean isContentEncoded() {
+    return m_contentEncoded;
+  }
+
+  /**
+   * @param finishOnAsyncComplete
+   *          <code>true</code> if {@link #finish()} is called when the asynchronous request is completed, see
+   *          {@link GzipAsyncServletRequestWrapper}. Otherwise, responses of asynchronous requests are not compressed.
+   * @since 24.1
+   */
+  public void setFinishOnAsyncComplete(boolean finishOnAsyncComplete) {
+    m_finishOnAsyncComplete = finishOnAsyncComplete;
+  }
+
   @Override
   public void flushBuffer() throws IOException {
     if (m_writer != null) {
@@ -138,8 +182,11 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     if (!UrlHints.isCompressHint(m_request)) {
       return false;
     }
-    if (m_request.isAsyncStarted()) {
-      // GzipServletOutputStream does not work with async responses unfortunately
+    if (m_contentEncoded) {
+      return false;
+    }
+    if (m_request.isAsyncStarted() && !m_finishOnAsyncComplete) {
+      // GzipServletOutputStream would not be finished before the container closes the async response
       return false;
     }
     if (contentType == null) {
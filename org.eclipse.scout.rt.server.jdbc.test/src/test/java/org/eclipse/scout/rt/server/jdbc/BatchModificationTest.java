@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.holders.ITableBeanRowHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData.TableFieldBeanDataRowData;
+import org.eclipse.scout.rt.server.jdbc.fixture.VerboseMock;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#modifyBatch(String, int, Object...)} (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class BatchModificationTest {
+  private SqlServiceMock m_sqlService;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_sqlService.clearProtocol();
+  }
+
+  @Test
+  public void testBatchUpdateFromTableFieldBeanData() {
+    int[] rowCounts = m_sqlService.modifyBatch("UDPATE my_table SET a=:{active}, s=:{state} where n=:{name} ", 10, createTableFieldBeanData());
+    assertArrayEquals(new int[]{2}, rowCounts);
+
+    VerboseMock m = new VerboseMock(new StringBuffer());
+    m.log(Connection.class, "prepareStatement", "UDPATE my_table SET a = ?, s = ? where n = ?");
+    m.log(PreparedStatement.class, "setObject", 1, 1, 4);
+    m.log(PreparedStatement.class, "setObject", 2, 3, 4);
+    m.log(PreparedStatement.class, "setObject", 3, "lorem", 12);
+    m.log(PreparedStatement.class, "setObject", 1, 0, 4);
+    m.log(PreparedStatement.class, "setObject", 2, 6, 4);
+    m.log(PreparedStatement.class, "setObject", 3, "ipsum", 12);
+    m.log(PreparedStatement.class, "executeBatch");
+    assertEquals(m.getProtocol().toString(), m_sqlService.getProtocol().toString());
+  }
+
+  @Test
+  public void testBatchSizeSplitsBatches() {
+    Long[] roles = new Long[]{1L, 2L, 3L, 4L, 5L};
+    int[] rowCounts = m_sqlService.modifyBatch("UDPATE this_table SET v = :value where r = :{roles}", 2, new NVPair("roles", roles), new NVPair("value", "lorem"));
+    assertArrayEquals(new int[]{2, 2, 1}, rowCounts);
+
+    String protocol = m_sqlService.getProtocol().toString();
+    assertEquals(1, countOccurrences(protocol, "Connection.prepareStatement("));
+    assertEquals(3, countOccurrences(protocol, "PreparedStatement.executeBatch()"));
+  }
+
+  @Test
+  public void testEmptyBatch() {
+    int[] rowCounts = m_sqlService.modifyBatch("UDPATE this_table SET v = :value where r = :{roles}", 2, new NVPair("roles", new Long[0]), new NVPair("value", "lorem"));
+    assertEquals(0, rowCounts.length);
+    assertFalse(m_sqlService.getProtocol().toString().contains("PreparedStatement.executeBatch()"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidBatchSize() {
+    m_sqlService.modifyBatch("UDPATE this_table SET v = :value where r = :{roles}", 0, new NVPair("roles", new Long[]{1L}), new NVPair("value", "lorem"));
+  }
+
+  @Test
+  public void testBatchSizeProperty() {
+    SqlJdbcBatchSizeProperty property = new SqlJdbcBatchSizeProperty();
+    assertEquals(Integer.valueOf(1), property.parse("1"));
+    assertNull(property.parse(""));
+    assertThrows(PlatformException.class, () -> property.parse("0"));
+  }
+
+  @Test
+  public void testDefaultModifyBatch() {
+    String stm = "UDPATE this_table SET v = :value where r = :{roles}";
+    NVPair roles = new NVPair("roles", new Long[]{1L, 2L});
+    ISqlService sqlService = mock(ISqlService.class);
+    when(sqlService.updateBatch(stm, roles)).thenCallRealMethod();
+    when(sqlService.modifyBatch(stm, 2, roles)).thenCallRealMethod();
+    when(sqlService.getBatchSize()).thenReturn(2);
+    when(sqlService.update(stm, roles)).thenReturn(5);
+    assertArrayEquals(new int[]{5}, sqlService.updateBatch(stm, roles));
+  }
+
+  @Test
+  public void testDefaultProcessModificationBatch() {
+    Connection conn = mock(Connection.class);
+    IStatementCache cache = mock(IStatementCache.class);
+    IStatementProcessor processor = mock(IStatementProcessor.class);
+    when(processor.processModificationBatch(conn, cache, 2)).thenCallRealMethod();
+    when(processor.processModification(conn, cache, null)).thenReturn(5);
+    assertArrayEquals(new int[]{5}, processor.processModificationBatch(conn, cache, 2));
+  }
+
+  @Test
+  public void testExecuteBatchRowCounts() throws Exception {
+    StatementProcessor processor = new StatementProcessor(m_sqlService, "UPDATE this_table SET v = 1", null);
+    PreparedStatement ps = mock(PreparedStatement.class);
+    when(ps.executeBatch()).thenReturn(new int[]{1, 2});
+    assertEquals(3, processor.executeBatch(ps));
+
+    when(ps.executeBatch()).thenReturn(new int[]{1, Statement.SUCCESS_NO_INFO});
+    assertEquals(Statement.SUCCESS_NO_INFO, processor.executeBatch(ps));
+
+    when(ps.executeBatch()).thenReturn(new int[]{Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED, 1});
+    assertThrows(BatchUpdateException.class, () -> processor.executeBatch(ps));
+  }
+
+  private static int countOccurrences(String s, String part) {
+    int count = 0;
+    int index = s.indexOf(part);
+    while (index >= 0) {
+      count++;
+      index = s.indexOf(part, index + part.length());
+    }
+    return count;
+  }
+
+  private static TableFieldBeanData createTableFieldBeanData() {
+    TableFieldBeanData tableBeanData = new TableFieldBeanData();
+    createRow(tableBeanData, true, 3, "lorem");
+    createRow(tableBeanData, false, 6, "ipsum");
+    return tableBeanData;
+  }
+
+  private static void createRow(TableFieldBeanData tableBeanData, Boolean active, Integer state, String name) {
+    TableFieldBeanDataRowData row = tableBeanData.addRow(ITableBeanRowHolder.STATUS_UPDATED);
+    row.setActive(active);
+    row.setState(state);
+    row.setName(name);
+  }
+}
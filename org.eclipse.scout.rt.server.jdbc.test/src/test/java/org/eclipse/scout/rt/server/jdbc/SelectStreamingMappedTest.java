@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.fixture.TableFieldBeanData.TableFieldBeanDataRowData;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link ISqlService#selectStreamingMapped(String, ISqlRowMapper, java.util.function.Consumer, Object...)}
+ * (using the mock {@link SqlServiceMock}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class SelectStreamingMappedTest {
+  private SqlServiceMock m_sqlService;
+
+  @Before
+  public void before() {
+    m_sqlService = new SqlServiceMock();
+    m_sqlService.setResultData(new Object[][]{
+        {true, 3L, "lorem"},
+        {false, null, "ipsum"},
+        {true, 8L, "dolor"}});
+  }
+
+  @Test
+  public void testToArray() {
+    List<Object[]> rows = new ArrayList<>();
+    int rowCount = m_sqlService.selectStreamingMapped("SELECT A, S, N FROM T", SqlRowMappers.toArray(), rows::add);
+    assertEquals(3, rowCount);
+    assertArrayEquals(new Object[]{true, 3L, "lorem"}, rows.get(0));
+    assertArrayEquals(new Object[]{false, null, "ipsum"}, rows.get(1));
+    assertArrayEquals(new Object[]{true, 8L, "dolor"}, rows.get(2));
+  }
+
+  @Test
+  public void testToTableRowData() {
+    List<TableFieldBeanDataRowData> rows = new ArrayList<>();
+    m_sqlService.selectStreamingMapped("SELECT A, S, N FROM T", SqlRowMappers.toTableRowData(TableFieldBeanDataRowData.class, "active", "state", "name"), rows::add);
+    assertEquals(3, rows.size());
+    assertEquals(Boolean.TRUE, rows.get(0).getActive());
+    assertEquals(Integer.valueOf(3), rows.get(0).getState());
+    assertEquals("lorem", rows.get(0).getName());
+    assertNull(rows.get(1).getState());
+    assertEquals("dolor", rows.get(2).getName());
+  }
+
+  @Test
+  public void testToDoEntitySkipColumn() {
+    List<DoEntity> rows = new ArrayList<>();
+    m_sqlService.selectStreamingMapped("SELECT A, S, N FROM T", SqlRowMappers.toDoEntity(DoEntity.class, "active", null, "name"), rows::add);
+    assertEquals(3, rows.size());
+    assertEquals(true, rows.get(0).get("active"));
+    assertFalse(rows.get(0).has("state"));
+    assertEquals("ipsum", rows.get(1).get("name"));
+  }
+
+  @Test
+  public void testRowMapper() {
+    List<String> rows = new ArrayList<>();
+    m_sqlService.selectStreamingMapped("SELECT A, S, N FROM T", row -> row.getRowIndex() + ":" + row.getValue(2), rows::add);
+    assertEquals(List.of("0:lorem", "1:ipsum", "2:dolor"), rows);
+  }
+
+  @Test
+  public void testDefaultSelectMapped() {
+    String stm = "SELECT A, S, N FROM T";
+    ISqlService sqlService = mock(ISqlService.class);
+    when(sqlService.selectMapped(eq(stm), any(ISqlRowMapper.class))).thenCallRealMethod();
+    when(sqlService.selectStreamingMapped(eq(stm), any(ISqlRowMapper.class), any(Consumer.class))).thenCallRealMethod();
+    doAnswer(invocation -> {
+      ISelectStreamHandler handler = invocation.getArgument(1);
+      handler.handleRow(null, null, null, 0, List.of(new SqlBind(Types.VARCHAR, "lorem")));
+      handler.handleRow(null, null, null, 1, List.of(new SqlBind(Types.VARCHAR, "ipsum")));
+      handler.finished(null, null, null, 2);
+      return null;
+    }).when(sqlService).selectStreaming(eq(stm), any(ISelectStreamHandler.class));
+
+    List<String> rows = sqlService.selectMapped(stm, row -> row.getRowIndex() + ":" + row.getValue(0));
+    assertEquals(List.of("0:lorem", "1:ipsum"), rows);
+  }
+
+  @Test
+  public void testLimited() {
+    List<Object[]> rows = new ArrayList<>();
+    int rowCount = m_sqlService.selectStreamingMappedLimited("SELECT A, S, N FROM T", SqlRowMappers.toArray(), rows::add, 2);
+    assertEquals(2, rowCount);
+    assertEquals(2, rows.size());
+  }
+}
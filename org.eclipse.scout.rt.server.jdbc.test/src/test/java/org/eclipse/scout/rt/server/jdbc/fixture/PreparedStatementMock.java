@@ -15,10 +15,12 @@ import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLWarning;
+import java.util.Arrays;
 
 public class PreparedStatementMock extends VerboseMock implements InvocationHandler/*, java.sql.PreparedStatement*/ {
   private final PreparedStatement m_ps;
   private final Object[][] m_resultData;
+  private int m_batchRowCount;
 
   public PreparedStatementMock(StringBuffer protocol) {
     this(protocol, null);
@@ -37,7 +39,7 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     String mname = method.getName();
-    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
+    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || "executeBatch".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
       log(PreparedStatement.class, mname, args);
     }
     //generic setter
@@ -81,4 +83,22 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public int executeUpdate() {
     return 0;
   }
+
+  public void addBatch() {
+    m_batchRowCount++;
+  }
+
+  public void clearBatch() {
+    m_batchRowCount = 0;
+  }
+
+  /**
+   * @return one affected row per added batch row
+   */
+  public int[] executeBatch() {
+    int[] result = new int[m_batchRowCount];
+    Arrays.fill(result, 1);
+    m_batchRowCount = 0;
+    return result;
+  }
 }
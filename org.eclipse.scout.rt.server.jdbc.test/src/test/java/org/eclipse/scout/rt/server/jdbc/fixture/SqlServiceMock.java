@@ -10,9 +10,11 @@
 package org.eclipse.scout.rt.server.jdbc.fixture;
 
 import java.sql.Connection;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.ISqlRowMapper;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
@@ -83,12 +85,28 @@ public class SqlServiceMock extends AbstractSqlService {
     createStatementProcessor(s, bindBases, 0).processSelectInto(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public <T> int selectStreamingMapped(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectStreamingMapped(getTransaction(), new PreparedStatementCache(1), mapper, consumer);
+  }
+
+  @Override
+  public <T> int selectStreamingMappedLimited(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, int maxRowCount, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, maxRowCount).processSelectStreamingMapped(getTransaction(), new PreparedStatementCache(1), mapper, consumer);
+  }
+
   @Override
   public int update(String s, Object... bindBases) {
     createPlainTextLog(s, bindBases);
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public int[] modifyBatch(String s, int batchSize, Object... bindBases) {
+    createPlainTextLog(s, bindBases);
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), new PreparedStatementCache(1), batchSize);
+  }
+
   @Override
   protected Connection getTransaction() {
     return new ConnectionMock(m_protocol, getResultData()).getConnection();
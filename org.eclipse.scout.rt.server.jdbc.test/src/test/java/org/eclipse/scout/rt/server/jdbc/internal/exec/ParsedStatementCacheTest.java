@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ParsedStatementCache.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ */
+@RunWith(PlatformTestRunner.class)
+public class ParsedStatementCacheTest {
+
+  private static final String STATEMENT = "SELECT NAME FROM PERSON WHERE PERSON_NR = :{personNr} AND $$upper(NAME) LIKE :name INTO :{names}";
+
+  private ParsedStatementCache m_cache;
+
+  @Before
+  public void before() {
+    m_cache = new ParsedStatementCache();
+    BeanInstanceUtil.initializeBeanInstance(m_cache);
+  }
+
+  @Test
+  public void testParseResult() {
+    ParsedStatement ps = m_cache.getParsedStatement(STATEMENT);
+    assertFalse(ps.getIntoModel().getFilteredStatement().contains("INTO"));
+
+    ValueOutputToken[] outputTokens = ps.getIntoModel().getOutputTokens();
+    assertEquals(1, outputTokens.length);
+    assertEquals("names", outputTokens[0].getName());
+    assertTrue(outputTokens[0].isBatch());
+
+    IToken[] ioTokens = ps.getBindModel().getIOTokens();
+    assertEquals(2, ioTokens.length);
+    assertEquals("personNr", ((ValueInputToken) ioTokens[0]).getName());
+    assertTrue(((ValueInputToken) ioTokens[0]).isBatch());
+    assertEquals("name", ((ValueInputToken) ioTokens[1]).getName());
+    assertFalse(((ValueInputToken) ioTokens[1]).isBatch());
+  }
+
+  @Test
+  public void testCopiesAreIndependent() {
+    ParsedStatement ps1 = m_cache.getParsedStatement(STATEMENT);
+    ValueInputToken token1 = (ValueInputToken) ps1.getBindModel().getIOTokens()[1];
+    token1.setReplaceToken("?");
+    token1.setPlainValue(true);
+
+    ParsedStatement ps2 = m_cache.getParsedStatement(STATEMENT);
+    ValueInputToken token2 = (ValueInputToken) ps2.getBindModel().getIOTokens()[1];
+    assertNotSame(token1, token2);
+    assertEquals(":name", token2.getReplaceToken());
+    assertFalse(token2.isPlainValue());
+    assertTrue(((ValueInputToken) ps2.getBindModel().getIOTokens()[0]).isBatch());
+    assertNotSame(ps1.getIntoModel().getOutputTokens()[0], ps2.getIntoModel().getOutputTokens()[0]);
+  }
+
+  @Test
+  public void testClear() {
+    ParsedStatement ps1 = m_cache.getParsedStatement(STATEMENT);
+    m_cache.clear();
+    ParsedStatement ps2 = m_cache.getParsedStatement(STATEMENT);
+    assertEquals(ps1.getBindModel().getFilteredStatement(), ps2.getBindModel().getFilteredStatement());
+  }
+
+  @Test
+  public void testTokenWithoutCopyIsNotCached() {
+    P_NonCopyableTokenCache cache = new P_NonCopyableTokenCache();
+    BeanInstanceUtil.initializeBeanInstance(cache);
+
+    ParsedStatement ps1 = cache.getParsedStatement(STATEMENT);
+    ParsedStatement ps2 = cache.getParsedStatement(STATEMENT);
+    assertEquals(2, cache.m_parseCount);
+    assertNotSame(ps1.getBindModel(), ps2.getBindModel());
+  }
+
+  private static class P_NonCopyableTokenCache extends ParsedStatementCache {
+    private int m_parseCount;
+
+    @Override
+    protected ParsedStatement parse(String stm) {
+      m_parseCount++;
+      return new ParsedStatement(new IntoModel(stm, new ValueOutputToken[0]), new BindModel(new IToken[]{new P_NonCopyableToken()}));
+    }
+  }
+
+  private static class P_NonCopyableToken implements IToken {
+    private String m_replaceToken = ":custom";
+
+    @Override
+    public String getParsedToken() {
+      return ":custom";
+    }
+
+    @Override
+    public String getReplaceToken() {
+      return m_replaceToken;
+    }
+
+    @Override
+    public void setReplaceToken(String s) {
+      m_replaceToken = s;
+    }
+
+    @Override
+    public boolean isInput() {
+      return true;
+    }
+
+    @Override
+    public boolean isOutput() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.pool;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.internal.BeanInstanceUtil;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class ConcurrentSqlConnectionPoolTest {
+
+  private AbstractSqlService m_sqlService;
+  private TestConcurrentSqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_sqlService = new AbstractSqlService() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // connection mocks cannot execute statements
+      }
+    };
+    BeanInstanceUtil.initializeBeanInstance(m_sqlService);
+    m_pool = new TestConcurrentSqlConnectionPool();
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testReuseReleasedConnection() throws Exception {
+    m_pool.initialize("test", 5, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(1), 0);
+
+    Connection conn = m_pool.leaseConnection(m_sqlService);
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_sqlService));
+    assertEquals(1, m_pool.m_createCount);
+  }
+
+  @Test
+  public void testPoolSize() throws Exception {
+    m_pool.initialize("test", 2, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(1), 100);
+
+    Connection conn1 = m_pool.leaseConnection(m_sqlService);
+    Connection conn2 = m_pool.leaseConnection(m_sqlService);
+    assertNotSame(conn1, conn2);
+    try {
+      m_pool.leaseConnection(m_sqlService);
+      fail("pool size exceeded");
+    }
+    catch (SQLTransientConnectionException expected) {
+      // expected
+    }
+    assertEquals(2, m_pool.m_createCount);
+  }
+
+  @Test
+  public void testHandoffToWaitingThread() throws Exception {
+    m_pool.initialize("test", 1, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(1), 0);
+
+    Connection conn = m_pool.leaseConnection(m_sqlService);
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_sqlService), Jobs.newInput());
+    try {
+      future.awaitDoneAndGet(200, TimeUnit.MILLISECONDS);
+      fail("connection must not be available while leased");
+    }
+    catch (TimedOutError expected) {
+      // expected
+    }
+
+    m_pool.releaseConnection(conn);
+    assertSame(conn, future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertEquals(1, m_pool.m_createCount);
+  }
+
+  @Test
+  public void testReleaseClosedConnection() throws Exception {
+    m_pool.initialize("test", 1, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(1), 0);
+
+    Connection conn = m_pool.leaseConnection(m_sqlService);
+    conn.close();
+    m_pool.releaseConnection(conn);
+
+    assertNotSame(conn, m_pool.leaseConnection(m_sqlService));
+    assertEquals(2, m_pool.m_createCount);
+  }
+
+  @Test
+  public void testInventory() throws Exception {
+    m_pool.initialize("test", 2, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(1), 0);
+
+    Connection conn = m_pool.leaseConnection(m_sqlService);
+    m_pool.releaseConnection(m_pool.leaseConnection(m_sqlService));
+    String inventory = m_pool.getInventory();
+    assertTrue(inventory, inventory.startsWith("Total connections: 1\nBusy: 1\n"));
+    m_pool.releaseConnection(conn);
+  }
+
+  private static class TestConcurrentSqlConnectionPool extends ConcurrentSqlConnectionPool {
+    private volatile int m_createCount;
+
+    @Override
+    protected Connection createConnection(AbstractSqlService service) {
+      m_createCount++;
+      boolean[] closed = new boolean[1];
+      return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+        switch (method.getName()) {
+          case "close":
+            closed[0] = true;
+            return null;
+          case "isClosed":
+            return closed[0];
+          case "hashCode":
+            return System.identityHashCode(proxy);
+          case "equals":
+            return proxy == args[0];
+          case "toString":
+            return "ConnectionMock@" + Integer.toHexString(System.identityHashCode(proxy));
+          default:
+            return null;
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.postgresql;
+
+import static org.junit.Assert.*;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * JUnit tests for {@link PostgreSqlStyle}
+ */
+public class PostgreSqlStyleTest {
+
+  @Test
+  public void testCreateColumnReader() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    Mockito.when(meta.getColumnType(1)).thenReturn(Types.VARCHAR);
+    Mockito.when(meta.getColumnType(2)).thenReturn(Types.BIT);
+    Mockito.when(rs.getString(1)).thenReturn("value");
+    Mockito.when(rs.getObject(2)).thenReturn(Boolean.TRUE);
+
+    PostgreSqlStyle style = new PostgreSqlStyle();
+    assertEquals("value", style.createColumnReader(meta, 1).read(rs));
+    assertEquals(Boolean.TRUE, style.createColumnReader(meta, 2).read(rs));
+  }
+
+  @Test
+  public void testCreateColumnReaderWithReadBindOverride() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    Mockito.when(meta.getColumnType(1)).thenReturn(Types.VARCHAR);
+    Mockito.when(rs.getString(1)).thenReturn("value");
+
+    PostgreSqlStyle style = new PostgreSqlStyle() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public Object readBind(ResultSet resultSet, ResultSetMetaData metaData, int type, int jdbcBindIndex) throws SQLException {
+        return "overridden " + super.readBind(resultSet, metaData, type, jdbcBindIndex);
+      }
+    };
+    assertEquals("overridden value", style.createColumnReader(meta, 1).read(rs));
+  }
+}
@@ -254,6 +254,34 @@ public class AbstractSqlStyleTest {
     assertTrue(o2 instanceof Long);
   }
 
+  @Test
+  public void testCreateColumnReader() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    Mockito.when(meta.getColumnType(1)).thenReturn(Types.VARCHAR);
+    Mockito.when(rs.getString(1)).thenReturn("value");
+
+    assertEquals("value", sql.createColumnReader(meta, 1).read(rs));
+  }
+
+  @Test
+  public void testCreateColumnReaderWithReadBindOverride() throws Exception {
+    ResultSet rs = Mockito.mock(ResultSet.class);
+    ResultSetMetaData meta = Mockito.mock(ResultSetMetaData.class);
+    Mockito.when(meta.getColumnType(1)).thenReturn(Types.VARCHAR);
+    Mockito.when(rs.getString(1)).thenReturn("value");
+
+    AbstractSqlStyle style = new SqlStyleDecimalConversionNone() {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public Object readBind(ResultSet resultSet, ResultSetMetaData metaData, int type, int jdbcBindIndex) throws SQLException {
+        return "overridden " + super.readBind(resultSet, metaData, type, jdbcBindIndex);
+      }
+    };
+    assertEquals("overridden value", style.createColumnReader(meta, 1).read(rs));
+  }
+
   /**
    * SQL style decimal conversion with no conversion strategy
    */
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import jakarta.annotation.PostConstruct;
 
@@ -45,11 +46,14 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolTypeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiInitialContextFactoryProperty;
@@ -64,6 +68,7 @@ import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.pool.ISqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.shared.services.common.code.ICodeService;
 import org.eclipse.scout.rt.shared.services.common.security.IPermissionService;
@@ -74,7 +79,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
 
-  private volatile SqlConnectionPool m_pool;
+  private volatile ISqlConnectionPool m_pool;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -87,9 +92,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final long m_jdbcPoolConnectionTimeout;
+  private final Class<? extends ISqlConnectionPool> m_jdbcPoolType;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_batchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,9 +124,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_batchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolConnectionTimeout = getPropertyValue(SqlJdbcPoolConnectionTimeoutProperty.class, getConfiguredJdbcPoolConnectionTimeout());
+    m_jdbcPoolType = getPropertyValue(SqlJdbcPoolTypeProperty.class, getConfiguredJdbcPoolType());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -247,12 +258,42 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return maximum time in milliseconds to wait for a pooled connection, <code>0</code> waits indefinitely
+   * @since 24.1
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(152)
+  protected long getConfiguredJdbcPoolConnectionTimeout() {
+    return 0L;
+  }
+
+  /**
+   * @return the pool used for direct JDBC connections, either {@link SqlConnectionPool} or
+   *         {@link org.eclipse.scout.rt.server.jdbc.pool.ConcurrentSqlConnectionPool}
+   * @since 24.1
+   */
+  @ConfigProperty(ConfigProperty.OBJECT)
+  @Order(155)
+  protected Class<? extends ISqlConnectionPool> getConfiguredJdbcPoolType() {
+    return SqlConnectionPool.class;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @since 24.1
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return 500;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -436,6 +477,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_queryCacheSize;
   }
 
+  @Override
+  public int getBatchSize() {
+    return m_batchSize;
+  }
+
   public String getJndiName() {
     return m_jndiName;
   }
@@ -484,13 +530,27 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  /**
+   * @since 24.1
+   */
+  public long getJdbcPoolConnectionTimeout() {
+    return m_jdbcPoolConnectionTimeout;
+  }
+
+  /**
+   * @since 24.1
+   */
+  public Class<? extends ISqlConnectionPool> getJdbcPoolType() {
+    return m_jdbcPoolType;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
   @Override
   public String getInventory() {
-    final SqlConnectionPool pool = m_pool;
+    final ISqlConnectionPool pool = m_pool;
     if (pool != null) {
       return pool.getInventory();
     }
@@ -507,7 +567,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     try {
       if (isDirectJdbcConnection()) {
         // get connection from internal pool
-        return getSqlConnectionPool().leaseConnection(this);
+        return getConnectionPool().leaseConnection(this);
       }
       else {
         // do not call execAfterConnectionCreated(conn) because jndi connections
@@ -541,18 +601,38 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private void releaseConnectionInternal(Connection conn) throws SQLException {
     if (isDirectJdbcConnection()) {
       // delegate to internal pool
-      getSqlConnectionPool().releaseConnection(conn);
+      getConnectionPool().releaseConnection(conn);
     }
     else {
       conn.close();
     }
   }
 
+  /**
+   * @return the connection pool of type {@link #getJdbcPoolType()}, created lazily. If the pool type is a
+   *         {@link SqlConnectionPool}, the pool is obtained by {@link #getSqlConnectionPool()}.
+   * @since 24.1
+   */
+  protected synchronized ISqlConnectionPool getConnectionPool() {
+    if (SqlConnectionPool.class.isAssignableFrom(getJdbcPoolType())) {
+      return getSqlConnectionPool();
+    }
+    return getOrCreateConnectionPool();
+  }
+
+  /**
+   * @return the connection pool if the pool type ({@link #getJdbcPoolType()}) is a {@link SqlConnectionPool}. Use
+   *         {@link #getConnectionPool()} for other pool types.
+   */
   protected synchronized SqlConnectionPool getSqlConnectionPool() {
+    return Assertions.assertInstance(getOrCreateConnectionPool(), SqlConnectionPool.class, "{} does not use a {}, use getConnectionPool() instead", getClass().getSimpleName(), SqlConnectionPool.class.getSimpleName());
+  }
+
+  private ISqlConnectionPool getOrCreateConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+      m_pool = BEANS.get(getJdbcPoolType());
+      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(), getJdbcPoolConnectionTimeout());
     }
     return m_pool;
   }
@@ -634,6 +714,16 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     createStatementProcessor(s, bindBases, maxRowCount).processSelectStreaming(getTransaction(), getStatementCache(), handler);
   }
 
+  @Override
+  public <T> int selectStreamingMapped(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processSelectStreamingMapped(getTransaction(), getStatementCache(), mapper, consumer);
+  }
+
+  @Override
+  public <T> int selectStreamingMappedLimited(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, int maxRowCount, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, maxRowCount).processSelectStreamingMapped(getTransaction(), getStatementCache(), mapper, consumer);
+  }
+
   @Override
   public int insert(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
@@ -649,6 +739,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] modifyBatch(String s, int batchSize, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), batchSize);
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * View on the current row of a streamed select, see {@link ISqlRowMapper}. The instance is reused for all rows of a
+ * result set and must not be kept by the mapper.
+ *
+ * @since 24.1
+ */
+public interface ISqlResultRow {
+
+  /**
+   * @return zero based index of the row
+   */
+  int getRowIndex();
+
+  int getColumnCount();
+
+  /**
+   * @param columnIndex
+   *          zero based column index
+   * @return the label of the column as returned by the JDBC driver
+   */
+  String getColumnLabel(int columnIndex) throws SQLException;
+
+  /**
+   * @param columnIndex
+   *          zero based column index
+   * @return the value of the column as it would be returned by {@link ISqlService#select(String, Object...)}
+   */
+  Object getValue(int columnIndex) throws SQLException;
+
+  /**
+   * @return the underlying result set positioned on the current row
+   */
+  ResultSet getResultSet();
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.SQLException;
+
+/**
+ * Maps the current row of a streamed select to an object, see
+ * {@link ISqlService#selectStreamingMapped(String, ISqlRowMapper, java.util.function.Consumer, Object...)}.
+ *
+ * @see SqlRowMappers
+ * @since 24.1
+ */
+@FunctionalInterface
+public interface ISqlRowMapper<T> {
+
+  T mapRow(ISqlResultRow row) throws SQLException;
+}
@@ -10,11 +10,16 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.platform.IPlatform.State;
 import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.service.IService;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 
@@ -237,6 +242,60 @@ public interface ISqlService extends IService {
    */
   void selectStreamingLimited(String s, ISelectStreamHandler handler, int maxRowCount, Object... bindBases);
 
+  /**
+   * Maps each row with the <code>mapper</code> and passes it to the <code>consumer</code>. Rows are neither collected
+   * nor copied into an intermediate <code>Object[][]</code>, therefore large results are processed in constant memory.
+   * <p>
+   * The default implementation delegates to {@link #selectStreaming(String, ISelectStreamHandler, Object...)}, which
+   * still reads each row into a list of {@link SqlBind}s.
+   * </p>
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @param mapper
+   *          maps the current row, see {@link SqlRowMappers} for common mappers
+   * @param consumer
+   *          receives the mapped rows
+   * @return number of processed rows
+   * @since 24.1
+   */
+  default <T> int selectStreamingMapped(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, Object... bindBases) {
+    MappingSelectStreamHandler<T> handler = new MappingSelectStreamHandler<>(mapper, consumer);
+    selectStreaming(s, handler, bindBases);
+    return handler.getRowCount();
+  }
+
+  /**
+   * Like {@link #selectStreamingMapped(String, ISqlRowMapper, Consumer, Object...)} but processes at most
+   * <code>maxRowCount</code> rows.
+   *
+   * @param maxRowCount
+   *          the maximum number of processed rows
+   * @since 24.1
+   */
+  default <T> int selectStreamingMappedLimited(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, int maxRowCount, Object... bindBases) {
+    MappingSelectStreamHandler<T> handler = new MappingSelectStreamHandler<>(mapper, consumer);
+    selectStreamingLimited(s, handler, maxRowCount, bindBases);
+    return handler.getRowCount();
+  }
+
+  /**
+   * Selects rows mapped by the <code>mapper</code>.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return the mapped rows. Cannot be <code>null</code>
+   * @see #selectStreamingMapped(String, ISqlRowMapper, Consumer, Object...)
+   * @since 24.1
+   */
+  default <T> List<T> selectMapped(String s, ISqlRowMapper<T> mapper, Object... bindBases) {
+    List<T> rows = new ArrayList<>();
+    selectStreamingMapped(s, mapper, rows::add, bindBases);
+    return rows;
+  }
+
   /**
    * insert rows
    * <p>
@@ -267,6 +326,82 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * insert rows using JDBC batches with the default batch size {@link #getBatchSize()}
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of inserted rows per executed batch
+   * @see #modifyBatch(String, int, Object...)
+   * @since 24.1
+   */
+  default int[] insertBatch(String s, Object... bindBases) {
+    return modifyBatch(s, getBatchSize(), bindBases);
+  }
+
+  /**
+   * update rows using JDBC batches with the default batch size {@link #getBatchSize()}
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of updated rows per executed batch
+   * @see #modifyBatch(String, int, Object...)
+   * @since 24.1
+   */
+  default int[] updateBatch(String s, Object... bindBases) {
+    return modifyBatch(s, getBatchSize(), bindBases);
+  }
+
+  /**
+   * delete rows using JDBC batches with the default batch size {@link #getBatchSize()}
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of deleted rows per executed batch
+   * @see #modifyBatch(String, int, Object...)
+   * @since 24.1
+   */
+  default int[] deleteBatch(String s, Object... bindBases) {
+    return modifyBatch(s, getBatchSize(), bindBases);
+  }
+
+  /**
+   * Executes an insert, update or delete statement once per row of its batch binds (arrays, bean array and table
+   * holders) using {@link java.sql.PreparedStatement#addBatch()}. The rows are sent to the database in chunks of
+   * <code>batchSize</code> rows instead of one round trip per row.
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   * <p>
+   * The default implementation does not use JDBC batches. It executes the statement once per row using
+   * {@link #update(String, Object...)} and returns the total number of affected rows as single element.
+   * </p>
+   *
+   * @param batchSize
+   *          the maximum number of rows sent to the database in one batch, must be greater than 0
+   * @return number of affected rows per executed batch. An element is {@link java.sql.Statement#SUCCESS_NO_INFO} if the
+   *         driver does not report the row counts of that batch.
+   * @since 24.1
+   */
+  default int[] modifyBatch(String s, int batchSize, Object... bindBases) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be greater than 0");
+    }
+    return new int[]{update(s, bindBases)};
+  }
+
+  /**
+   * @return the default batch size used by {@link #insertBatch(String, Object...)},
+   *         {@link #updateBatch(String, Object...)} and {@link #deleteBatch(String, Object...)}
+   * @since 24.1
+   */
+  default int getBatchSize() {
+    return CONFIG.getPropertyValue(SqlJdbcBatchSizeProperty.class);
+  }
+
   /**
    * call a stored procedure
    * <p>
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
+import java.util.function.Consumer;
 
 public interface IStatementProcessor {
 
@@ -19,8 +20,45 @@ public interface IStatementProcessor {
 
   void processSelectStreaming(Connection conn, IStatementCache cache, ISelectStreamHandler handler);
 
+  /**
+   * Maps each row with the <code>mapper</code> and passes the result to the <code>consumer</code> without collecting the
+   * rows.
+   * <p>
+   * The default implementation delegates to {@link #processSelectStreaming(Connection, IStatementCache,
+   * ISelectStreamHandler)}, which still reads each row into a list of {@link SqlBind}s.
+   * </p>
+   *
+   * @return number of processed rows
+   * @since 24.1
+   */
+  default <T> int processSelectStreamingMapped(Connection conn, IStatementCache cache, ISqlRowMapper<T> mapper, Consumer<? super T> consumer) {
+    MappingSelectStreamHandler<T> handler = new MappingSelectStreamHandler<>(mapper, consumer);
+    processSelectStreaming(conn, cache, handler);
+    return handler.getRowCount();
+  }
+
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Executes the modification using JDBC batches: the rows of the batch binds (arrays, bean array and table holders)
+   * are added to the statement and sent to the database every <code>batchSize</code> rows.
+   * <p>
+   * The default implementation does not use JDBC batches. It delegates to
+   * {@link #processModification(Connection, IStatementCache, IStatementProcessorMonitor)} and returns the total number of
+   * affected rows as single element.
+   * </p>
+   *
+   * @return the number of affected rows of each executed JDBC batch. An element is
+   *         {@link java.sql.Statement#SUCCESS_NO_INFO} if the driver does not report the row counts of that batch.
+   * @since 24.1
+   */
+  default int[] processModificationBatch(Connection conn, IStatementCache cache, int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be greater than 0");
+    }
+    return new int[]{processModification(conn, cache, null)};
+  }
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
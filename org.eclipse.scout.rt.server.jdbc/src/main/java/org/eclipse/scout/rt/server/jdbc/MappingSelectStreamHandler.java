@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+
+/**
+ * {@link ISelectStreamHandler} passing each row mapped by an {@link ISqlRowMapper} to a consumer. Used by the default
+ * implementations of the mapped selects of {@link ISqlService} and {@link IStatementProcessor}, which still read each
+ * row into a list of {@link SqlBind}s.
+ *
+ * @since 24.1
+ */
+class MappingSelectStreamHandler<T> implements ISelectStreamHandler {
+  private final ISqlRowMapper<T> m_mapper;
+  private final Consumer<? super T> m_consumer;
+  private int m_rowCount;
+
+  MappingSelectStreamHandler(ISqlRowMapper<T> mapper, Consumer<? super T> consumer) {
+    m_mapper = mapper;
+    m_consumer = consumer;
+  }
+
+  @Override
+  public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values) {
+    try {
+      m_consumer.accept(m_mapper.mapRow(new P_SqlBindResultRow(rs, rowIndex, values)));
+    }
+    catch (SQLException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+    m_rowCount++;
+  }
+
+  @Override
+  public void finished(Connection con, PreparedStatement stm, ResultSet rs, int rowCount) {
+    // nop
+  }
+
+  int getRowCount() {
+    return m_rowCount;
+  }
+
+  private static final class P_SqlBindResultRow implements ISqlResultRow {
+    private final ResultSet m_resultSet;
+    private final int m_rowIndex;
+    private final List<SqlBind> m_values;
+
+    private P_SqlBindResultRow(ResultSet resultSet, int rowIndex, List<SqlBind> values) {
+      m_resultSet = resultSet;
+      m_rowIndex = rowIndex;
+      m_values = values;
+    }
+
+    @Override
+    public int getRowIndex() {
+      return m_rowIndex;
+    }
+
+    @Override
+    public int getColumnCount() {
+      return m_values.size();
+    }
+
+    @Override
+    public String getColumnLabel(int columnIndex) throws SQLException {
+      return m_resultSet.getMetaData().getColumnLabel(columnIndex + 1);
+    }
+
+    @Override
+    public Object getValue(int columnIndex) {
+      return m_values.get(columnIndex).getValue();
+    }
+
+    @Override
+    public ResultSet getResultSet() {
+      return m_resultSet;
+    }
+  }
+}
@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.server.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
@@ -119,6 +121,33 @@ public final class SQL {
     service.selectIntoLimited(s, maxRowCount, bindBases);
   }
 
+  /**
+   * @see ISqlService#selectStreamingMapped(String, ISqlRowMapper, Consumer, Object...)
+   * @since 24.1
+   */
+  public static <T> int selectStreamingMapped(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStreamingMapped(s, mapper, consumer, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectStreamingMappedLimited(String, ISqlRowMapper, Consumer, int, Object...)
+   * @since 24.1
+   */
+  public static <T> int selectStreamingMappedLimited(String s, ISqlRowMapper<T> mapper, Consumer<? super T> consumer, int maxRowCount, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectStreamingMappedLimited(s, mapper, consumer, maxRowCount, bindBases);
+  }
+
+  /**
+   * @see ISqlService#selectMapped(String, ISqlRowMapper, Object...)
+   * @since 24.1
+   */
+  public static <T> List<T> selectMapped(String s, ISqlRowMapper<T> mapper, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.selectMapped(s, mapper, bindBases);
+  }
+
   /**
    * @see ISqlService#insert(String, Object...)
    */
@@ -143,6 +172,42 @@ public final class SQL {
     return service.delete(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Object...)
+   * @since 24.1
+   */
+  public static int[] insertBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#updateBatch(String, Object...)
+   * @since 24.1
+   */
+  public static int[] updateBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#deleteBatch(String, Object...)
+   * @since 24.1
+   */
+  public static int[] deleteBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.deleteBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#modifyBatch(String, int, Object...)
+   * @since 24.1
+   */
+  public static int[] modifyBatch(String s, int batchSize, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.modifyBatch(s, batchSize, bindBases);
+  }
+
   /**
    * @see ISqlService#callStoredProcedure(String, Object...)
    */
@@ -10,9 +10,13 @@
 package org.eclipse.scout.rt.server.jdbc;
 
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractClassConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.server.jdbc.pool.ConcurrentSqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.pool.ISqlConnectionPool;
 
 /**
  * Config properties for org.eclipse.scout.rt.server.jdbc
@@ -191,6 +195,40 @@ public final class SqlConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class SqlJdbcPoolConnectionTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.connectionTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum time in milliseconds to wait for a connection of the pool if all connections are busy. A value of 0 waits indefinitely. The default value is 0.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class SqlJdbcPoolTypeProperty extends AbstractClassConfigProperty<ISqlConnectionPool> {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.type";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Fully qualified class name of the connection pool used for direct JDBC connections. The class must implement '%s'. "
+          + "By default the pool configured by the SQL service is used, which locks on lease and release. '%s' is an alternative for many concurrent service calls which does not lock on lease and release.",
+          ISqlConnectionPool.class.getName(), ConcurrentSqlConnectionPool.class.getName());
+    }
+  }
+
   public static class SqlJdbcStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -204,6 +242,31 @@ public final class SqlConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Default maximum number of rows sent to the database in one JDBC batch by the batch modification methods of the SQL service. Must be greater than 0. The default value is 500.";
+    }
+
+    @Override
+    protected Integer parse(String value) {
+      Integer batchSize = super.parse(value);
+      if (batchSize == null || batchSize > 0) {
+        return batchSize;
+      }
+      throw new PlatformException("Invalid value for batch size config with key '" + getKey() + "': '" + value + "'. Valid values are integers greater than 0.");
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -216,4 +279,25 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  /**
+   * @since 24.1
+   */
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of distinct SQL statements whose parse result (binds and select into) is cached. A value of 0 disables the cache. The default value is 1000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
 }
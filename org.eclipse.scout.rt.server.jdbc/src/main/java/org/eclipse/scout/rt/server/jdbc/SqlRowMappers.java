@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import org.eclipse.scout.rt.dataobject.DataObjectAttributeDescriptor;
+import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+
+/**
+ * Factory methods for common {@link ISqlRowMapper}. The column at index <code>i</code> is mapped to the property or
+ * attribute name at index <code>i</code>, a <code>null</code> name skips the column. Properties and attribute types are
+ * resolved once when the mapper is created.
+ *
+ * @since 24.1
+ */
+public final class SqlRowMappers {
+
+  private SqlRowMappers() {
+  }
+
+  /**
+   * @return mapper creating the same rows as {@link ISqlService#select(String, Object...)}
+   */
+  public static ISqlRowMapper<Object[]> toArray() {
+    return row -> {
+      Object[] values = new Object[row.getColumnCount()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = row.getValue(i);
+      }
+      return values;
+    };
+  }
+
+  /**
+   * @param rowDataClass
+   *          table row data class with a public no-arg constructor
+   * @param propertyNames
+   *          bean property names of the row data, in the order of the select columns
+   */
+  public static <T extends AbstractTableRowData> ISqlRowMapper<T> toTableRowData(Class<T> rowDataClass, String... propertyNames) {
+    final Constructor<T> constructor = BeanUtility.findConstructor(rowDataClass);
+    Assertions.assertNotNull(constructor, "no public no-arg constructor found on {}", rowDataClass.getName());
+    final Method[] writeMethods = new Method[propertyNames.length];
+    final Class<?>[] propertyTypes = new Class<?>[propertyNames.length];
+    for (int i = 0; i < propertyNames.length; i++) {
+      if (propertyNames[i] == null) {
+        continue;
+      }
+      FastPropertyDescriptor desc = BeanUtility.getFastBeanInfo(rowDataClass, AbstractTableRowData.class).getPropertyDescriptor(propertyNames[i]);
+      Assertions.assertTrue(desc != null && desc.getWriteMethod() != null, "no writable property '{}' found on {}", propertyNames[i], rowDataClass.getName());
+      writeMethods[i] = desc.getWriteMethod();
+      propertyTypes[i] = desc.getPropertyType();
+    }
+
+    return row -> {
+      try {
+        T rowData = constructor.newInstance();
+        int columnCount = Math.min(writeMethods.length, row.getColumnCount());
+        for (int i = 0; i < columnCount; i++) {
+          if (writeMethods[i] != null) {
+            writeMethods[i].invoke(rowData, TypeCastUtility.castValue(row.getValue(i), propertyTypes[i]));
+          }
+        }
+        return rowData;
+      }
+      catch (ReflectiveOperationException e) {
+        throw new ProcessingException("Failed to map row {} to {}", row.getRowIndex(), rowDataClass.getName(), e);
+      }
+    };
+  }
+
+  /**
+   * @param entityClass
+   *          data object class
+   * @param attributeNames
+   *          attribute names of the data object, in the order of the select columns. Values of typed {@link DoValue}
+   *          attributes are converted to the declared attribute type.
+   */
+  public static <T extends IDoEntity> ISqlRowMapper<T> toDoEntity(Class<T> entityClass, String... attributeNames) {
+    final Class<?>[] attributeTypes = new Class<?>[attributeNames.length];
+    DataObjectInventory inventory = BEANS.get(DataObjectInventory.class);
+    for (int i = 0; i < attributeNames.length; i++) {
+      if (attributeNames[i] != null) {
+        attributeTypes[i] = inventory.getAttributeDescription(entityClass, attributeNames[i])
+            .map(DataObjectAttributeDescriptor::getType)
+            .map(SqlRowMappers::getValueType)
+            .orElse(null);
+      }
+    }
+
+    return row -> {
+      T entity = BEANS.get(entityClass);
+      int columnCount = Math.min(attributeNames.length, row.getColumnCount());
+      for (int i = 0; i < columnCount; i++) {
+        if (attributeNames[i] != null) {
+          Object value = row.getValue(i);
+          entity.put(attributeNames[i], attributeTypes[i] != null ? TypeCastUtility.castValue(value, attributeTypes[i]) : value);
+        }
+      }
+      return entity;
+    };
+  }
+
+  /**
+   * @return value class of a <code>DoValue&lt;V&gt;</code> attribute type or <code>null</code>
+   */
+  private static Class<?> getValueType(ParameterizedType type) {
+    if (type.getRawType() != DoValue.class) {
+      return null;
+    }
+    Type valueType = type.getActualTypeArguments()[0];
+    return valueType instanceof Class ? (Class<?>) valueType : null;
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
+import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Application wide cache for the parse result ({@link IntoModel} and {@link BindModel}) of the SQL statements executed
+ * by the {@link StatementProcessor}.
+ * <p>
+ * The parsed tokens are mutable (they carry the replace tokens of the current execution). Therefore the cache holds a
+ * template per statement and every caller receives its own deep copy.
+ * <p>
+ * Statements containing tokens which cannot be copied (see {@link IToken#copy()}) are not cached but parsed on every
+ * execution.
+ * <p>
+ * The number of cached statements is bounded by {@link SqlParsedStatementCacheSizeProperty}, a size of 0 disables the
+ * cache.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+  private static final Logger LOG = LoggerFactory.getLogger(ParsedStatementCache.class);
+
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+  private static final Attributes HIT_ATTRIBUTES = Attributes.of(RESULT, "hit");
+  private static final Attributes MISS_ATTRIBUTES = Attributes.of(RESULT, "miss");
+
+  private final int m_maxSize;
+  private final Map<String, ParsedStatement> m_cache;
+  private LongCounter m_requests;
+
+  public ParsedStatementCache() {
+    m_maxSize = CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class);
+    m_cache = m_maxSize > 0 ? new ConcurrentExpiringMap<>(1, TimeUnit.HOURS, m_maxSize) : null;
+  }
+
+  @PostConstruct
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    m_requests = meter.counterBuilder("scout.sql.parsed_statement_cache.requests")
+        .setDescription("The number of parsed statement cache lookups, differentiated by result (hit or miss).")
+        .setUnit("{request}")
+        .build();
+    //noinspection resource
+    meter.upDownCounterBuilder("scout.sql.parsed_statement_cache.size")
+        .setDescription("The number of statements in the parsed statement cache.")
+        .setUnit("{statement}")
+        .buildWithCallback(m -> m.record(m_cache != null ? m_cache.size() : 0));
+  }
+
+  /**
+   * @return the parse result of the given statement. The returned instance is never shared and may be modified by the
+   *         caller. Parsing does not depend on the SQL style, hence the statement text is the cache key.
+   */
+  public ParsedStatement getParsedStatement(String stm) {
+    if (m_cache == null) {
+      return parse(stm);
+    }
+    ParsedStatement template = m_cache.get(stm);
+    if (template != null) {
+      m_requests.add(1, HIT_ATTRIBUTES);
+      return template.copy();
+    }
+    m_requests.add(1, MISS_ATTRIBUTES);
+    ParsedStatement parsed = parse(stm);
+    ParsedStatement copy;
+    try {
+      copy = parsed.copy();
+    }
+    catch (UnsupportedOperationException e) {
+      LOG.debug("Statement is not cached because its tokens cannot be copied: {}", e.getMessage());
+      return parsed;
+    }
+    m_cache.put(stm, parsed);
+    return copy;
+  }
+
+  /**
+   * Removes all cached statements.
+   */
+  public void clear() {
+    if (m_cache != null) {
+      m_cache.clear();
+    }
+  }
+
+  public int getMaxSize() {
+    return m_maxSize;
+  }
+
+  protected ParsedStatement parse(String stm) {
+    IntoModel intoModel = new IntoParser(stm).parse();
+    BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+    return new ParsedStatement(intoModel, bindModel);
+  }
+
+  /**
+   * Parse result of a SQL statement: the select into part and the binds of the statement without select into.
+   */
+  public static class ParsedStatement {
+    private final IntoModel m_intoModel;
+    private final BindModel m_bindModel;
+
+    public ParsedStatement(IntoModel intoModel, BindModel bindModel) {
+      m_intoModel = intoModel;
+      m_bindModel = bindModel;
+    }
+
+    public IntoModel getIntoModel() {
+      return m_intoModel;
+    }
+
+    public BindModel getBindModel() {
+      return m_bindModel;
+    }
+
+    public ParsedStatement copy() {
+      return new ParsedStatement(m_intoModel.copy(), m_bindModel.copy());
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.eclipse.scout.rt.server.jdbc.ISqlResultRow;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlColumnReader;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+
+/**
+ * {@link ISqlResultRow} of one result set. The column readers are resolved once from the result set metadata, the
+ * values of the current row are read lazily and at most once per column.
+ */
+class SqlResultRow implements ISqlResultRow {
+  private static final Object NOT_READ = new Object();
+
+  private final ResultSet m_resultSet;
+  private final ResultSetMetaData m_meta;
+  private final ISqlColumnReader[] m_readers;
+  private final Object[] m_values;
+  private int m_rowIndex;
+
+  SqlResultRow(ResultSet rs, ISqlStyle sqlStyle) throws SQLException {
+    m_resultSet = rs;
+    m_meta = rs.getMetaData();
+    m_readers = new ISqlColumnReader[m_meta.getColumnCount()];
+    for (int i = 0; i < m_readers.length; i++) {
+      m_readers[i] = sqlStyle.createColumnReader(m_meta, i + 1);
+    }
+    m_values = new Object[m_readers.length];
+  }
+
+  /**
+   * Moves to the next row of the result set.
+   */
+  boolean next(int rowIndex) throws SQLException {
+    if (!m_resultSet.next()) {
+      return false;
+    }
+    m_rowIndex = rowIndex;
+    Arrays.fill(m_values, NOT_READ);
+    return true;
+  }
+
+  @Override
+  public int getRowIndex() {
+    return m_rowIndex;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return m_readers.length;
+  }
+
+  @Override
+  public String getColumnLabel(int columnIndex) throws SQLException {
+    return m_meta.getColumnLabel(columnIndex + 1);
+  }
+
+  @Override
+  public Object getValue(int columnIndex) throws SQLException {
+    Object value = m_values[columnIndex];
+    if (value == NOT_READ) {
+      value = m_readers[columnIndex].read(m_resultSet);
+      m_values[columnIndex] = value;
+    }
+    return value;
+  }
+
+  @Override
+  public ResultSet getResultSet() {
+    return m_resultSet;
+  }
+}
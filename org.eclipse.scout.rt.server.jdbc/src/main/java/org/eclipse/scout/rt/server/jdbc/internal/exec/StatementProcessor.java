@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.jdbc.internal.exec;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.sql.BatchUpdateException;
 import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 import org.eclipse.scout.rt.platform.BEANS;
@@ -46,16 +48,16 @@ import org.eclipse.scout.rt.server.IServerSession;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlTransactionMember;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.ISqlRowMapper;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.IStatementCache;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessor;
 import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.internal.exec.ParsedStatementCache.ParsedStatement;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -138,10 +140,10 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
+      ParsedStatement parsedStatement = parseStatement(m_originalStm);
+      IntoModel intoModel = parsedStatement.getIntoModel();
       //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      m_bindModel = parsedStatement.getBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -192,6 +194,14 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * @return the parse result of the given statement, by default taken from the {@link ParsedStatementCache}
+   * @since 24.1
+   */
+  protected ParsedStatement parseStatement(String stm) {
+    return BEANS.get(ParsedStatementCache.class).getParsedStatement(stm);
+  }
+
   protected TreeMap<Integer, SqlBind> getCurrentInputBindMap() {
     return m_currentInputBindMap;
   }
@@ -417,6 +427,51 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public <T> int processSelectStreamingMapped(Connection conn, IStatementCache cache, ISqlRowMapper<T> mapper, Consumer<? super T> consumer) {
+    PreparedStatement ps = null;
+    ResultSet rs = null;
+    ISqlStyle sqlStyle = m_callerService.getSqlStyle();
+    try {
+      int rowCount = 0;
+      while (hasNextInputBatch() && (m_maxRowCount <= 0 || rowCount < m_maxRowCount)) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        ps = cache.getPreparedStatement(conn, m_currentInputStm);
+        bindBatch(ps);
+        registerActiveStatement(ps);
+        try {
+          rs = ps.executeQuery();
+          SqlResultRow row = new SqlResultRow(rs, sqlStyle);
+          while (row.next(rowCount)) {
+            consumer.accept(mapper.mapRow(row));
+            rowCount++;
+            if (m_maxRowCount > 0 && rowCount >= m_maxRowCount) {
+              break;
+            }
+          }
+        }
+        finally {
+          unregisterActiveStatement(ps);
+          releasePreparedStatementAndResultSet(ps, cache, rs);
+          ps = null;
+          rs = null;
+        }
+      }
+      finishOutputBatch();
+      return rowCount;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      releasePreparedStatementAndResultSet(ps, cache, rs);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -456,6 +511,104 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  @SuppressWarnings("resource")
+  @Override
+  public int[] processModificationBatch(Connection conn, IStatementCache cache, int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be greater than 0");
+    }
+    List<Integer> batchRowCounts = new ArrayList<>();
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int pendingRows = 0;
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(batchStm)) {
+          // the statement text depends on the bind values (e.g. plain binds), a JDBC batch requires the same statement
+          if (pendingRows > 0) {
+            batchRowCounts.add(executeBatch(ps));
+            pendingRows = 0;
+          }
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        pendingRows++;
+        if (pendingRows >= batchSize) {
+          batchRowCounts.add(executeBatch(ps));
+          pendingRows = 0;
+        }
+      }
+      if (pendingRows > 0) {
+        batchRowCounts.add(executeBatch(ps));
+        pendingRows = 0;
+      }
+      int[] result = new int[batchRowCounts.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = batchRowCounts.get(i);
+      }
+      return result;
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false))
+          .withContextInfo("batch", batchRowCounts.size());
+    }
+    finally {
+      if (ps != null && pendingRows > 0) {
+        // do not leave pending rows on a cached statement
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException e) {
+          LOG.warn("Exception while clearing batch", e);
+        }
+      }
+      cache.releasePreparedStatement(ps);
+    }
+  }
+
+  /**
+   * Executes the pending batch of the statement.
+   *
+   * @return the total number of affected rows of the batch or {@link Statement#SUCCESS_NO_INFO} if the driver does not
+   *         report the row count of at least one row
+   * @throws BatchUpdateException
+   *           if the driver reports {@link Statement#EXECUTE_FAILED} for a row instead of throwing
+   * @since 24.1
+   */
+  protected int executeBatch(PreparedStatement ps) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      int[] counts = ps.executeBatch();
+      int rowCount = 0;
+      boolean unknown = false;
+      for (int i = 0; i < counts.length; i++) {
+        if (counts[i] == Statement.EXECUTE_FAILED) {
+          throw new BatchUpdateException("Execution of batch row " + i + " failed", counts);
+        }
+        if (counts[i] == Statement.SUCCESS_NO_INFO) {
+          unknown = true;
+        }
+        else {
+          rowCount += counts[i];
+        }
+      }
+      return unknown ? Statement.SUCCESS_NO_INFO : rowCount;
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
   /*
    * (non-Javadoc)
    * @seeorg.eclipse.scout.rt.server.services.common.sql.internal.exec.
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashSet;
@@ -29,6 +30,7 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TimingUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.pool.ISqlConnectionPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,6 +38,7 @@ import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 
@@ -46,12 +49,11 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
   private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
-  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
 
   private volatile boolean m_destroyed;
   private final String m_identity = UUID.randomUUID().toString();
@@ -66,19 +68,27 @@ public class SqlConnectionPool {
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
+  private volatile long m_connectionTimeout;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
   /*
    * OpenTelemetry
    */
   private DoubleHistogram m_connectionWaitTime;
+  private LongCounter m_connectionTimeouts;
   private Attributes m_defaultAttributes;
 
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    initialize(name, poolSize, connectionLifetime, connectionBusyTimeout, 0L);
+  }
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout, long connectionTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
     m_poolSize = poolSize;
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_connectionTimeout = connectionTimeout;
     startManagePool();
     initMetrics();
   }
@@ -115,6 +125,10 @@ public class SqlConnectionPool {
         .setUnit("ms")
         .setDescription("The time it took to obtain an open connection from the pool.")
         .build();
+    m_connectionTimeouts = meter.counterBuilder("db.client.connections.timeouts")
+        .setDescription("The number of connection timeouts that have occurred trying to obtain a connection from the pool.")
+        .setUnit("{timeout}")
+        .build();
 
     m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
     Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
@@ -129,6 +143,7 @@ public class SqlConnectionPool {
         maxConnections);
   }
 
+  @Override
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
     managePool();
@@ -155,7 +170,17 @@ public class SqlConnectionPool {
         if (candidate == null) {
           // wait
           try {
-            m_poolLock.wait();
+            if (m_connectionTimeout > 0) {
+              long remainingMillis = m_connectionTimeout - TimingUtility.msElapsed(startTime);
+              if (remainingMillis <= 0) {
+                m_connectionTimeouts.add(1, m_defaultAttributes);
+                throw new SQLTransientConnectionException("No connection available in pool '" + m_name + "' within " + m_connectionTimeout + "ms");
+              }
+              m_poolLock.wait(remainingMillis);
+            }
+            else {
+              m_poolLock.wait();
+            }
           }
           catch (InterruptedException ie) {
             Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
@@ -193,6 +218,7 @@ public class SqlConnectionPool {
     }
   }
 
+  @Override
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
     synchronized (m_poolLock) {
@@ -257,6 +283,7 @@ public class SqlConnectionPool {
     managePool();
   }
 
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -318,6 +345,7 @@ public class SqlConnectionPool {
   /**
    * Returns whether this SQL pool was destroyed, and cannot be used anymore.
    */
+  @Override
   public boolean isDestroyed() {
     return m_destroyed;
   }
@@ -325,6 +353,7 @@ public class SqlConnectionPool {
   /**
    * Destroys this connection pool. Upon return, this pool cannot be used anymore.
    */
+  @Override
   public void destroy() {
     if (isDestroyed()) {
       return;
@@ -37,6 +37,18 @@ public class BindModel {
     m_ioTokens = ioList.toArray(new IToken[0]);
   }
 
+  /**
+   * @return a deep copy of this model, see {@link IToken#copy()}
+   * @since 24.1
+   */
+  public BindModel copy() {
+    IToken[] tokens = new IToken[m_allTokens.length];
+    for (int i = 0; i < m_allTokens.length; i++) {
+      tokens[i] = m_allTokens[i].copy();
+    }
+    return new BindModel(tokens);
+  }
+
   public IToken[] getAllTokens() {
     return m_allTokens;
   }
@@ -20,6 +20,18 @@ public class IntoModel {
     m_intoTokens = intoTokens;
   }
 
+  /**
+   * @return a deep copy of this model, see {@link ValueOutputToken#copy()}
+   * @since 24.1
+   */
+  public IntoModel copy() {
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < m_intoTokens.length; i++) {
+      tokens[i] = m_intoTokens[i].copy();
+    }
+    return new IntoModel(m_filteredStatement, tokens);
+  }
+
   public ValueOutputToken[] getOutputTokens() {
     return m_intoTokens;
   }
@@ -20,4 +20,17 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * @return a new token with the same parse result and the same state. Tokens are mutable (replace token, plain value
+   *         flags, ...) and must therefore be copied before a parsed statement is used a second time. Statements
+   *         containing tokens which do not support copying are not cached, see
+   *         {@link org.eclipse.scout.rt.server.jdbc.internal.exec.ParsedStatementCache}.
+   * @throws UnsupportedOperationException
+   *           if the token cannot be copied (default)
+   * @since 24.1
+   */
+  default IToken copy() {
+    throw new UnsupportedOperationException("Copying is not supported by " + getClass().getName());
+  }
 }
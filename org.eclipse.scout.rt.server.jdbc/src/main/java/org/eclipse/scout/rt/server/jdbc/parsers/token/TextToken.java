@@ -45,4 +45,10 @@ public class TextToken implements IToken {
   public String toString() {
     return "TextToken[" + m_parsedToken + "]";
   }
+
+  @Override
+  public TextToken copy() {
+    // immutable
+    return this;
+  }
 }
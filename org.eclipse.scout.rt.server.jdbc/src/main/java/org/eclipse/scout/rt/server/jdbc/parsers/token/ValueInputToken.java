@@ -156,4 +156,15 @@ public class ValueInputToken implements IToken {
     return b.toString();
   }
 
+  @Override
+  public ValueInputToken copy() {
+    ValueInputToken t = new ValueInputToken(m_parsedToken, m_name, m_plainValue, m_plainSql);
+    t.m_name = m_name;
+    t.m_batch = m_batch;
+    t.m_parsedOp = m_parsedOp;
+    t.m_parsedAttribute = m_parsedAttribute;
+    t.m_replaceToken = m_replaceToken;
+    return t;
+  }
+
 }
@@ -97,4 +97,13 @@ public class ValueOutputToken implements IToken {
     return b.toString();
   }
 
+  @Override
+  public ValueOutputToken copy() {
+    ValueOutputToken t = new ValueOutputToken(m_parsedToken, m_name, m_selectInto);
+    t.m_name = m_name;
+    t.m_batch = m_batch;
+    t.m_replaceToken = m_replaceToken;
+    return t;
+  }
+
 }
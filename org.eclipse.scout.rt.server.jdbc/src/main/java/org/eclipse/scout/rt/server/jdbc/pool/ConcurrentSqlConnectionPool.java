@@ -0,0 +1,565 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.pool;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.TimingUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
+import org.eclipse.scout.rt.shared.ISession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Connection pool which does not lock on lease and release. Alternative to {@link SqlConnectionPool} for many
+ * concurrent service calls, selected by {@link org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolTypeProperty}.
+ * <p>
+ * All connections are kept in a shared list and each entry is claimed by a compare-and-set of its state. A connection
+ * is looked up in the following order:
+ * <ol>
+ * <li>the connection last released by the current thread</li>
+ * <li>an idle connection last used by the current scout session</li>
+ * <li>any idle connection</li>
+ * <li>a new connection if the pool size is not reached yet</li>
+ * <li>a connection handed over by a releasing thread. Waiting threads are served in FIFO order.</li>
+ * </ol>
+ *
+ * @since 24.1
+ */
+@Bean
+@SuppressWarnings("squid:S1166")
+public class ConcurrentSqlConnectionPool implements ISqlConnectionPool {
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentSqlConnectionPool.class);
+
+  private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
+  private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_CREATE_TIME = "db.client.connections.create_time";
+
+  /**
+   * Maximum time a waiting thread blocks before it checks again whether a new connection may be created.
+   */
+  private static final long MAX_WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private static final int STATE_REMOVED = -1;
+  private static final int STATE_IDLE = 0;
+  private static final int STATE_USED = 1;
+
+  private volatile boolean m_destroyed;
+  private final String m_identity = UUID.randomUUID().toString();
+
+  /*
+   * Instance
+   */
+  private final List<Entry> m_entries = new CopyOnWriteArrayList<>();
+  private final Map<Connection, Entry> m_entriesByConnection = new ConcurrentHashMap<>();
+  private final ThreadLocal<WeakReference<Entry>> m_threadLocalEntry = new ThreadLocal<>();
+  private final LinkedTransferQueue<Entry> m_handoffQueue = new LinkedTransferQueue<>();
+  private final AtomicInteger m_totalConnections = new AtomicInteger();
+  private final AtomicInteger m_waiters = new AtomicInteger();
+  private volatile String m_name;
+  private volatile int m_poolSize;
+  private volatile long m_connectionLifetime;
+  private volatile long m_connectionBusyTimeout;
+  private volatile long m_connectionTimeout;
+  private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+  /*
+   * OpenTelemetry
+   */
+  private DoubleHistogram m_connectionWaitTime;
+  private DoubleHistogram m_connectionCreateTime;
+  private LongCounter m_connectionTimeouts;
+  private Attributes m_defaultAttributes;
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout, long connectionTimeout) {
+    Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_name = name;
+    m_poolSize = poolSize;
+    m_connectionLifetime = connectionLifetime;
+    m_connectionBusyTimeout = connectionBusyTimeout;
+    m_connectionTimeout = connectionTimeout;
+    startManagePool();
+    initMetrics();
+  }
+
+  /**
+   * Start managing pool
+   */
+  private void startManagePool() {
+    Jobs.schedule(this::managePool, Jobs.newInput()
+        .withName("Managing SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(1, TimeUnit.MINUTES)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(1, TimeUnit.MINUTES))));
+  }
+
+  /**
+   * @see <a href=
+   *      "https://opentelemetry.io/docs/specs/otel/metrics/semantic_conventions/database-metrics/">OpenTelemetry:
+   *      Semantic Conventions for Database Metrics</a>
+   */
+  private void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SqlConnectionPool");
+
+    ObservableLongMeasurement connectionsUsage = meter.upDownCounterBuilder("db.client.connections.usage")
+        .setDescription("The number of connections that are currently in state described by the state attribute.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement maxConnections = meter.upDownCounterBuilder("db.client.connections.max")
+        .setDescription("The maximum number of open connections allowed.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement pendingRequests = meter.upDownCounterBuilder("db.client.connections.pending_requests")
+        .setDescription("The number of pending requests for an open connection, cumulative for the entire pool.")
+        .setUnit("{request}")
+        .buildObserver();
+    m_connectionTimeouts = meter.counterBuilder("db.client.connections.timeouts")
+        .setDescription("The number of connection timeouts that have occurred trying to obtain a connection from the pool.")
+        .setUnit("{timeout}")
+        .build();
+    m_connectionCreateTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_CREATE_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to create a new connection.")
+        .build();
+    m_connectionWaitTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to obtain an open connection from the pool.")
+        .build();
+
+    m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
+    Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
+    Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
+    //noinspection resource
+    meter.batchCallback(() -> {
+      int idle = 0;
+      int used = 0;
+      for (Entry entry : m_entries) {
+        int state = entry.state.get();
+        if (state == STATE_IDLE) {
+          idle++;
+        }
+        else if (state == STATE_USED) {
+          used++;
+        }
+      }
+      connectionsUsage.record(idle, idleConnectionsAttributes);
+      connectionsUsage.record(used, usedConnectionsAttributes);
+      maxConnections.record(m_poolSize, m_defaultAttributes);
+      pendingRequests.record(m_waiters.get(), m_defaultAttributes);
+    },
+        connectionsUsage,
+        maxConnections,
+        pendingRequests);
+  }
+
+  @Override
+  public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    final long startTime = System.nanoTime();
+    assertNotDestroyed();
+    String sessionId = currentSessionId();
+    while (true) {
+      Entry candidate = borrow(service, sessionId, startTime);
+      if (System.currentTimeMillis() - candidate.createTime > m_connectionLifetime) {
+        if (removeEntry(candidate)) {
+          closeConnectionAsync(candidate.conn, "expired idle connection");
+        }
+        continue;
+      }
+      // test candidate connection
+      try {
+        service.callbackTestConnection(candidate.conn);
+      }
+      catch (Exception e) {
+        // remove candidate from pool and close it
+        removeEntry(candidate);
+        LOG.warn("closing dirty connection: {}", candidate.conn, e);
+        try {
+          candidate.conn.close();
+        }
+        catch (Exception fatal) {
+          LOG.warn("could not close candidate connection", fatal);
+        }
+        continue;
+      }
+      candidate.leaseBegin = System.currentTimeMillis();
+      candidate.leaseCount++;
+      LOG.debug("lease   {}", candidate.conn);
+      m_connectionWaitTime.record(TimingUtility.msElapsed(startTime), m_defaultAttributes);
+      return candidate.conn;
+    }
+  }
+
+  /**
+   * @return an entry in state {@link #STATE_USED}
+   */
+  private Entry borrow(AbstractSqlService service, String sessionId, long startTime) throws ClassNotFoundException, SQLException {
+    Entry entry = acquireIdle(sessionId);
+    if (entry != null) {
+      return entry;
+    }
+    entry = createIfBelowPoolSize(service);
+    if (entry != null) {
+      return entry;
+    }
+
+    m_waiters.incrementAndGet();
+    try {
+      while (true) {
+        // a connection might have been released before this thread was registered as waiter
+        entry = acquireIdle(sessionId);
+        if (entry != null) {
+          return entry;
+        }
+        entry = createIfBelowPoolSize(service);
+        if (entry != null) {
+          return entry;
+        }
+
+        long waitNanos = MAX_WAIT_SLICE_NANOS;
+        if (m_connectionTimeout > 0) {
+          long remainingNanos = TimeUnit.MILLISECONDS.toNanos(m_connectionTimeout) - (System.nanoTime() - startTime);
+          if (remainingNanos <= 0) {
+            m_connectionTimeouts.add(1, m_defaultAttributes);
+            throw new SQLTransientConnectionException("No connection available in pool '" + m_name + "' within " + m_connectionTimeout + "ms");
+          }
+          waitNanos = Math.min(waitNanos, remainingNanos);
+        }
+        entry = m_handoffQueue.poll(waitNanos, TimeUnit.NANOSECONDS);
+        if (entry != null && entry.state.compareAndSet(STATE_IDLE, STATE_USED)) {
+          return entry;
+        }
+        // the signaled connection was claimed by another thread in the meantime
+        assertNotDestroyed();
+      }
+    }
+    catch (InterruptedException ie) {
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    finally {
+      if (m_waiters.decrementAndGet() == 0) {
+        // discard signals no longer needed, connections are still found by acquireIdle
+        m_handoffQueue.clear();
+      }
+    }
+  }
+
+  /**
+   * Claims an idle connection, preferring the one last released by the current thread and then the ones last used by
+   * the given session.
+   */
+  private Entry acquireIdle(String sessionId) {
+    WeakReference<Entry> ref = m_threadLocalEntry.get();
+    Entry threadLocalEntry = ref != null ? ref.get() : null;
+    if (threadLocalEntry != null
+        && (sessionId == null || sessionId.equals(threadLocalEntry.lastSessionId))
+        && threadLocalEntry.state.compareAndSet(STATE_IDLE, STATE_USED)) {
+      return threadLocalEntry;
+    }
+
+    if (sessionId != null) {
+      for (Entry entry : m_entries) {
+        if (sessionId.equals(entry.lastSessionId) && entry.state.compareAndSet(STATE_IDLE, STATE_USED)) {
+          return entry;
+        }
+      }
+    }
+    for (Entry entry : m_entries) {
+      if (entry.state.compareAndSet(STATE_IDLE, STATE_USED)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private Entry createIfBelowPoolSize(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int total;
+    do {
+      total = m_totalConnections.get();
+      if (total >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_totalConnections.compareAndSet(total, total + 1));
+
+    boolean success = false;
+    try {
+      final long startTime = System.nanoTime();
+      Connection conn = createConnection(service);
+      LOG.info("created jdbc connection {}", conn);
+      service.callbackAfterConnectionCreated(conn);
+      m_connectionCreateTime.record(TimingUtility.msElapsed(startTime), m_defaultAttributes);
+      Entry entry = new Entry(conn, STATE_USED);
+      m_entriesByConnection.put(conn, entry);
+      m_entries.add(entry);
+      success = true;
+      return entry;
+    }
+    finally {
+      if (!success) {
+        m_totalConnections.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * Removes the entry from the pool. The caller is responsible to close its connection.
+   *
+   * @return <code>true</code> if the entry was part of this pool
+   */
+  private boolean removeEntry(Entry entry) {
+    entry.state.set(STATE_REMOVED);
+    if (m_entries.remove(entry)) {
+      m_entriesByConnection.remove(entry.conn);
+      m_totalConnections.decrementAndGet();
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    assertNotDestroyed();
+
+    Entry entry = m_entriesByConnection.get(conn);
+    if (entry == null || entry.state.get() != STATE_USED || !isReusable(conn)) {
+      if (entry != null) {
+        removeEntry(entry);
+      }
+      LOG.warn("closing dirty connection: {}", conn);
+      try {
+        conn.close();
+      }
+      catch (SQLException e) {
+        // ignored
+      }
+      return;
+    }
+
+    entry.leaseBegin = 0;
+    entry.lastSessionId = currentSessionId();
+    if (!entry.state.compareAndSet(STATE_USED, STATE_IDLE)) {
+      // removed concurrently by managePool
+      return;
+    }
+    m_threadLocalEntry.set(new WeakReference<>(entry));
+
+    // hand the connection directly over to the longest waiting thread
+    if (m_waiters.get() > 0 && !m_handoffQueue.tryTransfer(entry) && m_waiters.get() > 0) {
+      // the waiting thread is not polling yet: leave a single signal it will consume on its next poll
+      m_handoffQueue.offer(entry);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the connection is not closed and its warnings could be cleared
+   */
+  private boolean isReusable(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      return false;
+    }
+  }
+
+  @Override
+  public String getInventory() {
+    StringBuilder busy = new StringBuilder();
+    StringBuilder idle = new StringBuilder();
+    int busyCount = 0;
+    int idleCount = 0;
+    SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
+    for (Entry e : m_entries) {
+      int state = e.state.get();
+      if (state == STATE_USED) {
+        busyCount++;
+        busy.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+            .append(fmt.format(new Date(e.leaseBegin)));
+        busy.append("\n");
+      }
+      else if (state == STATE_IDLE) {
+        idleCount++;
+        idle.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+        idle.append("\n");
+      }
+    }
+    StringBuilder buf = new StringBuilder();
+    buf.append("Total connections: ").append(busyCount + idleCount);
+    buf.append("\n");
+    buf.append("Busy: ").append(busyCount);
+    buf.append("\n");
+    buf.append(busy);
+    buf.append("Idle: ").append(idleCount);
+    buf.append("\n");
+    buf.append(idle);
+    buf.append("Pending requests: ").append(m_waiters.get());
+    buf.append("\n");
+    return buf.toString();
+  }
+
+  /**
+   * Thread worker to manage pool
+   */
+  private void managePool() {
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+      long now = System.currentTimeMillis();
+      for (Entry e : m_entries) {
+        // close old idle connections
+        if (now - e.createTime > m_connectionLifetime && e.state.compareAndSet(STATE_IDLE, STATE_REMOVED)) {
+          removeEntry(e);
+          closeConnectionAsync(e.conn, "expired idle connection");
+        }
+        // close timed out busy connections
+        else if (e.leaseBegin > 0 && now - e.leaseBegin > m_connectionBusyTimeout && e.state.compareAndSet(STATE_USED, STATE_REMOVED)) {
+          removeEntry(e);
+          closeConnectionAsync(e.conn, "timed out busy connection");
+        }
+      }
+    }
+    catch (Exception t) {
+      LOG.warn("Unexpected Problem while managing SQL connection pool", t);
+    }
+  }
+
+  @Override
+  public boolean isDestroyed() {
+    return m_destroyed;
+  }
+
+  private void assertNotDestroyed() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (isDestroyed()) {
+      return;
+    }
+    m_destroyed = true;
+
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+
+    for (Entry entry : m_entries) {
+      if (removeEntry(entry)) {
+        closeConnectionAsync(entry.conn, "destroying SQL connection pool");
+      }
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  protected String currentSessionId() {
+    ISession session = ISession.CURRENT.get();
+    return session != null ? session.getId() : null;
+  }
+
+  protected void closeConnectionAsync(final Connection connection, final String reason) {
+    Jobs.schedule(() -> {
+      LOG.info("Closing SQL connection {}", connection);
+      try {
+        connection.close();
+      }
+      catch (SQLException e) {
+        LOG.error("Failed to close SQL connection [connection={}]", connection, e);
+      }
+    }, Jobs.newInput()
+        .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
+        .withExecutionHint(m_identity));
+  }
+
+  private static final class Entry {
+    private final Connection conn;
+    private final long createTime;
+    private final AtomicInteger state;
+    private volatile long leaseBegin;
+    private int leaseCount;
+    private volatile String lastSessionId;
+
+    private Entry(Connection conn, int state) {
+      this.conn = conn;
+      this.createTime = System.currentTimeMillis();
+      this.state = new AtomicInteger(state);
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "[conn=" + conn + ", state=" + state.get() + ", lastSessionId=" + lastSessionId + "]";
+    }
+  }
+
+  /**
+   * Custom histogramm buckets for <code>db.client.connections.create_time</code> (time unit: milliseconds).
+   *
+   * @see #m_connectionCreateTime
+   */
+  public static class CreateTimeHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return OTEL_METRIC_DB_CLIENT_CONNECTIONS_CREATE_TIME;
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(5d, 10d, 25d, 50d, 100d, 250d, 500d, 1_000d, 2_500d, 5_000d);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
+
+/**
+ * Pool of direct JDBC connections used by an {@link AbstractSqlService}. There is one pool for every
+ * {@link AbstractSqlService} sub class type. Implementations must be thread-safe.
+ *
+ * @see SqlConnectionPool
+ * @see ConcurrentSqlConnectionPool
+ * @since 24.1
+ */
+public interface ISqlConnectionPool {
+
+  /**
+   * Name of the histogram metric recording the time it took to lease a connection.
+   */
+  String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
+
+  /**
+   * @param name
+   *          name of the pool, used in job names and as <code>pool.name</code> metric attribute
+   * @param poolSize
+   *          maximum number of connections
+   * @param connectionLifetime
+   *          idle connections are closed after this time in milliseconds
+   * @param connectionBusyTimeout
+   *          busy connections are closed after this time in milliseconds
+   * @param connectionTimeout
+   *          maximum time in milliseconds to wait for a connection, <code>0</code> waits indefinitely
+   */
+  void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout, long connectionTimeout);
+
+  /**
+   * Leases a connection. If possible, a scout session is provided with the same connection it had in the last request.
+   *
+   * @throws java.sql.SQLTransientConnectionException
+   *           if no connection is available within the connection timeout
+   */
+  Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException;
+
+  /**
+   * Returns a connection previously obtained by {@link #leaseConnection(AbstractSqlService)}.
+   */
+  void releaseConnection(Connection conn);
+
+  /**
+   * @return human readable description of the connections of this pool
+   */
+  String getInventory();
+
+  /**
+   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
+   */
+  boolean isDestroyed();
+
+  /**
+   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
+   */
+  void destroy();
+}
@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.style.AbstractSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlColumnReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,6 +58,21 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
     return super.readBind(rs, meta, type, jdbcBindIndex);
   }
 
+  @Override
+  public ISqlColumnReader createColumnReader(final ResultSetMetaData meta, final int jdbcBindIndex) throws SQLException {
+    final int type = meta.getColumnType(jdbcBindIndex);
+    if (Types.BIT == type) {
+      return rs -> readBind(rs, meta, type, jdbcBindIndex);
+    }
+    // all other types are read as in AbstractSqlStyle, unless readBind is overridden by a subclass
+    return super.createColumnReader(meta, jdbcBindIndex);
+  }
+
+  @Override
+  protected boolean isReadBindOverridden() {
+    return getReadBindDeclaringClass() != PostgreSqlStyle.class;
+  }
+
   @Override
   protected SqlBind createBindFor(Object o, Class c) {
     if (Boolean.class.isAssignableFrom(c)) {
@@ -40,6 +40,22 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
   private static final long serialVersionUID = 1L;
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlStyle.class);
 
+  /**
+   * Class declaring the implementation of {@link #readBind(ResultSet, ResultSetMetaData, int, int)}, computed once per
+   * style class.
+   */
+  private static final ClassValue<Class<?>> READ_BIND_DECLARING_CLASS = new ClassValue<>() {
+    @Override
+    protected Class<?> computeValue(Class<?> type) {
+      try {
+        return type.getMethod("readBind", ResultSet.class, ResultSetMetaData.class, int.class, int.class).getDeclaringClass();
+      }
+      catch (NoSuchMethodException e) {
+        return null;
+      }
+    }
+  };
+
   @Override
   public String getConcatOp() {
     return "||";
@@ -528,6 +544,103 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return o;
   }
 
+  /**
+   * Uses a type specific reader unless {@link #readBind(ResultSet, ResultSetMetaData, int, int)} is overridden, see
+   * {@link #createTypedColumnReader(ResultSetMetaData, int, int)}.
+   */
+  @Override
+  public ISqlColumnReader createColumnReader(ResultSetMetaData meta, int jdbcBindIndex) throws SQLException {
+    final int type = meta.getColumnType(jdbcBindIndex);
+    if (isReadBindOverridden()) {
+      return rs -> readBind(rs, meta, type, jdbcBindIndex);
+    }
+    return createTypedColumnReader(meta, type, jdbcBindIndex);
+  }
+
+  /**
+   * Creates a reader returning the same values as the implementation of
+   * {@link #readBind(ResultSet, ResultSetMetaData, int, int)} in this class, without evaluating the column type for
+   * every row. Subclasses overriding {@link #readBind(ResultSet, ResultSetMetaData, int, int)} may use it for the types
+   * they do not handle themselves.
+   */
+  protected ISqlColumnReader createTypedColumnReader(ResultSetMetaData meta, int type, int jdbcBindIndex) {
+    switch (type) {
+      // General Number
+      case Types.DECIMAL:
+      case Types.NUMERIC: {
+        final DecimalConversion decimalConversion = getConfiguredDecimalConversionStrategy();
+        return rs -> {
+          Object o = decimalConversion.convertDecimalType(rs.getBigDecimal(jdbcBindIndex));
+          return rs.wasNull() ? null : o;
+        };
+      }
+      // Long
+      case Types.BIT:
+      case Types.BIGINT:
+      case Types.SMALLINT:
+      case Types.INTEGER:
+      case Types.TINYINT: {
+        return rs -> {
+          long l = rs.getLong(jdbcBindIndex);
+          return rs.wasNull() ? null : l;
+        };
+      }
+      // Double
+      case Types.DOUBLE:
+      case Types.FLOAT:
+      case Types.REAL: {
+        return rs -> {
+          double d = rs.getDouble(jdbcBindIndex);
+          return rs.wasNull() ? null : d;
+        };
+      }
+      // String
+      case Types.VARCHAR:
+      case Types.CHAR:
+      case Types.LONGVARCHAR: {
+        return rs -> rs.getString(jdbcBindIndex);
+      }
+      // Date
+      case Types.DATE:
+      case Types.TIMESTAMP: {
+        return rs -> rs.getTimestamp(jdbcBindIndex);
+      }
+      case Types.TIME: {
+        return rs -> rs.getTime(jdbcBindIndex);
+      }
+      // Raw
+      case Types.LONGVARBINARY:
+      case Types.VARBINARY:
+      case Types.BINARY: {
+        return rs -> rs.getBytes(jdbcBindIndex);
+      }
+      default: {
+        return rs -> readBind(rs, meta, type, jdbcBindIndex);
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if {@link #readBind(ResultSet, ResultSetMetaData, int, int)} is overridden, i.e. the type
+   *         specific readers of {@link #createTypedColumnReader(ResultSetMetaData, int, int)} must not be used. Styles
+   *         overriding {@link #readBind(ResultSet, ResultSetMetaData, int, int)} together with
+   *         {@link #createColumnReader(ResultSetMetaData, int)} override this method to detect further overrides of their
+   *         subclasses.
+   * @since 24.1
+   */
+  protected boolean isReadBindOverridden() {
+    return getReadBindDeclaringClass() != AbstractSqlStyle.class;
+  }
+
+  /**
+   * @return the class declaring the implementation of {@link #readBind(ResultSet, ResultSetMetaData, int, int)} used
+   *         by this style or <code>null</code> if it cannot be determined. The result is cached per style class.
+   * @since 24.1
+   */
+  protected Class<?> getReadBindDeclaringClass() {
+    return READ_BIND_DECLARING_CLASS.get(getClass());
+  }
+
   @Override
   public void registerOutput(CallableStatement cs, int index, Class c) throws SQLException {
     if (c == null) {
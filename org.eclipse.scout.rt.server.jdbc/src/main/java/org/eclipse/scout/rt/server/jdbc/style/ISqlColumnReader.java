@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.style;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reads the value of one column of the current row of a {@link ResultSet}. A reader is created once per result set
+ * column by {@link ISqlStyle#createColumnReader(java.sql.ResultSetMetaData, int)} and then used for every row.
+ *
+ * @since 24.1
+ */
+@FunctionalInterface
+public interface ISqlColumnReader {
+
+  /**
+   * @return the value of the column in the current row or <code>null</code> if the value is SQL <code>NULL</code>
+   */
+  Object read(ResultSet rs) throws SQLException;
+}
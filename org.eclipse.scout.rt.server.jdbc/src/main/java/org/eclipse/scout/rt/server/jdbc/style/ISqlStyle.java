@@ -148,6 +148,19 @@ public interface ISqlStyle extends Serializable {
    */
   Object readBind(ResultSet rs, ResultSetMetaData meta, int type, int jdbcBindIndex) throws SQLException;
 
+  /**
+   * Creates a reader for the column <code>jdbcBindIndex</code>. The column type is resolved once, the reader returns
+   * the same values as {@link #readBind(ResultSet, ResultSetMetaData, int, int)} for every row of the result set.
+   * <p>
+   * The default implementation delegates to {@link #readBind(ResultSet, ResultSetMetaData, int, int)}.
+   *
+   * @since 24.1
+   */
+  default ISqlColumnReader createColumnReader(ResultSetMetaData meta, int jdbcBindIndex) throws SQLException {
+    final int type = meta.getColumnType(jdbcBindIndex);
+    return rs -> readBind(rs, meta, type, jdbcBindIndex);
+  }
+
   /**
    * apply out parameter to a stored procedure call in a {@link CallableStatement}
    */
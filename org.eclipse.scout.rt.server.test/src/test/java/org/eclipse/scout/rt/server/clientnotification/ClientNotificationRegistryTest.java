@@ -267,6 +267,102 @@ public class ClientNotificationRegistryTest {
     });
   }
 
+  /**
+   * Notifications for users and sessions are only routed to nodes hosting them, once the nodes reported their sessions.
+   */
+  @Test
+  public void testNotificationsRoutedToAddressedNodes() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    NodeId node1 = NodeId.of("testNodeId");
+    NodeId node2 = NodeId.of("testNodeId2");
+    NodeId node3 = NodeId.of("testNodeId3");
+    reg.consume(node1, Collections.singleton("session1"), Collections.singleton(TEST_USER), 1, 1, TimeUnit.MILLISECONDS);
+    reg.consume(node2, Collections.singleton("session2"), Collections.singleton("User2"), 1, 1, TimeUnit.MILLISECONDS);
+    reg.registerNode(node3); // did not report its sessions
+
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION, false);
+    assertSingleTestNotification(consumeNoWait(reg, node1));
+    assertTrue(consumeNoWait(reg, node2).isEmpty());
+    assertSingleTestNotification(consumeNoWait(reg, node3));
+
+    reg.putForSession("session2", TEST_NOTIFICATION, false);
+    assertTrue(consumeNoWait(reg, node1).isEmpty());
+    assertSingleTestNotification(consumeNoWait(reg, node2));
+    assertSingleTestNotification(consumeNoWait(reg, node3));
+
+    reg.putForAllSessions(TEST_NOTIFICATION, false);
+    assertSingleTestNotification(consumeNoWait(reg, node1));
+    assertSingleTestNotification(consumeNoWait(reg, node2));
+    assertSingleTestNotification(consumeNoWait(reg, node3));
+  }
+
+  /**
+   * A session started on a node receives notifications before the node reports it when consuming notifications.
+   */
+  @Test
+  public void testNotificationsRoutedToRegisteredSession() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION, false);
+    assertTrue(consumeNoWait(reg, TEST_NODE).isEmpty());
+
+    reg.registerSession(TEST_NODE, "session1", TEST_USER);
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION, false);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+  }
+
+  /**
+   * A session registered after the node took its snapshot for consuming notifications is not removed by that snapshot.
+   */
+  @Test
+  public void testSessionRegisteredBetweenSnapshotAndConsume() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+
+    // node takes snapshot (no sessions), then the session is registered before the snapshot is consumed
+    reg.registerSession(TEST_NODE, "session1", TEST_USER);
+    reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+    reg.putForSession("session1", TEST_NOTIFICATION, false);
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION, false);
+    assertEquals(2, reg.consume(TEST_NODE, Collections.singleton("session1"), Collections.singleton(TEST_USER), 10, 1, TimeUnit.MILLISECONDS).size());
+
+    // session is reported, it is no longer addressed as soon as it is missing in a report
+    reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION, false);
+    assertTrue(consumeNoWait(reg, TEST_NODE).isEmpty());
+  }
+
+  /**
+   * A registered session which is never reported (e.g. because it was stopped) is no longer addressed after the
+   * following reports.
+   */
+  @Test
+  public void testRegisteredSessionNotReported() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+    reg.registerSession(TEST_NODE, "session1", TEST_USER);
+    for (int i = 0; i < ClientNotificationNodeQueue.REGISTRATION_MISSING_REPORTS; i++) {
+      reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+    }
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION, false);
+    assertTrue(consumeNoWait(reg, TEST_NODE).isEmpty());
+  }
+
+  /**
+   * Sessions registered on other cluster nodes only update existing queues.
+   */
+  @Test
+  public void testRegisterSessionWithoutClusterNotification() {
+    ClientNotificationRegistry reg = new ClientNotificationRegistry(TEST_QUEUE_EXPIRE_TIMEOUT);
+    reg.registerSessionWithoutClusterNotification(TEST_NODE, "session1", TEST_USER);
+    assertTrue(reg.getRegisteredNodeIds().isEmpty());
+
+    reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+    reg.registerSessionWithoutClusterNotification(TEST_NODE, "session1", TEST_USER);
+    reg.putForUser(TEST_USER, TEST_NOTIFICATION, false);
+    assertSingleTestNotification(consumeNoWait(reg, TEST_NODE));
+  }
+
   private void commit() {
     ITransaction.CURRENT.get().commitPhase1();
     ITransaction.CURRENT.get().commitPhase2();
@@ -13,7 +13,10 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.mom.api.ClusterMom;
@@ -29,6 +32,7 @@ import org.eclipse.scout.rt.platform.Replace;
 import org.eclipse.scout.rt.server.TestServerSession;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationClusterNotification;
 import org.eclipse.scout.rt.server.clientnotification.ClientNotificationRegistry;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationSessionRegistration;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationAddress;
@@ -54,6 +58,7 @@ public class ClientNotificationClusterNotificationTest {
   private List<IBean<?>> m_beans = new ArrayList<>();
 
   private ClusterSynchronizationService m_svc = null;
+  private ClientNotificationTestRegistry m_reg;
   private ClusterNotificationProperties m_testProps = new ClusterNotificationProperties(TEST_NODE, TEST_USER);
 
   @Before
@@ -66,9 +71,9 @@ public class ClientNotificationClusterNotificationTest {
 
     m_svc = new ClusterSynchronizationService();
     m_svc.enable();
-    ClientNotificationTestRegistry reg = new ClientNotificationTestRegistry();
-    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(ClientNotificationRegistry.class, reg)));
-    reg.registerNode(TEST_NODE);
+    m_reg = new ClientNotificationTestRegistry();
+    m_beans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(ClientNotificationRegistry.class, m_reg)));
+    m_reg.registerNode(TEST_NODE);
   }
 
   @After
@@ -96,11 +101,32 @@ public class ClientNotificationClusterNotificationTest {
     assertEquals(1, notifications.size());
   }
 
+  /**
+   * Tests that sessions registered on other cluster nodes are added to the queue when received
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testSessionRegistrationReceived() {
+    m_reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 1, 1, TimeUnit.MILLISECONDS);
+    IMessage<IClusterNotificationMessage> momMsg = mock(IMessage.class);
+    ClientNotificationSessionRegistration registration = new ClientNotificationSessionRegistration(TEST_NODE, "session", TEST_USER);
+    when(momMsg.getTransferObject()).thenReturn(new ClusterNotificationMessage(new ClientNotificationClusterNotification(registration), m_testProps));
+
+    m_svc.onMessage(momMsg);
+    m_reg.putForUser(TEST_USER, "test", false);
+    assertEquals(1, m_reg.consume(TEST_NODE, Collections.emptySet(), Collections.emptySet(), 10, 1, TimeUnit.MILLISECONDS).size());
+  }
+
   public class ClientNotificationTestRegistry extends ClientNotificationRegistry {
     @Override
     public void registerNode(NodeId nodeId) {
       super.registerNode(nodeId);
     }
+
+    @Override
+    public List<ClientNotificationMessage> consume(NodeId notificationNodeId, Set<String> sessionIds, Set<String> userIds, int maxAmount, int maxWaitTime, TimeUnit unit) {
+      return super.consume(notificationNodeId, sessionIds, userIds, maxAmount, maxWaitTime, unit);
+    }
   }
 
   @IgnoreBean
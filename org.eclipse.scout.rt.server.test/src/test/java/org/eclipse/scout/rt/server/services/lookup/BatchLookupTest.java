@@ -115,7 +115,26 @@ public class BatchLookupTest {
     testInternal(SubclassedLocalFlowerLookupCallWithMembersWithEqualsOverride.class, 100, 0);
   }
 
+  @Test
+  public void testParallelNoMembersWithEqualsOverride() throws Exception {
+    testInternal(FlowerLookupCallNoMembersWithEqualsOverride.class, 0, 10, new P_ParallelBatchLookupService());
+  }
+
+  @Test
+  public void testParallelWithMembersNoEqualsOverride() throws Exception {
+    testInternal(FlowerLookupCallWithMembersNoEqualsOverride.class, 0, 1000, new P_ParallelBatchLookupService());
+  }
+
+  @Test
+  public void testParallelWithMembersWithEqualsOverride() throws Exception {
+    testInternal(FlowerLookupCallWithMembersWithEqualsOverride.class, 0, 100, new P_ParallelBatchLookupService());
+  }
+
   private void testInternal(Class<? extends IFlowerLookupCall> callClazz, int expectedLocalInvocations, int expectedServerInvocations) throws Exception {
+    testInternal(callClazz, expectedLocalInvocations, expectedServerInvocations, new BatchLookupService());
+  }
+
+  private void testInternal(Class<? extends IFlowerLookupCall> callClazz, int expectedLocalInvocations, int expectedServerInvocations, BatchLookupService service) throws Exception {
     m_localInvocations = 0;
     BatchLookupCall batchCall = new BatchLookupCall();
     for (int i = 0; i < 1000; i++) {
@@ -126,7 +145,7 @@ public class BatchLookupTest {
     }
     //
     List<ILookupCall<?>> callArray = batchCall.getCallBatch();
-    List<List<ILookupRow<?>>> resultArray = new BatchLookupService().getBatchDataByKey(batchCall);
+    List<List<ILookupRow<?>>> resultArray = service.getBatchDataByKey(batchCall);
     assertEquals(resultArray.size(), callArray.size());
     assertEquals(expectedLocalInvocations, m_localInvocations);
     Mockito.verify(m_lookupService, Mockito.times(expectedServerInvocations)).getDataByKey(Mockito.<ILookupCall<Object>> any());
@@ -366,6 +385,14 @@ public class BatchLookupTest {
     private static final long serialVersionUID = 1L;
   }
 
+  private static class P_ParallelBatchLookupService extends BatchLookupService {
+
+    @Override
+    protected int getParallelism() {
+      return 4;
+    }
+  }
+
   public interface IFlowerLookupCall {
     void setKey(Object key);
 
@@ -11,9 +11,11 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
+import org.eclipse.scout.rt.server.services.lookup.BatchLookupService;
 
 public final class ServerConfigProperties {
 
@@ -70,4 +72,26 @@ public final class ServerConfigProperties {
       return String.format("Absolute path to the root directory of the '%s'. The default value is null.", RemoteFileService.class.getSimpleName());
     }
   }
+
+  /**
+   * @since 24.1
+   */
+  public static class BatchLookupParallelismProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.lookup.batchParallelism";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximal number of lookup calls of a batch executed concurrently by the '%s'. Each concurrently executed lookup call runs in its own transaction. "
+          + "The default value is 1, which executes the lookup calls one after the other in the transaction of the caller.", BatchLookupService.class.getSimpleName());
+    }
+  }
 }
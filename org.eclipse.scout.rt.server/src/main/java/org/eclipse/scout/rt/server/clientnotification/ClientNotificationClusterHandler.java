@@ -17,6 +17,7 @@ import org.eclipse.scout.rt.shared.notification.INotificationHandler;
 
 /**
  * Publishes {@link ClientNotificationClusterNotification}s received via cluster synchronization into local registry.
+ * Session registrations are applied to the queues of the local registry.
  *
  * @author jgu
  */
@@ -24,7 +25,13 @@ public class ClientNotificationClusterHandler implements INotificationHandler<Cl
 
   @Override
   public void handleNotification(ClientNotificationClusterNotification notification) {
+    ClientNotificationSessionRegistration sessionRegistration = notification.getSessionRegistration();
+    if (sessionRegistration != null) {
+      BEANS.get(ClientNotificationRegistry.class).registerSessionWithoutClusterNotification(sessionRegistration.getNodeId(), sessionRegistration.getSessionId(), sessionRegistration.getUserId());
+    }
     Collection<? extends ClientNotificationMessage> messages = notification.getClientNotificationMessages();
-    BEANS.get(ClientNotificationRegistry.class).publishWithoutClusterNotification(messages);
+    if (!messages.isEmpty()) {
+      BEANS.get(ClientNotificationRegistry.class).publishWithoutClusterNotification(messages);
+    }
   }
 }
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.eclipse.scout.rt.platform.util.ToStringBuilder;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
@@ -18,19 +19,38 @@ import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 public class ClientNotificationClusterNotification implements Serializable {
   private static final long serialVersionUID = -8513131031858145786L;
   private final Collection<? extends ClientNotificationMessage> m_cnMessages;
+  private final ClientNotificationSessionRegistration m_sessionRegistration;
 
   public ClientNotificationClusterNotification(Collection<? extends ClientNotificationMessage> messages) {
     m_cnMessages = messages;
+    m_sessionRegistration = null;
+  }
+
+  /**
+   * @since 24.1
+   */
+  public ClientNotificationClusterNotification(ClientNotificationSessionRegistration sessionRegistration) {
+    m_cnMessages = Collections.emptyList();
+    m_sessionRegistration = sessionRegistration;
   }
 
   public Collection<? extends ClientNotificationMessage> getClientNotificationMessages() {
     return m_cnMessages;
   }
 
+  /**
+   * @return the session started on a client node or <code>null</code> if this notification only contains messages
+   * @since 24.1
+   */
+  public ClientNotificationSessionRegistration getSessionRegistration() {
+    return m_sessionRegistration;
+  }
+
   @Override
   public String toString() {
     ToStringBuilder tsb = new ToStringBuilder(this);
     tsb.attr("ClientNotificationMessage", m_cnMessages);
+    tsb.attr("sessionRegistration", m_sessionRegistration);
     return tsb.toString();
   }
 
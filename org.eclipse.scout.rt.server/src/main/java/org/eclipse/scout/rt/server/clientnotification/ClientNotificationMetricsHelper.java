@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Collects metrics about the routing of client notifications to the {@link ClientNotificationNodeQueue}s of the
+ * {@link ClientNotificationRegistry}, per node:
+ * <ul>
+ * <li>number of notifications put into a node queue (delivered)</li>
+ * <li>number of notifications not put into a node queue because no addressed session or user lives on that node
+ * (dropped)</li>
+ * </ul>
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class ClientNotificationMetricsHelper {
+
+  private static final AttributeKey<String> NODE = AttributeKey.stringKey("node");
+  private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+  protected final LongCounter m_messages;
+
+  public ClientNotificationMetricsHelper() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    m_messages = meter.counterBuilder("scout.client_notification.node_queue.messages")
+        .setDescription("The number of client notifications routed to the queue of a node, by node and result (delivered or dropped because no addressed session or user lives on the node).")
+        .setUnit("{message}")
+        .build();
+  }
+
+  public void messagesRouted(NodeId nodeId, int delivered, int dropped) {
+    String node = nodeId.unwrapAsString();
+    if (delivered > 0) {
+      m_messages.add(delivered, Attributes.of(NODE, node, RESULT, "delivered"));
+    }
+    if (dropped > 0) {
+      m_messages.add(dropped, Attributes.of(NODE, node, RESULT, "dropped"));
+    }
+  }
+}
@@ -13,10 +13,16 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
@@ -44,12 +50,24 @@ import org.slf4j.LoggerFactory;
 public class ClientNotificationNodeQueue {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationNodeQueue.class);
 
+  /**
+   * Number of reports a registered session may be missing in before it is no longer addressed. The first report after
+   * the registration may be based on a snapshot taken before the session was started.
+   */
+  public static final int REGISTRATION_MISSING_REPORTS = 2;
+
   private final FinalValue<NodeId> m_nodeId = new FinalValue<>();
 
   private final int m_capacity;
   private final BlockingDeque<ClientNotificationMessage> m_notifications;
   private final AtomicLong m_lastConsumeAccess;
 
+  // sessions and users living on the node, null if not reported by the node (all notifications are addressed to it)
+  private volatile Set<String> m_sessionIds;
+  private volatile Set<String> m_userIds;
+  // sessions registered with addAddressee which may be missing in the next report: sessionId -> registration
+  private final Map<String, P_Registration> m_registrations = new HashMap<>();
+
   public ClientNotificationNodeQueue() {
     this(CONFIG.getPropertyValue(NodeQueueCapacity.class));
   }
@@ -124,6 +142,100 @@ public class ClientNotificationNodeQueue {
     }
   }
 
+  /**
+   * Replaces the sessions and users living on the node. Afterwards, notifications addressed to specific sessions or
+   * users are only put into this queue if at least one of them lives on the node, see
+   * {@link #isAddressed(IClientNotificationAddress)}.
+   * <p>
+   * The node takes its snapshot of sessions and users before sending the request. Sessions registered with
+   * {@link #addAddressee(String, String)} are therefore kept until a report contains them or until they are missing in
+   * {@link #REGISTRATION_MISSING_REPORTS} reports (e.g. because the session was stopped in the meantime).
+   *
+   * @since 24.1
+   */
+  public synchronized void setAddressees(Set<String> sessionIds, Set<String> userIds) {
+    Set<String> addressedSessionIds = new HashSet<>(sessionIds);
+    Set<String> addressedUserIds = new HashSet<>(userIds);
+    for (Iterator<Entry<String, P_Registration>> it = m_registrations.entrySet().iterator(); it.hasNext();) {
+      Entry<String, P_Registration> entry = it.next();
+      P_Registration registration = entry.getValue();
+      if (sessionIds.contains(entry.getKey()) || ++registration.m_missingReports >= REGISTRATION_MISSING_REPORTS) {
+        it.remove();
+        continue;
+      }
+      addressedSessionIds.add(entry.getKey());
+      if (registration.m_userId != null) {
+        addressedUserIds.add(registration.m_userId);
+      }
+    }
+    m_sessionIds = Collections.unmodifiableSet(addressedSessionIds);
+    m_userIds = Collections.unmodifiableSet(addressedUserIds);
+  }
+
+  /**
+   * Adds a session started on the node. The session is kept even if it is missing in the next report of the node, see
+   * {@link #setAddressees(Set, Set)}.
+   *
+   * @since 24.1
+   */
+  public synchronized void addAddressee(String sessionId, String userId) {
+    if (sessionId != null) {
+      m_registrations.put(sessionId, new P_Registration(userId));
+    }
+    if (m_sessionIds == null || m_userIds == null) {
+      return;
+    }
+    if (sessionId != null && !m_sessionIds.contains(sessionId)) {
+      Set<String> sessionIds = new HashSet<>(m_sessionIds);
+      sessionIds.add(sessionId);
+      m_sessionIds = Collections.unmodifiableSet(sessionIds);
+    }
+    if (userId != null && !m_userIds.contains(userId)) {
+      Set<String> userIds = new HashSet<>(m_userIds);
+      userIds.add(userId);
+      m_userIds = Collections.unmodifiableSet(userIds);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if a notification with the given address has to be delivered to the node: it is addressed
+   *         to all nodes or sessions, to a session or user living on the node, or the node did not report its sessions
+   *         and users.
+   * @since 24.1
+   */
+  public boolean isAddressed(IClientNotificationAddress address) {
+    if (address.isNotifyAllNodes() || address.isNotifyAllSessions()) {
+      return true;
+    }
+    Set<String> sessionIds = m_sessionIds;
+    Set<String> userIds = m_userIds;
+    if (sessionIds == null || userIds == null) {
+      return true;
+    }
+    return containsAny(sessionIds, address.getSessionIds()) || containsAny(userIds, address.getUserIds());
+  }
+
+  private static final class P_Registration {
+    private final String m_userId;
+    private int m_missingReports;
+
+    private P_Registration(String userId) {
+      m_userId = userId;
+    }
+  }
+
+  private static boolean containsAny(Set<String> available, Set<String> addressed) {
+    if (addressed == null) {
+      return false;
+    }
+    for (String id : addressed) {
+      if (available.contains(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * @return time since messages have last been consumed
    */
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,6 +43,9 @@ import org.slf4j.LoggerFactory;
  * a given timeout for notifications. If no notifications are scheduled within this timeout the lock will be released
  * and returns without any notifications. In case a notification gets scheduled during this timeout the request will be
  * released immediately.
+ * <p>
+ * Nodes report the sessions and users living on them when consuming notifications. Notifications addressed to specific
+ * sessions or users are only put into the queues of nodes hosting at least one of them.
  */
 @ApplicationScoped
 public class ClientNotificationRegistry {
@@ -94,6 +98,62 @@ public class ClientNotificationRegistry {
     return queue.consume(maxAmount, maxWaitTime, unit);
   }
 
+  /**
+   * This method should only be accessed from {@link ClientNotificationService}
+   *
+   * @param sessionIds
+   *          ids of all sessions living on the node, <code>null</code> if unknown
+   * @param userIds
+   *          ids of all users having a session on the node, <code>null</code> if unknown
+   * @param maxAmount
+   *          maximum number of notifications to be consumed
+   * @param maxWaitTime
+   *          maximum waiting time for new notifications
+   * @param unit
+   *          time unit for maxWaitTime
+   * @since 24.1
+   */
+  protected List<ClientNotificationMessage> consume(NodeId notificationNodeId, Set<String> sessionIds, Set<String> userIds, int maxAmount, int maxWaitTime, TimeUnit unit) {
+    ClientNotificationNodeQueue queue = getOrCreateQueue(notificationNodeId);
+    if (sessionIds != null && userIds != null) {
+      queue.setAddressees(sessionIds, userIds);
+    }
+    return queue.consume(maxAmount, maxWaitTime, unit);
+  }
+
+  /**
+   * Registers a session started on the given node, so that notifications addressed to the session or its user are
+   * routed to the node even before the node reports the session when consuming notifications next time. The
+   * registration is distributed to the other cluster nodes.
+   *
+   * @since 24.1
+   */
+  public void registerSession(NodeId nodeId, String sessionId, String userId) {
+    getOrCreateQueue(nodeId).addAddressee(sessionId, userId);
+    try {
+      BEANS.get(IClusterSynchronizationService.class).publish(new ClientNotificationClusterNotification(new ClientNotificationSessionRegistration(nodeId, sessionId, userId)));
+    }
+    catch (RuntimeException e) {
+      LOG.error("Failed to publish session registration", e);
+    }
+  }
+
+  /**
+   * Registers a session started on the given node, received from another cluster node. Only an existing queue of the
+   * node is updated, a queue created later receives all notifications until the node reports its sessions.
+   *
+   * @since 24.1
+   */
+  public void registerSessionWithoutClusterNotification(NodeId nodeId, String sessionId, String userId) {
+    ClientNotificationNodeQueue queue;
+    synchronized (m_notificationQueues) {
+      queue = m_notificationQueues.get(nodeId);
+    }
+    if (queue != null) {
+      queue.addAddressee(sessionId, userId);
+    }
+  }
+
   protected ClientNotificationNodeQueue getOrCreateQueue(NodeId nodeId) {
     Assertions.assertNotNull(nodeId);
     synchronized (m_notificationQueues) {
@@ -221,12 +281,17 @@ public class ClientNotificationRegistry {
    *          may be <code>null</code>
    */
   public void publishWithoutClusterNotification(Collection<? extends ClientNotificationMessage> messages, NodeId excludedUiNodeId) {
+    ClientNotificationMetricsHelper metrics = BEANS.get(ClientNotificationMetricsHelper.class);
     synchronized (m_notificationQueues) {
       Iterator<ClientNotificationNodeQueue> iter = m_notificationQueues.values().iterator();
       while (iter.hasNext()) {
         ClientNotificationNodeQueue queue = iter.next();
         if (!queue.getNodeId().equals(excludedUiNodeId)) {
-          queue.put(messages);
+          List<ClientNotificationMessage> addressedMessages = getAddressedMessages(queue, messages);
+          if (!addressedMessages.isEmpty()) {
+            queue.put(addressedMessages);
+          }
+          metrics.messagesRouted(queue.getNodeId(), addressedMessages.size(), messages.size() - addressedMessages.size());
           if (isQueueExpired(queue)) {
             LOG.info("Removing expired queue [clientNodeId={}, lastConsumeAccess={}]", queue.getNodeId(), queue.getLastConsumeAccessFormatted());
             iter.remove();
@@ -236,6 +301,20 @@ public class ClientNotificationRegistry {
     }
   }
 
+  /**
+   * @return messages to be put into the given queue
+   * @since 24.1
+   */
+  protected List<ClientNotificationMessage> getAddressedMessages(ClientNotificationNodeQueue queue, Collection<? extends ClientNotificationMessage> messages) {
+    List<ClientNotificationMessage> addressedMessages = new ArrayList<>(messages.size());
+    for (ClientNotificationMessage message : messages) {
+      if (queue.isAddressed(message.getAddress())) {
+        addressedMessages.add(message);
+      }
+    }
+    return addressedMessages;
+  }
+
   protected boolean isQueueExpired(ClientNotificationNodeQueue queue) {
     long now = System.currentTimeMillis();
     long lastAccess = queue.getLastConsumeAccess();
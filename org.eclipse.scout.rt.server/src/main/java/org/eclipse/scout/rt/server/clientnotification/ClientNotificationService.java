@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server.clientnotification;
 
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
@@ -44,4 +45,9 @@ public class ClientNotificationService implements IClientNotificationService {
   public List<ClientNotificationMessage> getNotifications(NodeId nodeId) {
     return BEANS.get(ClientNotificationRegistry.class).consume(nodeId, m_maxNotifications, m_blockingTimeout, TimeUnit.MILLISECONDS);
   }
+
+  @Override
+  public List<ClientNotificationMessage> getNotifications(NodeId nodeId, Set<String> sessionIds, Set<String> userIds) {
+    return BEANS.get(ClientNotificationRegistry.class).consume(nodeId, sessionIds, userIds, m_maxNotifications, m_blockingTimeout, TimeUnit.MILLISECONDS);
+  }
 }
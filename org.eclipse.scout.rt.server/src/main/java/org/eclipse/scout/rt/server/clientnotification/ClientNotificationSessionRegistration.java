@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.clientnotification;
+
+import java.io.Serializable;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.util.ToStringBuilder;
+
+/**
+ * A session started on a client node, distributed to the other cluster nodes with a
+ * {@link ClientNotificationClusterNotification}.
+ *
+ * @since 24.1
+ */
+public class ClientNotificationSessionRegistration implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final NodeId m_nodeId;
+  private final String m_sessionId;
+  private final String m_userId;
+
+  public ClientNotificationSessionRegistration(NodeId nodeId, String sessionId, String userId) {
+    m_nodeId = nodeId;
+    m_sessionId = sessionId;
+    m_userId = userId;
+  }
+
+  public NodeId getNodeId() {
+    return m_nodeId;
+  }
+
+  public String getSessionId() {
+    return m_sessionId;
+  }
+
+  public String getUserId() {
+    return m_userId;
+  }
+
+  @Override
+  public String toString() {
+    ToStringBuilder tsb = new ToStringBuilder(this);
+    tsb.attr("nodeId", m_nodeId);
+    tsb.attr("sessionId", m_sessionId);
+    tsb.attr("userId", m_userId);
+    return tsb.toString();
+  }
+}
@@ -10,9 +10,20 @@
 package org.eclipse.scout.rt.server.services.lookup;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.server.ServerConfigProperties.BatchLookupParallelismProperty;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
@@ -24,6 +35,9 @@ import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
  * Implementation of {@link IBatchLookupService} that can be used in a server.<br>
  * It is not implemented for client-only application, bug 447592 is not relevant anymore.<br>
  * If you want to use {@link IBatchLookupService} in a client-only application, copy this service to your client code.
+ * <p>
+ * If {@link BatchLookupParallelismProperty} is greater than 1, the distinct lookup calls of a batch are executed
+ * concurrently as jobs, see {@link #getBatchDataParallel(List, BiFunction, int)}.
  *
  * @since 4.3.0 (Mars-M5)
  */
@@ -32,46 +46,130 @@ public class BatchLookupService implements IServerBatchLookupService {
 
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
-    List<ILookupCall<?>> calls = batch.getCallBatch();
-    List<List<ILookupRow<?>>> result = new ArrayList<>();
-    BatchLookupResultCache cache = new BatchLookupResultCache();
-    for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByKey(call)));
-    }
-    return result;
+    return getBatchData(batch, BatchLookupResultCache::getDataByKey);
   }
 
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByText(BatchLookupCall batch) {
-    List<ILookupCall<?>> calls = batch.getCallBatch();
-    List<List<ILookupRow<?>>> result = new ArrayList<>();
-    BatchLookupResultCache cache = new BatchLookupResultCache();
-    for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByText(call)));
-    }
-    return result;
+    return getBatchData(batch, BatchLookupResultCache::getDataByText);
   }
 
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByAll(BatchLookupCall batch) {
-    List<ILookupCall<?>> calls = batch.getCallBatch();
-    List<List<ILookupRow<?>>> result = new ArrayList<>();
-    BatchLookupResultCache cache = new BatchLookupResultCache();
-    for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByAll(call)));
-    }
-    return result;
+    return getBatchData(batch, BatchLookupResultCache::getDataByAll);
   }
 
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByRec(BatchLookupCall batch) {
+    return getBatchData(batch, BatchLookupResultCache::getDataByRec);
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected List<List<ILookupRow<?>>> getBatchData(BatchLookupCall batch, BiFunction<BatchLookupResultCache, ILookupCall<?>, List<ILookupRow<?>>> lookup) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
-    List<List<ILookupRow<?>>> result = new ArrayList<>();
+    int parallelism = getParallelism();
+    if (parallelism <= 1 || calls.size() <= 1) {
+      return getBatchDataSequential(calls, lookup);
+    }
+    return getBatchDataParallel(calls, lookup, parallelism);
+  }
+
+  /**
+   * @return the maximal number of lookup calls executed concurrently, see {@link BatchLookupParallelismProperty}.
+   * @since 24.1
+   */
+  protected int getParallelism() {
+    return CONFIG.getPropertyValue(BatchLookupParallelismProperty.class);
+  }
+
+  /**
+   * Executes the given lookup calls one after the other in the current thread. Identical calls are executed once, see
+   * {@link BatchLookupResultCache}.
+   *
+   * @since 24.1
+   */
+  protected List<List<ILookupRow<?>>> getBatchDataSequential(List<ILookupCall<?>> calls, BiFunction<BatchLookupResultCache, ILookupCall<?>, List<ILookupRow<?>>> lookup) {
+    List<List<ILookupRow<?>>> result = new ArrayList<>(calls.size());
     BatchLookupResultCache cache = new BatchLookupResultCache();
     for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByRec(call)));
+      result.add(new ArrayList<>(lookup.apply(cache, call)));
+    }
+    return result;
+  }
+
+  /**
+   * Executes the given lookup calls concurrently, with at most the given number of calls running at the same time.
+   * Identical calls are executed once, like in {@link #getBatchDataSequential(List, BiFunction)}. The results are
+   * returned in the order of the given calls.
+   * <p>
+   * If a call fails, the calls not completed yet are cancelled and the failure is propagated.
+   *
+   * @since 24.1
+   */
+  protected List<List<ILookupRow<?>>> getBatchDataParallel(List<ILookupCall<?>> calls, BiFunction<BatchLookupResultCache, ILookupCall<?>, List<ILookupRow<?>>> lookup, int parallelism) {
+    // Deduplicate identical calls, using the same criterion as BatchLookupResultCache.
+    List<ILookupCall<?>> distinctCalls = new ArrayList<>();
+    int[] distinctIndexes = new int[calls.size()];
+    Map<ILookupCall<?>, Integer> indexByCall = new HashMap<>();
+    for (int i = 0; i < calls.size(); i++) {
+      ILookupCall<?> call = calls.get(i);
+      boolean cacheable = call != null && BatchLookupResultCache.isCacheable(call.getClass());
+      Integer index = cacheable ? indexByCall.get(call) : null;
+      if (index == null) {
+        index = distinctCalls.size();
+        distinctCalls.add(call);
+        if (cacheable) {
+          indexByCall.put(call, index);
+        }
+      }
+      distinctIndexes[i] = index;
+    }
+    if (distinctCalls.size() <= 1) {
+      return getBatchDataSequential(calls, lookup);
+    }
+
+    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(parallelism).seal();
+    List<IFuture<List<ILookupRow<?>>>> futures = new ArrayList<>(distinctCalls.size());
+    List<List<ILookupRow<?>>> distinctResults = new ArrayList<>(distinctCalls.size());
+    boolean success = false;
+    try {
+      for (ILookupCall<?> call : distinctCalls) {
+        futures.add(Jobs.schedule(() -> lookup.apply(new BatchLookupResultCache(), call), Jobs.newInput()
+            .withName("Batch lookup [{}]", call == null ? null : call.getClass().getSimpleName())
+            .withRunContext(createLookupRunContext())
+            .withExecutionSemaphore(semaphore)));
+      }
+      for (IFuture<List<ILookupRow<?>>> future : futures) {
+        distinctResults.add(future.awaitDoneAndGet());
+      }
+      success = true;
+    }
+    finally {
+      if (!success) {
+        for (IFuture<List<ILookupRow<?>>> future : futures) {
+          future.cancel(true);
+        }
+      }
+    }
+
+    List<List<ILookupRow<?>>> result = new ArrayList<>(calls.size());
+    for (int distinctIndex : distinctIndexes) {
+      result.add(new ArrayList<>(distinctResults.get(distinctIndex)));
     }
     return result;
   }
 
+  /**
+   * Creates the {@link RunContext} to execute a lookup call concurrently. The context is a copy of the caller's context,
+   * but runs in a separate transaction, because transaction members such as SQL connections must not be used by
+   * multiple threads at the same time.
+   *
+   * @since 24.1
+   */
+  protected RunContext createLookupRunContext() {
+    return RunContexts.copyCurrent(true)
+        .withTransactionScope(TransactionScope.REQUIRES_NEW);
+  }
 }
@@ -14,6 +14,7 @@ import static org.eclipse.scout.rt.platform.util.Assertions.*;
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.server.IServerSession;
+import org.eclipse.scout.rt.server.clientnotification.ClientNotificationRegistry;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationService;
 import org.slf4j.Logger;
@@ -49,6 +50,7 @@ public class ServerSessionLifecycleHandler implements IServerSessionLifecycleHan
     assertEqual(session.getId(), getId()); // ensure mapping between the actual session and the id used in the caches matches
     if (m_clientNodeId != null) {
       BEANS.get(IClientNotificationService.class).registerNode(m_clientNodeId);
+      BEANS.get(ClientNotificationRegistry.class).registerSession(m_clientNodeId, session.getId(), session.getUserId());
     }
     return session;
   }
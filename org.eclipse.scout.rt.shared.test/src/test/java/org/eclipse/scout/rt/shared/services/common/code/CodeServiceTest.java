@@ -208,6 +208,21 @@ public class CodeServiceTest {
     assertNull(r);
   }
 
+  @Test
+  public void testFindCodeTypeByIdAfterInvalidate() {
+    ICodeService service = newCodeServiceInstance();
+
+    ICodeType<Long, ?> abcCodeType1 = service.findCodeTypeById(ABC_ID);
+    assertTrue(abcCodeType1 instanceof AbcCodeType);
+
+    service.invalidateCodeType(AbcCodeType.class);
+    ICodeType<Long, ?> abcCodeType2 = service.findCodeTypeById(ABC_ID);
+    assertTrue(abcCodeType2 instanceof AbcCodeType);
+    assertNotSame(abcCodeType1, abcCodeType2);
+    assertSame(abcCodeType2, service.findCodeTypeById(ABC_ID));
+    assertSame(abcCodeType2, service.getCodeType(AbcCodeType.class));
+  }
+
   @Test
   public void testReplaceLookupUsingCodeService() {
     ICodeService service = newCodeServiceInstance();
@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.shared.services.common.jdbc;
 
+import org.eclipse.scout.rt.shared.data.basic.table.SortSpec;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -37,4 +38,32 @@ public class SearchFilterTest {
     f3.addDisplayText("ab");
     Assert.assertEquals("ab", f3.getDisplayTextsPlain());
   }
+
+  @Test
+  public void testPagingCopyAndClear() {
+    SearchFilter f = new SearchFilter();
+    Assert.assertFalse(f.isPaged());
+    f.setOffset(100);
+    f.setLimit(50);
+    f.setCursor("42");
+    f.setSortSpec(new SortSpec(1, true));
+    Assert.assertTrue(f.isPaged());
+
+    SearchFilter copy = new SearchFilter(f);
+    Assert.assertEquals(f, copy);
+    Assert.assertEquals(f.hashCode(), copy.hashCode());
+    Assert.assertEquals(100, copy.getOffset());
+    Assert.assertEquals(50, copy.getLimit());
+    Assert.assertEquals("42", copy.getCursor());
+    Assert.assertEquals(new SortSpec(1, true), copy.getSortSpec());
+
+    copy.setOffset(150);
+    Assert.assertNotEquals(f, copy);
+
+    copy.clear();
+    Assert.assertFalse(copy.isPaged());
+    Assert.assertEquals(0, copy.getOffset());
+    Assert.assertNull(copy.getCursor());
+    Assert.assertNull(copy.getSortSpec());
+  }
 }
@@ -21,7 +21,9 @@ import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanManager;
 import org.eclipse.scout.rt.platform.config.IConfigProperty;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionThresholdProperty;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.After;
@@ -38,7 +40,9 @@ import org.mockito.Mockito;
 public class BinaryServiceTunnelContentHandlerTest {
 
   private IConfigProperty m_compressProperty;
+  private IConfigProperty m_compressionThresholdProperty;
   private IBean m_serviceReg;
+  private IBean m_thresholdReg;
   private List<IBean<IConfigProperty>> m_oldBeans;
 
   @Before
@@ -50,11 +54,16 @@ public class BinaryServiceTunnelContentHandlerTest {
     m_compressProperty = Mockito.mock(IConfigProperty.class);
     Mockito.when(m_compressProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(true);
     m_serviceReg = BeanTestingHelper.get().registerBean(new BeanMetaData(CompressServiceTunnelRequestProperty.class, m_compressProperty));
+    // compress all messages
+    m_compressionThresholdProperty = Mockito.mock(IConfigProperty.class);
+    Mockito.when(m_compressionThresholdProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(0);
+    m_thresholdReg = BeanTestingHelper.get().registerBean(new BeanMetaData(ServiceTunnelCompressionThresholdProperty.class, m_compressionThresholdProperty));
   }
 
   @After
   public void after() {
     BeanTestingHelper.get().unregisterBean(m_serviceReg);
+    BeanTestingHelper.get().unregisterBean(m_thresholdReg);
 
     IBeanManager beanManager = BEANS.getBeanManager();
     // restore
@@ -133,4 +142,49 @@ public class BinaryServiceTunnelContentHandlerTest {
     assertTrue(String.format("sizeUncompressed: %s, sizeCompressed: %s", sizeUncompressed, sizeCompressed), sizeUncompressed > sizeCompressed);
   }
 
+  @Test
+  public void responseCompressionThreshold() throws Throwable {
+    Mockito.when(m_compressionThresholdProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(8 * 1024);
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler();
+    handler.initialize();
+
+    // below threshold: sent uncompressed
+    byte[] data = writeResponse(handler, "test");
+    assertEquals(BinaryServiceTunnelContentHandler.ENCODING_UNCOMPRESSED, data[0]);
+    assertEquals("test", handler.readResponse(new ByteArrayInputStream(data)).getData());
+
+    // above threshold: compressed while streaming
+    String largeValue = StringUtility.repeat("xxxxxxxxxx", 10000);
+    data = writeResponse(handler, largeValue);
+    assertEquals(BinaryServiceTunnelContentHandler.ENCODING_DEFLATE, data[0]);
+    assertTrue(String.format("size: %s", data.length), data.length < largeValue.length());
+    assertEquals(largeValue, handler.readResponse(new ByteArrayInputStream(data)).getData());
+  }
+
+  @Test
+  public void responseCompressedAfterSmallRequest() throws Throwable {
+    Mockito.when(m_compressProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(null);
+    Mockito.when(m_compressionThresholdProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(8 * 1024);
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler();
+    handler.initialize();
+
+    // small request below threshold is received uncompressed
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, new ServiceTunnelRequest("test", null, null, null));
+    assertEquals(BinaryServiceTunnelContentHandler.ENCODING_UNCOMPRESSED, bos.toByteArray()[0]);
+    handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+
+    // large response is compressed nevertheless
+    String largeValue = StringUtility.repeat("xxxxxxxxxx", 10000);
+    byte[] data = writeResponse(handler, largeValue);
+    assertEquals(BinaryServiceTunnelContentHandler.ENCODING_DEFLATE, data[0]);
+    assertEquals(largeValue, handler.readResponse(new ByteArrayInputStream(data)).getData());
+  }
+
+  protected byte[] writeResponse(BinaryServiceTunnelContentHandler handler, String value) throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, new ServiceTunnelResponse(value, null));
+    bos.close();
+    return bos.toByteArray();
+  }
 }
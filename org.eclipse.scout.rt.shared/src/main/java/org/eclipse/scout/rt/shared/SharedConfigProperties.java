@@ -17,6 +17,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBinaryConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractSubjectConfigProperty;
@@ -205,6 +206,27 @@ public final class SharedConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class ServiceTunnelCompressionThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 8 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Size in bytes from which on the data sent by the BinaryServiceTunnelContentHandler is compressed (if compression is used at all). Smaller messages are sent uncompressed. Default is 8 KB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.compressionThreshold";
+    }
+  }
+
   public static class CreateTunnelToServerBeansProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.shared.clientnotification;
 
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -48,4 +49,23 @@ public interface IClientNotificationService {
    * @return list of new notification messages never <code>null</code>
    */
   List<ClientNotificationMessage> getNotifications(NodeId nodeId);
+
+  /**
+   * Receive new notifications relevant for the given node. Notifications addressed to specific sessions or users are
+   * only returned if at least one of them lives on the node.
+   * <p>
+   * The default implementation ignores the given sessions and users and delegates to {@link #getNotifications(NodeId)}.
+   *
+   * @param nodeId
+   *          unique id of the client node
+   * @param sessionIds
+   *          ids of all sessions living on the client node
+   * @param userIds
+   *          ids of all users having a session on the client node
+   * @return list of new notification messages never <code>null</code>
+   * @since 24.1
+   */
+  default List<ClientNotificationMessage> getNotifications(NodeId nodeId, Set<String> sessionIds, Set<String> userIds) {
+    return getNotifications(nodeId);
+  }
 }
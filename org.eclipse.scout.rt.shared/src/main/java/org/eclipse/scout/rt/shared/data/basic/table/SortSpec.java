@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.shared.data.basic.table;
 
 import java.io.Serializable;
+import java.util.Arrays;
 
 public class SortSpec implements Serializable {
   private static final long serialVersionUID = 0L;
@@ -77,4 +78,20 @@ public class SortSpec implements Serializable {
     return -1;
   }
 
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(m_columns) + Arrays.hashCode(m_ascending);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    SortSpec other = (SortSpec) obj;
+    return Arrays.equals(m_columns, other.m_columns) && Arrays.equals(m_ascending, other.m_ascending);
+  }
 }
@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.shared.data.page;
 
+import java.io.Serializable;
+
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.data.form.fields.tablefield.AbstractTableFieldBeanData;
@@ -27,6 +29,7 @@ public abstract class AbstractTablePageData extends AbstractTableFieldBeanData {
   private boolean m_limitedResult;
   private long m_estimatedRowCount;
   private int m_maxRowCount;
+  private Serializable m_cursor;
 
   /**
    * Optional property may be used by the data provider to signal, that the data returned by this instance has been
@@ -86,4 +89,24 @@ public abstract class AbstractTablePageData extends AbstractTableFieldBeanData {
   public void setMaxRowCount(int maxRowCount) {
     m_maxRowCount = maxRowCount;
   }
+
+  /**
+   * Optional property may be used by the data provider to report the position after the last row of this bean, if the
+   * rows are loaded in windows (see {@link org.eclipse.scout.rt.shared.services.common.jdbc.SearchFilter#isPaged()}).
+   * The cursor is opaque to the client and passed back to the data provider when the next window is loaded. Whether
+   * there are more rows to load is reported by {@link #isLimitedResult()}.
+   *
+   * @since 24.1
+   */
+  public Serializable getCursor() {
+    return m_cursor;
+  }
+
+  /**
+   * @see #getCursor()
+   * @since 24.1
+   */
+  public void setCursor(Serializable cursor) {
+    m_cursor = cursor;
+  }
 }
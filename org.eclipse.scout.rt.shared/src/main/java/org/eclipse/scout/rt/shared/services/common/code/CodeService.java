@@ -18,6 +18,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.annotation.PostConstruct;
 
@@ -47,6 +48,13 @@ public class CodeService implements ICodeService {
 
   private volatile ICache<CodeTypeCacheKey, ICodeType<?, ?>> m_cache;
 
+  /**
+   * Secondary index of the cache used by {@link #findCodeTypeById(Object)}: maps code type ids to the code type class.
+   * The cache key is created from the class, hence the index is independent of locale and partition. Entries are
+   * verified against the cache upon lookup, because the cache may be invalidated by other cluster nodes.
+   */
+  private final Map<Object, Class<? extends ICodeType<?, ?>>> m_codeTypeClassById = new ConcurrentHashMap<>();
+
   /**
    * Creates and initializes a new cache. Executed in {@link PostConstruct} to ensure that the cache created exactly
    * once.
@@ -123,17 +131,53 @@ public class CodeService implements ICodeService {
    */
   @SuppressWarnings("unchecked")
   protected <T> ICodeType<T, ?> findCodeTypeByIdInternal(T id) {
+    Class<? extends ICodeType<?, ?>> codeTypeClass = m_codeTypeClassById.get(id);
+    if (codeTypeClass != null) {
+      ICodeType<?, ?> ct = getCache().getUnmodifiableMap().get(createCacheKey(codeTypeClass));
+      if (ct != null && id.equals(ct.getId())) {
+        return (ICodeType<T, ?>) ct;
+      }
+      if (ct != null) {
+        // the id of the code type changed since it was indexed
+        m_codeTypeClassById.remove(id, codeTypeClass);
+      }
+    }
+    return findCodeTypeByIdAndUpdateIndex(id);
+  }
+
+  /**
+   * Scans the cache for the code type with the given id and adds all cached code types to the id index.
+   *
+   * @return Returns the code type with the given id or <code>null</code> if it is not found in the cache.
+   * @since 24.1
+   */
+  @SuppressWarnings("unchecked")
+  protected <T> ICodeType<T, ?> findCodeTypeByIdAndUpdateIndex(T id) {
     Locale locale = NlsLocale.get();
+    ICodeType<T, ?> result = null;
     for (Entry<CodeTypeCacheKey, ICodeType<?, ?>> entry : getCache().getUnmodifiableMap().entrySet()) {
       CodeTypeCacheKey key = entry.getKey();
-      if (ObjectUtility.equals(key.getLocale(), locale)) {
-        ICodeType<?, ?> ct = entry.getValue();
-        if (ct != null && id.equals(ct.getId())) {
-          return (ICodeType<T, ?>) ct;
-        }
+      ICodeType<?, ?> ct = entry.getValue();
+      if (ct == null || ct.getId() == null) {
+        continue;
+      }
+      if (key.getCodeTypeClass() != null) {
+        m_codeTypeClassById.put(ct.getId(), key.getCodeTypeClass());
+      }
+      if (result == null && ObjectUtility.equals(key.getLocale(), locale) && id.equals(ct.getId())) {
+        result = (ICodeType<T, ?>) ct;
       }
     }
-    return null;
+    return result;
+  }
+
+  /**
+   * Removes the given code type classes from the id index used by {@link #findCodeTypeById(Object)}.
+   *
+   * @since 24.1
+   */
+  protected void invalidateCodeTypeIdIndex(Collection<Class<? extends ICodeType<?, ?>>> codeTypeClasses) {
+    m_codeTypeClassById.values().removeIf(codeTypeClasses::contains);
   }
 
   @Override
@@ -243,7 +287,9 @@ public class CodeService implements ICodeService {
     if (type == null) {
       return;
     }
-    getCache().invalidate(BEANS.get(CodeTypeCacheUtility.class).createEntryFilter(type), true);
+    CodeTypeCacheEntryFilter filter = BEANS.get(CodeTypeCacheUtility.class).createEntryFilter(type);
+    getCache().invalidate(filter, true);
+    invalidateCodeTypeIdIndex(filter.getCodeTypeClasses());
   }
 
   @Override
@@ -253,6 +299,7 @@ public class CodeService implements ICodeService {
       return;
     }
     getCache().invalidate(filter, true);
+    invalidateCodeTypeIdIndex(filter.getCodeTypeClasses());
   }
 
   @Override
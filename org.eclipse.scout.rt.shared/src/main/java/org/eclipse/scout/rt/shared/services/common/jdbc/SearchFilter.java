@@ -12,12 +12,14 @@ package org.eclipse.scout.rt.shared.services.common.jdbc;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.IPrettyPrintDataObjectMapper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.shared.data.basic.table.SortSpec;
 import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
 
 /**
@@ -30,6 +32,10 @@ public class SearchFilter implements Serializable {
   private AbstractFormData m_formData;
   private IDoEntity m_data;
   private List<String> m_displayTexts;
+  private int m_offset;
+  private int m_limit;
+  private Serializable m_cursor;
+  private SortSpec m_sortSpec;
 
   public SearchFilter() {
     m_displayTexts = new ArrayList<>();
@@ -45,6 +51,10 @@ public class SearchFilter implements Serializable {
       m_data = mapper.readValue(mapper.writeValue(other.m_data), other.m_data.getClass());
     }
     m_displayTexts = new ArrayList<>(other.m_displayTexts);
+    m_offset = other.m_offset;
+    m_limit = other.m_limit;
+    m_cursor = other.m_cursor;
+    m_sortSpec = other.m_sortSpec;
   }
 
   /**
@@ -70,6 +80,70 @@ public class SearchFilter implements Serializable {
     m_data = data;
   }
 
+  /**
+   * Number of rows to skip, used if the rows are loaded in windows of {@link #getLimit()} rows.
+   *
+   * @since 24.1
+   */
+  public int getOffset() {
+    return m_offset;
+  }
+
+  public void setOffset(int offset) {
+    m_offset = offset;
+  }
+
+  /**
+   * Maximum number of rows to load, 0 if the rows are not loaded in windows.
+   *
+   * @since 24.1
+   */
+  public int getLimit() {
+    return m_limit;
+  }
+
+  public void setLimit(int limit) {
+    m_limit = limit;
+  }
+
+  /**
+   * @return <code>true</code> if only a window of {@link #getLimit()} rows starting at {@link #getOffset()} is to be
+   *         loaded.
+   * @since 24.1
+   */
+  public boolean isPaged() {
+    return m_limit > 0;
+  }
+
+  /**
+   * Opaque position after the last loaded row as returned by the data provider in
+   * {@link org.eclipse.scout.rt.shared.data.page.AbstractTablePageData#getCursor()}, <code>null</code> when loading the
+   * first window. Data providers supporting keyset pagination may use it instead of {@link #getOffset()}.
+   *
+   * @since 24.1
+   */
+  public Serializable getCursor() {
+    return m_cursor;
+  }
+
+  public void setCursor(Serializable cursor) {
+    m_cursor = cursor;
+  }
+
+  /**
+   * Sort order of the table the rows are loaded for. If the rows are loaded in windows, the data provider has to sort
+   * the rows accordingly, because the table can only sort the rows already loaded.
+   *
+   * @since 24.1
+   */
+  public SortSpec getSortSpec() {
+    return m_sortSpec;
+  }
+
+  public void setSortSpec(SortSpec sortSpec) {
+    m_sortSpec = sortSpec;
+  }
+
   /**
    * clear all elements in the filter
    */
@@ -78,6 +152,10 @@ public class SearchFilter implements Serializable {
     m_displayTexts.clear();
     m_formData = null;
     m_data = null;
+    m_offset = 0;
+    m_limit = 0;
+    m_cursor = null;
+    m_sortSpec = null;
   }
 
   public String[] getDisplayTexts() {
@@ -141,6 +219,10 @@ public class SearchFilter implements Serializable {
     result = prime * result + ((m_displayTexts == null) ? 0 : m_displayTexts.hashCode());
     result = prime * result + ((m_formData == null) ? 0 : m_formData.hashCode());
     result = prime * result + ((m_data == null) ? 0 : m_data.hashCode());
+    result = prime * result + m_offset;
+    result = prime * result + m_limit;
+    result = prime * result + Objects.hashCode(m_cursor);
+    result = prime * result + Objects.hashCode(m_sortSpec);
     return result;
   }
 
@@ -183,6 +265,9 @@ public class SearchFilter implements Serializable {
     else if (!m_data.equals(other.m_data)) {
       return false;
     }
-    return true;
+    if (m_offset != other.m_offset || m_limit != other.m_limit) {
+      return false;
+    }
+    return Objects.equals(m_cursor, other.m_cursor) && Objects.equals(m_sortSpec, other.m_sortSpec);
   }
 }
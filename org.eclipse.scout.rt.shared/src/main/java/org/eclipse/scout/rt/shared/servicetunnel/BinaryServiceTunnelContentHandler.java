@@ -9,6 +9,9 @@
  */
 package org.eclipse.scout.rt.shared.servicetunnel;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
@@ -19,11 +22,17 @@ import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionThresholdProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * "No frills" implementation for client-server communication with optional compression.
+ * <p>
+ * The serialized data is streamed through large buffers. If compression is used, only messages exceeding
+ * {@link ServiceTunnelCompressionThresholdProperty} are compressed, because compressing small messages costs more than
+ * it saves. The first byte of a message denotes whether the rest is compressed.
  */
 @Order(5010)
 public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
@@ -31,7 +40,17 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
   private static final Logger LOG = LoggerFactory.getLogger(BinaryServiceTunnelContentHandler.class);
   private static final String CONTENT_TYPE = "application/octet-stream";
 
-  private Boolean m_receivedCompressed;
+  protected static final int ENCODING_UNCOMPRESSED = 0;
+  protected static final int ENCODING_DEFLATE = 1;
+  protected static final int BUFFER_SIZE = 64 * 1024;
+
+  private int m_compressionThreshold;
+
+  @Override
+  public void initialize() {
+    super.initialize();
+    m_compressionThreshold = CONFIG.getPropertyValue(ServiceTunnelCompressionThresholdProperty.class);
+  }
 
   @Override
   public String getContentType() {
@@ -59,43 +78,34 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
   }
 
   private void writeData(OutputStream out, Object msg) throws IOException {
-    Deflater deflater = null;
-    boolean compressed = isUseCompression();
     try {
-      // signal compression
-      out.write(compressed ? 1 : 0);
-      // build serialized data
-      if (compressed) {
-        deflater = new Deflater(Deflater.BEST_SPEED);
-        out = new DeflaterOutputStream(out, deflater);
+      if (isUseCompression()) {
+        // the serializer closes the stream which completes the message
+        getObjectSerializer().serialize(new TieredOutputStream(out, getCompressionThreshold()), msg);
+      }
+      else {
+        out.write(ENCODING_UNCOMPRESSED);
+        getObjectSerializer().serialize(new BufferedOutputStream(out, BUFFER_SIZE), msg);
       }
-      getObjectSerializer().serialize(out, msg);
     }
     catch (NotSerializableException e) {
       LOG.error("Error serializing data '{}'", msg);
       throw e;
     }
-    finally {
-      if (deflater != null) {
-        try {
-          deflater.end();
-        }
-        catch (Throwable fatal) { // NOSONAR
-        }
-      }
-    }
   }
 
   private <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
     Inflater inflater = null;
     try {
-      // read compressed flag
-      boolean compressed = in.read() == 1;
-      m_receivedCompressed = compressed;
+      // read compressed flag, it only denotes the encoding of this message because small messages are never compressed
+      boolean compressed = in.read() == ENCODING_DEFLATE;
       // decode serial data
       if (compressed) {
         inflater = new Inflater();
-        in = new InflaterInputStream(in, inflater);
+        in = new InflaterInputStream(in, inflater, BUFFER_SIZE);
+      }
+      else {
+        in = new BufferedInputStream(in, BUFFER_SIZE);
       }
       return getObjectSerializer().deserialize(in, clazz);
     }
@@ -110,14 +120,98 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  protected int getCompressionThreshold() {
+    return m_compressionThreshold;
+  }
+
+  /**
+   * @return <code>true</code> if messages exceeding {@link #getCompressionThreshold()} are compressed. Unless configured
+   *         otherwise, a response is compressed based on its own size and not on the encoding of the request.
+   */
   protected boolean isUseCompression() {
     if (isSendCompressed() != null) {
       return isSendCompressed();
     }
-    if (m_receivedCompressed != null) {
-      return m_receivedCompressed;
-    }
     return true;
   }
 
+  /**
+   * Keeps the data in memory until the threshold is exceeded. Then the compressed flag is written and the data is
+   * compressed while streaming it to the underlying stream. If the threshold is not reached, the data is written
+   * uncompressed when the stream is closed.
+   */
+  protected static class TieredOutputStream extends OutputStream {
+
+    private final OutputStream m_out;
+    private final int m_threshold;
+    private ByteArrayOutputStream m_buffer;
+    private Deflater m_deflater;
+    private OutputStream m_compressedOut;
+    private boolean m_closed;
+
+    public TieredOutputStream(OutputStream out, int threshold) {
+      m_out = out;
+      m_threshold = threshold;
+      m_buffer = new ByteArrayOutputStream(Math.min(threshold, BUFFER_SIZE));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (m_compressedOut == null && m_buffer.size() + len > m_threshold) {
+        startCompression();
+      }
+      if (m_compressedOut != null) {
+        m_compressedOut.write(b, off, len);
+      }
+      else {
+        m_buffer.write(b, off, len);
+      }
+    }
+
+    protected void startCompression() throws IOException {
+      m_out.write(ENCODING_DEFLATE);
+      m_deflater = new Deflater(Deflater.BEST_SPEED);
+      m_compressedOut = new DeflaterOutputStream(m_out, m_deflater, BUFFER_SIZE);
+      m_buffer.writeTo(m_compressedOut);
+      m_buffer = null;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      if (m_compressedOut != null) {
+        m_compressedOut.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      try {
+        if (m_compressedOut != null) {
+          m_compressedOut.close();
+        }
+        else {
+          m_out.write(ENCODING_UNCOMPRESSED);
+          m_buffer.writeTo(m_out);
+          m_out.close();
+        }
+      }
+      finally {
+        if (m_deflater != null) {
+          m_deflater.end();
+        }
+      }
+    }
+  }
 }
@@ -16,6 +16,7 @@ import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
 
 import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.ServletHolder.Registration;
@@ -26,11 +27,15 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.server.commons.HttpSessionMutex;
 import org.eclipse.scout.rt.server.commons.healthcheck.HealthCheckServlet;
 import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.AsyncPollingEnabledProperty;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.app.filter.UiServletMultipartConfigFilter;
 
 /**
  * {@link IServletContributor} and {@link IServletFilterContributor} for UI server.
+ * <p>
+ * The {@link UiServlet} and the filters in front of it support asynchronous requests, which are used for poll requests
+ * (see {@link AsyncPollingEnabledProperty}). A filter without async support in the chain disables them.
  */
 public final class UiServletContributors {
 
@@ -52,7 +57,8 @@ public final class UiServletContributors {
 
     @Override
     public void contribute(ServletContextHandler handler) {
-      handler.addFilter(UiServletMultipartConfigFilter.class, "/*", null);
+      FilterHolder filter = handler.addFilter(UiServletMultipartConfigFilter.class, "/*", null);
+      filter.setAsyncSupported(true);
     }
   }
 
@@ -71,6 +77,9 @@ public final class UiServletContributors {
    * authentication.
    * <p>
    * The paths provided by {@link #getFilterExcludes()} should be excluded from authentication.
+   * <p>
+   * The registered filter should support asynchronous requests ({@link FilterHolder#setAsyncSupported(boolean)}),
+   * otherwise poll requests block a container thread while waiting.
    */
   @Order(2000)
   public static class AuthFilterContributor implements IServletFilterContributor {
@@ -100,7 +109,8 @@ public final class UiServletContributors {
 
     @Override
     public void contribute(ServletContextHandler handler) {
-      handler.addFilter(GzipServletFilter.class, "/*", null);
+      FilterHolder filter = handler.addFilter(GzipServletFilter.class, "/*", null);
+      filter.setAsyncSupported(true);
     }
   }
 
@@ -118,7 +128,8 @@ public final class UiServletContributors {
 
     @Override
     public void contribute(ServletContextHandler handler) {
-      handler.addServlet(UiServlet.class, "/*");
+      ServletHolder servlet = handler.addServlet(UiServlet.class, "/*");
+      servlet.setAsyncSupported(true);
     }
   }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.app;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.FilterHolder;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.UiServlet;
+import org.eclipse.scout.rt.ui.html.app.UiServletContributors.GzipFilterContributor;
+import org.eclipse.scout.rt.ui.html.app.UiServletContributors.UiServletContributor;
+import org.eclipse.scout.rt.ui.html.app.UiServletContributors.UiServletMultipartConfigFilterContributor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class UiServletContributorsTest {
+
+  private static final String JSON = "{\"events\":[" + StringUtility.repeat("{\"target\":\"1\",\"type\":\"property\"},", 500) + "{}]}";
+
+  private Server m_server;
+  private ServletContextHandler m_handler;
+
+  @Before
+  public void before() throws Exception {
+    m_handler = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
+    new UiServletMultipartConfigFilterContributor().contribute(m_handler);
+    new GzipFilterContributor().contribute(m_handler);
+    new UiServletContributor().contribute(m_handler);
+    // stands in for the poll requests of the UiServlet which requires a UI session
+    ServletHolder asyncServlet = m_handler.addServlet(P_AsyncJsonServlet.class, "/json");
+    asyncServlet.setAsyncSupported(true);
+
+    m_server = new Server(0);
+    m_server.setHandler(m_handler);
+    m_server.start();
+  }
+
+  @After
+  public void after() throws Exception {
+    m_server.stop();
+  }
+
+  @Test
+  public void testAsyncSupported() {
+    ServletHolder uiServlet = Arrays.stream(m_handler.getServletHandler().getServlets())
+        .filter(holder -> UiServlet.class.getName().equals(holder.getClassName()))
+        .findFirst()
+        .orElseThrow();
+    assertTrue(uiServlet.isAsyncSupported());
+    for (FilterHolder filter : m_handler.getServletHandler().getFilters()) {
+      assertTrue(filter.getClassName(), filter.isAsyncSupported());
+    }
+  }
+
+  @Test
+  public void testCompressAsyncResponse() throws Exception {
+    int port = ((ServerConnector) m_server.getConnectors()[0]).getLocalPort();
+    HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + "/json").openConnection();
+    connection.setRequestProperty(GzipServletFilter.ACCEPT_ENCODING, GzipServletFilter.GZIP);
+    try (InputStream in = connection.getInputStream()) {
+      assertEquals(HttpServletResponse.SC_OK, connection.getResponseCode());
+      assertEquals("true", connection.getHeaderField(P_AsyncJsonServlet.ASYNC_HEADER));
+      assertEquals(GzipServletFilter.GZIP, connection.getHeaderField(GzipServletFilter.CONTENT_ENCODING));
+      byte[] body = IOUtility.readBytes(in);
+      assertTrue(body.length < JSON.length());
+      assertEquals(JSON, new String(IOUtility.uncompressGzip(body), StandardCharsets.UTF_8));
+    }
+    finally {
+      connection.disconnect();
+    }
+  }
+
+  public static class P_AsyncJsonServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    static final String ASYNC_HEADER = "X-Async";
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) {
+      resp.setHeader(ASYNC_HEADER, String.valueOf(req.isAsyncSupported()));
+      AsyncContext asyncContext = req.startAsync(req, resp);
+      asyncContext.start(() -> {
+        try {
+          resp.setContentType("application/json");
+          resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+          resp.getWriter().write(JSON);
+        }
+        catch (IOException e) {
+          throw new RuntimeException(e);
+        }
+        finally {
+          asyncContext.complete();
+        }
+      });
+    }
+  }
+}
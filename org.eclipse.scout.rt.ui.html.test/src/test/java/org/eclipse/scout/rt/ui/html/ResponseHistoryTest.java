@@ -9,14 +9,17 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
-import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.assertNull;
-import static org.junit.Assert.assertSame;
+import static org.junit.Assert.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.Test;
 
@@ -40,16 +43,16 @@ public class ResponseHistoryTest {
     assertNull(history.getResponseForRequest(null));
 
     // Insert two requests
-    JSONObject resp1 = new JSONObject();
-    JSONObject resp2 = new JSONObject();
+    JSONObject resp1 = new JSONObject().put("id", 1);
+    JSONObject resp2 = new JSONObject().put("id", 2);
     history.registerResponse(7L, resp1, 1L);
     history.registerResponse(8L, resp2, 2L);
 
     // Test getters
-    assertSame(resp1, history.getResponse(7L));
-    assertSame(resp2, history.getResponse(8L));
-    assertSame(resp1, history.getResponseForRequest(1L));
-    assertSame(resp2, history.getResponseForRequest(2L));
+    assertJsonEquals(resp1, history.getResponse(7L));
+    assertJsonEquals(resp2, history.getResponse(8L));
+    assertJsonEquals(resp1, history.getResponseForRequest(1L));
+    assertJsonEquals(resp2, history.getResponseForRequest(2L));
     assertEquals(Long.valueOf(1), history.getRequestSequenceNo(7L));
     assertEquals(Long.valueOf(2), history.getRequestSequenceNo(8L));
     assertEquals(Long.valueOf(7), history.getResponseSequenceNo(1L));
@@ -90,23 +93,177 @@ public class ResponseHistoryTest {
     List<JSONObject> all = new ArrayList<>();
     // Insert many requests
     for (int i = 0; i < 20; i++) {
-      JSONObject resp = new JSONObject();
+      JSONObject resp = new JSONObject().put("id", i);
       all.add(resp);
       history.registerResponse(Long.valueOf(i), resp, Long.valueOf(i));
       assertEquals(Math.min(i + 1, 10), history.size());
     }
+    // a full history is encoded without acknowledgment
+    assertTrue(history.getRetainedBytes() > 0);
 
     assertNull(history.getResponse(0L));
     assertNull(history.getResponse(1L));
     assertNull(history.getResponse(2L));
     assertNull(history.getResponse(9L));
-    assertSame(all.get(10), history.getResponse(10L));
-    assertSame(all.get(11), history.getResponse(11L));
-    assertSame(all.get(12), history.getResponse(12L));
-    assertSame(all.get(19), history.getResponse(19L));
+    assertJsonEquals(all.get(10), history.getResponse(10L));
+    assertJsonEquals(all.get(11), history.getResponse(11L));
+    assertJsonEquals(all.get(12), history.getResponse(12L));
+    assertJsonEquals(all.get(19), history.getResponse(19L));
     assertNull(history.getResponse(20L));
   }
 
+  @Test
+  public void testMaxBytes() {
+    final long maxBytes = 10000;
+    ResponseHistory history = new ResponseHistory() {
+      @Override
+      protected long getMaxBytes() {
+        return maxBytes;
+      }
+    };
+
+    // responses with random content (hardly compressible), two of them exceed the budget once they survive an acknowledgment
+    Random random = new Random(1);
+    for (int i = 0; i < 3; i++) {
+      history.registerResponse(Long.valueOf(i), new JSONObject().put("data", randomString(random, 8000)), Long.valueOf(i));
+      history.confirmResponseProcessed(-1L);
+      assertEquals(1, history.size());
+      assertTrue(history.getRetainedBytes() <= maxBytes);
+    }
+    assertNull(history.getResponse(0L));
+    assertNull(history.getResponseSequenceNo(0L));
+    assertNull(history.getResponse(1L));
+    assertNotNull(history.getResponse(2L));
+
+    // small responses are kept until the budget is exceeded
+    history.confirmResponseProcessed(2L);
+    for (int i = 3; i < 8; i++) {
+      history.registerResponse(Long.valueOf(i), new JSONObject().put("data", randomString(random, 1000)), Long.valueOf(i));
+      history.confirmResponseProcessed(2L);
+    }
+    assertEquals(5, history.size());
+
+    // a single response exceeding the budget is kept
+    history.registerResponse(8L, new JSONObject().put("data", randomString(random, 20000)), 8L);
+    history.confirmResponseProcessed(2L);
+    assertEquals(1, history.size());
+    assertTrue(history.getRetainedBytes() > maxBytes);
+    assertNotNull(history.getResponse(8L));
+
+    history.confirmResponseProcessed(8L);
+    assertEquals(0, history.size());
+    assertEquals(0, history.getRetainedBytes());
+  }
+
+  @Test
+  public void testCompression() {
+    ResponseHistory history = new ResponseHistory();
+    JSONObject response = new JSONObject();
+    JSONArray events = new JSONArray();
+    for (int i = 0; i < 1000; i++) {
+      events.put(new JSONObject().put("target", "42").put("type", "property").put("value", i));
+    }
+    response.put(JsonResponse.PROP_EVENTS, events);
+    history.registerResponse(1L, response, 1L);
+    history.confirmResponseProcessed(0L);
+
+    assertTrue(history.getRetainedBytes() < response.toString().length() / 2);
+    assertJsonEquals(response, history.getResponse(1L));
+
+    JSONObject syncResponse = history.toSyncResponse();
+    assertEquals(1000, syncResponse.getJSONArray(JsonResponse.PROP_EVENTS).length());
+
+    history.clear();
+    assertEquals(0, history.size());
+    assertEquals(0, history.getRetainedBytes());
+  }
+
+  @Test
+  public void testLazyEncoding() {
+    ResponseHistory history = new ResponseHistory();
+    JSONObject resp1 = new JSONObject().put("id", 1);
+    JSONObject resp2 = new JSONObject().put("id", 2);
+    history.registerResponse(1L, resp1, 1L);
+    history.registerResponse(2L, resp2, 2L);
+
+    // not encoded yet, the registered responses are returned and counted with their estimated size
+    long estimatedBytes = history.getRetainedBytes();
+    assertTrue(estimatedBytes >= resp1.toString().length() + resp2.toString().length());
+    assertSame(resp1, history.getResponse(1L));
+    assertSame(resp2, history.getResponseForRequest(2L));
+
+    // a response surviving an acknowledgment is encoded
+    history.confirmResponseProcessed(1L);
+    assertEquals(1, history.size());
+    assertTrue(history.getRetainedBytes() > 0);
+    assertNotSame(resp2, history.getResponse(2L));
+    assertJsonEquals(resp2, history.getResponse(2L));
+
+    history.confirmResponseProcessed(2L);
+    assertEquals(0, history.getRetainedBytes());
+  }
+
+  @Test
+  public void testMaxBytesOfPendingResponses() {
+    ResponseHistory history = new ResponseHistory() {
+      @Override
+      protected long getMaxBytes() {
+        return 10000;
+      }
+
+      @Override
+      protected void scheduleEncodePendingResponses() {
+        // budget is enforced without encoding
+      }
+    };
+    Random random = new Random(1);
+    for (int i = 0; i < 3; i++) {
+      history.registerResponse(Long.valueOf(i), new JSONObject().put("data", randomString(random, 4000)), Long.valueOf(i));
+    }
+    assertEquals(2, history.size());
+    assertNull(history.getResponse(0L));
+    assertTrue(history.getRetainedBytes() <= 10000);
+  }
+
+  @Test
+  public void testEncodeInBackground() throws InterruptedException {
+    Thread registeringThread = Thread.currentThread();
+    List<Thread> encodingThreads = new ArrayList<>();
+    CountDownLatch encoded = new CountDownLatch(1);
+    ResponseHistory history = new ResponseHistory() {
+      @Override
+      protected RetainedResponse encode(JSONObject response) {
+        synchronized (encodingThreads) {
+          encodingThreads.add(Thread.currentThread());
+        }
+        encoded.countDown();
+        return super.encode(response);
+      }
+    };
+
+    // a full history is under pressure
+    for (int i = 0; i < 10; i++) {
+      history.registerResponse(Long.valueOf(i), new JSONObject().put("id", i), Long.valueOf(i));
+    }
+    assertTrue(encoded.await(30, TimeUnit.SECONDS));
+    synchronized (encodingThreads) {
+      assertFalse(encodingThreads.contains(registeringThread));
+    }
+  }
+
+  private static void assertJsonEquals(JSONObject expected, JSONObject actual) {
+    assertNotNull(actual);
+    assertEquals(expected.toString(), actual.toString());
+  }
+
+  private static String randomString(Random random, int length) {
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++) {
+      sb.append((char) ('!' + random.nextInt(90)));
+    }
+    return sb.toString();
+  }
+
   @Test
   public void testMissingRequestSequenceNo() {
     ResponseHistory history = new ResponseHistory();
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.eclipse.scout.rt.client.IClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Contention test for {@link SessionStore} with many parallel UI sessions per HTTP session.
+ */
+@RunWith(PlatformTestRunner.class)
+public class SessionStoreTest {
+
+  private static final int UI_SESSION_COUNT = 50;
+  private static final int READER_COUNT = 8;
+  private static final int LOOKUPS_PER_READER = 20000;
+
+  private ExecutorService m_executor;
+  private SessionStore m_store;
+  private IClientSession m_clientSession;
+  private List<IUiSession> m_uiSessions;
+
+  @Before
+  public void before() {
+    m_executor = Executors.newFixedThreadPool(READER_COUNT + 1);
+    HttpSession httpSession = mock(HttpSession.class);
+    when(httpSession.getId()).thenReturn("http-1");
+    m_store = new SessionStore(httpSession);
+    m_clientSession = mockClientSession("client-1");
+    m_uiSessions = new ArrayList<>();
+    for (int i = 0; i < UI_SESSION_COUNT; i++) {
+      IUiSession uiSession = mockUiSession("ui-" + i, m_clientSession);
+      m_store.registerUiSession(uiSession);
+      m_uiSessions.add(uiSession);
+    }
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testLookupWhileWriteLockIsHeld() throws Exception {
+    m_store.m_writeLock.lock();
+    try {
+      Future<IUiSession> lookup = m_executor.submit(() -> m_store.getUiSession("ui-7"));
+      assertSame(m_uiSessions.get(7), lookup.get(10, TimeUnit.SECONDS));
+      Future<Integer> count = m_executor.submit(() -> m_store.countUiSessions());
+      assertEquals(UI_SESSION_COUNT, count.get(10, TimeUnit.SECONDS).intValue());
+    }
+    finally {
+      m_store.m_writeLock.unlock();
+    }
+  }
+
+  @Test
+  public void testParallelLookupsAndRegistrations() throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean readersDone = new AtomicBoolean();
+
+    List<Future<Integer>> readers = new ArrayList<>();
+    for (int r = 0; r < READER_COUNT; r++) {
+      final int offset = r;
+      readers.add(m_executor.submit(() -> {
+        start.await();
+        int found = 0;
+        for (int i = 0; i < LOOKUPS_PER_READER; i++) {
+          int index = (i + offset) % UI_SESSION_COUNT;
+          if (m_store.getUiSession("ui-" + index) == m_uiSessions.get(index)) {
+            found++;
+          }
+        }
+        return found;
+      }));
+    }
+
+    // register and unregister additional UI sessions of the same client session concurrently
+    Future<Integer> writer = m_executor.submit(() -> {
+      start.await();
+      int registrations = 0;
+      while (!readersDone.get()) {
+        IUiSession uiSession = mockUiSession("tmp-" + registrations, m_clientSession);
+        m_store.registerUiSession(uiSession);
+        m_store.getUiSessionsByClientSession();
+        m_store.unregisterUiSession(uiSession);
+        registrations++;
+      }
+      return registrations;
+    });
+
+    start.countDown();
+    for (Future<Integer> reader : readers) {
+      assertEquals(LOOKUPS_PER_READER, reader.get(1, TimeUnit.MINUTES).intValue());
+    }
+    readersDone.set(true);
+    assertTrue(writer.get(1, TimeUnit.MINUTES).intValue() > 0);
+
+    assertEquals(UI_SESSION_COUNT, m_store.countUiSessions());
+    assertEquals(1, m_store.countClientSessions());
+    assertEquals(UI_SESSION_COUNT, m_store.getUiSessionsByClientSession().get(m_clientSession).size());
+  }
+
+  @Test
+  public void testUnregisterAll() {
+    for (IUiSession uiSession : m_uiSessions) {
+      m_store.unregisterUiSession(uiSession);
+    }
+    assertEquals(0, m_store.countUiSessions());
+    assertNull(m_store.getUiSession("ui-0"));
+    assertTrue(m_store.getUiSessionsByClientSession().isEmpty());
+    // the client session is removed by the housekeeping job, which is not started for persistent UI sessions
+    assertEquals(1, m_store.countClientSessions());
+  }
+
+  private static IClientSession mockClientSession(String id) {
+    IClientSession clientSession = mock(IClientSession.class);
+    when(clientSession.getId()).thenReturn(id);
+    when(clientSession.isActive()).thenReturn(true);
+    return clientSession;
+  }
+
+  private static IUiSession mockUiSession(String id, IClientSession clientSession) {
+    IUiSession uiSession = mock(IUiSession.class);
+    when(uiSession.getUiSessionId()).thenReturn(id);
+    when(uiSession.getClientSessionId()).thenReturn(clientSession.getId());
+    when(uiSession.getClientSession()).thenReturn(clientSession);
+    when(uiSession.isPersistent()).thenReturn(true); // no housekeeping
+    return uiSession;
+  }
+}
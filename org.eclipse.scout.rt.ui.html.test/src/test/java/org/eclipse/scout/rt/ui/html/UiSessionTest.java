@@ -14,6 +14,8 @@ import static org.junit.Assert.*;
 
 import java.lang.ref.WeakReference;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.servlet.http.HttpSession;
@@ -31,6 +33,10 @@ import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
 import org.eclipse.scout.rt.testing.platform.runner.JUnitExceptionHandler;
@@ -38,8 +44,10 @@ import org.eclipse.scout.rt.testing.shared.TestingUtility;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.SessionStoreHousekeepingDelayProperty;
 import org.eclipse.scout.rt.ui.html.fixtures.SessionStoreTestForm;
 import org.eclipse.scout.rt.ui.html.fixtures.SessionStoreTestForm.CloseAction;
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
 import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
 import org.hamcrest.MatcherAssert;
+import org.json.JSONObject;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -96,6 +104,88 @@ public class UiSessionTest {
     TestingUtility.assertGC(ref);
   }
 
+  @Test
+  public void testDisposeClearsHttpResourceCache() {
+    UiSession session = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    HttpCacheKey key = new HttpCacheKey("/dynamic/a.txt");
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.txt")
+        .withContent(new byte[100])
+        .withCachingAllowed(true)
+        .build();
+    assertTrue(session.getHttpResourceCache().put(new HttpCacheObject(key, res)));
+
+    JsonTestUtility.endRequest(session);
+    session.dispose();
+    assertNull(session.getHttpResourceCache().get(key));
+    assertEquals(0, ((UiSessionHttpResourceCache) session.getHttpResourceCache()).getSizeInBytes());
+  }
+
+  @Test
+  public void testParkedPollerTimeout() throws Exception {
+    UiSession uiSession = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(uiSession);
+
+    BlockingQueue<Boolean> resumed = new ArrayBlockingQueue<>(1);
+    uiSession.parkPoller(createPollRequest(uiSession), 1, resumed::add);
+    assertNull(resumed.poll(200, TimeUnit.MILLISECONDS));
+    assertEquals(Boolean.TRUE, resumed.poll(5, TimeUnit.SECONDS));
+    assertNull(uiSession.parkedPoller());
+
+    uiSession.dispose();
+  }
+
+  @Test
+  public void testParkedPollerSuperseded() throws Exception {
+    UiSession uiSession = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(uiSession);
+
+    BlockingQueue<Boolean> resumed1 = new ArrayBlockingQueue<>(1);
+    BlockingQueue<Boolean> resumed2 = new ArrayBlockingQueue<>(1);
+    uiSession.parkPoller(createPollRequest(uiSession), 60, resumed1::add);
+    uiSession.parkPoller(createPollRequest(uiSession), 60, resumed2::add);
+    assertEquals(Boolean.FALSE, resumed1.poll(5, TimeUnit.SECONDS));
+    assertTrue(resumed2.isEmpty());
+
+    // disposing the UI session resumes the parked poller
+    uiSession.dispose();
+    assertEquals(Boolean.TRUE, resumed2.poll(5, TimeUnit.SECONDS));
+    assertNull(uiSession.parkedPoller());
+  }
+
+  @Test
+  public void testUnparkPoller() throws Exception {
+    UiSession uiSession = (UiSession) JsonTestUtility.createAndInitializeUiSession();
+    JsonTestUtility.endRequest(uiSession);
+
+    BlockingQueue<Boolean> resumed = new ArrayBlockingQueue<>(2);
+    JsonRequest pollRequest = createPollRequest(uiSession);
+    uiSession.parkPoller(pollRequest, 60, resumed::add);
+
+    // other requests do not resume the parked poller
+    uiSession.unparkPoller(createPollRequest(uiSession), false);
+    assertTrue(resumed.isEmpty());
+    assertNotNull(uiSession.parkedPoller());
+
+    uiSession.unparkPoller(pollRequest, false);
+    assertEquals(Boolean.FALSE, resumed.poll());
+    assertNull(uiSession.parkedPoller());
+
+    // resumed only once
+    uiSession.unparkPoller(pollRequest, true);
+    assertTrue(resumed.isEmpty());
+
+    uiSession.dispose();
+    assertTrue(resumed.isEmpty());
+  }
+
+  protected JsonRequest createPollRequest(IUiSession uiSession) {
+    JSONObject json = new JSONObject();
+    json.put(JsonRequest.PROP_UI_SESSION_ID, uiSession.getUiSessionId());
+    json.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(json);
+  }
+
   @Test
   public void testLogout() {
     UiSession uiSession = (UiSession) JsonTestUtility.createAndInitializeUiSession();
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.ServletResponse;
+
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JsonRequestHelperTest {
+
+  private static final String LARGE_TEXT = StringUtility.repeat("lorem ipsum ", 5000);
+
+  @Test
+  public void testWriteResponseBuffered() throws IOException {
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    ServletResponse response = mockResponse(out);
+    JSONObject json = new JSONObject().put("text", "lorem");
+
+    new P_JsonRequestHelper(1024).writeResponse(response, json);
+
+    byte[] expected = json.toString().getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, out.getContent());
+    verify(response).setContentLength(expected.length);
+    verify(response, never()).flushBuffer();
+  }
+
+  @Test
+  public void testWriteResponseBufferedFailed() throws IOException {
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    ServletResponse response = mockResponse(out);
+    JSONObject json = new JSONObject()
+        .put("text", "lorem")
+        .put("failing", new P_FailingValue());
+
+    assertThrows(IllegalStateException.class, () -> new P_JsonRequestHelper(1024).writeResponse(response, json));
+
+    // nothing written and not committed, an error response can still be sent
+    assertEquals(0, out.getContent().length);
+    verify(response, never()).setContentLength(anyInt());
+    verify(response, never()).flushBuffer();
+  }
+
+  @Test
+  public void testWriteResponseStreamed() throws IOException {
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    ServletResponse response = mockResponse(out);
+    JSONObject json = new JSONObject().put("text", LARGE_TEXT);
+
+    new P_JsonRequestHelper(1024).writeResponse(response, json);
+
+    assertArrayEquals(json.toString().getBytes(StandardCharsets.UTF_8), out.getContent());
+    verify(response, never()).setContentLength(anyInt());
+    verify(response).flushBuffer();
+  }
+
+  @Test
+  public void testWriteResponseStreamedFailed() throws IOException {
+    BufferedServletOutputStream out = new BufferedServletOutputStream();
+    ServletResponse response = mockResponse(out);
+    JSONObject json = new JSONObject()
+        .put("text", LARGE_TEXT)
+        .put("failing", new P_FailingValue());
+
+    assertThrows(IllegalStateException.class, () -> new P_JsonRequestHelper(1024).writeResponse(response, json));
+
+    // committed before the failure, the exception must propagate to abort the connection
+    assertTrue(out.getContent().length > 1024);
+    verify(response, never()).setContentLength(anyInt());
+    verify(response).flushBuffer();
+  }
+
+  protected ServletResponse mockResponse(BufferedServletOutputStream out) throws IOException {
+    ServletResponse response = mock(ServletResponse.class);
+    when(response.getOutputStream()).thenReturn(out);
+    return response;
+  }
+
+  private static class P_JsonRequestHelper extends JsonRequestHelper {
+    private final int m_responseBufferSize;
+
+    P_JsonRequestHelper(int responseBufferSize) {
+      m_responseBufferSize = responseBufferSize;
+    }
+
+    @Override
+    protected int getResponseBufferSize() {
+      return m_responseBufferSize;
+    }
+  }
+
+  private static class P_FailingValue {
+
+    @Override
+    public String toString() {
+      throw new IllegalStateException("expected JUnit test exception");
+    }
+  }
+}
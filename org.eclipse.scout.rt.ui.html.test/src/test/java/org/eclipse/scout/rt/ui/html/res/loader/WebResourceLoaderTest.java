@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.res.loader;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.junit.Test;
+
+public class WebResourceLoaderTest {
+
+  @Test
+  public void testGetVariantUrl() throws MalformedURLException {
+    assertEquals("file:/opt/app/res/app.js.gz", WebResourceLoader.getVariantUrl(new URL("file:/opt/app/res/app.js"), ".gz").toExternalForm());
+    assertEquals("file:/opt/my%20app/res/app.js.br", WebResourceLoader.getVariantUrl(new URL("file:/opt/my%20app/res/app.js"), ".br").toExternalForm());
+    assertEquals("jar:file:/opt/app/lib.jar!/WebContent/res/app.js.gz", WebResourceLoader.getVariantUrl(new URL("jar:file:/opt/app/lib.jar!/WebContent/res/app.js"), ".gz").toExternalForm());
+  }
+
+  @Test
+  public void testGetVariantUrlUnescaped() throws MalformedURLException {
+    // URLs returned by class loaders may contain unescaped characters
+    assertEquals("file:/opt/my app/res/app 1.js.gz", WebResourceLoader.getVariantUrl(new URL("file:/opt/my app/res/app 1.js"), ".gz").toExternalForm());
+  }
+}
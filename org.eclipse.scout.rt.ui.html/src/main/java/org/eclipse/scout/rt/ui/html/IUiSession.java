@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import javax.security.auth.Subject;
 import jakarta.servlet.http.HttpServletRequest;
@@ -205,6 +206,29 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Non-blocking variant of {@link #waitForBackgroundJobs(JsonRequest, int)}: parks the poll request until a model job
+   * started by a background job has terminated or the poll wait time has elapsed. The calling thread returns
+   * immediately, the given callback is invoked exactly once, usually by a job worker thread.
+   *
+   * @param resumeCallback
+   *          invoked with <code>true</code> if the response should be sent back to the UI, or with <code>false</code>
+   *          if the poll request was superseded by another poll request and no response must be sent.
+   * @since 24.1
+   */
+  void parkPoller(JsonRequest jsonRequest, int pollWaitSeconds, Consumer<Boolean> resumeCallback);
+
+  /**
+   * Resumes the poller parked by {@link #parkPoller(JsonRequest, int, Consumer)} for the given request immediately,
+   * e.g. because the request was completed or aborted by the container. Does nothing if the poller was already
+   * resumed.
+   *
+   * @param sendResponse
+   *          passed to the resume callback of the poller
+   * @since 24.1
+   */
+  void unparkPoller(JsonRequest jsonRequest, boolean sendResponse);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
@@ -9,16 +9,37 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryCompressionEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ResponseHistoryMaxBytesProperty;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -29,6 +50,15 @@ import org.slf4j.LoggerFactory;
  * Collects JSON responses and their corresponding <i>request sequence number</i> and <i>response sequence number</i>
  * until they are acknowledged by the client. A maximum of 10 responses is stored in the history.
  * <p>
+ * The responses are not kept as {@link JSONObject}s but as serialized (and by default compressed) bytes, see
+ * {@link ResponseHistoryCompressionEnabledProperty}. If the retained bytes exceed
+ * {@link ResponseHistoryMaxBytesProperty}, the oldest responses are discarded. Because most responses are acknowledged
+ * with the next request, a response is only encoded once it survives the next acknowledgment or once the history is
+ * under pressure (see {@link #isUnderPressure()}). Until then, the registered {@link JSONObject} is kept, counted with
+ * its estimated JSON length and returned by {@link #getResponse(Long)}. Afterwards, a new {@link JSONObject} is
+ * returned on each call. Responses are registered in the model thread, hence they are never encoded there but by the
+ * acknowledging request or by a background job.
+ * <p>
  * This class is thread-safe.
  */
 @Bean
@@ -41,7 +71,12 @@ public class ResponseHistory {
 
   private final Map<Long, Long> m_requestToResponseMap = new HashMap<>(); // RequestSequenceNo -> ResponseSequenceNo
   private final Map<Long, Long> m_responseToRequestMap = new HashMap<>(); // ResponseSequenceNo -> RequestSequenceNo
-  private final SortedMap<Long, JSONObject> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private final SortedMap<Long, RetainedResponse> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private final ResponseHistoryMetricsHelper m_metrics = BEANS.get(ResponseHistoryMetricsHelper.class);
+  private final long m_maxBytes = CONFIG.getPropertyValue(ResponseHistoryMaxBytesProperty.class);
+  private final boolean m_compressionEnabled = CONFIG.getPropertyValue(ResponseHistoryCompressionEnabledProperty.class);
+  private final AtomicBoolean m_encodingScheduled = new AtomicBoolean();
+  private long m_retainedBytes;
 
   private UiSession m_uiSession;
 
@@ -63,7 +98,8 @@ public class ResponseHistory {
    * <u>request</u> sequence number is provided, a mapping between those sequence numbers is stored as well. This allows
    * to retrieve the response by request sequence number.
    * <p>
-   * If the history is already full, the oldest entry is discarded.
+   * If the history is already full, the oldest entries are discarded. The response may be encoded later on by another
+   * thread and must therefore not be modified anymore.
    *
    * @param responseSequenceNo
    *          The sequence number of the <u>response</u> to remember <i>(mandatory)</i>
@@ -78,6 +114,7 @@ public class ResponseHistory {
     Assertions.assertNotNull(responseSequenceNo);
     Assertions.assertNotNull(response);
 
+    boolean underPressure;
     synchronized (m_mutex) {
       Assertions.assertFalse(m_responses.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       if (requestSequenceNo != null) { // optional
@@ -85,26 +122,112 @@ public class ResponseHistory {
         Assertions.assertFalse(m_responseToRequestMap.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       }
 
-      m_responses.put(responseSequenceNo, response);
+      RetainedResponse pendingResponse = new RetainedResponse(response, estimateSize(response));
+      m_responses.put(responseSequenceNo, pendingResponse);
+      m_retainedBytes += pendingResponse.size();
+      m_metrics.bytesRetained(pendingResponse.size());
       if (requestSequenceNo != null) { // optional
         m_requestToResponseMap.put(requestSequenceNo, responseSequenceNo);
         m_responseToRequestMap.put(responseSequenceNo, requestSequenceNo);
       }
+      discardOldestResponses();
+      LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
+      underPressure = isUnderPressure();
+    }
+    if (underPressure) {
+      scheduleEncodePendingResponses();
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the history is full or the retained bytes exceed the budget. In this case, the pending
+   *         responses are encoded by a background job, so that they do not occupy their estimated size any longer. Must
+   *         be called while holding the lock.
+   * @since 24.1
+   */
+  protected boolean isUnderPressure() {
+    return m_responses.size() >= MAX_RESPONSE_HISTORY_SIZE || m_retainedBytes > getMaxBytes();
+  }
+
+  /**
+   * Schedules a job encoding the pending responses, unless such a job is already scheduled. Used when registering a
+   * response, which happens in the model thread.
+   *
+   * @since 24.1
+   */
+  protected void scheduleEncodePendingResponses() {
+    if (!m_encodingScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    Jobs.schedule(() -> {
+      m_encodingScheduled.set(false);
+      encodePendingResponses();
+    }, Jobs.newInput()
+        .withName("Encoding response history [uiSessionId={}]", getUiSessionId())
+        .withRunContext(RunContexts.empty()));
+  }
 
-      if (m_responses.size() > MAX_RESPONSE_HISTORY_SIZE) {
-        // Remove oldest entry to free up memory (protection against malicious clients that send no or wrong #ACKs)
-        Long oldestSeqNo = m_responses.firstKey();
-        LOG.warn("Max. response history size exceeded for UI session {}, dropping oldest response #{}", getUiSessionId(), oldestSeqNo);
-        m_responses.remove(oldestSeqNo);
+  /**
+   * Encodes all responses in the history which are not encoded yet. The serialization and compression is done outside
+   * the lock.
+   *
+   * @since 24.1
+   */
+  protected void encodePendingResponses() {
+    Map<Long, RetainedResponse> pendingResponses = new LinkedHashMap<>();
+    synchronized (m_mutex) {
+      for (Entry<Long, RetainedResponse> entry : m_responses.entrySet()) {
+        if (entry.getValue().getPendingResponse() != null) {
+          pendingResponses.put(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+    pendingResponses.forEach(this::encodeResponse);
+  }
+
+  /**
+   * Replaces the pending response by its encoded form unless it was removed from the history in the meantime.
+   *
+   * @since 24.1
+   */
+  protected void encodeResponse(Long responseSequenceNo, RetainedResponse pendingResponse) {
+    synchronized (m_mutex) {
+      if (m_responses.get(responseSequenceNo) != pendingResponse) {
+        return; // already acknowledged, discarded or encoded
       }
-      LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
+    }
+    RetainedResponse retainedResponse = encode(pendingResponse.getPendingResponse());
+    synchronized (m_mutex) {
+      if (!m_responses.replace(responseSequenceNo, pendingResponse, retainedResponse)) {
+        return;
+      }
+      m_retainedBytes += retainedResponse.size() - pendingResponse.size();
+      m_metrics.bytesReleased(pendingResponse.size());
+      m_metrics.bytesRetained(retainedResponse.size());
+      discardOldestResponses();
+      LOG.debug("Encoded response #{} ({} bytes) in history {} for UI session {}", responseSequenceNo, retainedResponse.size(), m_responses.keySet(), getUiSessionId());
+    }
+  }
+
+  /**
+   * Removes oldest entries to free up memory (protection against malicious clients that send no or wrong #ACKs).
+   *
+   * @since 24.1
+   */
+  protected void discardOldestResponses() {
+    while (m_responses.size() > MAX_RESPONSE_HISTORY_SIZE || (m_retainedBytes > getMaxBytes() && m_responses.size() > 1)) {
+      Long oldestSeqNo = m_responses.firstKey();
+      LOG.warn("Max. response history size exceeded for UI session {}, dropping oldest response #{} [retainedBytes={}]", getUiSessionId(), oldestSeqNo, m_retainedBytes);
+      removeResponse(oldestSeqNo);
+      m_metrics.responseDiscarded();
     }
   }
 
   /**
    * Confirms that the response with the given <i>response sequence number</i> has been successfully processed by the
    * client. The response is removed from the history. All responses that are older (i.e. have a lower response sequence
-   * number) and the "response - request" mappings are automatically removed as well.
+   * number) and the "response - request" mappings are automatically removed as well. The remaining responses are
+   * encoded in the calling thread, which is the thread of the acknowledging request.
    *
    * @throws AssertionException
    *           if the argument is <code>null</code>
@@ -114,18 +237,25 @@ public class ResponseHistory {
 
     synchronized (m_mutex) {
       int removeCount = 0;
-      for (Iterator<Long> it = m_responses.keySet().iterator(); it.hasNext();) {
-        Long responseSequenceNo = it.next();
+      for (Iterator<Entry<Long, RetainedResponse>> it = m_responses.entrySet().iterator(); it.hasNext();) {
+        Entry<Long, RetainedResponse> entry = it.next();
+        Long responseSequenceNo = entry.getKey();
         if (responseSequenceNo <= confirmedResponseSequenceNo) {
           Long requestSequenceNo = m_responseToRequestMap.get(responseSequenceNo);
           m_requestToResponseMap.remove(requestSequenceNo);
           m_responseToRequestMap.remove(responseSequenceNo);
           it.remove();
+          released(entry.getValue());
           removeCount++;
         }
       }
       LOG.debug("Cleaned up response history (-{}). New content: {} [#ACK={}, uiSessionId={}]", removeCount, m_responses.keySet(), confirmedResponseSequenceNo, getUiSessionId());
+      if (m_responses.isEmpty()) {
+        return;
+      }
     }
+    // the remaining responses survived this acknowledgment, they are likely to be kept for a while
+    encodePendingResponses();
   }
 
   /**
@@ -141,7 +271,8 @@ public class ResponseHistory {
       Long lastSentSequenceNo = m_responses.lastKey();
       JSONObject combinedAdapterData = new JSONObject();
       JSONArray combinedEvents = new JSONArray();
-      for (JSONObject response : m_responses.values()) {
+      for (RetainedResponse retainedResponse : m_responses.values()) {
+        JSONObject response = decode(retainedResponse);
         // combine adapterData
         JSONObject adapterData = response.optJSONObject(JsonResponse.PROP_ADAPTER_DATA);
         if (adapterData != null) {
@@ -203,7 +334,8 @@ public class ResponseHistory {
       return null;
     }
     synchronized (m_mutex) {
-      return m_responses.get(responseSequenceNo);
+      RetainedResponse retainedResponse = m_responses.get(responseSequenceNo);
+      return retainedResponse == null ? null : decode(retainedResponse);
     }
   }
 
@@ -226,8 +358,183 @@ public class ResponseHistory {
     }
   }
 
+  /**
+   * @return the maximum number of bytes to retain, see {@link ResponseHistoryMaxBytesProperty}
+   * @since 24.1
+   */
+  protected long getMaxBytes() {
+    return m_maxBytes;
+  }
+
+  /**
+   * @return the number of bytes retained by the responses in the history
+   * @since 24.1
+   */
+  public long getRetainedBytes() {
+    synchronized (m_mutex) {
+      return m_retainedBytes;
+    }
+  }
+
+  /**
+   * Removes all responses from the history, e.g. when the UI session is disposed.
+   *
+   * @since 24.1
+   */
+  public void clear() {
+    synchronized (m_mutex) {
+      m_responses.values().forEach(this::released);
+      m_responses.clear();
+      m_requestToResponseMap.clear();
+      m_responseToRequestMap.clear();
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected void removeResponse(Long responseSequenceNo) {
+    RetainedResponse retainedResponse = m_responses.remove(responseSequenceNo);
+    if (retainedResponse != null) {
+      released(retainedResponse);
+    }
+    Long requestSequenceNo = m_responseToRequestMap.remove(responseSequenceNo);
+    if (requestSequenceNo != null) {
+      m_requestToResponseMap.remove(requestSequenceNo);
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected void released(RetainedResponse retainedResponse) {
+    m_retainedBytes -= retainedResponse.size();
+    m_metrics.bytesReleased(retainedResponse.size());
+  }
+
+  /**
+   * Approximates the length of the JSON representation of the given value without serializing it. Used as size of a
+   * response which is not encoded yet. The {@link JSONObject} occupies at least as much memory.
+   *
+   * @since 24.1
+   */
+  protected long estimateSize(Object value) {
+    if (value instanceof JSONObject) {
+      JSONObject object = (JSONObject) value;
+      long size = 2; // {}
+      for (String key : object.keySet()) {
+        size += key.length() + 4 + estimateSize(object.opt(key)); // "":,
+      }
+      return size;
+    }
+    if (value instanceof JSONArray) {
+      JSONArray array = (JSONArray) value;
+      long size = 2; // []
+      for (int i = 0; i < array.length(); i++) {
+        size += 1 + estimateSize(array.opt(i));
+      }
+      return size;
+    }
+    if (value instanceof CharSequence) {
+      return ((CharSequence) value).length() + 2;
+    }
+    return 8; // number, boolean or null
+  }
+
+  /**
+   * Streams the response into its UTF-8 encoded (and optionally deflated) bytes without creating the JSON string.
+   *
+   * @since 24.1
+   */
+  protected RetainedResponse encode(JSONObject response) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    if (!m_compressionEnabled) {
+      write(response, bytes);
+      return new RetainedResponse(bytes.toByteArray(), false);
+    }
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      write(response, new DeflaterOutputStream(bytes, deflater));
+    }
+    finally {
+      deflater.end();
+    }
+    return new RetainedResponse(bytes.toByteArray(), true);
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected void write(JSONObject response, OutputStream out) {
+    try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+      response.write(writer);
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Unable to encode response", e);
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected JSONObject decode(RetainedResponse retainedResponse) {
+    if (retainedResponse.getPendingResponse() != null) {
+      return retainedResponse.getPendingResponse();
+    }
+    if (!retainedResponse.isCompressed()) {
+      return new JSONObject(new String(retainedResponse.getData(), StandardCharsets.UTF_8));
+    }
+    try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(retainedResponse.getData()))) {
+      return new JSONObject(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Unable to decompress response", e);
+    }
+  }
+
   @Override
   public String toString() {
     return "[" + CollectionUtility.format(m_responses.keySet()) + "]";
   }
+
+  /**
+   * A response serialized as UTF-8 encoded JSON, optionally deflated. As long as the response is not encoded yet, it
+   * holds the pending {@link JSONObject} and its estimated size.
+   */
+  protected static class RetainedResponse {
+    private final JSONObject m_pendingResponse;
+    private final byte[] m_data;
+    private final boolean m_compressed;
+    private final long m_size;
+
+    public RetainedResponse(JSONObject pendingResponse, long estimatedSize) {
+      m_pendingResponse = pendingResponse;
+      m_data = null;
+      m_compressed = false;
+      m_size = estimatedSize;
+    }
+
+    public RetainedResponse(byte[] data, boolean compressed) {
+      m_pendingResponse = null;
+      m_data = data;
+      m_compressed = compressed;
+      m_size = data.length;
+    }
+
+    public JSONObject getPendingResponse() {
+      return m_pendingResponse;
+    }
+
+    public byte[] getData() {
+      return m_data;
+    }
+
+    public boolean isCompressed() {
+      return m_compressed;
+    }
+
+    public long size() {
+      return m_size;
+    }
+  }
 }
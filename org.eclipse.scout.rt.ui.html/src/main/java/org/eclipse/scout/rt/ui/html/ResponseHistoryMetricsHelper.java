@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Collects metrics about the responses kept by the {@link ResponseHistory} of all UI sessions:
+ * <ul>
+ * <li>number of bytes retained</li>
+ * <li>number of responses discarded before they were acknowledged</li>
+ * </ul>
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class ResponseHistoryMetricsHelper {
+
+  protected final LongUpDownCounter m_retainedBytes;
+  protected final LongCounter m_discardedResponses;
+
+  public ResponseHistoryMetricsHelper() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    m_retainedBytes = meter.upDownCounterBuilder("scout.ui.response_history.retained")
+        .setDescription("The number of bytes of not yet acknowledged responses kept by all UI sessions.")
+        .setUnit("By")
+        .build();
+    m_discardedResponses = meter.counterBuilder("scout.ui.response_history.discarded")
+        .setDescription("The number of not yet acknowledged responses discarded because the response history of a UI session was full.")
+        .setUnit("{response}")
+        .build();
+  }
+
+  public void bytesRetained(long bytes) {
+    m_retainedBytes.add(bytes);
+  }
+
+  public void bytesReleased(long bytes) {
+    m_retainedBytes.add(-bytes);
+  }
+
+  public void responseDiscarded() {
+    m_discardedResponses.add(1);
+  }
+}
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
@@ -46,6 +47,10 @@ import org.slf4j.LoggerFactory;
  * It serves also as a listener for HTTP session invalidation. If it detects an invalid HTTP session, it tries to clean
  * up all associated client and UI sessions. See {@link #valueUnbound(HttpSessionBindingEvent)}.
  * <p>
+ * Since 24.1 all maps are concurrent, so that lookups (e.g. {@link #getUiSession(String)}) never block, even if many
+ * UI sessions of the same HTTP session are active. Modifications and housekeeping are serialized by
+ * {@link #m_writeLock}, so that the maps are always changed consistently.
+ * <p>
  * Instances can be obtained using the bean {@link HttpSessionHelper#getSessionStore(HttpSession)}.
  *
  * @since 5.2
@@ -64,26 +69,26 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
   /**
    * key = clientSessionId
    */
-  protected final Map<String, IClientSession> m_clientSessionMap = new HashMap<>();
+  protected final Map<String, IClientSession> m_clientSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = uiSessionId
    */
-  protected final Map<String, IUiSession> m_uiSessionMap = new HashMap<>();
+  protected final Map<String, IUiSession> m_uiSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = uiSessionId
    * <p>
    * The preregistered sessions of {@link #preregisterUiSession(IUiSession, String)}
    */
-  protected final Map<String, IUiSession> m_preregisteredUiSessionMap = new HashMap<>();
+  protected final Map<String, IUiSession> m_preregisteredUiSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = clientSession (<i>not</i> clientSessionId!)<br>
    * value = set of UI sessions (technically there can be multiple UI sessions by client session, although usually there
    * is only one or none).
    */
-  protected final Map<IClientSession, Set<IUiSession>> m_uiSessionsByClientSession = new HashMap<>();
+  protected final Map<IClientSession, Set<IUiSession>> m_uiSessionsByClientSession = new ConcurrentHashMap<>();
 
   /**
    * key = clientSession (<i>not</i> clientSessionId!)<br>
@@ -93,15 +98,25 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
    * The preregistered sessions of {@link #preregisterUiSession(IUiSession, String)} that are planning to re-use a
    * currently active {@link IClientSession}
    */
-  protected final Map<IClientSession, Set<IUiSession>> m_preregisteredUiSessionsByClientSession = new HashMap<>();
+  protected final Map<IClientSession, Set<IUiSession>> m_preregisteredUiSessionsByClientSession = new ConcurrentHashMap<>();
 
   /**
    * Map of scheduled housekeeping jobs (key = clientSessionId). Using this map, scheduled but not yet executed
    * housekeeping jobs can be cancelled again when the client session is still to be used.
    */
-  protected final Map<String, IFuture<?>> m_housekeepingFutures = new HashMap<>();
+  protected final Map<String, IFuture<?>> m_housekeepingFutures = new ConcurrentHashMap<>();
 
+  /**
+   * @deprecated will be removed in 24.2. Lookups do not acquire any lock anymore, the maps are concurrent. The lock is
+   *             still the read lock of {@link #m_writeLock}, so that subclasses using it keep working.
+   */
+  @SuppressWarnings("DeprecatedIsStillUsed")
+  @Deprecated
   protected final ReadLock m_readLock;
+
+  /**
+   * Serializes all modifications. Lookups do not acquire any lock.
+   */
   protected final WriteLock m_writeLock;
 
   /**
@@ -144,72 +159,36 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
 
   @Override
   public Map<String, IClientSession> getClientSessionMap() {
-    m_readLock.lock();
-    try {
-      return new HashMap<>(m_clientSessionMap);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return new HashMap<>(m_clientSessionMap);
   }
 
   @Override
   public Map<String, IUiSession> getUiSessionMap() {
-    m_readLock.lock();
-    try {
-      return new HashMap<>(m_uiSessionMap);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return new HashMap<>(m_uiSessionMap);
   }
 
   @Override
   public Map<IClientSession, Set<IUiSession>> getUiSessionsByClientSession() {
-    m_readLock.lock();
-    try {
-      Map<IClientSession, Set<IUiSession>> copy = new HashMap<>();
-      for (Entry<IClientSession, Set<IUiSession>> entry : m_uiSessionsByClientSession.entrySet()) {
-        copy.put(entry.getKey(), (entry.getValue() == null ? null : new HashSet<>(entry.getValue())));
-      }
-      return copy;
-    }
-    finally {
-      m_readLock.unlock();
+    Map<IClientSession, Set<IUiSession>> copy = new HashMap<>();
+    for (Entry<IClientSession, Set<IUiSession>> entry : m_uiSessionsByClientSession.entrySet()) {
+      copy.put(entry.getKey(), (entry.getValue() == null ? null : new HashSet<>(entry.getValue())));
     }
+    return copy;
   }
 
   @Override
   public int countUiSessions() {
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.size();
   }
 
   @Override
   public int countClientSessions() {
-    m_readLock.lock();
-    try {
-      return m_clientSessionMap.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_clientSessionMap.size();
   }
 
   @Override
   public boolean isEmpty() {
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_clientSessionMap.isEmpty() && m_uiSessionsByClientSession.isEmpty();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_clientSessionMap.isEmpty() && m_uiSessionsByClientSession.isEmpty();
   }
 
   @Override
@@ -217,13 +196,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     if (uiSessionId == null) {
       return null;
     }
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.get(uiSessionId);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.get(uiSessionId);
   }
 
   @Override
@@ -258,7 +231,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       }
       // Link preregistered ui sessions to existing client session
       m_preregisteredUiSessionsByClientSession
-          .computeIfAbsent(clientSession, k -> new HashSet<>())
+          .computeIfAbsent(clientSession, k -> ConcurrentHashMap.newKeySet())
           .add(uiSession);
       return clientSession;
     }
@@ -293,7 +266,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
 
       // Link to client session
       m_uiSessionsByClientSession
-          .computeIfAbsent(clientSession, k -> new HashSet<>())
+          .computeIfAbsent(clientSession, k -> ConcurrentHashMap.newKeySet())
           .add(uiSession);
     }
     finally {
@@ -317,14 +290,14 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       final IClientSession clientSession = uiSession.getClientSession();
 
       // Unlink uiSession from clientSession
-      Set<IUiSession> preregisteredMap = m_preregisteredUiSessionsByClientSession.get(clientSession);
+      Set<IUiSession> preregisteredMap = clientSession == null ? null : m_preregisteredUiSessionsByClientSession.get(clientSession);
       if (preregisteredMap != null) {
         preregisteredMap.remove(uiSession);
         if (preregisteredMap.isEmpty()) {
           m_preregisteredUiSessionsByClientSession.remove(clientSession);
         }
       }
-      Set<IUiSession> map = m_uiSessionsByClientSession.get(clientSession);
+      Set<IUiSession> map = clientSession == null ? null : m_uiSessionsByClientSession.get(clientSession);
       if (map != null) {
         map.remove(uiSession);
         if (map.isEmpty()) {
@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import jakarta.servlet.MultipartConfigElement;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -128,6 +129,31 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class AsyncPollingEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies whether the polling request waits for background jobs asynchronously (servlet async support), i.e. without holding a container thread while waiting.\n"
+          + "All servlet filters in front of the UI servlet must support asynchronous requests. "
+          + "If disabled or not supported by the servlet container, the polling request blocks a thread for up to '%s' seconds.\n"
+          + "By default this property is set to false.", BEANS.get(BackgroundPollingIntervalProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.asyncPolling.enabled";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -166,6 +192,100 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class ResponseHistoryMaxBytesProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 10L * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of bytes of not yet acknowledged responses a UI session keeps to re-send them to the browser (e.g. after a network failure).\n"
+          + "If exceeded, the oldest responses are discarded. The most recent response is always kept.\n"
+          + "Responses not yet encoded are counted with their estimated JSON length, encoded responses with their (compressed) size.\n"
+          + "By default this property is set to 10 MB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistory.maxBytes";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ResponseHistoryCompressionEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return true;
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether responses kept by a UI session are stored compressed once they survive the next acknowledgment.\n"
+          + "By default this property is set to true.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.responseHistory.compressionEnabled";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class SessionResourceCacheMaxSizeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 4L * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of bytes of in-memory resource content held by the HTTP resource cache of one UI session (e.g. dynamic images and downloads).\n"
+          + "Each UI session has its own cache, so the memory used on a node is up to this value times the number of UI sessions. The cache is cleared when the UI session is disposed.\n"
+          + "Content backed by a file is not counted. If exceeded, the least recently used resources are evicted. A value of 0 disables the limit.\n"
+          + "By default this property is set to 4 MB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.sessionResourceCache.maxSize";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class JsonResponseBufferSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 256 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Number of bytes of a JSON response which are buffered before the response is committed.\n"
+          + "Responses not exceeding this size are sent with a content length, and a failure while encoding them results in a regular error response. "
+          + "Larger responses are streamed, and a failure while encoding them aborts the connection.\n"
+          + "By default this property is set to 256 KB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.jsonResponseBufferSize";
+    }
+  }
+
   public static class MaxUploadFileCountProperty extends AbstractLongConfigProperty {
 
     @Override
@@ -185,6 +305,28 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class UploadFileStreamingThresholdProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 1024L * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Uploaded files larger than this number of bytes are not loaded into memory but copied to a temporary file which backs the resulting binary resource.\n"
+          + "By default this property is set to 1 MB. A value of -1 means that uploaded files are always loaded into memory.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.upload.streamingThreshold";
+    }
+  }
+
   /**
    * {@link MultipartConfigElement} for {@link UiServlet}.
    */
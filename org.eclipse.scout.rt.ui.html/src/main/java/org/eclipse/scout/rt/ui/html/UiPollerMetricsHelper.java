@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Collects metrics about poll requests waiting asynchronously for background jobs (see
+ * {@link IUiSession#parkPoller(org.eclipse.scout.rt.ui.html.json.JsonRequest, int, java.util.function.Consumer)}):
+ * <ul>
+ * <li>number of parked poll requests</li>
+ * <li>duration a poll request was parked, by reason it was resumed</li>
+ * </ul>
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class UiPollerMetricsHelper {
+
+  public static final String REASON_SIGNALED = "signaled";
+  public static final String REASON_TIMEOUT = "timeout";
+  public static final String REASON_SUPERSEDED = "superseded";
+  public static final String REASON_ABORTED = "aborted";
+
+  protected static final AttributeKey<String> REASON = AttributeKey.stringKey("reason");
+
+  protected final LongUpDownCounter m_parkedPollers;
+  protected final DoubleHistogram m_parkDuration;
+
+  public UiPollerMetricsHelper() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    m_parkedPollers = meter.upDownCounterBuilder("scout.ui.pollers.parked")
+        .setDescription("The number of poll requests waiting for background jobs without holding a thread.")
+        .setUnit("{request}")
+        .build();
+    m_parkDuration = meter.histogramBuilder("scout.ui.pollers.park_duration")
+        .setDescription("The time a poll request was waiting for background jobs, by the reason it was resumed (signaled, timeout, superseded or aborted).")
+        .setUnit("s")
+        .build();
+  }
+
+  public void pollerParked() {
+    m_parkedPollers.add(1);
+  }
+
+  /**
+   * @param reason
+   *          one of {@link #REASON_SIGNALED}, {@link #REASON_TIMEOUT}, {@link #REASON_SUPERSEDED} or
+   *          {@link #REASON_ABORTED}
+   * @param parkedNanos
+   *          the time the poll request was parked
+   */
+  public void pollerResumed(String reason, long parkedNanos) {
+    m_parkedPollers.add(-1);
+    m_parkDuration.record(parkedNanos / (double) TimeUnit.SECONDS.toNanos(1), Attributes.of(REASON, reason));
+  }
+}
@@ -29,6 +29,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.PathValidator;
@@ -189,6 +190,10 @@ public class UiServlet extends AbstractHttpServlet {
     }
     catch (Exception e) {
       LOG.error("Failed to process HTTP-{} request from UI", req.getMethod(), e);
+      if (resp.isCommitted()) {
+        // the response was partially sent, let the container abort the connection instead of completing the response
+        throw new ServletException(e);
+      }
       resp.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
       return true;
     }
@@ -223,6 +228,10 @@ public class UiServlet extends AbstractHttpServlet {
         // Ignore disconnect errors: we do not want to throw an exception, if the client closed the connection.
         LOG.debug("Connection error detected: exception class={}, message={}.", t.getClass().getSimpleName(), t.getMessage(), t);
       }
+      else if (resp.isCommitted()) {
+        // the response was partially sent and cannot be replaced by an error response, see handleRequest
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(t);
+      }
       else {
         LOG.error("Exception while processing request", t);
         resp.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
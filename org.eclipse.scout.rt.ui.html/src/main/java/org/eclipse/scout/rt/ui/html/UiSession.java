@@ -20,8 +20,10 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javax.security.auth.Subject;
@@ -66,7 +68,6 @@ import org.eclipse.scout.rt.server.commons.authentication.IAccessController;
 import org.eclipse.scout.rt.server.commons.servlet.CookieUtility;
 import org.eclipse.scout.rt.server.commons.servlet.HttpClientInfo;
 import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
-import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
 import org.eclipse.scout.rt.shared.deeplink.DeepLinkUrlParameter;
 import org.eclipse.scout.rt.shared.job.filter.event.SessionJobEventFilter;
@@ -121,6 +122,7 @@ public class UiSession implements IUiSession {
   protected static final String SESSION_TYPE = "ui";
 
   protected SessionMetricsHelper m_sessionMetrics = BEANS.get(SessionMetricsHelper.class);
+  protected UiPollerMetricsHelper m_pollerMetrics = BEANS.get(UiPollerMetricsHelper.class);
 
   private final JsonAdapterRegistry m_jsonAdapterRegistry;
   private final JsonEventProcessor m_jsonEventProcessor;
@@ -134,7 +136,7 @@ public class UiSession implements IUiSession {
   private final BlockingQueue<Object> m_pollerQueue = new ArrayBlockingQueue<>(1, true);
   private final Object m_pollerQueueLock = new Object();
   private final Object m_notificationToken = new Object();
-  private final IHttpResourceCache m_httpResourceCache = BEANS.get(HttpResourceCache.class);
+  private final IHttpResourceCache m_httpResourceCache = BEANS.get(UiSessionHttpResourceCache.class);
   private final UiSessionListeners m_listeners = new UiSessionListeners();
 
   private volatile boolean m_initialized;
@@ -150,6 +152,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private volatile ParkedPoller m_parkedPoller;
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -203,6 +206,13 @@ public class UiSession implements IUiSession {
     return m_pollerMonitor;
   }
 
+  /**
+   * @since 24.1
+   */
+  protected final ParkedPoller parkedPoller() {
+    return m_parkedPoller;
+  }
+
   @Override
   public void init(HttpServletRequest req, HttpServletResponse resp, JsonStartupRequest jsonStartupReq) {
     if (currentSubject() == null) {
@@ -595,6 +605,8 @@ public class UiSession implements IUiSession {
     m_jsonAdapterRegistry.disposeAdapters();
     m_httpContext.clear();
     m_currentJsonResponse = null;
+    m_responseHistory.clear();
+    m_httpResourceCache.clear();
 
     // Inform the desktop that the UI has been detached.
     // The model may trigger events during detaching the desktop, that need to be sent back to the browser if the ui session weren't disposed.
@@ -1202,11 +1214,17 @@ public class UiSession implements IUiSession {
     // If another poller is currently blocking, interrupt it. This ensures that max. 1 polling
     // request is waiting for background jobs at the same time (relevant when the UI reconnects
     // after being offline).
+    ParkedPoller superseded;
     synchronized (m_pollerQueueLock) {
       if (m_pollerMonitor != null) {
         m_pollerMonitor.cancel(true);
       }
       m_pollerMonitor = RunMonitor.CURRENT.get();
+      superseded = m_parkedPoller;
+      m_parkedPoller = null;
+    }
+    if (superseded != null) {
+      resumePoller(superseded, false, UiPollerMetricsHelper.REASON_SUPERSEDED);
     }
 
     if (isAlreadyProcessed(jsonRequest)) {
@@ -1264,6 +1282,122 @@ public class UiSession implements IUiSession {
   protected void signalPoller() {
     //noinspection ResultOfMethodCallIgnored
     m_pollerQueue.offer(m_notificationToken);
+    // The token is offered first: a poller being parked concurrently either is visible here or finds the token.
+    ParkedPoller parkedPoller = m_parkedPoller;
+    if (parkedPoller != null) {
+      scheduleParkedPollerCheck(parkedPoller);
+    }
+  }
+
+  @Override
+  public void parkPoller(JsonRequest jsonRequest, int pollWaitSeconds, Consumer<Boolean> resumeCallback) {
+    ParkedPoller poller = new ParkedPoller(jsonRequest, resumeCallback, System.nanoTime() + TimeUnit.SECONDS.toNanos(pollWaitSeconds));
+    // Same as waitForBackgroundJobs: max. 1 poll request is waiting for background jobs at the same time.
+    ParkedPoller superseded;
+    synchronized (m_pollerQueueLock) {
+      if (m_pollerMonitor != null) {
+        m_pollerMonitor.cancel(true);
+      }
+      superseded = m_parkedPoller;
+      m_parkedPoller = poller;
+    }
+    m_pollerMetrics.pollerParked();
+    if (superseded != null) {
+      resumePoller(superseded, false, UiPollerMetricsHelper.REASON_SUPERSEDED);
+    }
+
+    if (isAlreadyProcessed(jsonRequest)) {
+      // Don't wait if request was already processed (simply return the previous response --> processJsonRequest)
+      resumePoller(poller, true, UiPollerMetricsHelper.REASON_SIGNALED);
+      return;
+    }
+
+    LOG.trace("Park poller for max. {} seconds until background job terminates or wait timeout occurs...", pollWaitSeconds);
+    poller.m_timeoutFuture = Jobs.schedule(() -> resumePoller(poller, true, UiPollerMetricsHelper.REASON_TIMEOUT), createParkedPollerJobInput()
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(pollWaitSeconds, TimeUnit.SECONDS)));
+    if (m_pollerQueue.peek() != null || m_disposed) {
+      // Signaled while no poller was waiting
+      scheduleParkedPollerCheck(poller);
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected JobInput createParkedPollerJobInput() {
+    return Jobs.newInput()
+        .withName("Resume poll-request [uiSessionId={}]", m_uiSessionId)
+        .withExecutionHint(UiJobs.EXECUTION_HINT_POLL_REQUEST);
+  }
+
+  /**
+   * Checks the parked poller after a short delay. The delay allows some sort of "coalescing background job result",
+   * like in {@link #waitForBackgroundJobs(JsonRequest, int)}.
+   *
+   * @since 24.1
+   */
+  protected void scheduleParkedPollerCheck(ParkedPoller poller) {
+    if (!poller.m_checkScheduled.compareAndSet(false, true)) {
+      return; // check already pending
+    }
+    Jobs.schedule(() -> {
+      poller.m_checkScheduled.set(false);
+      checkParkedPoller(poller);
+    }, createParkedPollerJobInput()
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(ADDITIONAL_POLLING_DELAY, TimeUnit.MILLISECONDS)));
+  }
+
+  /**
+   * Resumes the given poller if there is something to respond, otherwise it stays parked.
+   *
+   * @since 24.1
+   */
+  protected void checkParkedPoller(ParkedPoller poller) {
+    if (poller.m_resumed.get()) {
+      return;
+    }
+    m_pollerQueue.poll(); // consume the notification token
+    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(poller.m_deadline - System.nanoTime());
+    JsonResponse currentJsonResponse = m_currentJsonResponse;
+    if (m_disposed || currentJsonResponse == null || !currentJsonResponse.isEmpty() || remainingMillis < 100) {
+      resumePoller(poller, true, UiPollerMetricsHelper.REASON_SIGNALED);
+    }
+    else {
+      LOG.trace("Background job terminated, but there is nothing to respond. Poller stays parked for max. {} ms.", remainingMillis);
+    }
+  }
+
+  @Override
+  public void unparkPoller(JsonRequest jsonRequest, boolean sendResponse) {
+    ParkedPoller poller = m_parkedPoller;
+    if (poller != null && poller.m_jsonRequest == jsonRequest) {
+      resumePoller(poller, sendResponse, UiPollerMetricsHelper.REASON_ABORTED);
+    }
+  }
+
+  /**
+   * Invokes the resume callback of the given poller unless it has already been resumed.
+   *
+   * @since 24.1
+   */
+  protected void resumePoller(ParkedPoller poller, boolean sendResponse, String reason) {
+    if (!poller.m_resumed.compareAndSet(false, true)) {
+      return;
+    }
+    synchronized (m_pollerQueueLock) {
+      if (m_parkedPoller == poller) {
+        m_parkedPoller = null;
+      }
+    }
+    IFuture<?> timeoutFuture = poller.m_timeoutFuture;
+    if (timeoutFuture != null) {
+      timeoutFuture.cancel(false);
+    }
+    m_pollerMetrics.pollerResumed(reason, System.nanoTime() - poller.m_parkedAt);
+    LOG.trace("Resume poller [reason={}, sendResponse={}]", reason, sendResponse);
+    poller.m_resumeCallback.accept(sendResponse);
   }
 
   @Override
@@ -1396,6 +1530,30 @@ public class UiSession implements IUiSession {
     return sessionStore.getUiSession(uiSessionId);
   }
 
+  /**
+   * A poll request waiting for background jobs without holding a thread, see
+   * {@link #parkPoller(JsonRequest, int, Consumer)}.
+   */
+  protected static class ParkedPoller {
+    private final JsonRequest m_jsonRequest;
+    private final Consumer<Boolean> m_resumeCallback;
+    private final long m_parkedAt = System.nanoTime();
+    private final long m_deadline;
+    private final AtomicBoolean m_resumed = new AtomicBoolean();
+    private final AtomicBoolean m_checkScheduled = new AtomicBoolean();
+    private volatile IFuture<?> m_timeoutFuture;
+
+    protected ParkedPoller(JsonRequest jsonRequest, Consumer<Boolean> resumeCallback, long deadline) {
+      m_jsonRequest = jsonRequest;
+      m_resumeCallback = resumeCallback;
+      m_deadline = deadline;
+    }
+
+    public boolean isResumed() {
+      return m_resumed.get();
+    }
+  }
+
   private static class P_RootAdapter extends AbstractJsonAdapter<Object> {
 
     public P_RootAdapter(IUiSession uiSession) {
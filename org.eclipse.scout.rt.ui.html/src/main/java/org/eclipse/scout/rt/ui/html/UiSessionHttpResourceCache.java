@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.server.commons.ServerCommonsConfigProperties.HttpResourceCacheTimeToLiveProperty;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceCache;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.SessionResourceCacheMaxSizeProperty;
+
+/**
+ * The {@link HttpResourceCache} of a single {@link UiSession}. It is bounded by
+ * {@link SessionResourceCacheMaxSizeProperty} instead of the (much larger) limit of the global cache, as there is one
+ * instance per UI session. The UI session clears it when it is disposed.
+ *
+ * @since 24.1
+ */
+@Bean
+public class UiSessionHttpResourceCache extends HttpResourceCache {
+
+  public UiSessionHttpResourceCache() {
+    super(CONFIG.getPropertyValue(SessionResourceCacheMaxSizeProperty.class), CONFIG.getPropertyValue(HttpResourceCacheTimeToLiveProperty.class));
+  }
+}
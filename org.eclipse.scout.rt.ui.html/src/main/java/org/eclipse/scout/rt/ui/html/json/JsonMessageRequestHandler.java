@@ -10,8 +10,12 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -23,7 +27,9 @@ import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.ApplicationVersionProperty;
+import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformError;
 import org.eclipse.scout.rt.platform.resource.MimeType;
@@ -35,6 +41,8 @@ import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.HttpSessionHelper;
 import org.eclipse.scout.rt.ui.html.ISessionStore;
 import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.AsyncPollingEnabledProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
 import org.eclipse.scout.rt.ui.html.UiServlet;
@@ -52,8 +60,14 @@ import org.slf4j.LoggerFactory;
 public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
   private static final Logger LOG = LoggerFactory.getLogger(JsonMessageRequestHandler.class);
 
+  /**
+   * Added to the poll wait time to get the container timeout of asynchronous poll requests.
+   */
+  private static final int ASYNC_POLLING_TIMEOUT_MARGIN_SECONDS = 30;
+
   private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
   private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
+  private final boolean m_asyncPolling = CONFIG.getPropertyValue(AsyncPollingEnabledProperty.class);
 
   private final HttpSessionHelper m_httpSessionHelper = BEANS.get(HttpSessionHelper.class);
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
@@ -131,6 +145,11 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
         LOG.debug("Connection error detected: exception class={}, message={}.", e.getClass().getSimpleName(), e.getMessage(), e);
         // no need to send any response here as the connection is broken anyway. May throw IllegalStateException otherwise which hides the original exception.
       }
+      else if (resp.isCommitted()) {
+        // A partially sent response cannot be replaced by a failure response. Propagate to the container which aborts
+        // the connection, so that the client does not receive the truncated response as complete.
+        throw new UiException("Failed to write JSON response", e);
+      }
       else if (jsonRequest == null || uiSession == null || jsonRequest.getRequestType() == RequestType.STARTUP_REQUEST) {
         // Send a special error code when an error happens during initialization, because
         // the UI has no translated texts to show in this case.
@@ -175,32 +194,23 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
         throw new IllegalStateException("Unexpected request type: " + jsonRequest.getRequestType());
     }
 
-    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
     if (jsonRequest.getRequestType() == RequestType.POLL_REQUEST) {
+      if (isAsyncPolling(httpServletRequest)) {
+        // Wait without holding the current thread
+        handlePollRequestAsync(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+        return;
+      }
       // Block for a certain time
       boolean success = handlePollRequest(uiSession, jsonRequest);
       if (!success) {
         return; // Interrupted while waiting -> return immediately without sending a response
       }
-      // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
-      // by some other thread, there is no reason to wait for it, because the other thread will already send
-      // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
-      // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
-      // an empty response is sent back to the UI.
-      if (!uiSession.uiSessionLock().tryLock()) {
-        if (uiSession.isDisposed()) {
-          handleUiSessionDisposed(httpServletResponse, uiSession, jsonRequest);
-        }
-        else {
-          LOG.info("Creating empty response [{}, #{}, #ACK {}]", "CER_HJR", jsonRequest.getSequenceNo(), jsonRequest.getAckSequenceNo());
-          writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createEmptyResponse());
-        }
-        return;
-      }
-    }
-    else {
-      uiSession.uiSessionLock().lock(); // NOSONAR
+      handlePollResponse(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
+      return;
     }
+
+    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
+    uiSession.uiSessionLock().lock(); // NOSONAR
     try {
       if (uiSession.isDisposed()) {
         handleUiSessionDisposed(httpServletResponse, uiSession, jsonRequest);
@@ -214,6 +224,41 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
     }
   }
 
+  /**
+   * Sends the response of a poll request after waiting for background jobs.
+   *
+   * @since 24.1
+   */
+  protected void handlePollResponse(HttpServletRequest req, HttpServletResponse resp, IUiSession uiSession, JsonRequest jsonRequest) throws IOException {
+    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock".
+    // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
+    // by some other thread, there is no reason to wait for it, because the other thread will already send
+    // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
+    // because the poller-induced "heart beat" mechanism would stop. Therefore, if the lock cannot be acquired,
+    // an empty response is sent back to the UI.
+    if (!uiSession.uiSessionLock().tryLock()) {
+      if (uiSession.isDisposed()) {
+        handleUiSessionDisposed(resp, uiSession, jsonRequest);
+      }
+      else {
+        LOG.info("Creating empty response [{}, #{}, #ACK {}]", "CER_HJR", jsonRequest.getSequenceNo(), jsonRequest.getAckSequenceNo());
+        writeJsonResponse(resp, m_jsonRequestHelper.createEmptyResponse());
+      }
+      return;
+    }
+    try {
+      if (uiSession.isDisposed()) {
+        handleUiSessionDisposed(resp, uiSession, jsonRequest);
+      }
+      else {
+        handleEvents(req, resp, uiSession, jsonRequest);
+      }
+    }
+    finally {
+      uiSession.uiSessionLock().unlock();
+    }
+  }
+
   protected void handleEvents(HttpServletRequest req, HttpServletResponse resp, IUiSession uiSession, JsonRequest jsonReq) throws IOException {
     JSONObject jsonResp = uiSession.processJsonRequest(req, resp, jsonReq);
     if (jsonResp == null) {
@@ -298,13 +343,8 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
    * @return <code>true</code> if the request is still valid after polling and response should be sent back to the UI.
    *         <code>false</code> when the polling was interrupted and the processing should be stopped immediately.
    */
-  @SuppressWarnings("UnnecessaryLocalVariable")
   protected boolean handlePollRequest(IUiSession uiSession, JsonRequest jsonRequest) {
-    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
-    int maxIdle = m_maxUserIdleTime;
-    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
-    // because that might trigger many very short polling calls until the ui session is really disposed.
-    int pollWait = Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+    int pollWait = computePollWait(uiSession);
     LOG.debug("Polling begin for {} seconds", pollWait);
     // Blocks the current thread until:
     // - a model job terminates
@@ -325,6 +365,137 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
     return true;
   }
 
+  /**
+   * @return number of seconds a poll request waits for background jobs
+   * @since 24.1
+   */
+  @SuppressWarnings("UnnecessaryLocalVariable")
+  protected int computePollWait(IUiSession uiSession) {
+    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    int maxIdle = m_maxUserIdleTime;
+    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
+    // because that might trigger many very short polling calls until the ui session is really disposed.
+    return Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+  }
+
+  /**
+   * @return <code>true</code> if the poll request should wait for background jobs asynchronously, see
+   *         {@link #handlePollRequestAsync(IUiSession, JsonRequest, HttpServletRequest, HttpServletResponse)}
+   * @since 24.1
+   */
+  protected boolean isAsyncPolling(HttpServletRequest req) {
+    return m_asyncPolling && req.isAsyncSupported();
+  }
+
+  /**
+   * Same as {@link #handlePollRequest(IUiSession, JsonRequest)} followed by
+   * {@link #handlePollResponse(HttpServletRequest, HttpServletResponse, IUiSession, JsonRequest)}, but the request is
+   * put into asynchronous mode and parked in the UI session. The container thread is released immediately, the
+   * response is sent by the thread resuming the poller.
+   *
+   * @since 24.1
+   */
+  protected void handlePollRequestAsync(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest req, HttpServletResponse resp) {
+    int pollWait = computePollWait(uiSession);
+    AsyncContext asyncContext = req.startAsync(req, resp);
+    // The UI session resumes the poller after the poll wait time, the container timeout is only a safety net
+    asyncContext.setTimeout(TimeUnit.SECONDS.toMillis(pollWait + ASYNC_POLLING_TIMEOUT_MARGIN_SECONDS));
+    asyncContext.addListener(new P_AsyncPollListener(uiSession, jsonRequest));
+    // Separate RunMonitor because the current one belongs to the container thread which is released now
+    RunContext runContext = RunContexts.copyCurrent().withRunMonitor(BEANS.get(RunMonitor.class));
+    final long startNanos = System.nanoTime();
+    LOG.debug("Polling begin for {} seconds (async)", pollWait);
+    uiSession.parkPoller(jsonRequest, pollWait, sendResponse -> {
+      try {
+        if (!sendResponse) {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("Polling SUPERSEDED or ABORTED after {} ms (ignoring response)", StringUtility.formatNanos(System.nanoTime() - startNanos));
+          }
+          return;
+        }
+        if (LOG.isDebugEnabled()) {
+          LOG.debug("Polling end after {} ms", StringUtility.formatNanos(System.nanoTime() - startNanos));
+        }
+        runContext.run(() -> handlePollResponse(req, resp, uiSession, jsonRequest), DefaultExceptionTranslator.class);
+      }
+      catch (Exception | PlatformError e) {
+        handleAsyncPollError(resp, e);
+      }
+      finally {
+        completeAsync(asyncContext);
+      }
+    });
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected void handleAsyncPollError(HttpServletResponse resp, Throwable e) {
+    if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
+      LOG.debug("Connection error detected: exception class={}, message={}.", e.getClass().getSimpleName(), e.getMessage(), e);
+      return;
+    }
+    LOG.error("Unexpected error while processing JSON poll request", e);
+    if (resp.isCommitted()) {
+      return;
+    }
+    try {
+      writeJsonResponse(resp, m_jsonRequestHelper.createUnrecoverableFailureResponse());
+    }
+    catch (IOException | RuntimeException e1) { // NOSONAR
+      LOG.debug("Could not write failure response", e1);
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  protected void completeAsync(AsyncContext asyncContext) {
+    try {
+      asyncContext.complete();
+    }
+    catch (IllegalStateException e) {
+      // request already completed by the container (e.g. async timeout or connection closed)
+      LOG.debug("Could not complete poll request", e);
+    }
+  }
+
+  /**
+   * Resumes the parked poller as soon as the container completes, times out or aborts the asynchronous poll request,
+   * so that the poller does not stay registered in the UI session until the poll wait time has elapsed.
+   */
+  protected static class P_AsyncPollListener implements AsyncListener {
+    private final IUiSession m_uiSession;
+    private final JsonRequest m_jsonRequest;
+
+    protected P_AsyncPollListener(IUiSession uiSession, JsonRequest jsonRequest) {
+      m_uiSession = uiSession;
+      m_jsonRequest = jsonRequest;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      m_uiSession.unparkPoller(m_jsonRequest, false);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      // the response can still be written
+      m_uiSession.unparkPoller(m_jsonRequest, true);
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      LOG.debug("Asynchronous poll request failed", event.getThrowable());
+      m_uiSession.unparkPoller(m_jsonRequest, false);
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // nop
+    }
+  }
+
   protected void handleSessionTimeout(HttpServletResponse resp, JsonRequest jsonReq) throws IOException {
     LOG.info("Request cannot be processed due to UI session timeout [id={}]", jsonReq.getUiSessionId());
     writeJsonResponse(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
@@ -9,8 +9,12 @@
  */
 package org.eclipse.scout.rt.ui.html.json;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +24,7 @@ import jakarta.servlet.ServletResponse;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.IOUtility;
@@ -27,6 +32,7 @@ import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruption.IRestorer;
 import org.eclipse.scout.rt.ui.html.UiException;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.JsonResponseBufferSizeProperty;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -144,11 +150,14 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON is encoded UTF-8, see {@link #writeJson(OutputStream, JSONObject)}. Up to {@link #getResponseBufferSize()}
+   * bytes are buffered and sent with a content length. If encoding fails meanwhile, nothing is written and the response
+   * is not committed, so the caller can send an error response. Larger responses are streamed into the response's
+   * output stream and sent chunked (or compressed by the gzip filter). The response is committed then, and a failure
+   * must not be answered by an error response, but propagate to the container which aborts the connection.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -158,7 +167,9 @@ public class JsonRequestHelper {
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      final P_ResponseBufferOutputStream out = new P_ResponseBufferOutputStream(servletResponse, getResponseBufferSize());
+      writeJson(out, jsonResponse);
+      out.finish();
     }
     catch (final Exception e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -172,13 +183,34 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
     }
   }
 
+  /**
+   * Writes the given {@link JSONObject} UTF-8 encoded into the given {@link OutputStream}. The JSON is encoded in chunks,
+   * so that neither the JSON string nor its bytes are held in memory as a whole. The stream is flushed, but not closed.
+   *
+   * @since 24.1
+   */
+  protected void writeJson(final OutputStream out, final JSONObject json) throws IOException {
+    final Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    json.write(writer);
+    writer.flush();
+  }
+
+  /**
+   * @return number of bytes of a response buffered before the response is committed, see
+   *         {@link JsonResponseBufferSizeProperty}
+   * @since 24.1
+   */
+  protected int getResponseBufferSize() {
+    return CONFIG.getPropertyValue(JsonResponseBufferSizeProperty.class);
+  }
+
   /**
    * Reads the content of {@link ServletRequest} into a {@link JSONObject}.
    */
@@ -293,4 +325,64 @@ public class JsonRequestHelper {
     }
     return "[" + CollectionUtility.format(types) + "]";
   }
+
+  /**
+   * Buffers the written bytes until the buffer size would be exceeded. Then the buffered bytes are written to the
+   * response, which is committed, and all further bytes are written through.
+   *
+   * @since 24.1
+   */
+  protected static class P_ResponseBufferOutputStream extends OutputStream {
+    private final ServletResponse m_response;
+    private final int m_bufferSize;
+    private ByteArrayOutputStream m_buffer;
+    private OutputStream m_out;
+
+    protected P_ResponseBufferOutputStream(ServletResponse response, int bufferSize) {
+      m_response = response;
+      m_bufferSize = bufferSize;
+      m_buffer = new ByteArrayOutputStream(Math.min(bufferSize, 8192));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      if (m_out == null && m_buffer.size() + len > m_bufferSize) {
+        m_out = m_response.getOutputStream();
+        m_buffer.writeTo(m_out);
+        m_buffer = null;
+        m_response.flushBuffer();
+      }
+      if (m_out == null) {
+        m_buffer.write(b, off, len);
+      }
+      else {
+        m_out.write(b, off, len);
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      // buffered bytes are only written by finish()
+      if (m_out != null) {
+        m_out.flush();
+      }
+    }
+
+    /**
+     * Writes the buffered bytes together with their content length, or flushes the response if it is streamed.
+     */
+    public void finish() throws IOException {
+      if (m_out != null) {
+        m_out.flush();
+        return;
+      }
+      m_response.setContentLength(m_buffer.size());
+      m_buffer.writeTo(m_response.getOutputStream());
+    }
+  }
 }
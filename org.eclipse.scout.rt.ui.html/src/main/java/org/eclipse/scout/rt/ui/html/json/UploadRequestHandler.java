@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +35,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.Part;
 
+import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.config.CONFIG;
@@ -42,6 +44,8 @@ import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.FileBinaryContent;
+import org.eclipse.scout.rt.platform.resource.IBinaryContent;
 import org.eclipse.scout.rt.platform.resource.MimeTypes;
 import org.eclipse.scout.rt.platform.security.MalwareScanner;
 import org.eclipse.scout.rt.platform.security.RejectedResourceException;
@@ -51,6 +55,9 @@ import org.eclipse.scout.rt.platform.util.HexUtility;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.shared.ISession;
+import org.eclipse.scout.rt.shared.session.ISessionListener;
+import org.eclipse.scout.rt.shared.session.SessionEvent;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties;
@@ -175,20 +182,30 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
       }
       catch (UnsafeResourceException e) { // NOSONAR
         // LOG is done in MalwareScanner, verifyFileSafety is the only method throwing this exception
+        releaseUploadResources(uploadResources);
         writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createUnsafeUploadResponse());
         return;
       }
       catch (RejectedResourceException e) { // NOSONAR
         // verifyFileName and verifyFileIntegrity and maxFileCount are the only methods throwing this exception
         //mark resources as FAILED
+        releaseUploadResources(uploadResources);
         uploadResources = null;
         uploadProperties = null;
         //continue
       }
+      catch (IOException | ServletException | RuntimeException e) {
+        releaseUploadResources(uploadResources);
+        throw e;
+      }
       if (uiSession.isDisposed()) {
+        releaseUploadResources(uploadResources);
         writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createSessionTimeoutResponse());
         return;
       }
+      if (uploadResources != null) {
+        releaseUploadResourcesOnSessionStop(uiSession, uploadResources);
+      }
       JSONObject jsonResp = uiSession.processFileUpload(httpServletRequest, httpServletResponse, uploadable, uploadResources, uploadProperties);
       if (jsonResp == null) {
         jsonResp = m_jsonRequestHelper.createEmptyResponse();
@@ -224,6 +241,7 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
   protected void readUploadData(HttpServletRequest httpReq, IUploadable uploadable, Map<String, String> uploadProperties, List<BinaryResource> uploadResources) throws IOException, ServletException {
     Set<String> validFileExtensions = getValidFileExtensionsFor(uploadable, uploadProperties);
     long maxFileCount = CONFIG.getPropertyValue(UiHtmlConfigProperties.MaxUploadFileCountProperty.class);
+    long streamingThreshold = CONFIG.getPropertyValue(UiHtmlConfigProperties.UploadFileStreamingThresholdProperty.class);
     int fileCount = 0;
     for (Part part : httpReq.getParts()) {
       fileCount++;
@@ -248,20 +266,39 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
       }
       verifyMaximumUploadSize(uploadable, part);
 
-      byte[] content;
-      try (InputStream in = part.getInputStream()) {
-        content = IOUtility.readBytes(in);
+      // properties are sent as form fields without file name by UI (see Session.ts)
+      boolean isFile = !StringUtility.isNullOrEmpty(part.getSubmittedFileName());
+      BinaryResource res;
+      byte[] content = null;
+      if (isFile && streamingThreshold >= 0 && part.getSize() > streamingThreshold) {
+        // large files are streamed to a temporary file instead of being loaded into memory
+        IBinaryContent binaryContent = readUploadDataToTempFile(part);
+        res = BinaryResources.create()
+            .withFilename(filename)
+            .withContentType(detectContentType(filename, part, null))
+            .withContent(binaryContent)
+            .build();
+      }
+      else {
+        try (InputStream in = part.getInputStream()) {
+          content = IOUtility.readBytes(in);
+        }
+        res = BinaryResources.create()
+            .withFilename(filename)
+            .withContentType(detectContentType(filename, part, content))
+            .withContent(content)
+            .build();
+      }
+      try {
+        verifyFileSafety(res);
+        verifyFileIntegrity(res);
+      }
+      catch (RuntimeException e) {
+        res.release();
+        throw e;
       }
-      BinaryResource res = BinaryResources.create()
-          .withFilename(filename)
-          .withContentType(detectContentType(filename, part, content))
-          .withContent(content)
-          .build();
-      verifyFileSafety(res);
-      verifyFileIntegrity(res);
 
-      // properties are sent as form fields without file name by UI (see Session.ts)
-      if (StringUtility.isNullOrEmpty(part.getSubmittedFileName())) {
+      if (!isFile) {
         // Handle non-file fields (interpreted as properties)
         String name = part.getName();
         uploadProperties.put(name, new String(content, StandardCharsets.UTF_8));
@@ -277,6 +314,51 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
     }
   }
 
+  /**
+   * Copies the content of the given part to a temporary file. The file is deleted if the upload fails, when the client
+   * session stops or as soon as the returned content is no longer referenced, whatever comes first.
+   */
+  protected IBinaryContent readUploadDataToTempFile(Part part) throws IOException {
+    return FileBinaryContent.ofTempFile(part.getInputStream(), "upload");
+  }
+
+  /**
+   * Releases the content of resources not handed over to the model, e.g. deletes their temporary files.
+   *
+   * @since 24.1
+   */
+  protected void releaseUploadResources(List<BinaryResource> uploadResources) {
+    if (uploadResources != null) {
+      uploadResources.forEach(BinaryResource::release);
+    }
+  }
+
+  /**
+   * Releases the content of the given resources when the client session stops unless it is garbage collected before.
+   * The resources are handed over to the model which is discarded together with the client session.
+   *
+   * @since 24.1
+   */
+  protected void releaseUploadResourcesOnSessionStop(IUiSession uiSession, List<BinaryResource> uploadResources) {
+    IClientSession clientSession = uiSession.getClientSession();
+    if (clientSession == null) {
+      return;
+    }
+    List<IBinaryContent> contents = uploadResources.stream()
+        .filter(res -> res.hasContent() && !res.isContentInMemory())
+        .map(BinaryResource::getBinaryContent)
+        .collect(Collectors.toList());
+    if (contents.isEmpty()) {
+      return;
+    }
+    P_UploadContentReleaser releaser = (P_UploadContentReleaser) clientSession.computeDataIfAbsent(P_UploadContentReleaser.SESSION_DATA_KEY, () -> {
+      P_UploadContentReleaser r = new P_UploadContentReleaser();
+      clientSession.addListener(r);
+      return r;
+    });
+    releaser.addAll(contents);
+  }
+
   /**
    * Detects the content type for an uploaded file.
    * <p>
@@ -284,7 +366,9 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    * be derived from the file-extension in the constructor of {@link BinaryResource}. Otherwise, the content type sent
    * with the uploaded file is used.
    * <p>
-   * The content is passed as well to allow for a custom content type detection logic.
+   * The content is passed as well to allow for a custom content type detection logic. It is <code>null</code> if the
+   * file exceeds {@link UiHtmlConfigProperties.UploadFileStreamingThresholdProperty} and is therefore not loaded into
+   * memory; use {@link Part#getInputStream()} in that case.
    */
   protected String detectContentType(String filename, Part part, byte[] content) {
     if (filename != null) {
@@ -394,11 +478,45 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    */
   protected void verifyFileIntegrity(BinaryResource res) {
     if (!MimeTypes.verifyMagic(res)) {
-      byte[] content = res.getContent();
+      byte[] content = res.getContentPrefix(8);
       String header = (content == null || content.length == 0) ? "" : HexUtility.encode(Arrays.copyOfRange(content, 0, Math.min(8, content.length)));
       String message = "File '{}' has content header '{}' which does not match its extension.";
       LOG.info(message, res.getFilename(), header);
       throw new RejectedResourceException(message, res.getFilename(), header);
     }
   }
+
+  /**
+   * Releases uploaded content (i.e. deletes temporary files) when the client session stops. Holds weak references only
+   * so that content no longer referenced by the model is still released by the garbage collector.
+   */
+  private static final class P_UploadContentReleaser implements ISessionListener {
+    private static final String SESSION_DATA_KEY = P_UploadContentReleaser.class.getName();
+
+    private final List<WeakReference<IBinaryContent>> m_contents = new ArrayList<>();
+
+    private synchronized void addAll(List<IBinaryContent> contents) {
+      m_contents.removeIf(ref -> ref.get() == null);
+      contents.forEach(content -> m_contents.add(new WeakReference<>(content)));
+    }
+
+    @Override
+    public void sessionChanged(SessionEvent event) {
+      if (event.getType() != SessionEvent.TYPE_STOPPED) {
+        return;
+      }
+      ((ISession) event.getSource()).removeListener(this);
+      List<WeakReference<IBinaryContent>> contents;
+      synchronized (this) {
+        contents = new ArrayList<>(m_contents);
+        m_contents.clear();
+      }
+      for (WeakReference<IBinaryContent> ref : contents) {
+        IBinaryContent content = ref.get();
+        if (content != null) {
+          content.release();
+        }
+      }
+    }
+  }
 }
@@ -135,7 +135,7 @@ public class JsonImageField<IMAGE_FIELD extends IImageField> extends JsonFormFie
       // We don't send the image via JSON to the client, we only set a flag that this adapter has an image
       // The client will request the image in a separate http request. See: ResourceRequestHandler
       BinaryResource imageResource = BinaryResourceUrlUtility.extractBinaryResource(getModel().getImage(), "image", "jpg");
-      if (imageResource != null && imageResource.getContent() != null) {
+      if (imageResource != null && imageResource.hasContent()) {
         return BinaryResourceUrlUtility.createDynamicAdapterResourceUrl(this, imageResource);
       }
     }
@@ -166,7 +166,7 @@ public class JsonImageField<IMAGE_FIELD extends IImageField> extends JsonFormFie
   @Override
   public BinaryResourceHolder provideBinaryResource(String requestFilename) {
     BinaryResource image = BinaryResourceUrlUtility.extractBinaryResource(getModel().getImage(), "image", "jpg");
-    if (image == null || image.getContent() == null) {
+    if (image == null || !image.hasContent()) {
       return null;
     }
 
@@ -358,6 +358,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
         return getModel().getMaxRowCount();
       }
     });
+    putJsonProperty(new JsonProperty<ITable>(ITable.PROP_MORE_ROWS_AVAILABLE, model) {
+      @Override
+      protected Boolean modelValue() {
+        return getModel().isMoreRowsAvailable();
+      }
+    });
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_HIERARCHICAL_STYLE, model) {
       @Override
       protected HierarchicalStyle modelValue() {
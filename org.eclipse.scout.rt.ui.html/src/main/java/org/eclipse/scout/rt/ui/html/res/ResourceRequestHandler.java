@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.ui.html.res;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,12 +22,15 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
 import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpContentEncodings;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -49,6 +53,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final HttpContentEncodings m_httpContentEncodings = BEANS.get(HttpContentEncodings.class);
 
   @Override
   public boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
@@ -80,13 +85,53 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) throws IOException {
     BinaryResource binaryResource = cachedObject.getResource();
     setHttpResponseHeaders(resp, binaryResource);
+    if (binaryResource.hasContent() && !binaryResource.isContentInMemory()) {
+      // content not held in memory (e.g. backed by a file) is streamed, there are no compressed variants for it
+      cachedObject.applyHttpResponseInterceptors(req, resp);
+      if (!"HEAD".equals(req.getMethod())) {
+        writeStreamedContent(resp, binaryResource);
+      }
+      return;
+    }
+    byte[] content = selectContent(req, resp, cachedObject);
 
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      resp.getOutputStream().write(content);
+    }
+  }
+
+  /**
+   * Copies the content of the given resource to the response without loading it into memory.
+   */
+  protected void writeStreamedContent(HttpServletResponse resp, BinaryResource binaryResource) throws IOException {
+    try (InputStream in = binaryResource.newInputStream()) {
+      IOUtility.writeFromToStream(resp.getOutputStream(), in);
+    }
+  }
+
+  /**
+   * Selects the precompressed variant of the resource accepted by the client (if any) and sets the corresponding
+   * headers. The variant is written as it is, the response is not compressed again.
+   *
+   * @return the bytes to write
+   * @since 24.1
+   */
+  protected byte[] selectContent(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) {
+    if (cachedObject.getContentEncodings().isEmpty()) {
+      return cachedObject.getResource().getContent();
+    }
+    resp.addHeader(HttpContentEncodings.VARY, GzipServletFilter.ACCEPT_ENCODING);
+    String encoding = m_httpContentEncodings.selectContentEncoding(req, cachedObject);
+    if (encoding == null) {
+      return cachedObject.getResource().getContent();
     }
+    byte[] content = cachedObject.getEncodedContent(encoding);
+    resp.setHeader(GzipServletFilter.CONTENT_ENCODING, encoding);
+    resp.setContentLength(content.length);
+    return content;
   }
 
   /**
@@ -155,7 +200,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
    */
   protected void setHttpResponseHeaders(HttpServletResponse resp, BinaryResource resource) {
     // content-length
-    resp.setContentLength(resource.getContentLength());
+    resp.setContentLengthLong(resource.getContentLengthLong());
 
     // charset
     String charset = resource.getCharset();
@@ -10,11 +10,15 @@
 package org.eclipse.scout.rt.ui.html.res.loader;
 
 import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
@@ -22,6 +26,9 @@ import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpContentEncodings;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResources;
 
@@ -44,6 +51,58 @@ public class WebResourceLoader extends AbstractResourceLoader {
         .orElse(null);
   }
 
+  /**
+   * Attaches precompressed variants to cacheable resources: variants created by the build next to the resource
+   * (<code>*.br</code>, <code>*.gz</code>) are used as they are, a missing gzip variant is created once here. The
+   * variants are cached together with the resource and served without compressing again per request.
+   */
+  @Override
+  public HttpCacheObject loadResource(HttpCacheKey cacheKey) throws IOException {
+    HttpCacheObject obj = super.loadResource(cacheKey);
+    HttpContentEncodings contentEncodings = BEANS.get(HttpContentEncodings.class);
+    if (obj == null || !m_cacheEnabled || !contentEncodings.isCompressible(obj.getResource())) {
+      return obj;
+    }
+    Optional<WebResourceDescriptor> descriptor = resolveResource(cacheKey.getResourcePath());
+    if (descriptor.isPresent()) {
+      for (String encoding : HttpContentEncodings.ENCODINGS) {
+        byte[] encoded = getPrecompressedContent(descriptor.get(), encoding);
+        if (encoded != null) {
+          obj.putEncodedContent(encoding, encoded);
+        }
+      }
+    }
+    contentEncodings.addGzipVariant(obj);
+    return obj;
+  }
+
+  /**
+   * @return content of the variant created by the build next to the given resource or <code>null</code> if there is
+   *         none
+   * @since 24.1
+   */
+  protected byte[] getPrecompressedContent(WebResourceDescriptor descriptor, String encoding) throws IOException {
+    String suffix = HttpContentEncodings.GZIP.equals(encoding) ? ".gz" : "." + encoding;
+    URL url = getVariantUrl(descriptor.getUrl(), suffix);
+    try (InputStream in = new BufferedInputStream(url.openConnection().getInputStream())) {
+      return IOUtility.readBytes(in, -1);
+    }
+    catch (FileNotFoundException e) { // NOSONAR
+      return null;
+    }
+  }
+
+  /**
+   * @return the URL of the file next to the given resource with the given suffix appended to its name. The name is
+   *         resolved relative to the resource URL and therefore keeps its escaping.
+   * @since 24.1
+   */
+  protected static URL getVariantUrl(URL url, String suffix) throws MalformedURLException {
+    String path = url.getPath();
+    String name = path.substring(path.lastIndexOf('/') + 1);
+    return new URL(url, name + suffix);
+  }
+
   public boolean acceptFile(String file) {
     return lookupResource(file).isPresent();
   }
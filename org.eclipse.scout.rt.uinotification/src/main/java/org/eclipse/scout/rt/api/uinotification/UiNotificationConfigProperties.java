@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.api.uinotification;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 
 public final class UiNotificationConfigProperties {
@@ -76,4 +77,28 @@ public final class UiNotificationConfigProperties {
       return TimeUnit.MINUTES.toMillis(7);
     }
   }
+
+  /**
+   * @since 24.1
+   */
+  public static class UiNotificationSseEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.uinotification.sse.enabled";
+    }
+
+    @Override
+    public String description() {
+      return "Enables the Server-Sent-Events transport for ui notifications (ui-notifications/stream). "
+          + "The connection is kept open and new notifications are pushed to the client, so the client does not need to reconnect after every wait timeout. "
+          + "Requires a JAX-RS implementation with Server-Sent-Events support. "
+          + "The browser uses the stream if UiNotificationPoller.SSE_ENABLED is set to true and falls back to long polling if the stream is not available. Default is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+  }
 }
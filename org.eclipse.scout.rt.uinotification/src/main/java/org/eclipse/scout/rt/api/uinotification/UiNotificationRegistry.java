@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -59,13 +60,13 @@ public class UiNotificationRegistry {
   /**
    * Contains all notifications per topic including notifications that are created by other cluster nodes.
    * <p>
-   * The order is not relevant for the implementation, however, notifications created this registry are actually
-   * ordered by {@link UiNotificationDo#creationTime()} because only one notification can be inserted at a time, and it will be added to the end of the list.
-   * Notifications received from other cluster nodes are also added at the end of the list, but they may not arrive in the same order as inserted in the registry of the other cluster node.
+   * Every buffer keeps the notifications in insertion order. Notifications created by this registry are therefore
+   * ordered by {@link UiNotificationDo#creationTime()} because only one notification can be inserted at a time, and it will be added to the end of the buffer.
+   * Notifications received from other cluster nodes are also added at the end of the buffer, but they may not arrive in the same order as inserted in the registry of the other cluster node.
    * <p>
-   * The list will be cleaned up regularly by {@link #m_cleanupJob}.
+   * The buffers will be cleaned up regularly by {@link #m_cleanupJob}.
    */
-  private Map<String, List<UiNotificationMessageDo>> m_notifications = new HashMap<>();
+  private Map<String, UiNotificationTopicBuffer> m_notifications = new HashMap<>();
   private final Map<String, FastListenerList<UiNotificationListener>> m_listeners = new HashMap<>();
   private IFuture<Void> m_cleanupJob;
   private long m_cleanupJobInterval = CONFIG.getPropertyValue(RegistryCleanupJobIntervalProperty.class);
@@ -143,24 +144,16 @@ public class UiNotificationRegistry {
   protected List<UiNotificationDo> get(String topic, String user, final List<UiNotificationDo> lastKnownNotifications) {
     m_lock.readLock().lock();
     try {
-      Stream<UiNotificationDo> notificationStream = getNotifications().getOrDefault(topic, new ArrayList<>()).stream()
-          .filter(elem -> {
-            // If element contains a user it must match the given user
-            if (elem.getUser() != null) {
-              return elem.getUser().equals(user);
-            }
-            return true;
-          })
-          .map(elem -> elem.getNotification());
+      UiNotificationTopicBuffer buffer = m_notifications.get(topic);
 
       // Return notifications that just act as subscription start markers
       if (lastKnownNotifications.isEmpty()) {
-        return createSubscriptionStartNotifications(topic, notificationStream);
+        return createSubscriptionStartNotifications(topic, getNotificationStream(buffer, null, user));
       }
 
       // If the last element is SUBSCRIPTION_START_ID, return all elements
       if (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
-        return notificationStream.collect(Collectors.toList());
+        return getNotificationStream(buffer, null, user).collect(Collectors.toList());
       }
 
       // Group last known notifications by nodeId
@@ -168,7 +161,7 @@ public class UiNotificationRegistry {
           .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
 
       // Return all elements that were created after the last known notifications
-      return notificationStream
+      return getNotificationStream(buffer, getLastKnownSequence(buffer, lastKnownNotifications), user)
           .filter(notification -> {
             UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(notification.getNodeId());
             long creationTime = notification.getCreationTime().getTime();
@@ -182,6 +175,60 @@ public class UiNotificationRegistry {
     }
   }
 
+  /**
+   * @param afterSequence
+   *     if set, only the notifications added to the buffer after the notification with this sequence number are returned.
+   * @return the notifications of the given buffer the given user is allowed to receive.
+   * @since 24.1
+   */
+  protected Stream<UiNotificationDo> getNotificationStream(UiNotificationTopicBuffer buffer, Long afterSequence, String user) {
+    if (buffer == null) {
+      return Stream.empty();
+    }
+    List<UiNotificationMessageDo> messages = afterSequence == null ? buffer.getAll() : buffer.getAfter(afterSequence);
+    return messages.stream()
+        .filter(elem -> {
+          // If element contains a user it must match the given user
+          if (elem.getUser() != null) {
+            return elem.getUser().equals(user);
+          }
+          return true;
+        })
+        .map(elem -> elem.getNotification());
+  }
+
+  /**
+   * Returns the sequence number of the oldest of the given last known notifications.
+   * <p>
+   * The notifications added to the buffer before that one were already delivered together with the last known
+   * notifications, so they don't need to be considered anymore. Because notifications of other cluster nodes may not
+   * arrive in the same order, this only holds if there is a last known notification for every node which created a
+   * notification in the buffer. Otherwise, or if one of the last known notifications is not contained in the buffer
+   * anymore (e.g. because it expired), <code>null</code> is returned and the whole buffer needs to be considered.
+   *
+   * @since 24.1
+   */
+  protected Long getLastKnownSequence(UiNotificationTopicBuffer buffer, List<UiNotificationDo> lastKnownNotifications) {
+    if (buffer == null) {
+      return null;
+    }
+    Set<String> lastKnownNodeIds = lastKnownNotifications.stream()
+        .map(UiNotificationDo::getNodeId)
+        .collect(Collectors.toSet());
+    if (!lastKnownNodeIds.containsAll(buffer.getNodeIds())) {
+      return null;
+    }
+    long sequence = Long.MAX_VALUE;
+    for (UiNotificationDo lastKnownNotification : lastKnownNotifications) {
+      Long lastKnownSequence = lastKnownNotification.getId() == null ? null : buffer.getSequence(lastKnownNotification.getId());
+      if (lastKnownSequence == null) {
+        return null;
+      }
+      sequence = Math.min(sequence, lastKnownSequence);
+    }
+    return sequence;
+  }
+
   /**
    * Creates a notification to mark the start of the subscription.
    * <p>
@@ -324,9 +371,9 @@ public class UiNotificationRegistry {
     try {
       updateNotificationCreationTime(notification);
 
-      List<UiNotificationMessageDo> uiNotifications = getNotifications().computeIfAbsent(topic, key -> new ArrayList<>());
-      uiNotifications.add(message);
-      LOG.info("Added new ui notification {} for topic {}. New size: {}", notification, topic, uiNotifications.size());
+      UiNotificationTopicBuffer buffer = m_notifications.computeIfAbsent(topic, key -> new UiNotificationTopicBuffer());
+      buffer.add(message);
+      LOG.info("Added new ui notification {} for topic {}. New size: {}", notification, topic, buffer.size());
 
       triggerEvent(topic, notification);
       startCleanupJob(); // inside lock to ensure cleanup job will be started only once
@@ -400,8 +447,21 @@ public class UiNotificationRegistry {
     }
   }
 
+  /**
+   * @return a snapshot of all notifications per topic in insertion order.
+   */
   protected final Map<String, List<UiNotificationMessageDo>> getNotifications() {
-    return m_notifications;
+    m_lock.readLock().lock();
+    try {
+      Map<String, List<UiNotificationMessageDo>> notifications = new HashMap<>();
+      for (Entry<String, UiNotificationTopicBuffer> entry : m_notifications.entrySet()) {
+        notifications.put(entry.getKey(), entry.getValue().getAll());
+      }
+      return notifications;
+    }
+    finally {
+      m_lock.readLock().unlock();
+    }
   }
 
   public void startCleanupJob() {
@@ -415,7 +475,7 @@ public class UiNotificationRegistry {
 
       m_lock.readLock().lock();
       try {
-        if (getNotifications().isEmpty()) {
+        if (m_notifications.isEmpty()) {
           m_cleanupJob.cancel(false);
           m_cleanupJob = null;
           LOG.info("Cleanup job stopped.");
@@ -445,24 +505,23 @@ public class UiNotificationRegistry {
   public void cleanup() {
     m_lock.writeLock().lock();
     try {
-      if (getNotifications().isEmpty()) {
+      if (m_notifications.isEmpty()) {
         return;
       }
-      LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", getNotifications().size());
+      LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", m_notifications.size());
 
       long now = new Date().getTime();
-      for (Entry<String, List<UiNotificationMessageDo>> entry : getNotifications().entrySet()) {
-        List<UiNotificationMessageDo> notifications = entry.getValue();
-        int oldSize = notifications.size();
-        if (notifications.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now)) {
-          int newSize = notifications.size();
-          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", oldSize - newSize, entry.getKey(), newSize);
+      for (Entry<String, UiNotificationTopicBuffer> entry : m_notifications.entrySet()) {
+        UiNotificationTopicBuffer buffer = entry.getValue();
+        int removed = buffer.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now);
+        if (removed > 0) {
+          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", removed, entry.getKey(), buffer.size());
         }
       }
 
       // Remove topic if there are no notifications left
-      getNotifications().entrySet().removeIf(entry -> entry.getValue().isEmpty());
-      LOG.debug("Clean up finished. New topic count: {}.", getNotifications().size());
+      m_notifications.entrySet().removeIf(entry -> entry.getValue().isEmpty());
+      LOG.debug("Clean up finished. New topic count: {}.", m_notifications.size());
     }
     finally {
       m_lock.writeLock().unlock();
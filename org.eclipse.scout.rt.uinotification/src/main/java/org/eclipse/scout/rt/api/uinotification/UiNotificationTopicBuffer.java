@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Buffer containing the notifications of one topic in the order they were added to the
+ * {@link UiNotificationRegistry}.
+ * <p>
+ * Every notification gets a monotonic sequence number upon insertion, and the sequence number of a notification can be
+ * looked up by its id. The sequence numbers are stored next to the notifications, hence the notifications added after a
+ * known notification are found by a binary search without scanning the whole buffer. Removing notifications compacts
+ * the buffer, the sequence numbers of the remaining notifications stay valid.
+ * <p>
+ * This class is not thread safe, it is guarded by the lock of the {@link UiNotificationRegistry}.
+ *
+ * @since 24.1
+ */
+public class UiNotificationTopicBuffer {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private UiNotificationMessageDo[] m_elements = new UiNotificationMessageDo[INITIAL_CAPACITY];
+  /**
+   * Sequence number of the message at the same array index in {@link #m_elements}.
+   */
+  private long[] m_sequences = new long[INITIAL_CAPACITY];
+  private int m_size;
+  private long m_nextSequence;
+  private final Map<String, Long> m_sequenceById = new HashMap<>();
+  private final Map<String, Integer> m_countByNodeId = new HashMap<>();
+
+  /**
+   * Adds the given message at the end of the buffer.
+   *
+   * @return the sequence number of the added message.
+   */
+  public long add(UiNotificationMessageDo message) {
+    if (m_size == m_elements.length) {
+      grow();
+    }
+    long sequence = m_nextSequence++;
+    m_elements[m_size] = message;
+    m_sequences[m_size] = sequence;
+    m_size++;
+    String id = message.getNotification().getId();
+    if (id != null) {
+      m_sequenceById.put(id, sequence);
+    }
+    String nodeId = message.getNotification().getNodeId();
+    if (nodeId != null) {
+      m_countByNodeId.merge(nodeId, 1, Integer::sum);
+    }
+    return sequence;
+  }
+
+  /**
+   * @return the sequence number of the notification with the given id, or <code>null</code> if it is not contained in
+   *         this buffer.
+   */
+  public Long getSequence(String id) {
+    return m_sequenceById.get(id);
+  }
+
+  /**
+   * @return all messages in insertion order.
+   */
+  public List<UiNotificationMessageDo> getAll() {
+    return getFrom(0);
+  }
+
+  /**
+   * @return the messages added after the message with the given sequence number, in insertion order.
+   */
+  public List<UiNotificationMessageDo> getAfter(long sequence) {
+    // binary search for the first message with a larger sequence number
+    int low = 0;
+    int high = m_size;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (m_sequences[mid] <= sequence) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return getFrom(low);
+  }
+
+  protected List<UiNotificationMessageDo> getFrom(int offset) {
+    List<UiNotificationMessageDo> result = new ArrayList<>(m_size - offset);
+    for (int i = offset; i < m_size; i++) {
+      result.add(m_elements[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Removes all messages matching the given filter. The remaining messages are moved together.
+   *
+   * @return the number of removed messages.
+   */
+  public int removeIf(Predicate<UiNotificationMessageDo> filter) {
+    int kept = 0;
+    for (int i = 0; i < m_size; i++) {
+      UiNotificationMessageDo message = m_elements[i];
+      long sequence = m_sequences[i];
+      if (filter.test(message)) {
+        m_sequenceById.remove(message.getNotification().getId(), sequence);
+        String nodeId = message.getNotification().getNodeId();
+        if (nodeId != null) {
+          m_countByNodeId.computeIfPresent(nodeId, (key, count) -> count > 1 ? count - 1 : null);
+        }
+      }
+      else {
+        m_elements[kept] = message;
+        m_sequences[kept] = sequence;
+        kept++;
+      }
+    }
+    int removed = m_size - kept;
+    Arrays.fill(m_elements, kept, m_size, null);
+    m_size = kept;
+    return removed;
+  }
+
+  /**
+   * @return the ids of the cluster nodes which created the messages contained in this buffer.
+   */
+  public Set<String> getNodeIds() {
+    return Collections.unmodifiableSet(m_countByNodeId.keySet());
+  }
+
+  public int size() {
+    return m_size;
+  }
+
+  public boolean isEmpty() {
+    return m_size == 0;
+  }
+
+  protected void grow() {
+    UiNotificationMessageDo[] elements = new UiNotificationMessageDo[m_elements.length * 2];
+    long[] sequences = new long[elements.length];
+    System.arraycopy(m_elements, 0, elements, 0, m_size);
+    System.arraycopy(m_sequences, 0, sequences, 0, m_size);
+    m_elements = elements;
+    m_sequences = sequences;
+  }
+}
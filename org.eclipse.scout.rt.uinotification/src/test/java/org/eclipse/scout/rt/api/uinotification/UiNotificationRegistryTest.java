@@ -270,6 +270,21 @@ public class UiNotificationRegistryTest {
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", lastNotification3Node1, node2Subscription, lastNotificationNode3)), null));
   }
 
+  @Test
+  public void testGetWithLastNotificationOtherNodeOutOfOrder() {
+    // Notification of node C arrives before the one of node A, although the client already knows the one of node A (received from another cluster node)
+    UiNotificationDo notificationNodeC = createClusterNotification("c1", "nodeC", DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
+    UiNotificationDo notificationNodeA = createClusterNotification("a1", "nodeA", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    m_registry.handleClusterNotification(new UiNotificationMessageDo().withNotification(notificationNodeC).withTimeout(TimeUnit.MINUTES.toMillis(1)));
+    m_registry.handleClusterNotification(new UiNotificationMessageDo().withNotification(notificationNodeA).withTimeout(TimeUnit.MINUTES.toMillis(1)));
+
+    // The notification of node C must not be skipped, because the client does not know any notification of node C yet
+    assertEquals(Arrays.asList(notificationNodeC), m_registry.get(Arrays.asList(createTopic("topic", notificationNodeA)), null));
+
+    // Once the client knows notifications of all nodes, nothing is returned anymore
+    assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", notificationNodeC, notificationNodeA)), null));
+  }
+
   @Test
   public void testGetOrWait() {
     IDoEntity message = createMessage();
@@ -494,6 +509,15 @@ public class UiNotificationRegistryTest {
     return message;
   }
 
+  protected UiNotificationDo createClusterNotification(String id, String nodeId, Date creationTime) {
+    return new UiNotificationDo()
+        .withId(id)
+        .withTopic("topic")
+        .withNodeId(nodeId)
+        .withCreationTime(creationTime)
+        .withMessage(createMessage());
+  }
+
   protected IDoEntity createMessage() {
     return createMessage("value");
   }
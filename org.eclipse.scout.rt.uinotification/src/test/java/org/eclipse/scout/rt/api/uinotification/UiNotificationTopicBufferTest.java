@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.junit.Test;
+
+public class UiNotificationTopicBufferTest {
+
+  @Test
+  public void testAddAndGet() {
+    UiNotificationTopicBuffer buffer = new UiNotificationTopicBuffer();
+    assertTrue(buffer.isEmpty());
+
+    UiNotificationMessageDo message1 = createMessage("1");
+    UiNotificationMessageDo message2 = createMessage("2");
+    UiNotificationMessageDo message3 = createMessage("3");
+    long sequence1 = buffer.add(message1);
+    long sequence2 = buffer.add(message2);
+    buffer.add(message3);
+
+    assertEquals(3, buffer.size());
+    assertEquals(Long.valueOf(sequence2), buffer.getSequence("2"));
+    assertNull(buffer.getSequence("4"));
+    assertEquals(Arrays.asList(message1, message2, message3), buffer.getAll());
+    assertEquals(Arrays.asList(message2, message3), buffer.getAfter(sequence1));
+    assertEquals(new ArrayList<>(), buffer.getAfter(buffer.getSequence("3")));
+  }
+
+  @Test
+  public void testRemoveIf() {
+    UiNotificationTopicBuffer buffer = new UiNotificationTopicBuffer();
+    List<UiNotificationMessageDo> messages = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      UiNotificationMessageDo message = createMessage(String.valueOf(i));
+      messages.add(message);
+      buffer.add(message);
+    }
+    long sequence3 = buffer.getSequence("3");
+
+    // Remove a message in the middle, the sequence numbers of the remaining ones must stay valid
+    assertEquals(1, buffer.removeIf(message -> "2".equals(message.getNotification().getId())));
+    assertNull(buffer.getSequence("2"));
+    assertEquals(Long.valueOf(sequence3), buffer.getSequence("3"));
+    assertEquals(Arrays.asList(messages.get(0), messages.get(1), messages.get(3), messages.get(4)), buffer.getAll());
+    assertEquals(Arrays.asList(messages.get(1), messages.get(3), messages.get(4)), buffer.getAfter(buffer.getSequence("0")));
+
+    // Remove the head
+    assertEquals(2, buffer.removeIf(message -> "0".equals(message.getNotification().getId()) || "1".equals(message.getNotification().getId())));
+    assertEquals(Arrays.asList(messages.get(3), messages.get(4)), buffer.getAll());
+    assertEquals(Arrays.asList(messages.get(4)), buffer.getAfter(sequence3));
+    assertEquals(2, buffer.size());
+
+    assertEquals(2, buffer.removeIf(message -> true));
+    assertTrue(buffer.isEmpty());
+    assertEquals(new ArrayList<>(), buffer.getAll());
+  }
+
+  @Test
+  public void testGrowAfterRemove() {
+    UiNotificationTopicBuffer buffer = new UiNotificationTopicBuffer();
+    List<UiNotificationMessageDo> expected = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      UiNotificationMessageDo message = createMessage(String.valueOf(i));
+      buffer.add(message);
+      expected.add(message);
+      if (i % 3 == 0) {
+        // Remove the oldest message so the buffer is compacted before it grows
+        UiNotificationMessageDo oldest = expected.remove(0);
+        buffer.removeIf(elem -> elem == oldest);
+      }
+    }
+    assertEquals(expected, buffer.getAll());
+    for (UiNotificationMessageDo message : expected) {
+      assertEquals(expected.subList(expected.indexOf(message) + 1, expected.size()), buffer.getAfter(buffer.getSequence(message.getNotification().getId())));
+    }
+  }
+
+  @Test
+  public void testGetAfterRemovedSequence() {
+    UiNotificationTopicBuffer buffer = new UiNotificationTopicBuffer();
+    List<UiNotificationMessageDo> messages = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      UiNotificationMessageDo message = createMessage(String.valueOf(i));
+      messages.add(message);
+      buffer.add(message);
+    }
+    long sequence2 = buffer.getSequence("2");
+
+    // Remove every other message, the gaps are compacted
+    assertEquals(3, buffer.removeIf(message -> Integer.parseInt(message.getNotification().getId()) % 2 == 0));
+    assertEquals(Arrays.asList(messages.get(1), messages.get(3), messages.get(5)), buffer.getAll());
+
+    // A client may still know the sequence number of a removed message
+    assertEquals(Arrays.asList(messages.get(3), messages.get(5)), buffer.getAfter(sequence2));
+    assertEquals(Arrays.asList(messages.get(1), messages.get(3), messages.get(5)), buffer.getAfter(-1));
+
+    UiNotificationMessageDo message6 = createMessage("6");
+    assertTrue(buffer.add(message6) > buffer.getSequence("5"));
+    assertEquals(Arrays.asList(message6), buffer.getAfter(buffer.getSequence("5")));
+  }
+
+  @Test
+  public void testNodeIds() {
+    UiNotificationTopicBuffer buffer = new UiNotificationTopicBuffer();
+    buffer.add(createMessage("1", "node1"));
+    buffer.add(createMessage("2", "node2"));
+    buffer.add(createMessage("3", "node1"));
+    assertEquals(new HashSet<>(Arrays.asList("node1", "node2")), buffer.getNodeIds());
+
+    buffer.removeIf(message -> "1".equals(message.getNotification().getId()));
+    assertEquals(new HashSet<>(Arrays.asList("node1", "node2")), buffer.getNodeIds());
+
+    buffer.removeIf(message -> "3".equals(message.getNotification().getId()));
+    assertEquals(new HashSet<>(Arrays.asList("node2")), buffer.getNodeIds());
+  }
+
+  protected UiNotificationMessageDo createMessage(String id, String nodeId) {
+    UiNotificationMessageDo message = createMessage(id);
+    message.getNotification().withNodeId(nodeId);
+    return message;
+  }
+
+  protected UiNotificationMessageDo createMessage(String id) {
+    return new UiNotificationMessageDo()
+        .withNotification(new UiNotificationDo().withId(id).withTopic("topic"));
+  }
+}
@@ -31,6 +31,7 @@ public final class UiServletContributors {
     public void contribute(ServletContextHandler handler) {
       FilterHolder filter = handler.addFilter(UiServletFilter.class, "/*", null);
       filter.setInitParameter("filter-exclude", StringUtility.join("\n", getFilterExcludes()));
+      filter.setAsyncSupported(true);
     }
 
     @Override